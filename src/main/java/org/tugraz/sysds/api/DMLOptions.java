@@ -62,6 +62,7 @@ public class DMLOptions {
 	public boolean              help          = false;            // whether to print the usage option
 	public boolean              lineage       = false;            // whether compute lineage trace
 	public boolean              lineage_dedup = false;            // whether deduplicate lineage items
+	public boolean              lineage_binary = false;           // whether to write compact binary lineage traces
 	public ReuseCacheType       linReuseType = ReuseCacheType.NONE;
 
 	public final static DMLOptions defaultOptions = new DMLOptions(null);
@@ -114,6 +115,8 @@ public class DMLOptions {
 					if (lineageType != null){
 						if (lineageType.equalsIgnoreCase("dedup"))
 							dmlOptions.lineage_dedup = lineageType.equalsIgnoreCase("dedup");
+						else if (lineageType.equalsIgnoreCase("binary"))
+							dmlOptions.lineage_binary = true;
 						else if (lineageType.equalsIgnoreCase("reuse_full")
 							|| lineageType.equalsIgnoreCase("reuse"))
 							dmlOptions.linReuseType = ReuseCacheType.REUSE_FULL;
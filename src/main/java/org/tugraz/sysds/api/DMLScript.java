@@ -85,6 +85,7 @@ public class DMLScript
 	public static ExplainType EXPLAIN             = DMLOptions.defaultOptions.explainType; // explain type
 	public static String      DML_FILE_PATH_ANTLR_PARSER = DMLOptions.defaultOptions.filePath; // filename of dml/pydml script
 	public static String      FLOATING_POINT_PRECISION = "double";                         // data type to use internally
+	public static boolean     CP_FP32 = false;                                             // whether to use single-precision dense blocks in CP
 	public static boolean     PRINT_GPU_MEMORY_INFO = false;                               // whether to print GPU memory-related information
 	public static long        EVICTION_SHADOW_BUFFER_MAX_BYTES = 0;                        // maximum number of bytes to use for shadow buffer
 	public static long        EVICTION_SHADOW_BUFFER_CURR_BYTES = 0;                       // number of bytes to use for shadow buffer
@@ -92,6 +93,7 @@ public class DMLScript
 	public static String      GPU_MEMORY_ALLOCATOR = "cuda";                               // GPU memory allocator to use
 	public static boolean     LINEAGE = DMLOptions.defaultOptions.lineage;                 // whether compute lineage trace
 	public static boolean     LINEAGE_DEDUP = DMLOptions.defaultOptions.lineage_dedup;     // whether deduplicate lineage items
+	public static boolean     LINEAGE_BINARY = DMLOptions.defaultOptions.lineage_binary;   // whether to write binary lineage traces
 	public static ReuseCacheType LINEAGE_REUSE = DMLOptions.defaultOptions.linReuseType;   // whether lineage-based reuse
 
 	public static boolean           USE_ACCELERATOR     = DMLOptions.defaultOptions.gpu;
@@ -194,6 +196,7 @@ public class DMLScript
 			EXEC_MODE           = dmlOptions.execMode;
 			LINEAGE             = dmlOptions.lineage;
 			LINEAGE_DEDUP       = dmlOptions.lineage_dedup;
+			LINEAGE_BINARY      = dmlOptions.lineage_binary;
 			LINEAGE_REUSE       = dmlOptions.linReuseType;
 
 			String fnameOptConfig = dmlOptions.configFile;
@@ -425,6 +428,7 @@ public class DMLScript
 		}
 		
 		DMLScript.FLOATING_POINT_PRECISION = dmlconf.getTextValue(DMLConfig.FLOATING_POINT_PRECISION);
+		DMLScript.CP_FP32 = dmlconf.getTextValue(DMLConfig.CP_FLOATING_POINT_PRECISION).equalsIgnoreCase("single");
 		org.tugraz.sysds.runtime.matrix.data.LibMatrixCUDA.resetFloatingPointPrecision();
 		if(DMLScript.FLOATING_POINT_PRECISION.equals("double")) {
 			DMLScript.EVICTION_SHADOW_BUFFER_MAX_BYTES = 0;
@@ -29,14 +29,20 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.wink.json4j.JSONObject;
 import org.tugraz.sysds.api.DMLException;
 import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.conf.CompilerConfig;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.conf.DMLConfig;
@@ -51,6 +57,7 @@ import org.tugraz.sysds.parser.LanguageException;
 import org.tugraz.sysds.parser.ParseException;
 import org.tugraz.sysds.parser.ParserFactory;
 import org.tugraz.sysds.parser.ParserWrapper;
+import org.tugraz.sysds.parser.dml.DmlSyntacticValidator;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.Program;
 import org.tugraz.sysds.runtime.controlprogram.caching.CacheableData;
@@ -88,8 +95,22 @@ import org.tugraz.sysds.runtime.util.UtilFunctions;
  */
 public class Connection implements Closeable
 {
+	//JVM-wide LRU cache of prepared scripts (see setPreparedScriptCaching)
+	private static final int PSCRIPT_CACHE_SIZE = 64;
+	private static final Pattern SOURCE_PATTERN = Pattern.compile(
+		"(source|setwd)\\s*\\(\\s*[\"']([^\"']*)[\"']");
+	private static final Map<String, PreparedScript> _pscache = Collections.synchronizedMap(
+		new LinkedHashMap<String, PreparedScript>(PSCRIPT_CACHE_SIZE, 0.75f, true) {
+			private static final long serialVersionUID = -2619416553389339387L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedScript> eldest) {
+				return size() > PSCRIPT_CACHE_SIZE;
+			}
+		});
+	
 	private final DMLConfig _dmlconf;
 	private final CompilerConfig _cconf;
+	private boolean _pscaching = false;
 	
 	/**
 	 * Connection constructor, the starting point for any other JMLC API calls.
@@ -171,6 +192,28 @@ public class Connection implements Closeable
 		setLocalConfigs();
 	}
 
+	/**
+	 * Sets a boolean flag indicating if prepared scripts should be cached
+	 * and reused across connections. If enabled, repeated calls of prepareScript
+	 * with the same script, namespace scripts, arguments, inputs, outputs, and
+	 * configurations skip compilation and return a shallow clone of the
+	 * cached prepared script, which shares the read-only runtime program.
+	 * The contents of sourced script files are part of the cache key too.
+	 * The option is false by default.
+	 * 
+	 * @param caching boolean value with true indicating prepared scripts should be cached
+	 */
+	public void setPreparedScriptCaching(boolean caching) {
+		_pscaching = caching;
+	}
+	
+	/**
+	 * Clears the JVM-wide cache of prepared scripts.
+	 */
+	public static void clearPreparedScriptCache() {
+		_pscache.clear();
+	}
+	
 	/**
 	 * Sets a boolean flag indicating if runtime statistics should be gathered
 	 * Same behavior as in "MLContext.setStatistics()"
@@ -239,6 +282,12 @@ public class Connection implements Closeable
 		
 		setLocalConfigs();
 		
+		//probe cache of prepared scripts
+		String key = _pscaching ? createCacheKey(script, nsscripts, args, inputs, outputs) : null;
+		PreparedScript cached = (key != null) ? _pscache.get(key) : null;
+		if( cached != null )
+			return cached.clone(false);
+		
 		//simplified compilation chain
 		Program rtprog = null;
 		try {
@@ -276,7 +325,59 @@ public class Connection implements Closeable
 		}
 		
 		//return newly create precompiled script 
-		return new PreparedScript(rtprog, inputs, outputs, _dmlconf, _cconf);
+		PreparedScript ret = new PreparedScript(rtprog, inputs, outputs, _dmlconf, _cconf);
+		if( key != null )
+			_pscache.put(key, ret.clone(false));
+		return ret;
+	}
+	
+	private String createCacheKey(String script, Map<String,String> nsscripts,
+		Map<String, String> args, String[] inputs, String[] outputs)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(script);
+		if( nsscripts != null )
+			sb.append(new TreeMap<>(nsscripts));
+		HashSet<String> given = new HashSet<>();
+		if( nsscripts != null )
+			for( String fname : nsscripts.keySet() )
+				given.add(DmlSyntacticValidator.getDefWorkingFilePath(fname));
+		appendSourcedScripts(sb, script, given, new HashSet<>());
+		sb.append(new TreeMap<>(args));
+		sb.append(Arrays.toString(inputs));
+		sb.append(Arrays.toString(outputs));
+		sb.append(_dmlconf.serializeDMLConfig());
+		sb.append(_cconf.toString());
+		return sb.toString();
+	}
+	
+	/**
+	 * Appends the contents of all (recursively) sourced script files that are
+	 * not passed as namespace scripts, which invalidates cached prepared scripts
+	 * on modified source files. Paths are resolved like in the parser.
+	 */
+	private void appendSourcedScripts(StringBuilder sb, String script, Set<String> given, Set<String> visited) {
+		String workingDir = ".";
+		Matcher m = SOURCE_PATTERN.matcher(script);
+		while( m.find() ) {
+			if( m.group(1).equals("setwd") ) {
+				workingDir = m.group(2);
+				continue;
+			}
+			String fname = DmlSyntacticValidator.getWorkingFilePath(m.group(2), workingDir);
+			if( given.contains(fname) || !visited.add(fname) )
+				continue;
+			sb.append(fname);
+			try {
+				String tmp = readScript(fname);
+				sb.append(tmp);
+				appendSourcedScripts(sb, tmp, given, visited);
+			}
+			catch(IOException ex) {
+				//e.g., commented source statements, missing files fail on compile
+				sb.append("#unreadable");
+			}
+		}
 	}
 	
 	/**
@@ -818,6 +919,58 @@ public class Connection implements Closeable
 		return ret;
 	}
 	
+	////////////////////////////////////////////
+	// Columnar data exchange
+	////////////////////////////////////////////
+	
+	/**
+	 * Converts a set of typed column arrays (String[], boolean[], long[], or
+	 * double[] according to the schema) into a frame block. The column arrays
+	 * are wrapped without copy or per-cell conversion and hence, should not be
+	 * modified while the frame block is in use.
+	 * 
+	 * @param cols array of typed column arrays
+	 * @param schema frame schema
+	 * @param colnames column names, or null for default names
+	 * @return frame as a frame block
+	 */
+	public FrameBlock convertToFrame(Object[] cols, ValueType[] schema, String[] colnames) {
+		return DataConverter.convertToFrameBlock(cols, schema, colnames);
+	}
+	
+	/**
+	 * Converts an array of double column arrays into a dense matrix block,
+	 * without intermediate row representation.
+	 * 
+	 * @param cols array of double column arrays
+	 * @return matrix as a matrix block
+	 */
+	public MatrixBlock convertToMatrix(double[][] cols) {
+		return DataConverter.convertToMatrixBlock(cols, true);
+	}
+	
+	/**
+	 * Converts a frame block into an array of typed column arrays (String[],
+	 * boolean[], long[], or double[] according to the schema), without copy
+	 * if the internal column arrays exactly match the number of rows.
+	 * 
+	 * @param fb frame block
+	 * @return array of typed column arrays
+	 */
+	public Object[] convertToColumns(FrameBlock fb) {
+		return DataConverter.convertToColumns(fb);
+	}
+	
+	/**
+	 * Converts a matrix block into an array of double column arrays.
+	 * 
+	 * @param mb matrix block
+	 * @return array of double column arrays
+	 */
+	public double[][] convertToColumns(MatrixBlock mb) {
+		return DataConverter.convertToDoubleColumns(mb);
+	}
+	
 	////////////////////////////////////////////
 	// Read transform meta data
 	////////////////////////////////////////////
@@ -161,6 +161,16 @@ public class PreparedScript implements ConfigurableAPI
 		return _cconf;
 	}
 	
+	/**
+	 * Get the runtime program associated with the prepared
+	 * script instance (shared among shallow clones).
+	 * 
+	 * @return runtime program
+	 */
+	public Program getProgram() {
+		return _prog;
+	}
+	
 	/**
 	 * Binds a scalar boolean to a registered input variable.
 	 * 
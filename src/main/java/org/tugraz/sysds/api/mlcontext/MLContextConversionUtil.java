@@ -1237,6 +1237,37 @@ public class MLContextConversionUtil {
 		return frame;
 	}
 
+	/**
+	 * Convert a {@code FrameObject} to an array of typed column arrays.
+	 *
+	 * @param frameObject
+	 *            the {@code FrameObject}
+	 * @return the {@code FrameObject} converted to an {@code Object[]} of
+	 *         {@code String[]}, {@code boolean[]}, {@code long[]}, or
+	 *         {@code double[]} columns according to the schema
+	 */
+	public static Object[] frameObjectToColumns(FrameObject frameObject) {
+		FrameBlock fb = frameObject.acquireRead();
+		Object[] cols = DataConverter.convertToColumns(fb);
+		frameObject.release();
+		return cols;
+	}
+
+	/**
+	 * Convert a {@code MatrixObject} to an array of double column arrays.
+	 *
+	 * @param matrixObject
+	 *            the {@code MatrixObject}
+	 * @return the {@code MatrixObject} converted to a {@code double[][]} of
+	 *         columns
+	 */
+	public static double[][] matrixObjectToColumns(MatrixObject matrixObject) {
+		MatrixBlock mb = matrixObject.acquireRead();
+		double[][] cols = DataConverter.convertToDoubleColumns(mb);
+		matrixObject.release();
+		return cols;
+	}
+
 	/**
 	 * Obtain JavaSparkContext from MLContextProxy.
 	 *
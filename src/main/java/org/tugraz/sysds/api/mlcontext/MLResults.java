@@ -502,6 +502,32 @@ public class MLResults {
 		return MLContextConversionUtil.frameObjectTo2DStringArray(frameObject);
 	}
 
+	/**
+	 * Obtain a frame output as an array of typed column arrays ({@code String[]},
+	 * {@code boolean[]}, {@code long[]}, or {@code double[]} according to the
+	 * frame schema), which avoids per-cell conversion.
+	 *
+	 * @param outputName
+	 *            the name of the output
+	 * @return the output as an array of column arrays
+	 */
+	public Object[] getFrameAsColumns(String outputName) {
+		FrameObject frameObject = getFrameObject(outputName);
+		return MLContextConversionUtil.frameObjectToColumns(frameObject);
+	}
+
+	/**
+	 * Obtain a matrix output as an array of double column arrays.
+	 *
+	 * @param outputName
+	 *            the name of the output
+	 * @return the output as an array of double column arrays
+	 */
+	public double[][] getMatrixAsColumns(String outputName) {
+		MatrixObject matrixObject = getMatrixObject(outputName);
+		return MLContextConversionUtil.matrixObjectToColumns(matrixObject);
+	}
+
 	/**
 	 * Obtain a {@code double} output
 	 *
@@ -20,6 +20,7 @@
 package org.tugraz.sysds.conf;
 
 import java.util.HashMap;
+import java.util.TreeMap;
 
 import org.tugraz.sysds.hops.OptimizerUtils;
 
@@ -140,4 +141,11 @@ public class CompilerConfig
 	public CompilerConfig clone() {
 		return new CompilerConfig(this);
 	}
+	
+	@Override
+	public String toString() {
+		//deterministic order of configurations
+		return new TreeMap<>(_bmap).toString()
+			+ new TreeMap<>(_imap).toString();
+	}
 }
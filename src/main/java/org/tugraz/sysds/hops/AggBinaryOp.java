@@ -42,6 +42,7 @@ import org.tugraz.sysds.lops.PMapMult;
 import org.tugraz.sysds.lops.Transform;
 import org.tugraz.sysds.lops.Transform.OperationTypes;
 import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
@@ -615,7 +616,13 @@ public class AggBinaryOp extends MultiThreadedHop
 			setOutputDimensions(matmultCP);
 		}
 		else {
-			if( isLeftTransposeRewriteApplicable(true) ) {
+			if( isLeftTransposeSpMTVApplicable() ) {
+				int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
+				matmultCP = new Binary(getInput().get(0).getInput().get(0).constructLops(),
+					getInput().get(1).constructLops(), Binary.OperationTypes.MATMULT,
+					getDataType(), getValueType(), et, k, true, false);
+			}
+			else if( isLeftTransposeRewriteApplicable(true) ) {
 				matmultCP = constructCPLopsMMWithLeftTransposeRewrite();
 			}
 			else { 
@@ -871,6 +878,24 @@ public class AggBinaryOp extends MultiThreadedHop
 		setLops(zipmm);
 	}
 			
+	/**
+	 * Determines if t(X) %*% v can be computed without transpose over a sparse X
+	 * and dense v with few columns (SpMTV). At runtime, we fall back to an explicit
+	 * transpose if the actual inputs do not satisfy these constraints.
+	 * 
+	 * @return true if transpose-free SpMTV is applicable
+	 */
+	private boolean isLeftTransposeSpMTVApplicable() {
+		Hop h1 = getInput().get(0);
+		Hop h2 = getInput().get(1);
+		if( !HopRewriteUtils.isTransposeOperation(h1) )
+			return false;
+		Hop X = h1.getInput().get(0);
+		return X.dimsKnown(true) && h2.getDim2() > 0
+			&& h2.getDim2() <= LibMatrixMult.SPMV_MAX_NUM_VECTORS
+			&& MatrixBlock.evalSparseFormatInMemory(X.getDim1(), X.getDim2(), X.getNnz());
+	}
+	
 	/**
 	 * Determines if the rewrite t(X)%*%Y -> t(t(Y)%*%X) is applicable
 	 * and cost effective. Whenever X is a wide matrix and Y is a vector
@@ -356,7 +356,8 @@ public class BinaryOp extends MultiThreadedHop
 			else //CP
 			{
 				Lop offset = createOffsetLop( getInput().get(0), cbind ); //offset 1st input
-				append = new Append(getInput().get(0).constructLops(), getInput().get(1).constructLops(), offset, getDataType(), getValueType(), cbind, et);
+				int k = (et == ExecType.CP) ? OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
+				append = new Append(getInput().get(0).constructLops(), getInput().get(1).constructLops(), offset, getDataType(), getValueType(), cbind, et, k);
 				append.getOutputParameters().setDimensions(rlen, clen, getBlocksize(), getNnz());
 			}
 		}
@@ -404,8 +405,10 @@ public class BinaryOp extends MultiThreadedHop
 			else //general case
 				ot = HopsOpOp2LopsU.get(op);
 
+			int k = (et == ExecType.CP) ? OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
+			boolean inplace = (et == ExecType.CP && getUpdateType().isInPlace());
 			Unary unary1 = new Unary(getInput().get(0).constructLops(),
-				getInput().get(1).constructLops(), ot, getDataType(), getValueType(), et);
+				getInput().get(1).constructLops(), ot, getDataType(), getValueType(), et, k, inplace);
 		
 			setOutputDimensions(unary1);
 			setLineNumbers(unary1);
@@ -443,9 +446,12 @@ public class BinaryOp extends MultiThreadedHop
 						getInput().get(1).constructLops(), DnnTransform.OperationTypes.RELU_BACKWARD,
 						getDataType(), getValueType(), et, OptimizerUtils.getConstrainedNumThreads(_maxNumThreads));
 				}
-				else
+				else {
+					int k = (et == ExecType.CP) ? OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
+					boolean inplace = (et == ExecType.CP && getUpdateType().isInPlace());
 					binary = new Binary(getInput().get(0).constructLops(), getInput().get(1).constructLops(), HopsOpOp2LopsB.get(op),
-						getDataType(), getValueType(), et);
+						getDataType(), getValueType(), et, k, inplace);
+				}
 				
 				setOutputDimensions(binary);
 				setLineNumbers(binary);
@@ -244,6 +244,10 @@ public class DataOp extends Hop
 		return _paramIndexMap.get(name);
 	}
 	
+	public boolean hasParameter(String name) {
+		return _paramIndexMap.containsKey(name);
+	}
+	
 	@Override
 	public boolean isGPUEnabled() {
 		return false;
@@ -431,8 +435,8 @@ public class DataOp extends Hop
 		{
 			checkAndSetForcedPlatform();
 
-			//additional check for write only
-			if( getDataType()==DataType.SCALAR )
+			//additional check for write only (columnar frames only via local writer)
+			if( getDataType()==DataType.SCALAR || _inFormat==FileFormatTypes.COLUMNAR )
 				_etypeForced = ExecType.CP;
 			
 			if( _etypeForced != null )
@@ -543,7 +547,8 @@ public class DataOp extends Hop
 			&& _fileName.equals(that2._fileName)
 			&& _inFormat == that2._inFormat
 			&& _inBlocksize == that2._inBlocksize
-			&& _paramIndexMap!=null && that2._paramIndexMap!=null );
+			&& _paramIndexMap!=null && that2._paramIndexMap!=null
+			&& _paramIndexMap.keySet().equals(that2._paramIndexMap.keySet()) );
 		
 		//above conditions also ensure consistency with regard to 
 		//(1) checkpointing, (2) reblock and (3) recompile.
@@ -561,6 +566,18 @@ public class DataOp extends Hop
 		return ret;
 	}
 
+	/**
+	 * Add a named input to the list of inputs and to the parameter index map.
+	 * 
+	 * @param inputName The name of the input to add
+	 * @param input The hop of the input to add
+	 */
+	public void addInput(String inputName, Hop input) {
+		_paramIndexMap.put(inputName, _input.size());
+		_input.add(input);
+		input._parent.add(this);
+	}
+
 	/**
 	 * Remove an input from the list of inputs and from the parameter index map.
 	 * Parameter index map values higher than the index of the removed input
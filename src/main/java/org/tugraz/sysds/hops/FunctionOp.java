@@ -186,8 +186,11 @@ public class FunctionOp extends Hop
 				return outputVectors+outputValues; 
 			}
 			else if ( getFunctionName().equalsIgnoreCase("lstm") || getFunctionName().equalsIgnoreCase("lstm_backward") ) {
-				// TODO: To allow for initial version to always run on the GPU
-				return 0; 
+				// dense outputs: out, cy or dX, dW, db, dout0, dc0
+				double ret = 0;
+				for( Hop out : getOutputs() )
+					ret += OptimizerUtils.estimateSizeExactSparsity(out.getDim1(), out.getDim2(), 1.0);
+				return ret;
 			}
 			else if ( getFunctionName().equalsIgnoreCase("batch_norm2d") || getFunctionName().equalsIgnoreCase("batch_norm2d_train")) {
 				return OptimizerUtils.estimateSizeExactSparsity(getOutputs().get(0).getDim1(), getOutputs().get(0).getDim2(), 1.0) +
@@ -238,9 +241,17 @@ public class FunctionOp extends Hop
 					getFunctionName().equalsIgnoreCase("batch_norm2d_train") || getFunctionName().equalsIgnoreCase("batch_norm2d_test")) {
 				return 0; 
 			}
-			else if ( getFunctionName().equalsIgnoreCase("lstm") ||  getFunctionName().equalsIgnoreCase("lstm_backward") ) {
-				// TODO: To allow for initial version to always run on the GPU
-				return 0; 
+			else if ( getFunctionName().equalsIgnoreCase("lstm") ) {
+				// per-timestep inputs cbind(X_t, out_prev) and gates (N, D+M+4M)
+				Hop W = getInput().get(1);
+				return OptimizerUtils.estimateSizeExactSparsity(getInput().get(0).getDim1(), W.getDim1()+W.getDim2(), 1.0);
+			}
+			else if ( getFunctionName().equalsIgnoreCase("lstm_backward") ) {
+				// cached inputs, gates, and cell states of all timesteps (N*T, D+M+4M+M)
+				Hop dX = getOutputs().get(0), dW = getOutputs().get(1);
+				long M = dW.getDim2() / 4, D = dW.getDim1() - M;
+				long T = (D > 0) ? dX.getDim2() / D : 1;
+				return OptimizerUtils.estimateSizeExactSparsity(dX.getDim1()*T, dW.getDim1()+dW.getDim2()+M, 1.0);
 			}
 			else if ( getFunctionName().equalsIgnoreCase("svd")) {
 				double interOutput = OptimizerUtils.estimateSizeExactSparsity(1, getInput().get(0).getDim2(), 1.0);
@@ -309,12 +320,8 @@ public class FunctionOp extends Hop
 					|| (getMemEstimate() >= OptimizerUtils.getLocalMemBudget()
 						&& OptimizerUtils.isSparkExecutionMode())) ? ExecType.SPARK : ExecType.CP);
 			}
-			else if(isBuiltinFunction && (getFunctionName().equalsIgnoreCase("lstm") || getFunctionName().equalsIgnoreCase("lstm_backward"))) {
-				if(!DMLScript.USE_ACCELERATOR)
-					throw new RuntimeException("The function " + getFunctionName() + " is only supported on GPU.");
-				_etype = ExecType.GPU;
-			}
-			else if(isBuiltinFunction && (getFunctionName().equalsIgnoreCase("batch_norm2d") || getFunctionName().equalsIgnoreCase("batch_norm2d_backward"))) {
+			else if(isBuiltinFunction && (getFunctionName().equalsIgnoreCase("lstm") || getFunctionName().equalsIgnoreCase("lstm_backward")
+				|| getFunctionName().equalsIgnoreCase("batch_norm2d") || getFunctionName().equalsIgnoreCase("batch_norm2d_backward"))) {
 				_etype = DMLScript.USE_ACCELERATOR ? ExecType.GPU : ExecType.CP;
 			}
 			else if(isBuiltinFunction && getFunctionName().equalsIgnoreCase("batch_norm2d_train")) {
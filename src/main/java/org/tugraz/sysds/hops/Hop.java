@@ -541,6 +541,7 @@ public abstract class Hop implements ParseInfo
 				if( dimsKnown(true) ) { 
 					//nnz always exactly known (see dimsKnown(true))
 					_outputMemEstimate = computeOutputMemEstimate(getDim1(), getDim2(), getNnz());
+					memo.propagateSketch(this); //for consumers w/ unknown nnz
 				}
 				//1b) infer output statistics and mem estimate based on worst-case statistics
 				else if( memo.hasInputStatistics(this) )
@@ -548,6 +549,11 @@ public abstract class Hop implements ParseInfo
 					//infer the output stats
 					wdc = inferOutputCharacteristics(memo);
 					
+					//refine worst-case nnz by sketch-based estimates, if available
+					long snnz = memo.propagateSketch(this);
+					if( wdc != null && wdc.dimsKnown() && snnz >= 0 )
+						wdc.setNonZeros(Math.min(snnz, wdc.getLength()));
+					
 					if( wdc != null && wdc.dimsKnown() ) {
 						//use worst case characteristics to estimate mem
 						long lnnz = wdc.nnzKnown() ? wdc.getNonZeros() : wdc.getLength();
@@ -1045,7 +1051,7 @@ public abstract class Hop implements ParseInfo
 	}
 
 	public enum FileFormatTypes {
-		TEXT, BINARY, MM, CSV, LIBSVM
+		TEXT, BINARY, MM, CSV, LIBSVM, COLUMNAR
 	}
 
 	public enum DataOpTypes {
@@ -34,7 +34,7 @@ import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
 
 //for now only works for range based indexing op
-public class IndexingOp extends Hop 
+public class IndexingOp extends MultiThreadedHop
 {
 	public static String OPSTRING = "rix"; //"Indexing";
 	
@@ -152,11 +152,14 @@ public class IndexingOp extends Hop
 				}
 				else //CP or GPU
 				{
+					//multi-threaded column-wise slicing of frames
+					int k = (et == ExecType.CP && getDataType() == DataType.FRAME) ?
+						OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
 					Lop dummy = Data.createLiteralLop(ValueType.INT64, Integer.toString(-1));
 					RightIndex reindex = new RightIndex(
 							input.constructLops(), getInput().get(1).constructLops(), getInput().get(2).constructLops(),
 							getInput().get(3).constructLops(), getInput().get(4).constructLops(), dummy, dummy,
-							getDataType(), getValueType(), et);
+							getDataType(), getValueType(), et, k);
 					
 					setOutputDimensions(reindex);
 					setLineNumbers(reindex);
@@ -453,6 +456,7 @@ public class IndexingOp extends Hop
 		//copy generic attributes
 		ret.clone(this, false);
 		//copy specific attributes
+		ret._maxNumThreads = _maxNumThreads;
 		return ret;
 	}
 	
@@ -469,6 +473,7 @@ public class IndexingOp extends Hop
 				&& getInput().get(1) == that.getInput().get(1)
 				&& getInput().get(2) == that.getInput().get(2)
 				&& getInput().get(3) == that.getInput().get(3)
-				&& getInput().get(4) == that.getInput().get(4));
+				&& getInput().get(4) == that.getInput().get(4)
+				&& _maxNumThreads == ((IndexingOp)that)._maxNumThreads);
 	}
 }
@@ -33,7 +33,7 @@ import org.tugraz.sysds.lops.UnaryCP.OperationTypes;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
 
-public class LeftIndexingOp  extends Hop 
+public class LeftIndexingOp extends MultiThreadedHop
 {	
 	public static LeftIndexingMethod FORCED_LEFT_INDEXING = null;
 	
@@ -143,10 +143,11 @@ public class LeftIndexingOp  extends Hop
 			}
 			else 
 			{
+				int k = (et == ExecType.CP) ? OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
 				LeftIndex left = new LeftIndex(
 						getInput().get(0).constructLops(), getInput().get(1).constructLops(), getInput().get(2).constructLops(), 
 						getInput().get(3).constructLops(), getInput().get(4).constructLops(), getInput().get(5).constructLops(), 
-						getDataType(), getValueType(), et);
+						getDataType(), getValueType(), et, k);
 				
 				setOutputDimensions(left);
 				setLineNumbers(left);
@@ -423,6 +424,7 @@ public class LeftIndexingOp  extends Hop
 		ret.clone(this, false);
 		
 		//copy specific attributes
+		ret._maxNumThreads = _maxNumThreads;
 		
 		return ret;
 	}
@@ -441,7 +443,8 @@ public class LeftIndexingOp  extends Hop
 				&& getInput().get(2) == that.getInput().get(2)
 				&& getInput().get(3) == that.getInput().get(3)
 				&& getInput().get(4) == that.getInput().get(4)
-				&& getInput().get(5) == that.getInput().get(5));
+				&& getInput().get(5) == that.getInput().get(5)
+				&& _maxNumThreads == ((LeftIndexingOp)that)._maxNumThreads);
 	}
 
 }
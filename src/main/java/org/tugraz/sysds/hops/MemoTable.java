@@ -23,7 +23,15 @@ package org.tugraz.sysds.hops;
 
 import org.tugraz.sysds.common.Types.DataType;
 import org.tugraz.sysds.hops.Hop.DataOpTypes;
+import org.tugraz.sysds.hops.Hop.ReOrgOp;
+import org.tugraz.sysds.hops.estim.EstimatorMatrixHistogram;
+import org.tugraz.sysds.hops.estim.EstimatorMatrixHistogram.MatrixHistogram;
+import org.tugraz.sysds.hops.estim.SparsityEstimator.OpCode;
 import org.tugraz.sysds.hops.recompile.RecompileStatus;
+import org.tugraz.sysds.hops.rewrite.HopRewriteUtils;
+import org.tugraz.sysds.runtime.controlprogram.LocalVariableMap;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.tugraz.sysds.runtime.instructions.cp.Data;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
 
@@ -31,12 +39,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 
 /**
- * Memoization Table (hop id, worst-case matrix characteristics).
+ * Memoization Table (hop id, worst-case matrix characteristics),
+ * optionally extended by (hop id, matrix histogram sketches) that are
+ * obtained from live variables and propagated during recompilation.
  * 
  */
 public class MemoTable 
 {
 	private HashMap<Long, DataCharacteristics> _memo = null;
+	private HashMap<Long, MatrixHistogram> _sketches = null;
+	
+	private static final EstimatorMatrixHistogram ESTIM = new EstimatorMatrixHistogram();
 	
 	public MemoTable() {
 		_memo = new HashMap<>();
@@ -69,6 +82,61 @@ public class MemoTable
 		rinit(hop, status);
 	}
 
+	/**
+	 * Populates the sketches of transient reads from the matrix
+	 * histograms attached to the matrix objects in the symbol table.
+	 * 
+	 * @param hops list of DAG roots
+	 * @param vars symbol table of live variables
+	 */
+	public void initSketches( ArrayList<Hop> hops, LocalVariableMap vars ) {
+		if( !OptimizerUtils.ALLOW_SKETCH_SPARSITY_ESTIMATION
+			|| hops == null || vars == null )
+			return;
+		Hop.resetVisitStatus(hops);
+		for( Hop hop : hops )
+			rinitSketches(hop, vars);
+	}
+	
+	public void memoizeSketch( long hopID, MatrixHistogram h ) {
+		if( _sketches == null )
+			_sketches = new HashMap<>();
+		_sketches.put(hopID, h);
+	}
+	
+	public MatrixHistogram getSketch( Hop hop ) {
+		return (_sketches != null) ? _sketches.get(hop.getHopID()) : null;
+	}
+	
+	/**
+	 * Derives the output sketch of the given hop from the sketches
+	 * of its inputs (for matrix multiply, transpose, element-wise
+	 * multiply and plus/minus, and cbind/rbind), and returns the
+	 * estimated number of non-zeros.
+	 * 
+	 * @param hop hop whose inputs have been processed already
+	 * @return estimated number of non-zeros, or -1 if unavailable
+	 */
+	public long propagateSketch( Hop hop ) {
+		if( _sketches == null || hop.getDataType() != DataType.MATRIX )
+			return -1;
+		MatrixHistogram ret = _sketches.get(hop.getHopID());
+		if( ret == null ) {
+			OpCode op = getSketchOpCode(hop);
+			if( op == null )
+				return -1;
+			MatrixHistogram h1 = getSketch(hop.getInput().get(0));
+			MatrixHistogram h2 = (op == OpCode.TRANS) ? null : getSketch(hop.getInput().get(1));
+			if( h1 == null || h1.getNonZeros() == 0 || (op != OpCode.TRANS
+				&& (h2 == null || h2.getNonZeros() == 0 || !isValidSketchOp(h1, h2, op))) )
+				return -1;
+			double sp = ESTIM.estimIntern(h1, h2, op, null);
+			ret = MatrixHistogram.deriveOutputHistogram(h1, h2, sp, op, null);
+			_sketches.put(hop.getHopID(), ret);
+		}
+		return ret.getNonZeros();
+	}
+	
 	public void extract( ArrayList<Hop> hops, RecompileStatus status)
 	{
 		//check existing status
@@ -206,4 +274,55 @@ public class MemoTable
 			
 		hop.setVisited();
 	}
+	
+	private void rinitSketches(Hop hop, LocalVariableMap vars) {
+		if( hop.isVisited() )
+			return;
+		
+		if( hop.getInput() != null )
+			for( Hop c : hop.getInput() )
+				rinitSketches(c, vars);
+		
+		//obtain sketches of live matrix variables
+		if( HopRewriteUtils.isData(hop, DataOpTypes.TRANSIENTREAD)
+			&& hop.getDataType() == DataType.MATRIX )
+		{
+			Data dat = vars.get(hop.getName());
+			MatrixHistogram h = (dat instanceof MatrixObject) ?
+				((MatrixObject)dat).getSketch() : null;
+			if( h != null )
+				memoizeSketch(hop.getHopID(), h);
+		}
+		
+		hop.setVisited();
+	}
+	
+	private static OpCode getSketchOpCode(Hop hop) {
+		if( hop instanceof AggBinaryOp && ((AggBinaryOp)hop).isMatrixMultiply() )
+			return OpCode.MM;
+		else if( HopRewriteUtils.isReorg(hop, ReOrgOp.TRANS) )
+			return OpCode.TRANS;
+		else if( hop instanceof BinaryOp && hop.getInput().get(0).getDataType() == DataType.MATRIX
+			&& hop.getInput().get(1).getDataType() == DataType.MATRIX ) {
+			switch( ((BinaryOp)hop).getOp() ) {
+				case MULT:  return OpCode.MULT;
+				case PLUS:
+				case MINUS: return OpCode.PLUS;
+				case CBIND: return OpCode.CBIND;
+				case RBIND: return OpCode.RBIND;
+				default:    return null;
+			}
+		}
+		return null;
+	}
+	
+	private static boolean isValidSketchOp(MatrixHistogram h1, MatrixHistogram h2, OpCode op) {
+		switch( op ) {
+			case MM:    return h1.getCols() == h2.getRows();
+			case CBIND: return h1.getRows() == h2.getRows();
+			case RBIND: return h1.getCols() == h2.getCols();
+			default:    return h1.getRows() == h2.getRows() //no broadcasting
+				&& h1.getCols() == h2.getCols();
+		}
+	}
 }
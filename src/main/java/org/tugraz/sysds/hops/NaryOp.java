@@ -36,7 +36,7 @@ import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
  * of an operation that potentially takes a variable number of operands.
  *
  */
-public class NaryOp extends Hop {
+public class NaryOp extends MultiThreadedHop {
 	protected OpOpN _op = null;
 
 	protected NaryOp() {
@@ -105,7 +105,9 @@ public class NaryOp extends Hop {
 				throw new HopsException("Unknown Nary Lop type for '"+_op+"'");
 			
 			ExecType et = optFindExecType();
-			Nary multipleCPLop = new Nary(opType, getDataType(), getValueType(), inLops, et);
+			int k = (et == ExecType.CP && Nary.isMultiThreadedOp(opType)) ?
+				OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
+			Nary multipleCPLop = new Nary(opType, getDataType(), getValueType(), inLops, et, k);
 			setOutputDimensions(multipleCPLop);
 			setLineNumbers(multipleCPLop);
 			setLops(multipleCPLop);
@@ -246,6 +248,7 @@ public class NaryOp extends Hop {
 
 		// copy specific attributes
 		multipleOp._op = _op;
+		multipleOp._maxNumThreads = _maxNumThreads;
 
 		return multipleOp;
 	}
@@ -257,7 +260,8 @@ public class NaryOp extends Hop {
 		
 		NaryOp that2 = (NaryOp) that;
 		boolean ret = (_op == that2._op
-			&& getInput().size() == that2.getInput().size());
+			&& getInput().size() == that2.getInput().size()
+			&& _maxNumThreads == that2._maxNumThreads);
 		for( int i=0; i<getInput().size() && ret; i++ )
 			ret &= (getInput().get(i) == that2.getInput().get(i));
 		return ret;
@@ -189,6 +189,35 @@ public class OptimizerUtils
 	 */
 	public static boolean ALLOW_CODE_MOTION = false;
 	
+	/**
+	 * Enables a runtime fallback of selected spark instructions to their CP
+	 * equivalents if the actual inputs are small (in hybrid execution mode),
+	 * which avoids the overhead of spark job scheduling for tiny operations.
+	 */
+	public static boolean ALLOW_SPARK_CP_FALLBACK = true;
+	
+	/**
+	 * Enables the rule-based parfor optimizer to select the adaptive work-stealing
+	 * task partitioner for local parfor loops whose bodies contain loops, branches,
+	 * or function calls (i.e., where skew across iterations is likely).
+	 */
+	public static boolean ALLOW_ADAPTIVE_TASK_PARTITIONING = true;
+	
+	/**
+	 * Enables the concurrent execution of independent CP instructions of
+	 * basic program blocks (inter-operator parallelism), scheduled in dataflow
+	 * order w/ constraints of the local memory budget. Disabled by default
+	 * because concurrent operations compete with multi-threaded operations.
+	 */
+	public static boolean ALLOW_INTER_OP_PARALLELISM = false;
+	
+	/**
+	 * Enables the maintenance of matrix histogram sketches (row/column nnz counts)
+	 * for sparse in-memory matrices, which are propagated during dynamic recompilation
+	 * and used instead of worst-case sparsity for memory estimates and output formats.
+	 */
+	public static boolean ALLOW_SKETCH_SPARSITY_ESTIMATION = true;
+	
 	
 	/**
 	 * Specifies a multiplier computing the degree of parallelism of parallel
@@ -54,11 +54,14 @@ import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
  *
  * CTABLE op takes 2 extra inputs with target dimensions for padding and pruning.
  */
-public class TernaryOp extends Hop 
+public class TernaryOp extends MultiThreadedHop
 {
 	
 	public static boolean ALLOW_CTABLE_SEQUENCE_REWRITES = true;
 	
+	//min number of output cells for multi-threaded ternary operations
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024;
+	
 	private OpOp3 _op = null;
 	
 	//ctable specific flags 
@@ -325,11 +328,16 @@ public class TernaryOp extends Hop
 		ExecType et = optFindExecType();
 		if( getInput().stream().allMatch(h -> h.getDataType().isScalar()) )
 			et = ExecType.CP; //always CP for pure scalar operations
+		//multi-threading only for large or unknown matrix outputs
+		int k = (et == ExecType.CP && getDataType().isMatrix()
+			&& (!dimsKnown() || getLength() >= PAR_NUMCELL_THRESHOLD)) ?
+			OptimizerUtils.getConstrainedNumThreads(_maxNumThreads) : 1;
+		boolean inplace = (et == ExecType.CP && getUpdateType().isInPlace());
 		Ternary plusmult = new Ternary(HopsOpOp3Lops.get(_op),
 			getInput().get(0).constructLops(),
 			getInput().get(1).constructLops(),
 			getInput().get(2).constructLops(), 
-			getDataType(),getValueType(), et );
+			getDataType(),getValueType(), et, k, inplace );
 		setOutputDimensions(plusmult);
 		setLineNumbers(plusmult);
 		setLops(plusmult);
@@ -580,6 +588,7 @@ public class TernaryOp extends Hop
 		ret._op = _op;
 		ret._dimInputsPresent  = _dimInputsPresent;
 		ret._disjointInputs    = _disjointInputs;
+		ret._maxNumThreads     = _maxNumThreads;
 		
 		return ret;
 	}
@@ -607,7 +616,8 @@ public class TernaryOp extends Hop
 		
 		//compare optimizer hints and parameters
 		ret &= _disjointInputs == that2._disjointInputs
-			&& _outputEmptyBlocks == that2._outputEmptyBlocks;
+			&& _outputEmptyBlocks == that2._outputEmptyBlocks
+			&& _maxNumThreads == that2._maxNumThreads;
 		
 		return ret;
 	}
@@ -36,6 +36,7 @@ import org.tugraz.sysds.lops.PickByCount;
 import org.tugraz.sysds.lops.SortKeys;
 import org.tugraz.sysds.lops.Unary;
 import org.tugraz.sysds.lops.UnaryCP;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixUnary;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
@@ -163,10 +164,12 @@ public class UnaryOp extends MultiThreadedHop
 				}
 				else //default unary 
 				{
-					int k = isCumulativeUnaryOperation() || isExpensiveUnaryOperation() ?
+					int k = isMultiThreadedUnaryOperation() ?
 						OptimizerUtils.getConstrainedNumThreads( _maxNumThreads ) : 1;
+					boolean inplace = et == ExecType.CP && getUpdateType().isInPlace()
+						&& !isCumulativeUnaryOperation();
 					Unary unary1 = new Unary(input.constructLops(),
-						HopsOpOp1LopsU.get(_op), getDataType(), getValueType(), et, k, false);
+						HopsOpOp1LopsU.get(_op), getDataType(), getValueType(), et, k, inplace);
 					setOutputDimensions(unary1);
 					setLineNumbers(unary1);
 					setLops(unary1);
@@ -432,6 +435,12 @@ public class UnaryOp extends MultiThreadedHop
 			|| _op == OpOp1.CUMSUMPROD);
 	}
 
+	public boolean isFrameMatrixCastOperation() {
+		DataType dt = getInput().get(0).getDataType();
+		return (_op == OpOp1.CAST_AS_MATRIX && dt == DataType.FRAME)
+			|| (_op == OpOp1.CAST_AS_FRAME && dt == DataType.MATRIX);
+	}
+	
 	public boolean isCastUnaryOperation() {
 		return (_op == OpOp1.CAST_AS_MATRIX
 			|| _op == OpOp1.CAST_AS_SCALAR
@@ -444,7 +453,36 @@ public class UnaryOp extends MultiThreadedHop
 	public boolean isExpensiveUnaryOperation()  {
 		return (_op == OpOp1.EXP 
 			|| _op == OpOp1.LOG
-			|| _op == OpOp1.SIGMOID);
+			|| _op == OpOp1.SIGMOID
+			|| _op == OpOp1.SIN || _op == OpOp1.COS || _op == OpOp1.TAN
+			|| _op == OpOp1.ASIN || _op == OpOp1.ACOS || _op == OpOp1.ATAN
+			|| _op == OpOp1.SINH || _op == OpOp1.COSH || _op == OpOp1.TANH);
+	}
+	
+	public boolean isMultiThreadedOpType() {
+		return isCumulativeUnaryOperation()
+			|| isFrameMatrixCastOperation()
+			|| isElementwiseUnaryOperation();
+	}
+	
+	public boolean isElementwiseUnaryOperation() {
+		return HopsOpOp1LopsU.containsKey(_op)
+			&& Unary.isMultiThreadedElementwiseOp(HopsOpOp1LopsU.get(_op));
+	}
+	
+	public boolean isMultiThreadedUnaryOperation() {
+		//note: frame/matrix casts decide on multi-threading at runtime
+		if( isCumulativeUnaryOperation() || isFrameMatrixCastOperation() )
+			return true;
+		if( !isMultiThreadedOpType() )
+			return false;
+		//cost-based decision for elementwise operations (unknowns: multi-threaded)
+		Hop input = getInput().get(0);
+		long cells = !input.dimsKnown() ? Long.MAX_VALUE : (input.dimsKnown(true)
+			&& MatrixBlock.evalSparseFormatInMemory(input.getDim1(), input.getDim2(), input.getNnz())) ?
+			input.getNnz() : input.getLength();
+		return LibMatrixUnary.isParallelUnary(cells, isExpensiveUnaryOperation(),
+			OptimizerUtils.getConstrainedNumThreads(_maxNumThreads));
 	}
 	
 	public boolean isMetadataOperation() {
@@ -77,6 +77,7 @@ import org.tugraz.sysds.runtime.controlprogram.caching.TensorObject;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.controlprogram.parfor.opt.OptTreeConverter;
 import org.tugraz.sysds.runtime.instructions.Instruction;
+import org.tugraz.sysds.runtime.instructions.cp.CPOperand;
 import org.tugraz.sysds.runtime.instructions.cp.Data;
 import org.tugraz.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
 import org.tugraz.sysds.runtime.instructions.cp.IntObject;
@@ -122,6 +123,10 @@ public class Recompiler
 	private static final long CP_REBLOCK_THRESHOLD_SIZE = 1L*1024*1024*1024; 
 	private static final long CP_CSV_REBLOCK_UNKNOWN_THRESHOLD_SIZE = CP_REBLOCK_THRESHOLD_SIZE;
 	
+	//Max threshold for runtime fallback of spark instructions to CP [in bytes]
+	//reason: spark job scheduling (~50-100ms) dominates the costs for small inputs
+	private static final long CP_FALLBACK_THRESHOLD_SIZE = 128L*1024*1024;
+	
 	/** Local reused rewriter for dynamic rewrites during recompile */
 
 	/** Local DML configuration for thread-local config updates */
@@ -351,6 +356,7 @@ public class Recompiler
 			Hop.resetVisitStatus(hops);
 			MemoTable memo = new MemoTable();
 			memo.init(hops, status);
+			memo.initSketches(hops, vars);
 			Hop.resetVisitStatus(hops);
 			for( Hop hopRoot : hops )
 				hopRoot.refreshMemEstimates(memo);
@@ -1531,6 +1537,45 @@ public class Recompiler
 		return (estFilesize < cpThreshold);
 	}
 	
+	/**
+	 * Checks if a spark instruction over the given operands can be executed
+	 * in CP instead, according to the actual sizes of all matrix inputs. The
+	 * memory estimate conservatively accounts for an output of the size of the
+	 * largest input, which holds for elementwise unary and binary operations.
+	 * 
+	 * @param ec execution context
+	 * @param inputs instruction input operands (scalars are ignored)
+	 * @return true if all inputs are matrices of known and small size
+	 */
+	public static boolean checkCPFallback(ExecutionContext ec, CPOperand... inputs) {
+		//check valid cp fallback recompilation hook
+		if(    !OptimizerUtils.ALLOW_SPARK_CP_FALLBACK
+			|| !ConfigurationManager.isDynamicRecompilation()
+			|| !OptimizerUtils.isHybridExecutionMode() )
+		{
+			return false;
+		}
+		
+		//check valid dimensions and memory requirements
+		double mem = 0, maxMem = 0;
+		for( CPOperand in : inputs ) {
+			if( in == null || in.isScalar() )
+				continue;
+			if( !in.isMatrix() || !ec.isMatrixObject(in.getName()) )
+				return false;
+			DataCharacteristics dc = ec.getDataCharacteristics(in.getName());
+			if( !dc.dimsKnown() || !OptimizerUtils.isValidCPDimensions(dc) )
+				return false;
+			double inMem = OptimizerUtils.estimateSize(dc);
+			mem += inMem;
+			maxMem = Math.max(maxMem, inMem);
+		}
+		mem += maxMem;
+		
+		return mem > 0 && mem < CP_FALLBACK_THRESHOLD_SIZE
+			&& mem < OptimizerUtils.getLocalMemBudget();
+	}
+	
 	public static boolean checkCPCheckpoint(DataCharacteristics dc) {
 		return OptimizerUtils.isHybridExecutionMode()
 			&& OptimizerUtils.isValidCPDimensions(dc.getRows(), dc.getCols())
@@ -2261,6 +2261,9 @@ public class RewriteAlgebraicSimplificationDynamic extends HopRewriteRule
 			
 			//rewire parent-child operators if rewrite applied
 			if( ternop != null ) { 
+				//preserve update in-place of loop variables w/ unchanged first input
+				if( ternop instanceof TernaryOp && ternop.getInput().get(0) == left )
+					ternop.setUpdateType(bop.getUpdateType());
 				HopRewriteUtils.replaceChildReference(parent, hi, ternop, pos);
 				hi = ternop;
 			}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.hops.rewrite;
+
+import java.util.ArrayList;
+
+import org.tugraz.sysds.common.Types.DataType;
+import org.tugraz.sysds.hops.DataOp;
+import org.tugraz.sysds.hops.Hop;
+import org.tugraz.sysds.hops.IndexingOp;
+import org.tugraz.sysds.hops.LiteralOp;
+import org.tugraz.sysds.hops.Hop.DataOpTypes;
+import org.tugraz.sysds.hops.Hop.FileFormatTypes;
+import org.tugraz.sysds.hops.Hop.OpOp1;
+import org.tugraz.sysds.parser.DataExpression;
+
+/**
+ * Rule: Frame read projection. If a persistent read of a columnar frame
+ * is only consumed by a right indexing operation with constant row and column
+ * bounds, we push the row and column range into the read and remove the
+ * indexing operation. This allows the reader to decode only the column chunks
+ * of the projected columns that overlap the requested rows, instead of
+ * reading the entire frame and slicing it afterwards.
+ */
+public class RewriteFrameReadProjection extends HopRewriteRule
+{
+	@Override
+	public ArrayList<Hop> rewriteHopDAGs(ArrayList<Hop> roots, ProgramRewriteStatus state) {
+		if( roots == null )
+			return roots;
+		for( Hop h : roots )
+			rule_FrameReadProjection( h );
+		return roots;
+	}
+
+	@Override
+	public Hop rewriteHopDAG(Hop root, ProgramRewriteStatus state) {
+		//do nothing, persistent reads do not occur in predicates
+		return root;
+	}
+
+	private void rule_FrameReadProjection( Hop hop ) {
+		if( hop.isVisited() )
+			return;
+		
+		//recursively process children
+		for( int i=0; i<hop.getInput().size(); i++ ) {
+			Hop hi = hop.getInput().get(i);
+			hi = pushdownReadProjection(hi); //e.g., X=read(F, format="columnar"); X[,2:3] -> read(F[,2:3])
+			rule_FrameReadProjection( hi );
+		}
+		
+		hop.setVisited();
+	}
+
+	private static Hop pushdownReadProjection(Hop hi) {
+		//check for right indexing over columnar frame read w/ known dimensions
+		if( !(hi instanceof IndexingOp && hi.getDataType() == DataType.FRAME
+			&& isColumnarFrameRead(hi.getInput().get(0))) )
+			return hi;
+		DataOp read = (DataOp) hi.getInput().get(0);
+		
+		//check that the read is exclusively consumed by the indexing op (incl its bounds)
+		for( Hop p : read.getParent() )
+			if( p != hi && !(isSizeOf(p, read) && p.getParent().size()==1 && p.getParent().get(0)==hi) )
+				return hi;
+		
+		//check for constant and valid row/column bounds
+		long[] bounds = new long[4];
+		for( int j=0; j<4; j++ ) {
+			bounds[j] = getConstantBound(hi.getInput().get(j+1), read);
+			if( bounds[j] < 1 )
+				return hi;
+		}
+		if( bounds[0] > bounds[1] || bounds[1] > read.getDim1()
+			|| bounds[2] > bounds[3] || bounds[3] > read.getDim2() )
+			return hi;
+		if( bounds[0] == 1 && bounds[1] == read.getDim1()
+			&& bounds[2] == 1 && bounds[3] == read.getDim2() )
+			return hi; //nothing to prune
+		
+		//push row and column range into read, and update the read meta data
+		read.addInput(DataExpression.READ_ROW_LOWER, new LiteralOp(bounds[0]));
+		read.addInput(DataExpression.READ_ROW_UPPER, new LiteralOp(bounds[1]));
+		read.addInput(DataExpression.READ_COL_LOWER, new LiteralOp(bounds[2]));
+		read.addInput(DataExpression.READ_COL_UPPER, new LiteralOp(bounds[3]));
+		replaceLiteralParameter(read, DataExpression.READROWPARAM, bounds[1]-bounds[0]+1);
+		replaceLiteralParameter(read, DataExpression.READCOLPARAM, bounds[3]-bounds[2]+1);
+		read.setDim1(bounds[1]-bounds[0]+1);
+		read.setDim2(bounds[3]-bounds[2]+1);
+		
+		//rewire indexing consumers to the projected read (incl cleanup of bounds)
+		Hop[] binputs = hi.getInput().subList(1, 5).toArray(new Hop[0]);
+		HopRewriteUtils.rewireAllParentChildReferences(hi, read);
+		HopRewriteUtils.cleanupUnreferenced(hi);
+		HopRewriteUtils.cleanupUnreferenced(binputs);
+		
+		LOG.debug("Applied pushdownReadProjection (line "+hi.getBeginLine()+").");
+		return read;
+	}
+	
+	private static boolean isColumnarFrameRead(Hop hop) {
+		return HopRewriteUtils.isData(hop, DataOpTypes.PERSISTENTREAD)
+			&& hop.getDataType() == DataType.FRAME && hop.dimsKnown()
+			&& ((DataOp)hop).getInputFormatType() == FileFormatTypes.COLUMNAR
+			&& !((DataOp)hop).hasParameter(DataExpression.SCHEMAPARAM)
+			&& !((DataOp)hop).hasParameter(DataExpression.READ_ROW_LOWER);
+	}
+	
+	private static boolean isSizeOf(Hop hop, Hop input) {
+		return (HopRewriteUtils.isUnary(hop, OpOp1.NROW) || HopRewriteUtils.isUnary(hop, OpOp1.NCOL))
+			&& hop.getInput().get(0) == input;
+	}
+	
+	private static long getConstantBound(Hop bound, Hop input) {
+		if( bound instanceof LiteralOp )
+			return HopRewriteUtils.getIntValueSafe((LiteralOp)bound);
+		else if( HopRewriteUtils.isUnary(bound, OpOp1.NROW) && bound.getInput().get(0) == input )
+			return input.getDim1();
+		else if( HopRewriteUtils.isUnary(bound, OpOp1.NCOL) && bound.getInput().get(0) == input )
+			return input.getDim2();
+		return -1;
+	}
+	
+	private static void replaceLiteralParameter(DataOp read, String name, long value) {
+		if( !read.hasParameter(name) )
+			return;
+		Hop old = read.getInput().get(read.getParameterIndex(name));
+		read.removeInput(name);
+		HopRewriteUtils.cleanupUnreferenced(old);
+		read.addInput(name, new LiteralOp(value));
+	}
+}
@@ -25,11 +25,15 @@ import java.util.List;
 
 import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.hops.AggBinaryOp;
+import org.tugraz.sysds.hops.AggUnaryOp;
+import org.tugraz.sysds.hops.BinaryOp;
 import org.tugraz.sysds.hops.DataOp;
 import org.tugraz.sysds.hops.FunctionOp;
 import org.tugraz.sysds.hops.Hop;
 import org.tugraz.sysds.hops.Hop.DataOpTypes;
 import org.tugraz.sysds.hops.Hop.OpOp1;
+import org.tugraz.sysds.hops.Hop.OpOp3;
 import org.tugraz.sysds.hops.LeftIndexingOp;
 import org.tugraz.sysds.hops.UnaryOp;
 import org.tugraz.sysds.parser.ForStatement;
@@ -40,11 +44,14 @@ import org.tugraz.sysds.parser.StatementBlock;
 import org.tugraz.sysds.parser.VariableSet;
 import org.tugraz.sysds.parser.WhileStatement;
 import org.tugraz.sysds.parser.WhileStatementBlock;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.common.Types.DataType;
 
 /**
  * Rule: Mark loop variables that are only read/updated through cp left indexing
- * for update in-place.
+ * or elementwise operations (e.g., W = W - lr * dW, acc = acc + X[i,]) for
+ * update in-place. The elementwise operations that update such a variable are
+ * marked as well, and modify the block of their first input in place at runtime.
  * 
  */
 public class RewriteMarkLoopVariablesUpdateInPlace extends StatementBlockRewriteRule
@@ -85,6 +92,16 @@ public class RewriteMarkLoopVariablesUpdateInPlace extends StatementBlockRewrite
 				}
 			}	
 			
+			//exclude candidates with elementwise updates that might be aliased by
+			//other variables, and mark the remaining updates (nested loops already marked)
+			ArrayList<StatementBlock> body = (sb instanceof WhileStatementBlock) ?
+				((WhileStatement) sb.getStatement(0)).getBody() :
+				((ForStatement) sb.getStatement(0)).getBody();
+			candidates.removeIf(varname -> rContainsElementwiseUpdate(body, varname)
+				&& !rIsAliasFreeElementwiseUpdate(body, varname));
+			for( String varname : candidates )
+				rMarkElementwiseUpdates(body, varname);
+			
 			sb.setUpdateInPlaceVars(candidates);
 		}
 			
@@ -136,9 +153,12 @@ public class RewriteMarkLoopVariablesUpdateInPlace extends StatementBlockRewrite
 		if(hop instanceof FunctionOp && ((FunctionOp)hop).containsOutput(varname))
 			return false;
 
-		//NOTE: single-root-level validity check
+		//NOTE: single-root-level validity check, where assignments
+		//of the variable to other variables would create aliases
 		if( !hop.getName().equals(varname) )
-			return true;
+			return !(HopRewriteUtils.isData(hop, DataOpTypes.TRANSIENTWRITE)
+				&& HopRewriteUtils.isData(hop.getInput().get(0), DataOpTypes.TRANSIENTREAD)
+				&& hop.getInput().get(0).getName().equals(varname));
 	
 		//valid if read/updated by leftindexing 
 		//CP exec type not evaluated here as no lops generated yet 
@@ -153,16 +173,20 @@ public class RewriteMarkLoopVariablesUpdateInPlace extends StatementBlockRewrite
 			} 
 		}
 		
-		return validLix;
+		//valid if read/updated by elementwise operation w/ safe consumers
+		boolean validElementwise = probeElementwiseRoot(hop, varname)
+			&& isSafeElementwiseUpdate(hop.getInput().get(0));
+		
+		return validLix || validElementwise;
 	}
 	
 	private static boolean isApplicableForUpdateInPlace(ArrayList<Hop> hops, String varname) {
 		//NOTE: additional DAG-level validity check
 		
-		// check single LIX update which is direct root-child to varname assignment
+		// check single LIX or elementwise update which is direct root-child to varname assignment
 		Hop bLix = null;
 		for( Hop hop : hops ) {
-			if( probeLixRoot(hop, varname) ) {
+			if( probeLixRoot(hop, varname) || probeElementwiseRoot(hop, varname) ) {
 				if( bLix != null ) return false; //invalid
 				bLix = hop.getInput().get(0);
 			}
@@ -187,6 +211,146 @@ public class RewriteMarkLoopVariablesUpdateInPlace extends StatementBlockRewrite
 			&& root.getInput().get(0).getInput().get(0).getName().equals(varname);
 	}
 	
+	private static boolean probeElementwiseRoot(Hop root, String varname) {
+		if( !HopRewriteUtils.isData(root, DataOpTypes.TRANSIENTWRITE)
+			|| !root.isMatrix() || !root.getName().equals(varname) )
+			return false;
+		Hop hop = root.getInput().get(0);
+		int pos = getUpdateInputPosition(hop);
+		return pos >= 0 && hop.isMatrix()
+			&& HopRewriteUtils.isData(hop.getInput().get(pos), DataOpTypes.TRANSIENTREAD)
+			&& hop.getInput().get(pos).getName().equals(varname);
+	}
+	
+	private static int getUpdateInputPosition(Hop hop) {
+		//elementwise binary operations (matrix-matrix and matrix-scalar)
+		if( hop instanceof BinaryOp && !((BinaryOp)hop).isOuter()
+			&& ((BinaryOp)hop).supportsMatrixScalarOperations() )
+			return hop.getInput().get(0).isMatrix() ? 0 : 1;
+		//elementwise unary operations (excl cumulative aggregates)
+		else if( hop instanceof UnaryOp && ((UnaryOp)hop).isElementwiseUnaryOperation() )
+			return 0;
+		//fused axpy operations (e.g., W -* lr dW)
+		else if( HopRewriteUtils.isTernary(hop, OpOp3.PLUS_MULT, OpOp3.MINUS_MULT) )
+			return 0;
+		return -1;
+	}
+	
+	private static boolean isSafeElementwiseUpdate(Hop hop) {
+		//valid if the update input is consumed only by the update itself, metadata
+		//operations, or non-aliasing operations that are inputs to the update
+		//(and thus executed before), e.g., W = W - lr * t(X) %*% (X %*% W - y)
+		int pos = getUpdateInputPosition(hop);
+		Hop in = hop.getInput().get(pos);
+		for( int i=0; i<hop.getInput().size(); i++ )
+			if( i != pos && hop.getInput().get(i) == in )
+				return false; //e.g., W = W + W
+		for( Hop p : in.getParent() ) {
+			if( p == hop || HopRewriteUtils.isUnary(p, OpOp1.NROW, OpOp1.NCOL) )
+				continue;
+			boolean valid = isNonAliasingOperation(p);
+			boolean before = false;
+			for( int i=0; i<hop.getInput().size() && valid && !before; i++ )
+				before = (i != pos && HopRewriteUtils.containsInput(hop.getInput().get(i), p));
+			if( !valid || !before )
+				return false;
+		}
+		return true;
+	}
+	
+	private static boolean isNonAliasingOperation(Hop hop) {
+		//operations that always produce new output blocks (excl transpose and
+		//elementwise operations, which return shallow copies of vectors or for
+		//empty inputs, e.g., t(v) or X + E with empty E)
+		return hop instanceof AggBinaryOp || hop instanceof AggUnaryOp;
+	}
+	
+	private static boolean rContainsElementwiseUpdate(ArrayList<StatementBlock> sbs, String varname) {
+		boolean ret = false;
+		for( StatementBlock sb : sbs ) {
+			if( sb instanceof IfStatementBlock ) {
+				IfStatement istmt = (IfStatement)sb.getStatement(0);
+				ret |= rContainsElementwiseUpdate(istmt.getIfBody(), varname)
+					|| (istmt.getElseBody() != null && rContainsElementwiseUpdate(istmt.getElseBody(), varname));
+			}
+			else if( !(sb instanceof WhileStatementBlock || sb instanceof ForStatementBlock)
+				&& sb.getHops() != null ) {
+				for( Hop hop : sb.getHops() )
+					ret |= probeElementwiseRoot(hop, varname);
+			}
+		}
+		return ret;
+	}
+	
+	private static boolean rIsAliasFreeElementwiseUpdate(ArrayList<StatementBlock> sbs, String varname) {
+		//valid if all reads of the variable in the entire loop body (incl nested
+		//loops) are consumed by operations that cannot create aliases, i.e., updates
+		//of the variable itself, metadata operations, and non-aliasing operations
+		boolean ret = true;
+		for( StatementBlock sb : sbs ) {
+			if( sb instanceof WhileStatementBlock )
+				ret &= rIsAliasFreeElementwiseUpdate(((WhileStatement)sb.getStatement(0)).getBody(), varname);
+			else if( sb instanceof ForStatementBlock )
+				ret &= rIsAliasFreeElementwiseUpdate(((ForStatement)sb.getStatement(0)).getBody(), varname);
+			else if( sb instanceof IfStatementBlock ) {
+				IfStatement istmt = (IfStatement)sb.getStatement(0);
+				ret &= rIsAliasFreeElementwiseUpdate(istmt.getIfBody(), varname);
+				if( istmt.getElseBody() != null )
+					ret &= rIsAliasFreeElementwiseUpdate(istmt.getElseBody(), varname);
+			}
+			else if( sb.getHops() != null ) {
+				Hop.resetVisitStatus(sb.getHops());
+				for( Hop hop : sb.getHops() )
+					ret &= rIsAliasFreeRead(hop, varname);
+				Hop.resetVisitStatus(sb.getHops());
+			}
+			if( !ret ) break;
+		}
+		return ret;
+	}
+	
+	private static boolean rIsAliasFreeRead(Hop hop, String varname) {
+		if( hop.isVisited() )
+			return true;
+		boolean valid = true;
+		if( HopRewriteUtils.isData(hop, DataOpTypes.TRANSIENTREAD) && hop.getName().equals(varname) ) {
+			for( Hop p : hop.getParent() )
+				valid &= HopRewriteUtils.isUnary(p, OpOp1.NROW, OpOp1.NCOL)
+					|| isNonAliasingOperation(p) || isUpdateOf(p, hop, varname);
+		}
+		for( Hop c : hop.getInput() )
+			valid &= rIsAliasFreeRead(c, varname);
+		hop.setVisited();
+		return valid;
+	}
+	
+	private static boolean isUpdateOf(Hop hop, Hop in, String varname) {
+		//left indexing or elementwise update of the variable (w/o other aliasing inputs)
+		for( Hop p : hop.getParent() ) {
+			if( (probeLixRoot(p, varname) && hop.getInput().get(0) == in)
+				|| (probeElementwiseRoot(p, varname) && isSafeElementwiseUpdate(hop)) )
+				return true;
+		}
+		return false;
+	}
+	
+	private static void rMarkElementwiseUpdates(ArrayList<StatementBlock> sbs, String varname) {
+		for( StatementBlock sb : sbs ) {
+			if( sb instanceof IfStatementBlock ) {
+				IfStatement istmt = (IfStatement)sb.getStatement(0);
+				rMarkElementwiseUpdates(istmt.getIfBody(), varname);
+				if( istmt.getElseBody() != null )
+					rMarkElementwiseUpdates(istmt.getElseBody(), varname);
+			}
+			else if( !(sb instanceof WhileStatementBlock || sb instanceof ForStatementBlock)
+				&& sb.getHops() != null ) {
+				for( Hop hop : sb.getHops() )
+					if( probeElementwiseRoot(hop, varname) )
+						hop.getInput().get(0).setUpdateType(UpdateType.INPLACE);
+			}
+		}
+	}
+	
 	private static boolean rProbeOtherRoot(Hop hop, String varname) {
 		if( hop.isVisited() )
 			return false;
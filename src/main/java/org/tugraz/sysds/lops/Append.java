@@ -31,14 +31,21 @@ public class Append extends Lop
 
 	private boolean _cbind = true;
 	private ExecType _et;
+	private int _numThreads = 1;
 
 	public Append(Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt, boolean cbind, ExecType et)
+	{
+		this(input1, input2, input3, dt, vt, cbind, et, 1);
+	}
+	
+	public Append(Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt, boolean cbind, ExecType et, int numThreads)
 	{
 		super(Lop.Type.Append, dt, vt);
 		_et = et;
 		init(input1, input2, input3, dt, vt);
 
 		_cbind = cbind;
+		_numThreads = numThreads;
 	}
 	
 	public void init(Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt) {
@@ -59,7 +66,7 @@ public class Append extends Lop
 	//called when append executes in CP
 	@Override
 	public String getInstructions(String input1, String input2, String input3, String output) {
-		return InstructionUtils.concatOperands(
+		String inst = InstructionUtils.concatOperands(
 			getExecType().name(),
 			"append",
 			getInputs().get(0).prepInputOperand(input1),
@@ -67,5 +74,9 @@ public class Append extends Lop
 			getInputs().get(2).prepScalarInputOperand(getExecType()),
 			prepOutputOperand(output),
 			String.valueOf(_cbind));
+		//append degree of parallelism for cp operations
+		if( getExecType() == ExecType.CP )
+			inst = InstructionUtils.concatOperands(inst, String.valueOf(_numThreads));
+		return inst;
 	}
 }
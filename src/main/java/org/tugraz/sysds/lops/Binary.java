@@ -41,6 +41,7 @@ public class Binary extends Lop
 
 	private OperationTypes operation;
 	private int numThreads = -1;
+	private boolean inplace = false; //update in-place of input1
 	boolean isLeftTransposed; boolean isRightTransposed; // Used for GPU matmult operation
 	
 	/**
@@ -58,9 +59,20 @@ public class Binary extends Lop
 	}
 	
 	public Binary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, int k) {
+		this(input1, input2, op, dt, vt, et, k, false);
+	}
+	
+	public Binary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, int k, boolean inplace) {
 		super(Lop.Type.Binary, dt, vt);
 		init(input1, input2, op, dt, vt, et);	
 		numThreads = k;
+		this.inplace = inplace;
+	}
+	
+	public Binary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, int k, 
+			boolean isLeftTransposed, boolean isRightTransposed) {
+		this(input1, input2, op, dt, vt, et, isLeftTransposed, isRightTransposed);
+		numThreads = k;
 	}
 	
 	public Binary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, 
@@ -190,9 +202,20 @@ public class Binary extends Lop
 		sb.append( this.prepOutputOperand(output));
 		
 		//append degree of parallelism for matrix multiplications
-		if( operation == OperationTypes.MATMULT && getExecType()==ExecType.CP ) {
+		//and elementwise binary operations
+		if( getExecType()==ExecType.CP ) {
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( numThreads );
+			//optional update in-place of loop variables
+			if( inplace ) {
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( inplace );
+			}
+			//optional transpose-free t(X) %*% v
+			else if( operation == OperationTypes.MATMULT && isLeftTransposed ) {
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( isLeftTransposed );
+			}
 		}
 		else if( operation == OperationTypes.MATMULT && getExecType()==ExecType.GPU ) {
 			sb.append( OPERAND_DELIMITOR );
@@ -160,6 +160,8 @@ public class Data extends Lop
 			this.outParams.setFormat(Format.CSV);
 		else if (type == FileFormatTypes.LIBSVM )
 			this.outParams.setFormat(Format.LIBSVM);
+		else if (type == FileFormatTypes.COLUMNAR )
+			this.outParams.setFormat(Format.COLUMNAR);
 		else 
 			throw new LopsException("Unexpected format: " + type);
 		setLopProperties();
@@ -327,6 +329,8 @@ public class Data extends Lop
 					fmt = "csv";
 				else if (oparams.getFormat() == Format.LIBSVM)
 					fmt = "libsvm";
+				else if (oparams.getFormat() == Format.COLUMNAR)
+					fmt = "binarycolumnar";
 				else if ( oparams.getFormat() == Format.BINARY )
 					fmt = oparams.getBlocksize() > 0 ? "binaryblock" : "binarycell" ;
 				else
@@ -430,6 +434,8 @@ public class Data extends Lop
 				fmt = "csv";
 			else if ( oparams.getFormat() == Format.LIBSVM )
 				fmt = "libsvm";
+			else if ( oparams.getFormat() == Format.COLUMNAR )
+				fmt = "binarycolumnar";
 			else { //binary
 				fmt = ( getDataType() == DataType.FRAME || oparams.getBlocksize() > 0
 					|| oparams.getBlocksize() > 0 ) ? "binaryblock" : "binarycell";
@@ -469,6 +475,10 @@ public class Data extends Lop
 			if ( oparams.getFormat() == Format.LIBSVM ) { 
 				sb.append( createVarLIBSVMHelper() );
 			}
+			// Format-specific properties
+			if ( oparams.getFormat() == Format.COLUMNAR ) {
+				sb.append( createVarColumnarHelper() );
+			}
 			
 			// Frame-specific properties
 			if( getDataType()==DataType.FRAME ) {
@@ -538,6 +548,25 @@ public class Data extends Lop
 		return sb.toString();
 	}
 
+	private String createVarColumnarHelper() {
+		StringBuilder sb = new StringBuilder();
+		if ( operation == OperationTypes.READ 
+			&& getNamedInputLop(DataExpression.READ_ROW_LOWER) != null ) {
+			//pushed-down row and column range (see RewriteFrameReadProjection)
+			String[] names = new String[]{DataExpression.READ_ROW_LOWER, 
+				DataExpression.READ_ROW_UPPER, DataExpression.READ_COL_LOWER, DataExpression.READ_COL_UPPER};
+			for( String name : names ) {
+				Data lop = (Data) getNamedInputLop(name);
+				if (lop.isVariable())
+					throw new LopsException(this.printErrorLocation()
+						+ "Parameter " + name + " must be a literal for a columnar read.");
+				sb.append(OPERAND_DELIMITOR);
+				sb.append(lop.getLongValue());
+			}
+		}
+		return sb.toString();
+	}
+
 	private String createVarLIBSVMHelper() {
 		StringBuilder sb = new StringBuilder();
 		if ( operation == OperationTypes.READ ) {
@@ -37,11 +37,18 @@ public class LeftIndex extends Lop
 	public static final String OPCODE = "leftIndex";
 	
 	private LixCacheType _type;
+	private int _numThreads = 1;
 
 	public LeftIndex(
 			Lop lhsInput, Lop rhsInput, Lop rowL, Lop rowU, Lop colL, Lop colU, DataType dt, ValueType vt, ExecType et) {
+		this(lhsInput, rhsInput, rowL, rowU, colL, colU, dt, vt, et, 1);
+	}
+	
+	public LeftIndex(
+			Lop lhsInput, Lop rhsInput, Lop rowL, Lop rowU, Lop colL, Lop colU, DataType dt, ValueType vt, ExecType et, int numThreads) {
 		super(Lop.Type.LeftIndex, dt, vt);
 		_type = LixCacheType.NONE;
+		_numThreads = numThreads;
 		init(lhsInput, rhsInput, rowL, rowU, colL, colU, et);
 	}
 	
@@ -134,6 +141,10 @@ public class LeftIndex extends Lop
 			sb.append( OPERAND_DELIMITOR );	
 			sb.append(_type.toString());
 		}
+		else if( getExecType() == ExecType.CP ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+		}
 		
 		return sb.toString();
 	}
@@ -36,11 +36,17 @@ public class Nary extends Lop {
 	}
 	
 	private OperationType operationType;
+	private int _numThreads = 1;
 
-	public Nary(OperationType operationType, DataType dt, ValueType vt, Lop[] inputLops, ExecType et)
+	public Nary(OperationType operationType, DataType dt, ValueType vt, Lop[] inputLops, ExecType et) {
+		this(operationType, dt, vt, inputLops, et, 1);
+	}
+	
+	public Nary(OperationType operationType, DataType dt, ValueType vt, Lop[] inputLops, ExecType et, int numThreads)
 	{
 		super(Lop.Type.Nary, dt, vt);
 		this.operationType = operationType;
+		_numThreads = numThreads;
 		for (Lop inputLop : inputLops) {
 			addInput(inputLop);
 			inputLop.addOutput(this);
@@ -108,10 +114,21 @@ public class Nary extends Lop {
 		}
 
 		sb.append(prepOutputOperand(output));
+		
+		//append degree of parallelism for cp cbind/rbind
+		if( getExecType() == ExecType.CP && isMultiThreadedOp(operationType) ) {
+			sb.append(OPERAND_DELIMITOR);
+			sb.append(_numThreads);
+		}
 
 		return sb.toString();
 	}
 	
+	public static boolean isMultiThreadedOp(OperationType op) {
+		return op == OperationType.CBIND
+			|| op == OperationType.RBIND;
+	}
+	
 	private String getOpcode() {
 		switch (operationType) {
 			case PRINTF:
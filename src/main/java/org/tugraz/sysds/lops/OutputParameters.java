@@ -31,7 +31,7 @@ import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 public class OutputParameters 
 {
 	public enum Format {
-		TEXT, BINARY, MM, CSV, LIBSVM
+		TEXT, BINARY, MM, CSV, LIBSVM, COLUMNAR
 	}
 
 	private boolean _blocked = true;
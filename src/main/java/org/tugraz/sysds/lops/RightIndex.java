@@ -35,6 +35,9 @@ public class RightIndex extends Lop
 
 	//optional attribute for spark exec type
 	private SparkAggType _aggtype = SparkAggType.MULTI_BLOCK;
+	
+	//optional attribute for cp exec type (frames only)
+	private int _numThreads = 1;
 
 	public RightIndex(Lop input, Lop rowL, Lop rowU, Lop colL, Lop colU, Lop rowDim, Lop colDim, 
 			DataType dt, ValueType vt, ExecType et, boolean forleft)
@@ -50,6 +53,13 @@ public class RightIndex extends Lop
 		init(input, rowL, rowU, colL, colU, rowDim, colDim, dt, vt, et, false);
 	}
 
+	public RightIndex(Lop input, Lop rowL, Lop rowU, Lop colL, Lop colU, Lop rowDim, Lop colDim, 
+			DataType dt, ValueType vt, ExecType et, int numThreads)
+	{
+		this(input, rowL, rowU, colL, colU, rowDim, colDim, dt, vt, et);
+		_numThreads = numThreads;
+	}
+
 	public RightIndex(Lop input, Lop rowL, Lop rowU, Lop colL, Lop colU, Lop rowDim, Lop colDim, 
 			DataType dt, ValueType vt, SparkAggType aggtype, ExecType et)
 	{
@@ -121,6 +131,11 @@ public class RightIndex extends Lop
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( _aggtype );	
 		}
+		//in case of multi-threaded CP frame slicing, we compile the degree of parallelism
+		else if( getExecType() == ExecType.CP && getDataType() == DataType.FRAME ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+		}
 		
 		return sb.toString();
 	}
@@ -38,10 +38,22 @@ public class Ternary extends Lop
 	}
 	
 	private final OperationType _type;
+	private final int _numThreads;
+	private final boolean _inplace; //update in-place of input1
 		
 	public Ternary(OperationType op, Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt, ExecType et) {
+		this(op, input1, input2, input3, dt, vt, et, 1);
+	}
+	
+	public Ternary(OperationType op, Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt, ExecType et, int numThreads) {
+		this(op, input1, input2, input3, dt, vt, et, numThreads, false);
+	}
+	
+	public Ternary(OperationType op, Lop input1, Lop input2, Lop input3, DataType dt, ValueType vt, ExecType et, int numThreads, boolean inplace) {
 		super(Lop.Type.Ternary, dt, vt);
 		_type = op;
+		_numThreads = numThreads;
+		_inplace = inplace;
 		init(input1, input2, input3, et);
 	}
 
@@ -90,6 +102,17 @@ public class Ternary extends Lop
 		sb.append( OPERAND_DELIMITOR );
 		sb.append( prepOutputOperand(output) );
 		
+		//append degree of parallelism for matrix operations
+		if( getExecType() == ExecType.CP ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+			//optional update in-place of loop variables
+			if( _inplace ) {
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( _inplace );
+			}
+		}
+		
 		return sb.toString();
 	}
 }
@@ -42,6 +42,7 @@ public class UAggOuterChain extends Lop
 	private PartialAggregate.DirectionTypes _uaggDir = null;
 	//inner operation
 	private Binary.OperationTypes _binOp             = null;	
+	private int _numThreads = 1;
 		
 	
 	/**
@@ -70,6 +71,11 @@ public class UAggOuterChain extends Lop
 		lps.setProperties(inputs, et);
 	}
 	
+	public UAggOuterChain(Lop input1, Lop input2, Aggregate.OperationTypes uaop, PartialAggregate.DirectionTypes uadir, Binary.OperationTypes bop, DataType dt, ValueType vt, ExecType et, int k) {
+		this(input1, input2, uaop, uadir, bop, dt, vt, et);
+		_numThreads = k;
+	}
+	
 	@Override
 	public String toString() {
 		return "Operation = UaggOuterChain";
@@ -77,7 +83,7 @@ public class UAggOuterChain extends Lop
 	
 	@Override
 	public String getInstructions(String input1, String input2, String output) {
-		return InstructionUtils.concatOperands(
+		String ret = InstructionUtils.concatOperands(
 			getExecType().name(),
 			OPCODE,
 			PartialAggregate.getOpcode(_uaggOp, _uaggDir), //outer
@@ -85,5 +91,10 @@ public class UAggOuterChain extends Lop
 			getInputs().get(0).prepInputOperand(input1),
 			getInputs().get(0).prepInputOperand(input2),
 			prepOutputOperand(output));
+		
+		//append degree of parallelism for CP
+		if( getExecType() == ExecType.CP )
+			ret = InstructionUtils.concatOperands(ret, String.valueOf(_numThreads));
+		return ret;
 	}
 }
@@ -67,8 +67,18 @@ public class Unary extends Lop
 	 * @param et execution type
 	 */
 	public Unary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et) {
+		this(input1, input2, op, dt, vt, et, 1);
+	}
+	
+	public Unary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, int numThreads) {
+		this(input1, input2, op, dt, vt, et, numThreads, false);
+	}
+	
+	public Unary(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et, int numThreads, boolean inplace) {
 		super(Lop.Type.UNARY, dt, vt);
 		init(input1, input2, op, dt, vt, et);
+		_numThreads = numThreads;
+		_inplace = inplace;
 	}
 
 	private void init(Lop input1, Lop input2, OperationTypes op, DataType dt, ValueType vt, ExecType et) {
@@ -299,9 +309,36 @@ public class Unary extends Lop
 			|| op==OperationTypes.CUMMIN
 			|| op==OperationTypes.CUMMAX
 			|| op==OperationTypes.CUMSUMPROD
-			|| op==OperationTypes.EXP
+			|| isMultiThreadedElementwiseOp(op);
+	}
+	
+	public static boolean isMultiThreadedElementwiseOp(OperationTypes op) {
+		return op==OperationTypes.EXP
 			|| op==OperationTypes.LOG
-			|| op==OperationTypes.SIGMOID;
+			|| op==OperationTypes.LOG_NZ
+			|| op==OperationTypes.SIGMOID
+			|| op==OperationTypes.SPROP
+			|| op==OperationTypes.NOT
+			|| op==OperationTypes.ABS
+			|| op==OperationTypes.SIN
+			|| op==OperationTypes.COS
+			|| op==OperationTypes.TAN
+			|| op==OperationTypes.ASIN
+			|| op==OperationTypes.ACOS
+			|| op==OperationTypes.ATAN
+			|| op==OperationTypes.SINH
+			|| op==OperationTypes.COSH
+			|| op==OperationTypes.TANH
+			|| op==OperationTypes.SIGN
+			|| op==OperationTypes.SQRT
+			|| op==OperationTypes.ROUND
+			|| op==OperationTypes.CEIL
+			|| op==OperationTypes.FLOOR;
+	}
+	
+	public static boolean isMultiThreadedCastOp(OperationTypes op) {
+		return op==OperationTypes.CAST_AS_MATRIX
+			|| op==OperationTypes.CAST_AS_FRAME;
 	}
 	
 	@Override
@@ -329,6 +366,11 @@ public class Unary extends Lop
 			sb.append( OPERAND_DELIMITOR );
 			sb.append( _inplace );
 		}
+		//num threads for frame/matrix cp casts
+		else if( getExecType() == ExecType.CP && isMultiThreadedCastOp(operation) ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+		}
 		
 		return sb.toString();
 	}
@@ -356,6 +398,17 @@ public class Unary extends Lop
 		sb.append( OPERAND_DELIMITOR );
 		sb.append( this.prepOutputOperand(output));
 		
+		//append degree of parallelism for matrix-scalar operations
+		if( getExecType() == ExecType.CP ) {
+			sb.append( OPERAND_DELIMITOR );
+			sb.append( _numThreads );
+			//optional update in-place of loop variables
+			if( _inplace ) {
+				sb.append( OPERAND_DELIMITOR );
+				sb.append( _inplace );
+			}
+		}
+		
 		return sb.toString();
 	}
 }
@@ -1005,6 +1005,14 @@ public class DMLTranslator
 						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1);
 						break;
 						
+					case COLUMNAR:
+						// write output in unblocked columnar format (frames only)
+						if( ae.getDataType() != DataType.FRAME )
+							throw new LanguageException(source.printErrorLocation()
+								+ ": Columnar format is only supported for frames.");
+						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1);
+						break;
+						
 					case BINARY:
 						// write output in binary block format
 						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), ConfigurationManager.getBlocksize());
@@ -74,12 +74,19 @@ public class DataExpression extends DataIdentifier
 	public static final String READCOLPARAM = "cols";
 	public static final String READNNZPARAM = "nnz";
 	
+	//internal read parameters of pushed-down row/column ranges (not exposed in DML)
+	public static final String READ_ROW_LOWER = "read_rl";
+	public static final String READ_ROW_UPPER = "read_ru";
+	public static final String READ_COL_LOWER = "read_cl";
+	public static final String READ_COL_UPPER = "read_cu";
+	
 	public static final String FORMAT_TYPE = "format";
 	public static final String FORMAT_TYPE_VALUE_TEXT = "text";
 	public static final String FORMAT_TYPE_VALUE_BINARY = "binary";
 	public static final String FORMAT_TYPE_VALUE_CSV = "csv";
 	public static final String FORMAT_TYPE_VALUE_MATRIXMARKET = "mm";
 	public static final String FORMAT_TYPE_VALUE_LIBSVM = "libsvm";
+	public static final String FORMAT_TYPE_VALUE_COLUMNAR = "columnar";
 	
 	public static final String ROWBLOCKCOUNTPARAM = "rows_in_block";
 	public static final String COLUMNBLOCKCOUNTPARAM = "cols_in_block";
@@ -1014,6 +1021,13 @@ public class DataExpression extends DataIdentifier
 				{
 					getOutput().setFormatType(FormatType.LIBSVM);
 					format = 1;
+				}
+				else if ( fmt.equalsIgnoreCase(FORMAT_TYPE_VALUE_COLUMNAR) )
+				{
+					if( isMatrix )
+						raiseValidateError("Format '" + fmt + "' is only supported for frames: " + this.toString(), conditional);
+					getOutput().setFormatType(FormatType.COLUMNAR);
+					format = 1;
 				} else {
 					raiseValidateError("Invalid format '" + fmt+ "' in statement: " + this.toString(), conditional);
 				}
@@ -1122,7 +1136,8 @@ public class DataExpression extends DataIdentifier
 				getOutput().setBlocksize(ConfigurationManager.getBlocksize());
 			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_MATRIXMARKET) || 
 					(getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_CSV)) ||
-					 getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_LIBSVM))
+					 getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_LIBSVM) ||
+					 getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_COLUMNAR))
 				getOutput().setBlocksize(-1);
 			
 			else{
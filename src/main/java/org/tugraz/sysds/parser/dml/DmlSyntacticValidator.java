@@ -1104,7 +1104,7 @@ public class DmlSyntacticValidator implements DmlListener {
 		return getWorkingFilePath(filePath, DEF_WORK_DIR);
 	}
 	
-	private static String getWorkingFilePath(String filePath, String workingDir) {
+	public static String getWorkingFilePath(String filePath, String workingDir) {
 		//NOTE: the use of File.separator would lead to OS-specific inconsistencies,
 		//which is problematic for second order functions such as eval or paramserv.
 		//Since this is unnecessary, we now use "/" independent of the use OS.
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.controlprogram;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.tugraz.sysds.api.DMLScript;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.lops.Lop;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.DMLScriptException;
+import org.tugraz.sysds.runtime.controlprogram.caching.CacheableData;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.tugraz.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.tugraz.sysds.runtime.instructions.Instruction;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.instructions.cp.CPInstruction;
+import org.tugraz.sysds.runtime.instructions.cp.CPInstruction.CPType;
+import org.tugraz.sysds.runtime.instructions.cp.CPOperand;
+import org.tugraz.sysds.runtime.instructions.cp.ComputationCPInstruction;
+import org.tugraz.sysds.runtime.instructions.cp.Data;
+import org.tugraz.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.tugraz.sysds.runtime.instructions.cp.VariableCPInstruction.VariableOperationCode;
+import org.tugraz.sysds.runtime.lineage.LineageCache;
+import org.tugraz.sysds.runtime.meta.DataCharacteristics;
+import org.tugraz.sysds.utils.Statistics;
+
+/**
+ * Dataflow scheduler for the instructions of a basic program block, which executes
+ * independent CP operations concurrently (inter-operator parallelism).
+ *
+ * The instruction list is processed in segments of createvar, rmvar, and eligible
+ * CP operations. Within a segment, all createvar instructions are executed upfront,
+ * the CP operations run in dataflow order according to their read/write dependencies
+ * on variable names (where inputs marked for update in-place count as written), and
+ * all rmvar instructions are executed at the end. Any other
+ * instruction (e.g., scalar operations, function calls, spark instructions) ends the
+ * segment and is executed sequentially. Since all operations in a segment write to
+ * previously created variables, concurrent operations never modify the structure
+ * of the symbol table. Instruction preprocessing (incl lineage tracing), lineage
+ * cache probing, and statistics maintenance are performed by the scheduling thread.
+ *
+ * Concurrently running operations are constrained by the local memory budget
+ * according to the size estimates of their outputs.
+ */
+public class InstructionDataflowScheduler
+{
+	private static final Log LOG = LogFactory.getLog(InstructionDataflowScheduler.class.getName());
+
+	//minimum number of independent operations for concurrent execution
+	private static final int MIN_PARALLEL_OPS = 2;
+
+	//shared pool of daemon threads (no nesting with the common thread pool)
+	private static ExecutorService _pool = null;
+
+	private final ProgramBlock _pb;
+	private final ExecutionContext _ec;
+
+	public InstructionDataflowScheduler(ProgramBlock pb, ExecutionContext ec) {
+		_pb = pb;
+		_ec = ec;
+	}
+
+	public void execute(ArrayList<Instruction> inst) {
+		int i = 0;
+		while( i < inst.size() ) {
+			Segment seg = createSegment(inst, i);
+			if( seg.ops.size() >= MIN_PARALLEL_OPS ) {
+				//parallel execution of segment
+				for( Instruction cv : seg.createvars )
+					_pb.executeSingleInstruction(cv, _ec);
+				executeDataflow(seg.ops);
+				Statistics.incrementInterOpParallelSegments(seg.ops.size());
+				for( Instruction rm : seg.rmvars )
+					_pb.executeSingleInstruction(rm, _ec);
+				i = seg.end;
+			}
+			else {
+				//sequential execution until end of segment (at least one instruction)
+				int end = Math.max(seg.end, i+1);
+				for( ; i < end; i++ )
+					_pb.executeSingleInstruction(inst.get(i), _ec);
+			}
+		}
+	}
+
+	private Segment createSegment(ArrayList<Instruction> inst, int beg) {
+		Segment seg = new Segment();
+		HashSet<String> created = new HashSet<>();
+		HashSet<String> removed = new HashSet<>();
+		HashSet<String> used = new HashSet<>();
+		int i = beg;
+		for( ; i < inst.size(); i++ ) {
+			Instruction tmp = inst.get(i);
+			if( isCreateVar(tmp) ) {
+				//hoisting only if not used by previous instructions of segment
+				String name = ((VariableCPInstruction)tmp).getInput1().getName();
+				if( used.contains(name) || removed.contains(name) || created.contains(name) )
+					break;
+				created.add(name);
+				seg.createvars.add(tmp);
+			}
+			else if( isRemoveVar(tmp) ) {
+				for( CPOperand in : ((VariableCPInstruction)tmp).getInputs() )
+					removed.add(in.getName());
+				seg.rmvars.add(tmp);
+			}
+			else if( isEligibleOperation(tmp) ) {
+				//outputs of previously created variables, no reads of removed variables
+				ComputationCPInstruction cinst = (ComputationCPInstruction) tmp;
+				String out = cinst.output.getName();
+				HashSet<String> reads = getReadNames(cinst);
+				if( !created.contains(out) || removed.contains(out)
+					|| reads.stream().anyMatch(n -> removed.contains(n)) )
+					break;
+				used.add(out);
+				used.addAll(reads);
+				seg.ops.add(new OpNode(cinst, reads, getUpdateInPlaceNames(reads), seg.ops));
+			}
+			else
+				break;
+		}
+		seg.end = i;
+		return seg;
+	}
+
+	private void executeDataflow(ArrayList<OpNode> ops) {
+		ExecutorService pool = getThreadPool();
+		ExecutorCompletionService<OpNode> cs = new ExecutorCompletionService<>(pool);
+		ArrayList<OpNode> ready = new ArrayList<>();
+		for( OpNode op : ops )
+			if( op.npred == 0 )
+				ready.add(op);
+
+		double budget = OptimizerUtils.getLocalMemBudget();
+		double mem = 0;
+		int running = 0, done = 0;
+		Exception err = null;
+		try {
+			while( done < ops.size() ) {
+				//submit ready operations (w/ memory constraint, at least one)
+				for( int j=0; j<ready.size() && err == null; j++ ) {
+					OpNode op = ready.get(j);
+					double opmem = getOutputSize(op.inst);
+					if( running > 0 && mem + opmem > budget )
+						continue;
+					ready.remove(j--);
+					try {
+						if( preprocess(op) ) { //lineage cache hit
+							complete(op, ready);
+							done++; j = -1;
+							continue;
+						}
+					}
+					catch(Exception ex) {
+						err = ex;
+						break;
+					}
+					op.mem = opmem;
+					mem += opmem;
+					running++;
+					cs.submit(() -> process(op));
+				}
+				if( running == 0 )
+					break;
+
+				//wait for next completed operation
+				Future<OpNode> f = cs.take();
+				running--;
+				try {
+					OpNode op = f.get();
+					mem -= op.mem;
+					if( err == null ) {
+						postprocess(op);
+						complete(op, ready);
+					}
+					done++;
+				}
+				catch(Exception ex) {
+					err = (err != null) ? err : ex;
+				}
+			}
+		}
+		catch(InterruptedException ex) {
+			err = ex;
+		}
+
+		if( err != null ) {
+			Throwable cause = (err instanceof ExecutionException) ? err.getCause() : err;
+			if( cause instanceof DMLRuntimeException )
+				throw (DMLRuntimeException) cause;
+			throw new DMLRuntimeException(_pb.printBlockErrorLocation()
+				+ "Error evaluating instructions in parallel.", err);
+		}
+	}
+
+	private boolean preprocess(OpNode op) {
+		try {
+			op.exec = op.inst.preprocessInstruction(_ec);
+			return LineageCache.reuse(op.exec, _ec);
+		}
+		catch(DMLScriptException ex) {
+			throw ex;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(_pb.printBlockErrorLocation()
+				+ "Error evaluating instruction: " + op.inst.toString(), ex);
+		}
+	}
+
+	private OpNode process(OpNode op) {
+		long t0 = System.nanoTime();
+		try {
+			op.exec.processInstruction(_ec);
+		}
+		catch(DMLScriptException ex) {
+			throw ex;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(_pb.printBlockErrorLocation()
+				+ "Error evaluating instruction: " + op.inst.toString(), ex);
+		}
+		op.time = System.nanoTime() - t0;
+		return op;
+	}
+
+	private void postprocess(OpNode op) {
+		LineageCache.putValue(op.exec, _ec);
+		op.exec.postprocessInstruction(_ec);
+		if( DMLScript.STATISTICS )
+			Statistics.maintainCPHeavyHitters(op.exec.getExtendedOpcode(), op.time);
+		if( LOG.isTraceEnabled() ) {
+			String time = String.format("%.3f",((double)op.time)/1000000000);
+			LOG.trace("Instruction: "+ op.exec + " (executed in " + time + "s, inter-op parallel).");
+		}
+	}
+
+	private static void complete(OpNode op, ArrayList<OpNode> ready) {
+		for( OpNode succ : op.succ )
+			if( --succ.npred == 0 )
+				ready.add(succ);
+	}
+
+	private double getOutputSize(Instruction inst) {
+		Data dat = _ec.getVariable(((ComputationCPInstruction)inst).output.getName());
+		if( !(dat instanceof CacheableData) )
+			return Double.MAX_VALUE;
+		DataCharacteristics dc = ((CacheableData<?>)dat).getDataCharacteristics();
+		if( !dc.dimsKnown() )
+			return Double.MAX_VALUE; //exclusive execution
+		return dc.nnzKnown() ? OptimizerUtils.estimateSizeExactSparsity(dc) :
+			OptimizerUtils.estimateSizeExactSparsity(dc.getRows(), dc.getCols(), 1.0);
+	}
+
+	/**
+	 * Obtains the read variables that are marked for update in-place (loop
+	 * variables), which operations might modify in place and hence are
+	 * handled as written variables for dependency analysis.
+	 */
+	private HashSet<String> getUpdateInPlaceNames(HashSet<String> reads) {
+		HashSet<String> ret = new HashSet<>();
+		for( String name : reads ) {
+			Data dat = _ec.getVariable(name);
+			if( dat instanceof MatrixObject && ((MatrixObject)dat).getUpdateType().isInPlace() )
+				ret.add(name);
+		}
+		return ret;
+	}
+
+	private static boolean isCreateVar(Instruction inst) {
+		return inst instanceof VariableCPInstruction
+			&& ((VariableCPInstruction)inst).getVariableOpcode() == VariableOperationCode.CreateVariable;
+	}
+
+	private static boolean isRemoveVar(Instruction inst) {
+		return inst instanceof VariableCPInstruction
+			&& ((VariableCPInstruction)inst).getVariableOpcode() == VariableOperationCode.RemoveVariable;
+	}
+
+	private static boolean isEligibleOperation(Instruction inst) {
+		if( !(inst instanceof ComputationCPInstruction) )
+			return false;
+		CPType type = ((CPInstruction)inst).getCPInstructionType();
+		switch( type ) {
+			case AggregateUnary: case AggregateBinary: case AggregateTernary:
+			case Unary: case Binary: case Ternary: case Quaternary: case Builtin:
+			case Ctable: case Reorg: case Reshape: case Append: case Dnn:
+			case MMTSJ: case PMMJ: case MMChain:
+				return true;
+			case BuiltinNary: //excl second-order eval (function calls)
+				return !inst.getOpcode().equals("eval");
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Obtains a conservative superset of variable names read by the given
+	 * instruction from all operands of its instruction string.
+	 */
+	private static HashSet<String> getReadNames(ComputationCPInstruction inst) {
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(inst.toString());
+		HashSet<String> ret = new HashSet<>();
+		for( int i=1; i<parts.length; i++ ) {
+			//strip data/value types and parameter names (e.g., target=_mVar1)
+			String part = parts[i];
+			int ix = part.indexOf(Lop.DATATYPE_PREFIX);
+			String name = (ix >= 0) ? part.substring(0, ix) : part;
+			name = name.substring(name.indexOf(Lop.NAME_VALUE_SEPARATOR)+1);
+			if( !name.isEmpty() )
+				ret.add(name);
+		}
+		ret.remove(inst.output.getName());
+		return ret;
+	}
+
+	private static synchronized ExecutorService getThreadPool() {
+		if( _pool == null ) {
+			_pool = Executors.newFixedThreadPool(
+				InfrastructureAnalyzer.getLocalParallelism(), r -> {
+					Thread t = new Thread(r, "InterOpWorker");
+					t.setDaemon(true);
+					return t;
+				});
+		}
+		return _pool;
+	}
+
+	private static class Segment {
+		private final ArrayList<Instruction> createvars = new ArrayList<>();
+		private final ArrayList<Instruction> rmvars = new ArrayList<>();
+		private final ArrayList<OpNode> ops = new ArrayList<>();
+		private int end;
+	}
+
+	private static class OpNode {
+		private final ComputationCPInstruction inst;
+		private final ArrayList<OpNode> succ = new ArrayList<>();
+		private final HashSet<String> reads;
+		private final HashSet<String> writes;
+		private Instruction exec;
+		private int npred = 0;
+		private double mem = 0;
+		private long time = 0;
+
+		private OpNode(ComputationCPInstruction inst, HashSet<String> reads, HashSet<String> inplace, ArrayList<OpNode> prev) {
+			this.inst = inst;
+			this.reads = reads;
+			this.writes = inplace;
+			writes.add(inst.output.getName());
+			//add edges for read-after-write, write-after-read, and write-after-write
+			for( OpNode p : prev ) {
+				if( p.writes.stream().anyMatch(n -> reads.contains(n) || writes.contains(n))
+					|| writes.stream().anyMatch(n -> p.reads.contains(n)) ) {
+					p.succ.add(this);
+					npred++;
+				}
+			}
+		}
+	}
+}
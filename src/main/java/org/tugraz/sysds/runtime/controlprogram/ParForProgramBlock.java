@@ -46,6 +46,7 @@ import org.tugraz.sysds.runtime.controlprogram.parfor.DataPartitionerLocal;
 import org.tugraz.sysds.runtime.controlprogram.parfor.DataPartitionerRemoteSpark;
 import org.tugraz.sysds.runtime.controlprogram.parfor.LocalParWorker;
 import org.tugraz.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.tugraz.sysds.runtime.controlprogram.parfor.LocalTaskQueueWorkStealing;
 import org.tugraz.sysds.runtime.controlprogram.parfor.ParForBody;
 import org.tugraz.sysds.runtime.controlprogram.parfor.RemoteDPParForSpark;
 import org.tugraz.sysds.runtime.controlprogram.parfor.RemoteParForJobReturn;
@@ -57,6 +58,7 @@ import org.tugraz.sysds.runtime.controlprogram.parfor.ResultMergeLocalMemory;
 import org.tugraz.sysds.runtime.controlprogram.parfor.ResultMergeRemoteSpark;
 import org.tugraz.sysds.runtime.controlprogram.parfor.Task;
 import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitioner;
+import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitionerAdaptive;
 import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitionerFactoring;
 import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitionerFactoringCmax;
 import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitionerFactoringCmin;
@@ -130,6 +132,7 @@ public class ParForProgramBlock extends ForProgramBlock
 		FACTORING,      //factoring task partitioner  
 		FACTORING_CMIN, //constrained factoring task partitioner, uses tasksize as min constraint
 		FACTORING_CMAX, //constrained factoring task partitioner, uses tasksize as max constraint
+		ADAPTIVE,       //adaptive task partitioner w/ work stealing (local), factoring otherwise
 		UNSPECIFIED
 	}
 	
@@ -715,7 +718,10 @@ public class ParForProgramBlock extends ForProgramBlock
 		{
 			// Step 1) create task queue and init workers in parallel
 			// (including preparation of update-in-place variables)
-			LocalTaskQueue<Task> queue = new LocalTaskQueue<>();
+			TaskPartitioner partitioner = createTaskPartitioner(from, to, incr);
+			LocalTaskQueueWorkStealing wsqueue = (partitioner instanceof TaskPartitionerAdaptive) ?
+				((TaskPartitionerAdaptive)partitioner).createTaskQueue() : null;
+			LocalTaskQueue<Task> queue = (wsqueue != null) ? wsqueue : new LocalTaskQueue<>();
 			Thread[] threads         = new Thread[_numThreads];
 			LocalParWorker[] workers = new LocalParWorker[_numThreads];
 			IntStream.range(0, _numThreads).parallel().forEach(i -> {
@@ -725,6 +731,7 @@ public class ParForProgramBlock extends ForProgramBlock
 			});
 			
 			// start threads (from now on waiting for tasks)
+			Timing texec = new Timing(true);
 			for( Thread thread : threads )
 				thread.start();
 			
@@ -735,16 +742,15 @@ public class ParForProgramBlock extends ForProgramBlock
 			if( _monitor ) 
 				StatisticMonitor.putPFStat(_ID, Stat.PARFOR_INIT_PARWRK_T, tinit);
 			
-			// Step 2) create tasks 
-			TaskPartitioner partitioner = createTaskPartitioner(from, to, incr);
+			// Step 2) create tasks (on demand for work-stealing queues)
 			long numIterations = partitioner.getNumIterations();
 			long numCreatedTasks = -1;
-			if( USE_STREAMING_TASK_CREATION )
+			if( wsqueue == null && USE_STREAMING_TASK_CREATION )
 			{
 				//put tasks into queue (parworker start work on first tasks while creating tasks) 
 				numCreatedTasks = partitioner.createTasks(queue);
 			}
-			else
+			else if( wsqueue == null )
 			{
 				List<Task> tasks = partitioner.createTasks();
 				numCreatedTasks = tasks.size();
@@ -762,9 +768,20 @@ public class ParForProgramBlock extends ForProgramBlock
 			// Step 3) join all threads (wait for finished work)
 			for( Thread thread : threads )
 				thread.join();
+			if( wsqueue != null ) {
+				numCreatedTasks = wsqueue.getNumCreatedTasks();
+				LOG.trace("Local Par For work stealing: "+wsqueue.getNumSteals()+" steals.");
+			}
 			
-			if( _monitor ) 
+			if( _monitor ) {
 				StatisticMonitor.putPFStat(_ID, Stat.PARFOR_WAIT_EXEC_T, time.stop());
+				//per-worker busy and idle (incl tail) times
+				double tAll = texec.stop();
+				for( LocalParWorker pw : workers ) {
+					StatisticMonitor.putPWStat(pw.getWorkerID(), Stat.PARWRK_BUSY_T, pw.getBusyTime());
+					StatisticMonitor.putPWStat(pw.getWorkerID(), Stat.PARWRK_IDLE_T, tAll-pw.getBusyTime());
+				}
+			}
 			
 			// Step 4) collecting results from each parallel worker
 			//obtain results and cleanup other intermediates before result merge
@@ -1231,7 +1248,11 @@ public class ParForProgramBlock extends ForProgramBlock
 				//for constrained factoring the tasksize is used as the minimum constraint
 				tp = new TaskPartitionerFactoringCmax(_taskSize,_numThreads, 
 					_taskSize, _iterPredVar, from, to, incr);
-				break;	
+				break;
+			case ADAPTIVE:
+				tp = new TaskPartitionerAdaptive(
+					_taskSize,_numThreads, _iterPredVar, from, to, incr);
+				break;
 			default:
 				throw new DMLRuntimeException("Undefined task partitioner: '"+_taskPartitioner+"'.");
 		}
@@ -161,6 +161,13 @@ public abstract class ProgramBlock implements ParseInfo
 	}
 
 	protected void executeInstructions(ArrayList<Instruction> inst, ExecutionContext ec) {
+		//dataflow scheduling of independent instructions (main thread only)
+		if( OptimizerUtils.ALLOW_INTER_OP_PARALLELISM && _tid == 0
+			&& inst.size() > 2 && !DMLScript.USE_ACCELERATOR ) {
+			new InstructionDataflowScheduler(this, ec).execute(inst);
+			return;
+		}
+		
 		for (int i = 0; i < inst.size(); i++) {
 			//indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
@@ -194,7 +201,7 @@ public abstract class ProgramBlock implements ParseInfo
 		return ret;
 	}
 
-	private void executeSingleInstruction( Instruction currInst, ExecutionContext ec ) {
+	void executeSingleInstruction( Instruction currInst, ExecutionContext ec ) {
 		try
 		{
 			// start time measurement for statistics
@@ -223,6 +223,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		_cleanupFlag = that._cleanupFlag;
 		_hdfsFileName = that._hdfsFileName;
 		_hdfsFileExists = that._hdfsFileExists; 
+		_formatProps = that._formatProps;
 		_gpuObjects = that._gpuObjects;
 	}
 
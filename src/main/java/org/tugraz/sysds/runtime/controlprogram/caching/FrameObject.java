@@ -31,6 +31,7 @@ import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.tugraz.sysds.runtime.instructions.spark.data.RDDObject;
 import org.tugraz.sysds.runtime.io.FileFormatProperties;
+import org.tugraz.sysds.runtime.io.FileFormatPropertiesColumnar;
 import org.tugraz.sysds.runtime.io.FrameReader;
 import org.tugraz.sysds.runtime.io.FrameReaderFactory;
 import org.tugraz.sysds.runtime.io.FrameWriter;
@@ -241,6 +242,16 @@ public class FrameObject extends CacheableData<FrameBlock>
 		writer.writeFrameToHDFS(_data, fname,  getNumRows(), getNumColumns());
 	}
 
+	@Override
+	protected boolean isEqualOutputFormat(String outputFormat) {
+		//projected reads of columnar frames differ from the underlying file
+		FileFormatProperties props = getFileFormatProperties();
+		if( props instanceof FileFormatPropertiesColumnar
+			&& ((FileFormatPropertiesColumnar)props).hasProjection() )
+			return false;
+		return super.isEqualOutputFormat(outputFormat);
+	}
+
 	@Override
 	protected void writeBlobFromRDDtoHDFS(RDDObject rdd, String fname, String ofmt) 
 		throws IOException, DMLRuntimeException 
@@ -249,6 +260,15 @@ public class FrameObject extends CacheableData<FrameBlock>
 		MetaDataFormat iimd = (MetaDataFormat) _metaData;
 		OutputInfo oinfo = (ofmt != null ? OutputInfo.stringToOutputInfo (ofmt ) 
 				: InputInfo.getMatchingOutputInfo (iimd.getInputInfo ()));
+		
+		//columnar frames have no hadoop output format, hence we 
+		//collect the rdd and write it via the local frame writer
+		if( oinfo == OutputInfo.BinaryColumnarOutputInfo ) {
+			FrameBlock fb = readBlobFromRDD(rdd, new MutableBoolean());
+			FrameWriterFactory.createFrameWriter(oinfo)
+				.writeFrameToHDFS(fb, fname, getNumRows(), getNumColumns());
+			return;
+		}
 	    
 		//note: the write of an RDD to HDFS might trigger
 		//lazy evaluation of pending transformations.				
@@ -28,6 +28,7 @@ import org.tugraz.sysds.common.Types.ExecMode;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.estim.EstimatorMatrixHistogram.MatrixHistogram;
 import org.tugraz.sysds.lops.Lop;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.ParForProgramBlock.PDataPartitionFormat;
@@ -35,6 +36,7 @@ import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.tugraz.sysds.runtime.instructions.spark.data.RDDObject;
 import org.tugraz.sysds.runtime.io.FileFormatProperties;
 import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
@@ -83,6 +85,13 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 	private String _partitionCacheName = null; //name of cache block
 	private MatrixBlock _partitionInMemory = null;
 	
+	//sparsity sketch of the current data (computed on read or lazily on demand)
+	private transient MatrixHistogram _sketch = null;
+	
+	//csr snapshot of the current data for sparse matrix-vector products
+	//(side state, which leaves the shared in-memory block unchanged)
+	private transient SoftReference<MatrixBlock> _spmvSnapshot = null;
+	
 	/**
 	 * Constructor that takes the value type and the HDFS filename.
 	 * 
@@ -128,6 +137,7 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 		_partitionFormat = mo._partitionFormat;
 		_partitionSize = mo._partitionSize;
 		_partitionCacheName = mo._partitionCacheName;
+		_sketch = mo._sketch;
 	}
 
 	public void setUpdateType(UpdateType flag) {
@@ -163,6 +173,61 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 		DataCharacteristics mc = _metaData.getDataCharacteristics();
 		mc.setDimension( _data.getNumRows(), _data.getNumColumns() );
 		mc.setNonZeros( _data.getNonZeros() );
+		
+		//invalidate sketch and csr snapshot of previous data
+		_sketch = null;
+		_spmvSnapshot = null;
+	}
+	
+	/**
+	 * Obtains the matrix histogram sketch of this matrix, which is either
+	 * maintained from a previous read or lazily computed from in-memory data.
+	 * 
+	 * @return matrix histogram, or null if not available or not applicable
+	 */
+	public synchronized MatrixHistogram getSketch() {
+		if( _sketch == null && _data != null && !isModify() )
+			_sketch = createSketch(_data);
+		//sanity check for consistency with meta data (e.g., after spark ops)
+		if( _sketch != null && (_sketch.getRows() != getNumRows()
+			|| _sketch.getCols() != getNumColumns()) )
+			_sketch = null;
+		return _sketch;
+	}
+	
+	public synchronized void setSketch(MatrixHistogram sketch) {
+		_sketch = sketch;
+	}
+	
+	/**
+	 * Obtains the lhs input of a sparse matrix-vector product for the given
+	 * acquired data of this matrix, which is a cached CSR snapshot if the data
+	 * is an MCSR block with short rows. The snapshot is reused by repeated 
+	 * products (e.g., in iterative solvers) and invalidated on modification.
+	 * 
+	 * @param mb acquired in-memory data of this matrix
+	 * @param rhs rhs input of the matrix-vector product
+	 * @return csr snapshot, or the given data if not applicable
+	 */
+	public synchronized MatrixBlock getSpMVInput(MatrixBlock mb, MatrixBlock rhs) {
+		if( mb != _data || isModify() || !LibMatrixMult.isSpMVSnapshotApplicable(mb, rhs) )
+			return mb;
+		MatrixBlock ret = (_spmvSnapshot != null) ? _spmvSnapshot.get() : null;
+		if( ret == null || ret.getNonZeros() != mb.getNonZeros() ) {
+			ret = LibMatrixMult.createSpMVSnapshot(mb);
+			_spmvSnapshot = new SoftReference<>(ret);
+		}
+		return ret;
+	}
+	
+	private static MatrixHistogram createSketch(MatrixBlock mb) {
+		//sketches only for non-empty sparse blocks, where the
+		//size of count vectors is small relative to the data
+		if( !OptimizerUtils.ALLOW_SKETCH_SPARSITY_ESTIMATION
+			|| !mb.isInSparseFormat() || mb.isEmptyBlock(false)
+			|| 16L * (mb.getNumRows() + mb.getNumColumns()) > mb.getInMemorySize() )
+			return null;
+		return new MatrixHistogram(mb, true);
 	}
 
 	public long getNumRows() {
@@ -439,6 +504,13 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 		if( newData == null )
 			throw new IOException("Unable to load matrix from file: "+fname);
 		
+		//maintain sparsity sketch of read data
+		_sketch = createSketch(newData);
+		
+		//single-precision dense blocks (fp32 mode)
+		if( DMLScript.CP_FP32 )
+			newData.toFP32();
+		
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Reading Completed: " + (System.currentTimeMillis()-begin) + " msec.");
 		
@@ -527,6 +599,10 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 
 		if (_data != null)
 		{
+			// Writers require fp64 dense blocks (fp32 mode), but the
+			// buffer pool block is kept as is for subsequent reads
+			MatrixBlock data = _data.getFP64();
+			
 			// Get the dimension information from the metadata stored within MatrixObject
 			DataCharacteristics mc = iimd.getDataCharacteristics();
 			// Write the matrix to HDFS in requested format
@@ -538,11 +614,11 @@ public class MatrixObject extends CacheableData<MatrixBlock>
 			if ( oinfo == OutputInfo.BinaryBlockOutputInfo && DMLScript.getGlobalExecMode() == ExecMode.SINGLE_NODE
 				&& mc.getBlocksize() != ConfigurationManager.getBlocksize() )
 			{
-				DataConverter.writeMatrixToHDFS(_data, fname, oinfo, new MatrixCharacteristics(mc.getRows(), mc.getCols(),
+				DataConverter.writeMatrixToHDFS(data, fname, oinfo, new MatrixCharacteristics(mc.getRows(), mc.getCols(),
 					ConfigurationManager.getBlocksize(), mc.getNonZeros()), rep, fprop, _diag);
 			}
 			else {
-				DataConverter.writeMatrixToHDFS(_data, fname, oinfo, mc, rep, fprop, _diag);
+				DataConverter.writeMatrixToHDFS(data, fname, oinfo, mc, rep, fprop, _diag);
 			}
 
 			if( LOG.isTraceEnabled() )
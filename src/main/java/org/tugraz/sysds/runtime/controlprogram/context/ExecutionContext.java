@@ -277,7 +277,22 @@ public class ExecutionContext {
 	 * @return matrix block
 	 */
 	public MatrixBlock getMatrixInput(String varName) {
-		return getMatrixObject(varName).acquireRead();
+		return getMatrixInput(varName, false);
+	}
+	
+	/**
+	 * Pins a matrix variable into memory and returns the internal matrix block.
+	 * Single-precision (FP32) blocks are only returned to operations with specialized
+	 * FP32 kernels, and otherwise converted into FP64 copies, i.e., the shared block
+	 * in the buffer pool is never modified.
+	 * 
+	 * @param varName variable name
+	 * @param allowFP32 true if the caller supports FP32 blocks
+	 * @return matrix block
+	 */
+	public MatrixBlock getMatrixInput(String varName, boolean allowFP32) {
+		MatrixBlock mb = getMatrixObject(varName).acquireRead();
+		return allowFP32 ? mb : mb.getFP64();
 	}
 
 	/**
@@ -75,6 +75,7 @@ import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
 import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.meta.MetaDataFormat;
 import org.tugraz.sysds.runtime.meta.TensorCharacteristics;
 import org.tugraz.sysds.runtime.util.HDFSTool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -397,7 +398,7 @@ public class SparkExecutionContext extends ExecutionContext
 				fromFile = true;
 			}
 			else { //default case
-				MatrixBlock mb = mo.acquireRead(); //pin matrix in memory
+				MatrixBlock mb = mo.acquireRead().getFP64(); //pin matrix in memory
 				rdd = toMatrixJavaPairRDD(sc, mb, (int)mo.getBlocksize(), numParts, inclEmpty);
 				mo.release(); //unpin matrix
 				_parRDDs.registerRDD(rdd.id(), OptimizerUtils.estimatePartitionedSizeExactSparsity(dc), true);
@@ -531,6 +532,11 @@ public class SparkExecutionContext extends ExecutionContext
 
 		InputInfo inputInfo2 = (inputInfo==InputInfo.BinaryBlockInputInfo) ?
 				InputInfo.BinaryBlockFrameInputInfo : inputInfo;
+		
+		//columnar frames have no hadoop input format, hence we read them
+		//through the local reader (incl pushed-down projections) and parallelize
+		boolean columnar = fo.getMetaData() instanceof MetaDataFormat
+			&& ((MetaDataFormat)fo.getMetaData()).getInputInfo()==InputInfo.BinaryColumnarInputInfo;
 
 		JavaSparkContext sc = getSparkContext();
 		JavaPairRDD<?,?> rdd = null;
@@ -544,14 +550,15 @@ public class SparkExecutionContext extends ExecutionContext
 			rdd = fo.getRDDHandle().getRDD();
 		}
 		//CASE 2: dirty in memory data or cached result of rdd operations
-		else if( fo.isDirty() || fo.isCached(false) )
+		else if( fo.isDirty() || fo.isCached(false) || columnar )
 		{
 			//get in-memory matrix block and parallelize it
 			//w/ guarded parallelize (fallback to export, rdd from file if too large)
+			//(columnar frames are always parallelized because they are read locally)
 			DataCharacteristics dc = fo.getDataCharacteristics();
+			long size = OptimizerUtils.estimatePartitionedSizeExactSparsity(dc);
 			boolean fromFile = false;
-			if( !OptimizerUtils.checkSparkCollectMemoryBudget(dc, 0) || !_parRDDs.reserve(
-					OptimizerUtils.estimatePartitionedSizeExactSparsity(dc)) ) {
+			if( !columnar && (!OptimizerUtils.checkSparkCollectMemoryBudget(dc, 0) || !_parRDDs.reserve(size)) ) {
 				if( fo.isDirty() ) { //write only if necessary
 					fo.exportData();
 				}
@@ -563,7 +570,8 @@ public class SparkExecutionContext extends ExecutionContext
 				FrameBlock fb = fo.acquireRead(); //pin frame in memory
 				rdd = toFrameJavaPairRDD(sc, fb);
 				fo.release(); //unpin frame
-				_parRDDs.registerRDD(rdd.id(), OptimizerUtils.estimatePartitionedSizeExactSparsity(dc), true);
+				if( !columnar || _parRDDs.reserve(size) )
+					_parRDDs.registerRDD(rdd.id(), size, true);
 			}
 
 			//keep rdd handle for future operations on it
@@ -670,7 +678,7 @@ public class SparkExecutionContext extends ExecutionContext
 			int blen = (int) mo.getBlocksize();
 
 			//create partitioned matrix block and release memory consumed by input
-			MatrixBlock mb = mo.acquireRead();
+			MatrixBlock mb = mo.acquireRead().getFP64();
 			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, blen);
 			mo.release();
 
@@ -46,6 +46,7 @@ public class LocalParWorker extends ParWorker implements Runnable
 	protected final boolean _stopped;
 	protected final int _max_retry;
 	protected Collection<String> _fnNames = null;
+	protected double _busyTime = 0;
 	
 	public LocalParWorker( long ID, LocalTaskQueue<Task> q, ParForBody body, CompilerConfig cconf, int max_retry, boolean monitor ) {
 		super(ID, body, monitor);
@@ -63,6 +64,16 @@ public class LocalParWorker extends ParWorker implements Runnable
 		return _fnNames;
 	}
 	
+	/**
+	 * Returns the time spent in task execution (only maintained
+	 * if monitoring is enabled) and hence should only be called after execution.
+	 * 
+	 * @return busy time in ms
+	 */
+	public double getBusyTime() {
+		return _busyTime;
+	}
+	
 	@Override
 	public void run() 
 	{
@@ -118,8 +129,11 @@ public class LocalParWorker extends ParWorker implements Runnable
 					try {
 						///////
 						//core execution (see ParWorker)
+						Timing time2 = ( _monitor ? new Timing(true) : null );
 						executeTask( lTask );
 						success = true;
+						if( _monitor )
+							_busyTime += time2.stop();
 					} 
 					catch (Exception ex)  {
 						LOG.error("Failed to execute "+lTask.toString()+", retry:"+retrys, ex);
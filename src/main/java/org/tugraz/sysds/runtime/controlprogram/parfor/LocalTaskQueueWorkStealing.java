@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.controlprogram.parfor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.controlprogram.ParForProgramBlock;
+import org.tugraz.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.tugraz.sysds.runtime.instructions.cp.IntObject;
+
+/**
+ * Task queue with adaptive, on-demand task creation and work stealing for local
+ * parfor workers. Instead of materializing tasks up front, the iteration space is
+ * statically split into one contiguous range per worker (i.e., a per-worker deque of
+ * iterations). Workers take tasks from the front of their own range, and workers
+ * with an empty range steal the back half of the largest remaining range.
+ * 
+ * Task sizes adapt to the measured iteration times: the time between two
+ * dequeues of a worker is the execution time of its previous task, which is used
+ * to size the next task to roughly TARGET_TASK_TIME, but at most half of the
+ * worker's remaining range so that the other half remains available for stealing.
+ * 
+ * Workers are mapped to deques on their first dequeue, which requires that every
+ * worker thread calls dequeueTask from the same thread.
+ * 
+ */
+public class LocalTaskQueueWorkStealing extends LocalTaskQueue<Task>
+{
+	//target execution time per task in ms
+	private static final double TARGET_TASK_TIME = 10;
+	
+	private final String _iterVarName;
+	private final long _from;
+	private final long _incr;
+	private final long _numIter;
+	
+	//per-worker ranges [pos,end) of logical iteration indexes
+	private final long[] _pos;
+	private final long[] _end;
+	
+	//per-worker feedback of last task (size, dequeue time, avg iteration time)
+	private final long[] _lastSize;
+	private final long[] _lastTime;
+	private final double[] _iterTime;
+	
+	private final ThreadLocal<Integer> _slot = new ThreadLocal<>();
+	private final AtomicInteger _numSlots = new AtomicInteger(0);
+	private long _numCreatedTasks = 0;
+	private long _numSteals = 0;
+	
+	public LocalTaskQueueWorkStealing(String iterVarName, long from, long incr, long numIter, int k) {
+		_iterVarName = iterVarName;
+		_from = from;
+		_incr = incr;
+		_numIter = Math.max(numIter, 0);
+		_pos = new long[k];
+		_end = new long[k];
+		_lastSize = new long[k];
+		_lastTime = new long[k];
+		_iterTime = new double[k];
+		
+		//static initial assignment of contiguous ranges
+		long blklen = (long)Math.ceil((double)_numIter / k);
+		for( int i=0; i<k; i++ ) {
+			_pos[i] = Math.min(i * blklen, _numIter);
+			_end[i] = Math.min((i+1) * blklen, _numIter);
+			_iterTime[i] = -1;
+		}
+	}
+	
+	@Override
+	public void enqueueTask( Task t ) {
+		throw new DMLRuntimeException("Work-stealing task queue creates tasks on demand.");
+	}
+	
+	@Override
+	public synchronized Task dequeueTask() {
+		int w = getSlot();
+		long now = System.nanoTime();
+		
+		//feedback of previous task execution
+		if( _lastSize[w] > 0 ) {
+			double t = (now - _lastTime[w]) / 1e6 / _lastSize[w];
+			_iterTime[w] = (_iterTime[w] < 0) ? t : (_iterTime[w] + t) / 2;
+		}
+		
+		//steal back half of largest remaining range if own range is empty
+		if( _pos[w] >= _end[w] && !steal(w) ) {
+			_lastSize[w] = 0;
+			return (Task) NO_MORE_TASKS;
+		}
+		
+		//determine adaptive task size (single-iteration probe if unknown)
+		long rem = _end[w] - _pos[w];
+		long K = 1;
+		if( _iterTime[w] >= 0 ) {
+			long tK = (long) (TARGET_TASK_TIME / Math.max(_iterTime[w], 1e-6));
+			K = Math.max(Math.min(tK, (rem + 1) / 2), 1);
+		}
+		
+		//create task for iterations [pos, pos+K)
+		Task task = createTask(_pos[w], K);
+		_pos[w] += K;
+		_lastSize[w] = K;
+		_lastTime[w] = now;
+		_numCreatedTasks++;
+		return task;
+	}
+	
+	public synchronized long getNumCreatedTasks() {
+		return _numCreatedTasks;
+	}
+	
+	public synchronized long getNumSteals() {
+		return _numSteals;
+	}
+	
+	public long getNumIterations() {
+		return _numIter;
+	}
+	
+	private int getSlot() {
+		Integer slot = _slot.get();
+		if( slot == null ) {
+			slot = _numSlots.getAndIncrement();
+			if( slot >= _pos.length )
+				throw new DMLRuntimeException("Number of workers exceeds "
+					+ "the number of deques ("+_pos.length+").");
+			_slot.set(slot);
+		}
+		return slot;
+	}
+	
+	private boolean steal(int w) {
+		//find victim with largest remaining range
+		int victim = -1;
+		long maxRem = 0;
+		for( int i=0; i<_pos.length; i++ )
+			if( _end[i] - _pos[i] > maxRem ) {
+				maxRem = _end[i] - _pos[i];
+				victim = i;
+			}
+		if( victim < 0 )
+			return false;
+		
+		//steal back half of the victim's range (incl last iteration)
+		long len = (maxRem + 1) / 2;
+		_pos[w] = _end[victim] - len;
+		_end[w] = _end[victim];
+		_end[victim] -= len;
+		_numSteals++;
+		return true;
+	}
+	
+	private Task createTask(long pos, long K) {
+		long lfrom = _from + pos * _incr;
+		boolean range = ParForProgramBlock.USE_RANGE_TASKS_IF_USEFUL && K > 3;
+		Task task = new Task(_iterVarName, range ? TaskType.RANGE : TaskType.SET);
+		if( range ) {
+			task.addIteration(new IntObject(lfrom));                 //from
+			task.addIteration(new IntObject(lfrom + (K-1) * _incr)); //to
+			task.addIteration(new IntObject(_incr));                 //increment
+		}
+		else {
+			for( long k=0; k<K; k++ )
+				task.addIteration(new IntObject(lfrom + k * _incr));
+		}
+		return task;
+	}
+	
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("WORK-STEALING TASK QUEUE (numIter=");
+		sb.append(_numIter);
+		sb.append(",steals=");
+		sb.append(_numSteals);
+		sb.append(")\n");
+		for( int i=0; i<_pos.length; i++ ) {
+			sb.append("  DEQUE #");
+			sb.append(i);
+			sb.append(": [");
+			sb.append(_pos[i]);
+			sb.append(",");
+			sb.append(_end[i]);
+			sb.append(")\n");
+		}
+		return sb.toString();
+	}
+}
@@ -76,6 +76,10 @@ public abstract class ParWorker
 		_numIters = 0;
 	}
 
+	public long getWorkerID() {
+		return _workerID;
+	}
+
 	public LocalVariableMap getVariables()
 	{
 		return _ec.getVariables();
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.controlprogram.parfor;
+
+import org.tugraz.sysds.runtime.instructions.cp.IntObject;
+
+/**
+ * This adaptive task partitioner creates tasks on demand for local parfor execution,
+ * where a work-stealing task queue assigns each worker a contiguous range of iterations,
+ * sizes tasks according to measured iteration times, and lets idle workers steal from
+ * the remaining ranges of busy workers (see LocalTaskQueueWorkStealing).
+ * 
+ * For remote execution or full task creation, this partitioner falls back to factoring
+ * because there is no feedback from remote workers.
+ * 
+ */
+public class TaskPartitionerAdaptive extends TaskPartitionerFactoring
+{
+	private final int _numThreads;
+	
+	public TaskPartitionerAdaptive( long taskSize, int numThreads, String iterVarName, IntObject fromVal, IntObject toVal, IntObject incrVal ) 
+	{
+		super(taskSize, numThreads, iterVarName, fromVal, toVal, incrVal);
+		_numThreads = numThreads;
+	}
+	
+	/**
+	 * Creates a work-stealing task queue that creates tasks on demand
+	 * for the (normalized) iteration space of this partitioner.
+	 * 
+	 * @return work-stealing task queue
+	 */
+	public LocalTaskQueueWorkStealing createTaskQueue() {
+		return new LocalTaskQueueWorkStealing(_iterVarName,
+			_fromVal.getLongValue(), _incrVal.getLongValue(), _numIter, _numThreads);
+	}
+}
@@ -1269,12 +1269,12 @@ public class OptimizerRuleBased extends Optimizer
 					Hop h = OptTreeConverter.getAbstractPlanMapping().getMappedHop(c.getID());
 					if(    ConfigurationManager.isParallelMatrixOperations() 
 						&& h instanceof MultiThreadedHop //abop, datagenop, qop, paramop
-						&& !( h instanceof ParameterizedBuiltinOp //paramop-grpagg, rexpand, paramserv
+						&& !( h instanceof ParameterizedBuiltinOp //paramop-grpagg, rexpand, rmempty, paramserv
 							 && !HopRewriteUtils.isValidOp(((ParameterizedBuiltinOp)h).getOp(), 
-								ParamBuiltinOp.GROUPEDAGG, ParamBuiltinOp.REXPAND, ParamBuiltinOp.PARAMSERV))
-						&& !( h instanceof UnaryOp //only unaryop-cumulativeagg
-							 && !((UnaryOp)h).isCumulativeUnaryOperation()
-							 && !((UnaryOp)h).isExpensiveUnaryOperation())
+								ParamBuiltinOp.GROUPEDAGG, ParamBuiltinOp.REXPAND, ParamBuiltinOp.RMEMPTY,
+								ParamBuiltinOp.PARAMSERV))
+						&& !( h instanceof UnaryOp //only unaryop-cumulativeagg/elementwise
+							 && !((UnaryOp)h).isMultiThreadedOpType())
 						&& !( h instanceof ReorgOp //only reorgop-transpose
 							 && ((ReorgOp)h).getOp() != ReOrgOp.TRANS )
 						&& !( h instanceof BinaryOp && h.getDataType().isScalar() ) )
@@ -1356,6 +1356,13 @@ public class OptimizerRuleBased extends Optimizer
 			//preaggregate results (less write / less read by result merge)
 			setTaskPartitioner( pn, PTaskPartitioner.STATIC );
 		}
+		else if( OptimizerUtils.ALLOW_ADAPTIVE_TASK_PARTITIONING
+			&& pn.getExecType()==ExecType.CP && !pn.hasOnlySimpleChilds() )
+		{
+			//for local parfor with complex body programs (e.g., loops with varying
+			//convergence), we expect skew and hence use adaptive work stealing
+			setTaskPartitioner( pn, PTaskPartitioner.ADAPTIVE );
+		}
 		else if( _N/4 >= pn.getK() ) //to prevent imbalance due to ceiling
 		{
 			setTaskPartitioner( pn, PTaskPartitioner.FACTORING );
@@ -2209,7 +2216,8 @@ public class OptimizerRuleBased extends Optimizer
 			case STATIC:           W = N / k; break;
 			case FACTORING:
 			case FACTORING_CMIN:
-			case FACTORING_CMAX:   W = k * (long)(Math.log(((double)N)/k)/Math.log(2.0)); break;
+			case FACTORING_CMAX:
+			case ADAPTIVE:         W = k * (long)(Math.log(((double)N)/k)/Math.log(2.0)); break;
 			default:               W = N; break; //N as worst case estimate
 		}
 		
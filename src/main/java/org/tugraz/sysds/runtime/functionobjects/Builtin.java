@@ -343,6 +343,45 @@ public class Builtin extends ValueFunction
 		return execute((double)in);
 	}
 
+	/**
+	 * Applies this unary builtin function to a range of values. In contrast to
+	 * {@link #execute(double)}, the builtin code is dispatched once per call and
+	 * each function uses its own tight loop over the range.
+	 * 
+	 * @param a input values
+	 * @param ai input offset
+	 * @param c output values
+	 * @param ci output offset
+	 * @param len number of values
+	 */
+	public void execute(double[] a, int ai, double[] c, int ci, int len) {
+		switch(bFunc) {
+			case SIN:     for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.sin(a[ai+i]) : Math.sin(a[ai+i]); break;
+			case COS:     for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.cos(a[ai+i]) : Math.cos(a[ai+i]); break;
+			case TAN:     for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.tan(a[ai+i]) : Math.tan(a[ai+i]); break;
+			case ASIN:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.asin(a[ai+i]) : Math.asin(a[ai+i]); break;
+			case ACOS:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.acos(a[ai+i]) : Math.acos(a[ai+i]); break;
+			case ATAN:    for(int i=0; i<len; i++) c[ci+i] = Math.atan(a[ai+i]); break;
+			case SINH:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.sinh(a[ai+i]) : Math.sinh(a[ai+i]); break;
+			case COSH:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.cosh(a[ai+i]) : Math.cosh(a[ai+i]); break;
+			case TANH:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.tanh(a[ai+i]) : Math.tanh(a[ai+i]); break;
+			case CEIL:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.ceil(a[ai+i]) : Math.ceil(a[ai+i]); break;
+			case FLOOR:   for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.floor(a[ai+i]) : Math.floor(a[ai+i]); break;
+			case LOG:     for(int i=0; i<len; i++) c[ci+i] = Math.log(a[ai+i]); break;
+			case LOG_NZ:  for(int i=0; i<len; i++) c[ci+i] = (a[ai+i]==0) ? 0 : Math.log(a[ai+i]); break;
+			case ABS:     for(int i=0; i<len; i++) c[ci+i] = Math.abs(a[ai+i]); break;
+			case SIGN:    for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.signum(a[ai+i]) : Math.signum(a[ai+i]); break;
+			case SQRT:    for(int i=0; i<len; i++) c[ci+i] = Math.sqrt(a[ai+i]); break;
+			case EXP:     for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? FastMath.exp(a[ai+i]) : Math.exp(a[ai+i]); break;
+			case ROUND:   for(int i=0; i<len; i++) c[ci+i] = Math.round(a[ai+i]); break;
+			case SPROP:   for(int i=0; i<len; i++) c[ci+i] = a[ai+i] * (1 - a[ai+i]); break;
+			case SIGMOID: for(int i=0; i<len; i++) c[ci+i] = FASTMATH ? 1 / (1 + FastMath.exp(-a[ai+i])) : 1 / (1 + Math.exp(-a[ai+i])); break;
+			default: //e.g., plogp
+				for(int i=0; i<len; i++)
+					c[ci+i] = execute(a[ai+i]);
+		}
+	}
+
 	/*
 	 * Builtin functions with two inputs
 	 */
@@ -251,6 +251,8 @@ public class CPInstructionParser extends InstructionParser
 		String2CPInstructionType.put( "bias_multiply"      , CPType.Dnn);
 		String2CPInstructionType.put( "batch_norm2d",           CPType.Dnn);
 		String2CPInstructionType.put( "batch_norm2d_backward",  CPType.Dnn);
+		String2CPInstructionType.put( "lstm",                   CPType.Dnn);
+		String2CPInstructionType.put( "lstm_backward",          CPType.Dnn);
 		
 		// Quaternary instruction opcodes
 		String2CPInstructionType.put( "wsloss"  , CPType.Quaternary);
@@ -398,7 +400,7 @@ public class CPInstructionParser extends InstructionParser
 						UtilFunctions.isIntegerNumber(parts[3])) ) {
 						// B=log(A), y=log(x)
 						return UnaryCPInstruction.parseInstruction(str);
-					} else if ( parts.length == 4 ) {
+					} else if ( parts.length == 4 || parts.length == 5 ) {
 						// B=log(A,10), y=log(x,10)
 						return BinaryCPInstruction.parseInstruction(str);
 					}
@@ -138,6 +138,17 @@ public class InstructionUtils
 		return numFields; 
 	}
 
+	public static int checkNumFields( String[] parts, int expected1, int expected2, int expected3 ) {
+		int numParts = parts.length;
+		int numFields = numParts - 1; //account for opcode
+		
+		if ( numFields != expected1 && numFields != expected2 && numFields != expected3 ) 
+			throw new DMLRuntimeException("checkNumFields() -- expected number (" + expected1 + ", " + expected2 
+				+ " or "+ expected3 +") != is not equal to actual number (" + numFields + ").");
+		
+		return numFields; 
+	}
+
 	public static int checkNumFields( String str, int expected1, int expected2 ) {
 		//note: split required for empty tokens
 		int numParts = str.split(Instruction.OPERAND_DELIM).length;
@@ -495,6 +506,11 @@ public class InstructionUtils
 			new UnaryOperator(Not.getNotFnObject()) :
 			new UnaryOperator(Builtin.getBuiltinFnObject(opcode));
 	}
+	
+	public static UnaryOperator parseUnaryOperator(String opcode, int numThreads, boolean inplace) {
+		return new UnaryOperator(opcode.equals("!") ? Not.getNotFnObject() :
+			Builtin.getBuiltinFnObject(opcode), numThreads, inplace);
+	}
 
 	public static Operator parseBinaryOrBuiltinOperator(String opcode, CPOperand in1, CPOperand in2) {
 		if( LibCommonsMath.isSupportedMatrixMatrixOperation(opcode) )
@@ -507,6 +523,16 @@ public class InstructionUtils
 				parseBinaryOperator(opcode));
 	}
 	
+	public static Operator parseBinaryOrBuiltinOperator(String opcode, CPOperand in1, CPOperand in2, int k) {
+		Operator op = parseBinaryOrBuiltinOperator(opcode, in1, in2);
+		//set degree of parallelism for multi-threaded matrix operations
+		if( k > 1 && op instanceof BinaryOperator )
+			return new BinaryOperator(((BinaryOperator)op).fn, k);
+		else if( k > 1 && op instanceof ScalarOperator )
+			return ((ScalarOperator)op).setConstant(((ScalarOperator)op).getConstant(), k);
+		return op;
+	}
+	
 	public static Operator parseExtendedBinaryOrBuiltinOperator(String opcode, CPOperand in1, CPOperand in2) {
 		boolean matrixScalar = (in1.getDataType() != in2.getDataType());
 		return Builtin.isBuiltinFnObject(opcode) ?
@@ -575,8 +601,12 @@ public class InstructionUtils
 	}
 	
 	public static TernaryOperator parseTernaryOperator(String opcode) {
+		return parseTernaryOperator(opcode, 1);
+	}
+	
+	public static TernaryOperator parseTernaryOperator(String opcode, int numThreads) {
 		return new TernaryOperator(opcode.equals("+*") ? PlusMultiply.getFnObject() :
-			opcode.equals("-*") ? MinusMultiply.getFnObject() : IfElse.getFnObject());
+			opcode.equals("-*") ? MinusMultiply.getFnObject() : IfElse.getFnObject(), numThreads);
 	}
 	
 	/**
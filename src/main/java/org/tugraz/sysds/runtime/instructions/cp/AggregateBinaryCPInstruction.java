@@ -26,15 +26,24 @@ import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.functionobjects.Multiply;
 import org.tugraz.sysds.runtime.functionobjects.Plus;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.lineage.LineageItem;
+import org.tugraz.sysds.runtime.lineage.LineageItemUtils;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateBinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateOperator;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 
 public class AggregateBinaryCPInstruction extends BinaryCPInstruction {
+	
+	private final boolean _transposeLeft; //t(in1) %*% in2 w/o transpose
 
 	private AggregateBinaryCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out, String opcode, String istr) {
+		this(op, in1, in2, out, false, opcode, istr);
+	}
+	
+	private AggregateBinaryCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out, boolean transposeLeft, String opcode, String istr) {
 		super(CPType.AggregateBinary, op, in1, in2, out, opcode, istr);
+		_transposeLeft = transposeLeft;
 	}
 
 	public static AggregateBinaryCPInstruction parseInstruction( String str ) {
@@ -49,30 +58,47 @@ public class AggregateBinaryCPInstruction extends BinaryCPInstruction {
 			throw new DMLRuntimeException("AggregateBinaryInstruction.parseInstruction():: Unknown opcode " + opcode);
 		}
 		
-		InstructionUtils.checkNumFields( parts, 4 );
+		InstructionUtils.checkNumFields( parts, 4, 5 );
 		in1.split(parts[1]);
 		in2.split(parts[2]);
 		out.split(parts[3]);
 		int k = Integer.parseInt(parts[4]);
+		boolean transposeLeft = (parts.length == 6) && Boolean.parseBoolean(parts[5]);
 		
 		AggregateOperator agg = new AggregateOperator(0, Plus.getPlusFnObject());
 		AggregateBinaryOperator aggbin = new AggregateBinaryOperator(Multiply.getMultiplyFnObject(), agg, k);
-		return new AggregateBinaryCPInstruction(aggbin, in1, in2, out, opcode, str);	
+		return new AggregateBinaryCPInstruction(aggbin, in1, in2, out, transposeLeft, opcode, str);	
 	}
 	
 	@Override
 	public void processInstruction(ExecutionContext ec) {
 		//get inputs
-		MatrixBlock matBlock1 = ec.getMatrixInput(input1.getName());
-		MatrixBlock matBlock2 = ec.getMatrixInput(input2.getName());
+		MatrixBlock matBlock1 = ec.getMatrixInput(input1.getName(), true);
+		MatrixBlock matBlock2 = ec.getMatrixInput(input2.getName(), true);
+		
+		//cached csr snapshot of sparse lhs for repeated matrix-vector products
+		matBlock1 = ec.getMatrixObject(input1.getName()).getSpMVInput(matBlock1, matBlock2);
 		
 		//compute matrix multiplication
 		AggregateBinaryOperator ab_op = (AggregateBinaryOperator) _optr;
-		MatrixBlock ret = matBlock1.aggregateBinaryOperations(matBlock1, matBlock2, new MatrixBlock(), ab_op);
+		MatrixBlock ret = _transposeLeft ?
+			matBlock1.aggregateBinaryOperationsTransposeLeft(matBlock1, matBlock2, new MatrixBlock(), ab_op) :
+			matBlock1.aggregateBinaryOperations(matBlock1, matBlock2, new MatrixBlock(), ab_op);
 		
 		//release inputs/outputs
 		ec.releaseMatrixInput(input1.getName());
 		ec.releaseMatrixInput(input2.getName());
 		ec.setMatrixOutput(output.getName(), ret);
 	}
+	
+	@Override
+	public LineageItem[] getLineageItems(ExecutionContext ec) {
+		if( !_transposeLeft )
+			return super.getLineageItems(ec);
+		//lineage of the equivalent plan with explicit transpose t(in1)
+		LineageItem tin1 = new LineageItem(input1.getName(), "r'",
+			LineageItemUtils.getLineage(ec, input1));
+		return new LineageItem[]{new LineageItem(output.getName(), getOpcode(),
+			new LineageItem[]{tin1, LineageItemUtils.getLineage(ec, input2)[0]})};
+	}
 }
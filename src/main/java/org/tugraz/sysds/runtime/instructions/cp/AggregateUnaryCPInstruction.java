@@ -160,7 +160,7 @@ public class AggregateUnaryCPInstruction extends UnaryCPInstruction
 			default: {
 				AggregateUnaryOperator au_op = (AggregateUnaryOperator) _optr;
 				if (input1.getDataType() == DataType.MATRIX) {
-					MatrixBlock matBlock = ec.getMatrixInput(input1.getName());
+					MatrixBlock matBlock = ec.getMatrixInput(input1.getName(), true);
 					
 					MatrixBlock resultBlock = (MatrixBlock) matBlock.aggregateUnaryOperations(au_op, new MatrixBlock(),
 						matBlock.getNumRows(), new MatrixIndexes(1, 1), true);
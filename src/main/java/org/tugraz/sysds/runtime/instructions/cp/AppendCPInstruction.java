@@ -37,16 +37,24 @@ public abstract class AppendCPInstruction extends BinaryCPInstruction
 
 	//type (matrix cbind / scalar string concatenation)
 	protected final AppendType _type;
+	//degree of parallelism (matrix and frame append)
+	protected final int _numThreads;
 
 	protected AppendCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
 			AppendType type, String opcode, String istr) {
+		this(op, in1, in2, in3, out, type, 1, opcode, istr);
+	}
+	
+	protected AppendCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
+			AppendType type, int numThreads, String opcode, String istr) {
 		super(CPType.Append, op, in1, in2, out, opcode, istr);
 		_type = type;
+		_numThreads = numThreads;
 	}
 
 	public static AppendCPInstruction parseInstruction ( String str ) {
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
-		InstructionUtils.checkNumFields (parts, 5);
+		InstructionUtils.checkNumFields (parts, 5, 6);
 		
 		String opcode = parts[0];
 		CPOperand in1 = new CPOperand(parts[1]);
@@ -54,6 +62,7 @@ public abstract class AppendCPInstruction extends BinaryCPInstruction
 		CPOperand in3 = new CPOperand(parts[3]);
 		CPOperand out = new CPOperand(parts[4]);
 		boolean cbind = Boolean.parseBoolean(parts[5]);
+		int numThreads = (parts.length == 7) ? Integer.parseInt(parts[6]) : 1;
 		
 		AppendType type = (in1.getDataType()!=DataType.MATRIX && in1.getDataType()!=DataType.FRAME) ? 
 				AppendType.STRING : cbind ? AppendType.CBIND : AppendType.RBIND;
@@ -65,8 +74,8 @@ public abstract class AppendCPInstruction extends BinaryCPInstruction
 		if( type == AppendType.STRING )
 			return new ScalarAppendCPInstruction(op, in1, in2, in3, out, type, opcode, str);
 		else if( in1.getDataType()==DataType.MATRIX )
-			return new MatrixAppendCPInstruction(op, in1, in2, in3, out, type, opcode, str);
+			return new MatrixAppendCPInstruction(op, in1, in2, in3, out, type, numThreads, opcode, str);
 		else //DataType.FRAME
-			return new FrameAppendCPInstruction(op, in1, in2, in3, out, type, opcode, str);
+			return new FrameAppendCPInstruction(op, in1, in2, in3, out, type, numThreads, opcode, str);
 	}
 }
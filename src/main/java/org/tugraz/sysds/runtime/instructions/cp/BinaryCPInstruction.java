@@ -40,20 +40,27 @@ public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 		CPOperand in1 = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
 		CPOperand in2 = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
 		CPOperand out = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
-		String opcode = parseBinaryInstruction(str, in1, in2, out);
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 3, 4, 5);
+		String opcode = parts[0];
+		in1.split(parts[1]);
+		in2.split(parts[2]);
+		out.split(parts[3]);
+		int k = (parts.length >= 5) ? Integer.parseInt(parts[4]) : 1;
+		boolean inplace = (parts.length == 6) && Boolean.parseBoolean(parts[5]);
 		
 		checkOutputDataType(in1, in2, out);
 		
-		Operator operator = InstructionUtils.parseBinaryOrBuiltinOperator(opcode, in1, in2);
+		Operator operator = InstructionUtils.parseBinaryOrBuiltinOperator(opcode, in1, in2, k);
 
 		if (in1.getDataType() == DataType.SCALAR && in2.getDataType() == DataType.SCALAR)
 			return new BinaryScalarScalarCPInstruction(operator, in1, in2, out, opcode, str);
 		else if (in1.getDataType() == DataType.MATRIX && in2.getDataType() == DataType.MATRIX)
-			return new BinaryMatrixMatrixCPInstruction(operator, in1, in2, out, opcode, str);
+			return new BinaryMatrixMatrixCPInstruction(operator, in1, in2, out, opcode, str, inplace);
 		else if (in1.getDataType() == DataType.TENSOR && in2.getDataType() == DataType.TENSOR)
 			return new BinaryTensorTensorCPInstruction(operator, in1, in2, out, opcode, str);
 		else
-			return new BinaryMatrixScalarCPInstruction(operator, in1, in2, out, opcode, str);
+			return new BinaryMatrixScalarCPInstruction(operator, in1, in2, out, opcode, str, inplace);
 	}
 	
 	protected static String parseBinaryInstruction(String instr, CPOperand in1, CPOperand in2, CPOperand out) {
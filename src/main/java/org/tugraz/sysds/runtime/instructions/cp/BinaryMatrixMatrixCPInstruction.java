@@ -19,17 +19,28 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.matrix.data.LibCommonsMath;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 
 public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
 
+	//compiler-marked update in-place of the first input
+	private final boolean _inplace;
+
 	protected BinaryMatrixMatrixCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out,
 			String opcode, String istr) {
+		this(op, in1, in2, out, opcode, istr, false);
+	}
+
+	protected BinaryMatrixMatrixCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out,
+			String opcode, String istr, boolean inplace) {
 		super(CPType.Binary, op, in1, in2, out, opcode, istr);
+		_inplace = inplace;
 	}
 
 	@Override
@@ -44,11 +55,20 @@ public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
 		}
 		
 		// Read input matrices
-		MatrixBlock inBlock1 = ec.getMatrixInput(input1.getName());
-		MatrixBlock inBlock2 = ec.getMatrixInput(input2.getName());
+		MatrixBlock inBlock1 = ec.getMatrixInput(input1.getName(), true);
+		MatrixBlock inBlock2 = ec.getMatrixInput(input2.getName(), true);
 		
-		// Perform computation using input matrices, and produce the result matrix
+		// Update the first input in place (e.g., W = W - dW in loops)
 		BinaryOperator bop = (BinaryOperator) _optr;
+		if( _inplace && isUpdateInPlaceInput(ec, input1)
+			&& LibMatrixBincell.isSupportedInPlace(inBlock1, inBlock2) ) {
+			inBlock1.binaryOperationsInPlace(bop, inBlock2);
+			ec.releaseMatrixInput(input1.getName(), input2.getName());
+			ec.setMatrixOutput(output.getName(), inBlock1, UpdateType.INPLACE);
+			return;
+		}
+		
+		// Perform computation using input matrices, and produce the result matrix
 		MatrixBlock retBlock = (MatrixBlock) (inBlock1.binaryOperations (bop, inBlock2, new MatrixBlock()));
 		
 		// Release the memory occupied by input matrices
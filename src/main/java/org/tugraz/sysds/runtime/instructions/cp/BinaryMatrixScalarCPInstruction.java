@@ -20,16 +20,27 @@
 package org.tugraz.sysds.runtime.instructions.cp;
 
 import org.tugraz.sysds.common.Types.DataType;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
 
 public class BinaryMatrixScalarCPInstruction extends BinaryCPInstruction {
 
+	//compiler-marked update in-place of the matrix input
+	private final boolean _inplace;
+
 	protected BinaryMatrixScalarCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out,
 			String opcode, String istr) {
+		this(op, in1, in2, out, opcode, istr, false);
+	}
+
+	protected BinaryMatrixScalarCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand out,
+			String opcode, String istr, boolean inplace) {
 		super(CPType.Binary, op, in1, in2, out, opcode, istr);
+		_inplace = inplace;
 	}
 
 	@Override
@@ -37,12 +48,21 @@ public class BinaryMatrixScalarCPInstruction extends BinaryCPInstruction {
 		CPOperand mat = ( input1.getDataType() == DataType.MATRIX ) ? input1 : input2;
 		CPOperand scalar = ( input1.getDataType() == DataType.MATRIX ) ? input2 : input1;
 		
-		MatrixBlock inBlock = ec.getMatrixInput(mat.getName());
+		MatrixBlock inBlock = ec.getMatrixInput(mat.getName(), true);
 		ScalarObject constant = ec.getScalarInput(scalar);
 
 		ScalarOperator sc_op = (ScalarOperator) _optr;
 		sc_op = sc_op.setConstant(constant.getDoubleValue());
 		
+		// Update the matrix input in place (e.g., W = W * s in loops)
+		if( _inplace && isUpdateInPlaceInput(ec, mat)
+			&& LibMatrixBincell.isSupportedInPlace(inBlock) ) {
+			inBlock.scalarOperationsInPlace(sc_op);
+			ec.releaseMatrixInput(mat.getName());
+			ec.setMatrixOutput(output.getName(), inBlock, UpdateType.INPLACE);
+			return;
+		}
+		
 		MatrixBlock retBlock = (MatrixBlock) inBlock.scalarOperations(sc_op, new MatrixBlock());
 		
 		ec.releaseMatrixInput(mat.getName());
@@ -19,6 +19,8 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import java.util.Arrays;
+
 import org.tugraz.sysds.lops.Nary;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.functionobjects.Builtin;
@@ -26,6 +28,7 @@ import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.runtime.matrix.operators.SimpleOperator;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 /**
  * Instruction to handle a variable number of input operands. It parses an
@@ -50,6 +53,13 @@ public abstract class BuiltinNaryCPInstruction extends CPInstruction
 	public static BuiltinNaryCPInstruction parseInstruction(String str) {
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
 		String opcode = parts[0];
+		//optional degree of parallelism after the output (cbind/rbind)
+		int numThreads = 1;
+		if( (opcode.equals("cbind") || opcode.equals("rbind"))
+			&& UtilFunctions.isIntegerNumber(parts[parts.length - 1]) ) {
+			numThreads = Integer.parseInt(parts[parts.length - 1]);
+			parts = Arrays.copyOf(parts, parts.length - 1);
+		}
 		CPOperand outputOperand = new CPOperand(parts[parts.length - 1]);
 		CPOperand[] inputOperands = null;
 		if (parts.length > 2) {
@@ -65,7 +75,7 @@ public abstract class BuiltinNaryCPInstruction extends CPInstruction
 		}
 		else if( opcode.equals("cbind") || opcode.equals("rbind") ) {
 			return new MatrixBuiltinNaryCPInstruction(null, 
-				opcode, str, outputOperand, inputOperands);
+				opcode, str, outputOperand, numThreads, inputOperands);
 		}
 		else if( opcode.equals("nmin") || opcode.equals("nmax") ) {
 			ValueFunction func = Builtin.getBuiltinFnObject(opcode.substring(1));
@@ -25,6 +25,7 @@ import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.controlprogram.caching.CacheableData;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.lineage.LineageTraceable;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.tugraz.sysds.runtime.lineage.LineageItem;
 import org.tugraz.sysds.runtime.lineage.LineageItemUtils;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
@@ -75,6 +76,20 @@ public abstract class ComputationCPInstruction extends CPInstruction implements
 			+ OptimizerUtils.SAFE_REP_CHANGE_THRES ); //8MB
 	}
 
+	/**
+	 * Indicates if the given matrix input can be updated in place, which
+	 * requires a compiler-marked loop variable that has been deep-copied on
+	 * loop entry, and no lineage-based reuse that might cache its block.
+	 * 
+	 * @param ec execution context
+	 * @param in matrix input operand
+	 * @return true if the input is marked for update in-place
+	 */
+	protected static boolean isUpdateInPlaceInput(ExecutionContext ec, CPOperand in) {
+		return in.isMatrix() && ReuseCacheType.isNone()
+			&& ec.getMatrixObject(in.getName()).getUpdateType().isInPlace();
+	}
+
 	@Override
 	public LineageItem[] getLineageItems(ExecutionContext ec) {
 		return new LineageItem[]{new LineageItem(output.getName(),
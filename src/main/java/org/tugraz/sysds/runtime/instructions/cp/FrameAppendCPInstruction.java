@@ -27,8 +27,8 @@ import org.tugraz.sysds.runtime.matrix.operators.Operator;
 public final class FrameAppendCPInstruction extends AppendCPInstruction {
 
 	protected FrameAppendCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
-			AppendType type, String opcode, String istr) {
-		super(op, in1, in2, in3, out, type, opcode, istr);
+			AppendType type, int numThreads, String opcode, String istr) {
+		super(op, in1, in2, in3, out, type, numThreads, opcode, istr);
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public final class FrameAppendCPInstruction extends AppendCPInstruction {
 		} 
 			
 		//execute append operations (append both inputs to initially empty output)
-		FrameBlock ret = fin1.append(fin2, new FrameBlock(), _type==AppendType.CBIND);
+		FrameBlock ret = fin1.append(fin2, new FrameBlock(), _type==AppendType.CBIND, _numThreads);
 		
 		//set output and release inputs 
 		ec.setFrameOutput(output.getName(), ret);
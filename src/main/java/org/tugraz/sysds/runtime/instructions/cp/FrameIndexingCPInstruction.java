@@ -28,15 +28,18 @@ import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.util.IndexRange;
 
 public final class FrameIndexingCPInstruction extends IndexingCPInstruction {
+	private final int _numThreads;
 
 	protected FrameIndexingCPInstruction(CPOperand in, CPOperand rl, CPOperand ru, CPOperand cl,
-			CPOperand cu, CPOperand out, String opcode, String istr) {
+			CPOperand cu, CPOperand out, int numThreads, String opcode, String istr) {
 		super(in, rl, ru, cl, cu, out, opcode, istr);
+		_numThreads = numThreads;
 	}
 
 	protected FrameIndexingCPInstruction(CPOperand lhsInput, CPOperand rhsInput, CPOperand rl,
 			CPOperand ru, CPOperand cl, CPOperand cu, CPOperand out, String opcode, String istr) {
 		super(lhsInput, rhsInput, rl, ru, cl, cu, out, opcode, istr);
+		_numThreads = 1;
 	}
 
 	@Override
@@ -48,7 +51,7 @@ public final class FrameIndexingCPInstruction extends IndexingCPInstruction {
 		if( opcode.equalsIgnoreCase(RightIndex.OPCODE) ) {
 			//execute right indexing operation
 			FrameBlock in = ec.getFrameInput(input1.getName());
-			FrameBlock out = in.slice(ixrange, new FrameBlock());
+			FrameBlock out = in.slice(ixrange, new FrameBlock(), _numThreads);
 			
 			//unpin rhs input
 			ec.releaseFrameInput(input1.getName());
@@ -61,7 +61,7 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 		String opcode = parts[0];
 		
 		if ( opcode.equalsIgnoreCase(RightIndex.OPCODE) ) {
-			if ( parts.length == 7 ) {
+			if ( parts.length == 7 || parts.length == 8 ) {
 				CPOperand in, rl, ru, cl, cu, out;
 				in = new CPOperand(parts[1]);
 				rl = new CPOperand(parts[2]);
@@ -69,10 +69,11 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 				cl = new CPOperand(parts[4]);
 				cu = new CPOperand(parts[5]);
 				out = new CPOperand(parts[6]);
+				int numThreads = (parts.length == 8) ? Integer.parseInt(parts[7]) : 1;
 				if( in.getDataType()==DataType.MATRIX )
 					return new MatrixIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str);
 				else if( in.getDataType() == DataType.FRAME )
-					return new FrameIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str);
+					return new FrameIndexingCPInstruction(in, rl, ru, cl, cu, out, numThreads, opcode, str);
 				else if( in.getDataType() == DataType.LIST )
 					return new ListIndexingCPInstruction(in, rl, ru, cl, cu, out, opcode, str);
 				else 
@@ -83,7 +84,7 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 			}
 		} 
 		else if ( opcode.equalsIgnoreCase(LeftIndex.OPCODE)) {
-			if ( parts.length == 8 ) {
+			if ( parts.length == 8 || parts.length == 9 ) {
 				CPOperand lhsInput, rhsInput, rl, ru, cl, cu, out;
 				lhsInput = new CPOperand(parts[1]);
 				rhsInput = new CPOperand(parts[2]);
@@ -92,8 +93,9 @@ public abstract class IndexingCPInstruction extends UnaryCPInstruction {
 				cl = new CPOperand(parts[5]);
 				cu = new CPOperand(parts[6]);
 				out = new CPOperand(parts[7]);
+				int numThreads = (parts.length == 9) ? Integer.parseInt(parts[8]) : 1;
 				if( lhsInput.getDataType()==DataType.MATRIX )
-					return new MatrixIndexingCPInstruction(lhsInput, rhsInput, rl, ru, cl, cu, out, opcode, str);
+					return new MatrixIndexingCPInstruction(lhsInput, rhsInput, rl, ru, cl, cu, out, numThreads, opcode, str);
 				else if (lhsInput.getDataType() == DataType.FRAME)
 					return new FrameIndexingCPInstruction(lhsInput, rhsInput, rl, ru, cl, cu, out, opcode, str);
 				else if( lhsInput.getDataType() == DataType.LIST )
@@ -30,8 +30,8 @@ import org.tugraz.sysds.runtime.matrix.operators.Operator;
 public final class MatrixAppendCPInstruction extends AppendCPInstruction implements LineageTraceable {
 
 	protected MatrixAppendCPInstruction(Operator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
-			AppendType type, String opcode, String istr) {
-		super(op, in1, in2, in3, out, type, opcode, istr);
+			AppendType type, int numThreads, String opcode, String istr) {
+		super(op, in1, in2, in3, out, type, numThreads, opcode, istr);
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public final class MatrixAppendCPInstruction extends AppendCPInstruction impleme
 					+ " with different number of columns: "+matBlock1.getNumColumns()+" vs "+matBlock2.getNumColumns());
 		}
 		//execute append operations (append both inputs to initially empty output)
-		MatrixBlock ret = matBlock1.append(matBlock2, new MatrixBlock(), _type==AppendType.CBIND);
+		MatrixBlock ret = matBlock1.append(matBlock2, new MatrixBlock(), _type==AppendType.CBIND, _numThreads);
 		//set output and release inputs 
 		ec.setMatrixOutput(output.getName(), ret);
 		ec.releaseMatrixInput(input1.getName(), input2.getName());
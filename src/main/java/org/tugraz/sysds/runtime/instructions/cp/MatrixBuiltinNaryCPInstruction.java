@@ -31,8 +31,15 @@ import org.tugraz.sysds.runtime.matrix.operators.Operator;
 
 public class MatrixBuiltinNaryCPInstruction extends BuiltinNaryCPInstruction implements LineageTraceable {
 
+	private final int _numThreads;
+	
 	protected MatrixBuiltinNaryCPInstruction(Operator op, String opcode, String istr, CPOperand output, CPOperand[] inputs) {
+		this(op, opcode, istr, output, 1, inputs);
+	}
+	
+	protected MatrixBuiltinNaryCPInstruction(Operator op, String opcode, String istr, CPOperand output, int numThreads, CPOperand[] inputs) {
 		super(op, opcode, istr, output, inputs);
+		_numThreads = numThreads;
 	}
 
 	@Override
@@ -45,7 +52,7 @@ public class MatrixBuiltinNaryCPInstruction extends BuiltinNaryCPInstruction imp
 		if( "cbind".equals(getOpcode()) || "rbind".equals(getOpcode()) ) {
 			boolean cbind = "cbind".equals(getOpcode());
 			outBlock = matrices.get(0).append(matrices.subList(1, matrices.size())
-				.toArray(new MatrixBlock[0]), new MatrixBlock(), cbind);
+				.toArray(new MatrixBlock[0]), new MatrixBlock(), cbind, _numThreads);
 		}
 		
 		else if( "nmin".equals(getOpcode()) || "nmax".equals(getOpcode()) ) {
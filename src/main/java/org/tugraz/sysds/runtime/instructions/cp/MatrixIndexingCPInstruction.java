@@ -36,14 +36,19 @@ import org.tugraz.sysds.utils.Statistics;
 
 public final class MatrixIndexingCPInstruction extends IndexingCPInstruction {
 
+	//degree of parallelism for left indexing
+	private final int _numThreads;
+
 	public MatrixIndexingCPInstruction(CPOperand in, CPOperand rl, CPOperand ru, CPOperand cl, CPOperand cu,
 			CPOperand out, String opcode, String istr) {
 		super(in, rl, ru, cl, cu, out, opcode, istr);
+		_numThreads = 1;
 	}
 
 	protected MatrixIndexingCPInstruction(CPOperand lhsInput, CPOperand rhsInput, CPOperand rl,
-			CPOperand ru, CPOperand cl, CPOperand cu, CPOperand out, String opcode, String istr) {
+			CPOperand ru, CPOperand cl, CPOperand cu, CPOperand out, int numThreads, String opcode, String istr) {
 		super(lhsInput, rhsInput, rl, ru, cl, cu, out, opcode, istr);
+		_numThreads = numThreads;
 	}
 
 	@Override
@@ -95,7 +100,7 @@ public final class MatrixIndexingCPInstruction extends IndexingCPInstruction {
 			
 			if(input2.getDataType() == DataType.MATRIX) { //MATRIX<-MATRIX
 				MatrixBlock rhsMatBlock = ec.getMatrixInput(input2.getName());
-				resultBlock = matBlock.leftIndexingOperations(rhsMatBlock, ixrange, new MatrixBlock(), updateType);
+				resultBlock = matBlock.leftIndexingOperations(rhsMatBlock, ixrange, new MatrixBlock(), updateType, _numThreads);
 				ec.releaseMatrixInput(input2.getName());
 			}
 			else { //MATRIX<-SCALAR 
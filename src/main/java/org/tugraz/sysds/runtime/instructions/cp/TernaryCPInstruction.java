@@ -19,15 +19,25 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.tugraz.sysds.runtime.functionobjects.MinusMultiply;
+import org.tugraz.sysds.runtime.functionobjects.PlusMultiply;
+import org.tugraz.sysds.runtime.functionobjects.TernaryValueFunction.ValueFunctionWithConstant;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.TernaryOperator;
 
 public class TernaryCPInstruction extends ComputationCPInstruction {
 	
-	private TernaryCPInstruction(TernaryOperator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out, String opcode, String str) {
+	//compiler-marked update in-place of the first input
+	private final boolean _inplace;
+	
+	private TernaryCPInstruction(TernaryOperator op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out, String opcode, String str, boolean inplace) {
 		super(CPType.Ternary, op, in1, in2, in3, out, opcode, str);
+		_inplace = inplace;
 	}
 
 	public static TernaryCPInstruction parseInstruction(String str)
@@ -38,8 +48,10 @@ public class TernaryCPInstruction extends ComputationCPInstruction {
 		CPOperand operand2 = new CPOperand(parts[2]);
 		CPOperand operand3 = new CPOperand(parts[3]);
 		CPOperand outOperand = new CPOperand(parts[4]);
-		TernaryOperator op = InstructionUtils.parseTernaryOperator(opcode);
-		return new TernaryCPInstruction(op, operand1, operand2, operand3, outOperand, opcode,str);
+		int numThreads = (parts.length >= 6) ? Integer.parseInt(parts[5]) : 1;
+		boolean inplace = (parts.length == 7) && Boolean.parseBoolean(parts[6]);
+		TernaryOperator op = InstructionUtils.parseTernaryOperator(opcode, numThreads);
+		return new TernaryCPInstruction(op, operand1, operand2, operand3, outOperand, opcode, str, inplace);
 	}
 	
 	@Override
@@ -54,8 +66,20 @@ public class TernaryCPInstruction extends ComputationCPInstruction {
 			MatrixBlock m3 = input3.isMatrix() ? ec.getMatrixInput(input3.getName()) :
 				new MatrixBlock(ec.getScalarInput(input3).getDoubleValue());
 			
+			//update the first input in place (e.g., W = W - lr * dW in loops)
+			TernaryOperator op = (TernaryOperator)_optr;
+			if( _inplace && input2.isScalar() && input3.isMatrix()
+				&& (op.fn instanceof PlusMultiply || op.fn instanceof MinusMultiply)
+				&& isUpdateInPlaceInput(ec, input1) && LibMatrixBincell.isSupportedInPlace(m1, m3) ) {
+				BinaryOperator bop = ((ValueFunctionWithConstant)op.fn).setOp2Constant(m2.quickGetValue(0, 0));
+				m1.binaryOperationsInPlace(new BinaryOperator(bop.fn, op.getNumThreads()), m3);
+				ec.releaseMatrixInput(input1.getName(), input3.getName());
+				ec.setMatrixOutput(output.getName(), m1, UpdateType.INPLACE);
+				return;
+			}
+			
 			//execution
-			MatrixBlock out = m1.ternaryOperations((TernaryOperator)_optr, m2, m3, new MatrixBlock());
+			MatrixBlock out = m1.ternaryOperations(op, m2, m3, new MatrixBlock());
 			
 			//release the inputs and output
 			if( input1.isMatrix() )
@@ -19,17 +19,13 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
-import java.util.Arrays;
 
 import org.tugraz.sysds.common.Types.DataType;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
-import org.tugraz.sysds.runtime.functionobjects.Builtin;
-import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.matrix.data.LibCommonsMath;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
-import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 public abstract class UnaryCPInstruction extends ComputationCPInstruction {
 
@@ -53,18 +49,16 @@ public abstract class UnaryCPInstruction extends ComputationCPInstruction {
 		
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
 		String opcode = null;
-		ValueFunction func = null;
 		
 		//print or stop or cumulative aggregates
 		if( parts.length==5 ) {
 			opcode = parts[0];
 			in.split(parts[1]);
 			out.split(parts[2]);
-			func = Builtin.getBuiltinFnObject(opcode);
 			
-			if( Arrays.asList(new String[]{"ucumk+","ucum*","ucumk+*","ucummin","ucummax","exp","log","sigmoid"}).contains(opcode) )
-				return new UnaryMatrixCPInstruction(new UnaryOperator(func,
-					Integer.parseInt(parts[3]),Boolean.parseBoolean(parts[4])), in, out, opcode, str);
+			if( in.getDataType() == DataType.MATRIX )
+				return new UnaryMatrixCPInstruction(InstructionUtils.parseUnaryOperator(opcode,
+					Integer.parseInt(parts[3]), Boolean.parseBoolean(parts[4])), in, out, opcode, str);
 			else
 				return new UnaryScalarCPInstruction(null, in, out, opcode, str);
 		}
@@ -19,8 +19,11 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.matrix.data.LibCommonsMath;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixUnary;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
@@ -39,6 +42,13 @@ public class UnaryMatrixCPInstruction extends UnaryCPInstruction {
 			retBlock = LibCommonsMath.unaryOperations(inBlock, getOpcode());
 			ec.releaseMatrixInput(input1.getName());
 		}
+		else if( isUpdateInPlace(ec, inBlock) ) {
+			//update the input in place (e.g., W = abs(W) in loops)
+			inBlock.unaryOperationsInPlace((UnaryOperator) _optr);
+			ec.releaseMatrixInput(input1.getName());
+			ec.setMatrixOutput(output.getName(), inBlock, UpdateType.INPLACE);
+			return;
+		}
 		else {
 			UnaryOperator u_op = (UnaryOperator) _optr;
 			retBlock = (MatrixBlock) (inBlock.unaryOperations(u_op, new MatrixBlock()));
@@ -50,4 +60,11 @@ public class UnaryMatrixCPInstruction extends UnaryCPInstruction {
 		
 		ec.setMatrixOutput(output.getName(), retBlock);
 	}
+	
+	private boolean isUpdateInPlace(ExecutionContext ec, MatrixBlock inBlock) {
+		//note: cumulative aggregates handle their in-place flag internally
+		UnaryOperator u_op = (UnaryOperator) _optr;
+		return u_op.isInplace() && !LibMatrixAgg.isSupportedUnaryOperator(u_op)
+			&& isUpdateInPlaceInput(ec, input1) && LibMatrixUnary.isSupportedInPlace(inBlock);
+	}
 }
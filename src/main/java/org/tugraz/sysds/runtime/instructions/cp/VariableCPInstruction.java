@@ -45,6 +45,7 @@ import org.tugraz.sysds.runtime.instructions.Instruction;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.io.FileFormatProperties;
 import org.tugraz.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.tugraz.sysds.runtime.io.FileFormatPropertiesColumnar;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.io.WriterMatrixMarket;
 import org.tugraz.sysds.runtime.io.WriterTextCSV;
@@ -123,6 +124,9 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 	
 	// CSV and LIBSVM related members (used only in createvar instructions)
 	private final FileFormatProperties _formatProperties;
+	
+	// degree of parallelism (used only in frame/matrix casts)
+	private int _numThreads = 1;
 
 	private VariableCPInstruction(VariableOperationCode op, CPOperand in1, CPOperand in2, CPOperand in3, CPOperand out,
 			MetaData meta, FileFormatProperties fprops, String schema, UpdateType utype, String sopcode, String istr) {
@@ -318,6 +322,11 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			if ( parts.length != 5 && parts.length != 6 && parts.length != 8 )
 				throw new DMLRuntimeException("Invalid number of operands in write instruction: " + str);
 		}
+		else if ( voc == VariableOperationCode.CastAsMatrixVariable
+			|| voc == VariableOperationCode.CastAsFrameVariable ) {
+			// optional degree of parallelism for frame/matrix casts
+			InstructionUtils.checkNumFields ( parts, 2, 3 );
+		}
 		else {
 			if( voc != VariableOperationCode.RemoveVariable )
 				InstructionUtils.checkNumFields ( parts, getArity(voc) ); // no output
@@ -348,6 +357,12 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				if ( parts.length < 14+extSchema || parts.length > 16+extSchema )
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
 			}
+			else if ( fmt.equalsIgnoreCase("binarycolumnar") ) {
+				// Createvar instructions for columnar format optionally include a
+				// pushed-down row and column range (rl, ru, cl, cu) of the read
+				if ( parts.length != 6 && parts.length != 11+extSchema && parts.length != 15+extSchema )
+					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
+			}
 			else {
 				if ( parts.length != 6 && parts.length != 11+extSchema )
 					throw new DMLRuntimeException("Invalid number of operands in createvar instruction: " + str);
@@ -419,6 +434,12 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				}
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
 			}
+			else if ( fmt.equalsIgnoreCase("binarycolumnar") && parts.length == 15+extSchema ) {
+				FileFormatProperties fmtProperties = new FileFormatPropertiesColumnar(
+					Long.parseLong(parts[11]), Long.parseLong(parts[12]),
+					Long.parseLong(parts[13]), Long.parseLong(parts[14]));
+				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, fmtProperties, schema, opcode, str);
+			}
 			else {
 				return new VariableCPInstruction(VariableOperationCode.CreateVariable, in1, in2, in3, iimd, updateType, schema, opcode, str);
 			}
@@ -455,9 +476,15 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 				throw new DMLRuntimeException("Unexpected value type for second argument in: " + str);
 			break;
 			
-		case CastAsScalarVariable:
 		case CastAsMatrixVariable:
-		case CastAsFrameVariable:
+		case CastAsFrameVariable: {
+			in1 = new CPOperand(parts[1]); // first operand is a variable name => string value type
+			out = new CPOperand(parts[2]); // output variable name
+			VariableCPInstruction inst = new VariableCPInstruction(voc, in1, null, null, out, opcode, str);
+			inst._numThreads = (parts.length == 4) ? Integer.parseInt(parts[3]) : 1;
+			return inst;
+		}
+		case CastAsScalarVariable:
 		case CastAsDoubleVariable:
 		case CastAsIntegerVariable:
 		case CastAsBooleanVariable:
@@ -657,7 +684,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 		case CastAsMatrixVariable:{
 			if( getInput1().getDataType().isFrame() ) {
 				FrameBlock fin = ec.getFrameInput(getInput1().getName());
-				MatrixBlock out = DataConverter.convertToMatrixBlock(fin);
+				MatrixBlock out = DataConverter.convertToMatrixBlock(fin, _numThreads);
 				ec.releaseFrameInput(getInput1().getName());
 				ec.setMatrixOutput(output.getName(), out);
 			}
@@ -706,7 +733,7 @@ public class VariableCPInstruction extends CPInstruction implements LineageTrace
 			}
 			else { //DataType.FRAME
 				MatrixBlock min = ec.getMatrixInput(getInput1().getName());
-				out = DataConverter.convertToFrameBlock(min);
+				out = DataConverter.convertToFrameBlock(min, _numThreads);
 				ec.releaseMatrixInput(getInput1().getName());
 			}
 			ec.setFrameOutput(output.getName(), out);
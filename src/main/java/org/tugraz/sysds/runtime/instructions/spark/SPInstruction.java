@@ -19,10 +19,16 @@
 
 package org.tugraz.sysds.runtime.instructions.spark;
 
+import org.tugraz.sysds.api.DMLScript;
+import org.tugraz.sysds.hops.recompile.Recompiler;
+import org.tugraz.sysds.lops.LopProperties.ExecType;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.tugraz.sysds.runtime.instructions.CPInstructionParser;
 import org.tugraz.sysds.runtime.instructions.Instruction;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.instructions.SPInstructionParser;
 import org.tugraz.sysds.runtime.instructions.cp.CPInstruction;
+import org.tugraz.sysds.runtime.instructions.cp.CPInstruction.CPType;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.utils.Statistics;
 
@@ -89,8 +95,48 @@ public abstract class SPInstruction extends Instruction {
 			tmp = SPInstructionParser.parseSingleInstruction(updInst);
 		}
 		
+		//runtime fallback to CP for small inputs (avoid spark job overhead),
+		//where downstream spark consumers lazily parallelize the cp output
+		CPInstruction cptmp = getCPFallbackInstruction(tmp, ec);
+		if( cptmp != null ) {
+			tmp = cptmp;
+			// Corrected lineage trace for replaced instructions
+			if (DMLScript.LINEAGE)
+				ec.traceLineage(tmp);
+		}
+		
 		return tmp;
 	}
+	
+	/**
+	 * Obtains an equivalent CP instruction for elementwise unary and binary
+	 * spark instructions whose matrix inputs are small enough for in-memory
+	 * execution, according to the actual sizes in the symbol table.
+	 * 
+	 * @param inst spark instruction
+	 * @param ec execution context
+	 * @return CP instruction, or null if no fallback applies
+	 */
+	private static CPInstruction getCPFallbackInstruction(Instruction inst, ExecutionContext ec) {
+		if( !(inst instanceof BinarySPInstruction || inst instanceof UnaryMatrixSPInstruction) )
+			return null;
+		ComputationSPInstruction cinst = (ComputationSPInstruction) inst;
+		if( !Recompiler.checkCPFallback(ec, cinst.input1, cinst.input2) )
+			return null;
+		
+		//construct cp instruction string (w/o spark-specific broadcast and vector types)
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(inst.toString());
+		String opcode = (inst instanceof BinaryMatrixBVectorSPInstruction) ?
+			parts[0].substring(3) : parts[0];
+		CPType cptype = CPInstructionParser.String2CPInstructionType.get(opcode);
+		if( inst instanceof BinarySPInstruction && cptype == CPType.Binary )
+			return CPInstructionParser.parseSingleInstruction(cptype, InstructionUtils
+				.concatOperands(ExecType.CP.name(), opcode, parts[1], parts[2], parts[3]));
+		else if( inst instanceof UnaryMatrixSPInstruction && cptype == CPType.Unary )
+			return CPInstructionParser.parseSingleInstruction(cptype, InstructionUtils
+				.concatOperands(ExecType.CP.name(), opcode, parts[1], parts[2]));
+		return null;
+	}
 
 	@Override 
 	public abstract void processInstruction(ExecutionContext ec);
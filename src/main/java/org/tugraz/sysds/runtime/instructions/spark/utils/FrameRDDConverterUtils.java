@@ -730,9 +730,11 @@ public class FrameRDDConverterUtils
 		{
 			ArrayList<Tuple2<Long,FrameBlock>> ret = new ArrayList<>();
 
+			//columnar block assembly: rows are scattered into typed column
+			//arrays, which are wrapped w/o copy by the output frame blocks
 			long ix = -1;
-			FrameBlock fb = null;
-			Object[] tmprow = new Object[(int)_clen];
+			Object[] cols = null;
+			int pos = 0;
 			
 			while( arg0.hasNext() )
 			{
@@ -740,39 +742,85 @@ public class FrameRDDConverterUtils
 				Row row = tmp._1();
 				long rowix = tmp._2()+1;
 				
-				if( fb == null || fb.getNumRows() == _maxRowsPerBlock) {
-					if( fb != null )
-						flushBlocksToList(ix, fb, ret);
+				if( cols == null || pos == _maxRowsPerBlock ) {
+					if( cols != null )
+						flushBlocksToList(ix, cols, pos, ret);
 					ix = rowix;
-					fb = new FrameBlock(_schema, _colnames);
+					cols = allocateColumns(_schema, _maxRowsPerBlock);
+					pos = 0;
 				}
 				
 				//process row data
 				int off = _containsID ? 1 : 0;
-				for(int i=off, pos=0; i<row.size(); i++) {
+				for(int i=off, c=0; i<row.size(); i++) {
 					if( i-off == _colVect ) {
 						Vector vect = (Vector) row.get(i);
 						for( int j=0; j<vect.size(); j++ )
-							tmprow[pos++] = vect.apply(j);
+							((double[])cols[c++])[pos] = vect.apply(j);
 					}
 					else {
-						tmprow[pos] = UtilFunctions.objectToObject(
-							_schema[pos], row.get(i));
-						pos++;
+						setCell(cols[c], _schema[c], pos, row.get(i));
+						c++;
 					}
 				}
-				fb.appendRow(tmprow);
+				pos++;
 			}
 		
 			//flush last blocks
-			flushBlocksToList(ix, fb, ret);
+			if( cols != null )
+				flushBlocksToList(ix, cols, pos, ret);
 		
 			return ret.iterator();
 		}
+		
+		private static Object[] allocateColumns(ValueType[] schema, int len) {
+			Object[] ret = new Object[schema.length];
+			for( int j=0; j<schema.length; j++ ) {
+				switch( schema[j] ) {
+					case STRING:  ret[j] = new String[len]; break;
+					case BOOLEAN: ret[j] = new boolean[len]; break;
+					case INT64:   ret[j] = new long[len]; break;
+					case FP64:    ret[j] = new double[len]; break;
+					default: throw new RuntimeException("Unsupported value type: "+schema[j]);
+				}
+			}
+			return ret;
+		}
+		
+		private static void setCell(Object col, ValueType vt, int pos, Object val) {
+			if( val == null )
+				return; //default null, false, 0
+			//typed quick paths w/o string conversion
+			switch( vt ) {
+				case STRING:  ((String[])col)[pos] = (val instanceof String) ? (String)val :
+					(String)UtilFunctions.objectToObject(vt, val); break;
+				case BOOLEAN: ((boolean[])col)[pos] = (val instanceof Boolean) ? (Boolean)val :
+					(Boolean)UtilFunctions.objectToObject(vt, val); break;
+				case INT64:   ((long[])col)[pos] = (val instanceof Long || val instanceof Integer) ?
+					((Number)val).longValue() : (Long)UtilFunctions.objectToObject(vt, val); break;
+				case FP64:    ((double[])col)[pos] = (val instanceof Double || val instanceof Float) ?
+					((Number)val).doubleValue() : (Double)UtilFunctions.objectToObject(vt, val); break;
+				default: throw new RuntimeException("Unsupported value type: "+vt);
+			}
+		}
 
-		private static void flushBlocksToList( Long ix, FrameBlock fb, ArrayList<Tuple2<Long,FrameBlock>> ret ) {
-			if( fb != null && fb.getNumRows()>=0 )
-				ret.add(new Tuple2<>(ix, fb));
+		private void flushBlocksToList( Long ix, Object[] cols, int len, ArrayList<Tuple2<Long,FrameBlock>> ret ) {
+			//trim columns of the last partial block
+			if( len < _maxRowsPerBlock )
+				for( int j=0; j<cols.length; j++ )
+					cols[j] = trimColumn(cols[j], len);
+			ret.add(new Tuple2<>(ix, DataConverter.convertToFrameBlock(cols, _schema, _colnames)));
+		}
+		
+		private static Object trimColumn(Object col, int len) {
+			if( col instanceof String[] )
+				return Arrays.copyOf((String[])col, len);
+			else if( col instanceof boolean[] )
+				return Arrays.copyOf((boolean[])col, len);
+			else if( col instanceof long[] )
+				return Arrays.copyOf((long[])col, len);
+			else
+				return Arrays.copyOf((double[])col, len);
 		}
 	}
 
@@ -780,6 +828,17 @@ public class FrameRDDConverterUtils
 	{
 		private static final long serialVersionUID = 8093340778966667460L;
 		
+		private static Object getCell(Object col, int pos) {
+			if( col instanceof String[] )
+				return ((String[])col)[pos];
+			else if( col instanceof boolean[] )
+				return ((boolean[])col)[pos];
+			else if( col instanceof long[] )
+				return ((long[])col)[pos];
+			else
+				return ((double[])col)[pos];
+		}
+		
 		@Override
 		public Iterator<Row> call(Tuple2<Long, FrameBlock> arg0)
 			throws Exception 
@@ -788,14 +847,17 @@ public class FrameRDDConverterUtils
 			FrameBlock blk = arg0._2();
 			ArrayList<Row> ret = new ArrayList<>();
 
-			//handle Frame block data
+			//handle Frame block data (columnar access w/o per-cell type dispatch)
 			int rows = blk.getNumRows();
 			int cols = blk.getNumColumns();
+			Object[] coldata = new Object[cols];
+			for( int j=0; j<cols && rows>0; j++ )
+				coldata[j] = blk.getColumnData(j);
 			for( int i=0; i<rows; i++ ) {
 				Object[] row = new Object[cols+1];
 				row[0] = (double)rowIndex++;
 				for( int j=0; j<cols; j++ )
-					row[j+1] = blk.get(i, j);
+					row[j+1] = getCell(coldata[j], i);
 				ret.add(RowFactory.create(row));
 			}
 			
@@ -51,6 +51,7 @@ import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.instructions.spark.data.ReblockBuffer;
 import org.tugraz.sysds.runtime.instructions.spark.data.SerLongWritable;
 import org.tugraz.sysds.runtime.instructions.spark.data.SerText;
@@ -1061,7 +1062,21 @@ public class RDDConverterUtils
 								mb[cix-1].appendValue(pos, j, vect.apply(pix++));
 						}
 					}
-					else { //row
+					else if( !mb[cix-1].isInSparseFormat() ) { //dense row
+						//direct write into the dense block w/o per-cell append
+						Row row = (Row) obj;
+						DenseBlock c = mb[cix-1].getDenseBlock();
+						double[] cvals = c.values(pos);
+						int cpos = c.pos(pos);
+						long lnnz = 0;
+						for( int j=0; j<lclen; j++ ) {
+							double val = UtilFunctions.getDouble(row.get(pix++));
+							cvals[cpos+j] = val;
+							lnnz += (val != 0) ? 1 : 0;
+						}
+						mb[cix-1].setNonZeros(mb[cix-1].getNonZeros() + lnnz);
+					}
+					else { //sparse row
 						Row row = (Row) obj;
 						for( int j=0; j<lclen; j++ )
 							mb[cix-1].appendValue(pos, j, UtilFunctions.getDouble(row.get(pix++)));
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.Serializable;
+
+/**
+ * File format properties of binary columnar frames, which carry an optional
+ * row range and column range (1-based, inclusive) that is pushed into the read
+ * in order to decode only the projected column chunks.
+ */
+public class FileFormatPropertiesColumnar extends FileFormatProperties implements Serializable
+{
+	private static final long serialVersionUID = 5341807524715473180L;
+	
+	private final long _rl;
+	private final long _ru;
+	private final long _cl;
+	private final long _cu;
+	
+	public FileFormatPropertiesColumnar() {
+		this(-1, -1, -1, -1);
+	}
+	
+	public FileFormatPropertiesColumnar(long rl, long ru, long cl, long cu) {
+		_rl = rl;
+		_ru = ru;
+		_cl = cl;
+		_cu = cu;
+	}
+	
+	public boolean hasRowRange() {
+		return _rl > 0 && _ru >= _rl;
+	}
+	
+	public boolean hasColumnRange() {
+		return _cl > 0 && _cu >= _cl;
+	}
+	
+	public boolean hasProjection() {
+		return hasRowRange() || hasColumnRange();
+	}
+	
+	public long getRowLower() {
+		return _rl;
+	}
+	
+	public long getRowUpper() {
+		return _ru;
+	}
+	
+	public long getColLower() {
+		return _cl;
+	}
+	
+	public long getColUpper() {
+		return _cu;
+	}
+}
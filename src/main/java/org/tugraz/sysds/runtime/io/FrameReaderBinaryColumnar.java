@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PositionedReadable;
+import org.apache.hadoop.fs.Seekable;
+import org.apache.hadoop.mapred.JobConf;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Single-threaded frame reader for the binary columnar format written by
+ * {@link FrameWriterBinaryColumnar}. Besides full reads, the reader supports
+ * column projection and row ranges, where only the column chunks of projected
+ * columns that overlap the requested row range are read and decoded.
+ */
+public class FrameReaderBinaryColumnar extends FrameReader
+{
+	private final FileFormatPropertiesColumnar _props;
+	
+	public FrameReaderBinaryColumnar() {
+		this(null);
+	}
+	
+	public FrameReaderBinaryColumnar(FileFormatPropertiesColumnar props) {
+		_props = props;
+	}
+	
+	@Override
+	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//apply pushed-down projection (1-based) if available, otherwise read all
+		int[] cols = getProjectedColumns();
+		if( _props != null && _props.hasRowRange() )
+			return readFrameFromHDFS(fname, cols, _props.getRowLower()-1, _props.getRowUpper()-1);
+		return readFrameFromHDFS(fname, cols, 0, (rlen > 0) ? rlen-1 : Long.MAX_VALUE);
+	}
+
+	/**
+	 * Reads a column projection of a row range from a binary columnar frame.
+	 *
+	 * @param fname file name
+	 * @param cols 0-based column indexes, or null for all columns
+	 * @param rl 0-based lower row index (inclusive)
+	 * @param ru 0-based upper row index (inclusive)
+	 * @return frame block of (ru-rl+1) rows and the projected columns
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock readFrameFromHDFS(String fname, int[] cols, long rl, long ru)
+		throws IOException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		FSDataInputStream in = fs.open(path);
+		try {
+			return readColumnarFrame(in, fs.getFileStatus(path).getLen(), cols, rl, ru);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+
+	/**
+	 * Reads the per-chunk min/max statistics of a column, which allows
+	 * callers to determine row ranges that can be skipped for range predicates.
+	 *
+	 * @param fname file name
+	 * @param col 0-based column index
+	 * @return array of [min, max] per row chunk (NaN for string columns)
+	 * @throws IOException if IOException occurs
+	 */
+	public double[][] readColumnStatistics(String fname, int col)
+		throws IOException
+	{
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path);
+
+		FSDataInputStream in = fs.open(path);
+		try {
+			ColumnarMetaData meta = readMetaData(in, fs.getFileStatus(path).getLen());
+			int nchunk = meta.offsets.length / Math.max(meta.ncol, 1);
+			double[][] ret = new double[nchunk][];
+			for( int k=0; k<nchunk; k++ )
+				ret[k] = new double[]{meta.mins[k*meta.ncol+col], meta.maxs[k*meta.ncol+col]};
+			return ret;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//buffer the entire stream because the chunk index is stored in the footer
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		byte[] buff = new byte[64 * 1024];
+		for( int len = is.read(buff); len >= 0; len = is.read(buff) )
+			bos.write(buff, 0, len);
+		byte[] data = bos.toByteArray();
+
+		//decode through the same seekable path as file reads
+		int[] cols = getProjectedColumns();
+		long rl = (_props != null && _props.hasRowRange()) ? _props.getRowLower()-1 : 0;
+		long ru = (_props != null && _props.hasRowRange()) ? _props.getRowUpper()-1 :
+			(rlen > 0) ? rlen-1 : Long.MAX_VALUE;
+		FSDataInputStream in = new FSDataInputStream(new SeekableByteArrayInputStream(data));
+		try {
+			return readColumnarFrame(in, data.length, cols, rl, ru);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+
+	private int[] getProjectedColumns() {
+		return (_props != null && _props.hasColumnRange()) ? UtilFunctions.getSeqArray(
+			(int)_props.getColLower()-1, (int)_props.getColUpper()-1, 1) : null;
+	}
+
+	private static FrameBlock readColumnarFrame(FSDataInputStream in, long flen, int[] cols, long rl, long ru)
+		throws IOException
+	{
+		ColumnarMetaData meta = readMetaData(in, flen);
+
+		//check and prepare projection and row range
+		int[] lcols = (cols != null) ? cols : UtilFunctions.getSeqArray(0, meta.ncol-1, 1);
+		int lrl = (int) Math.max(rl, 0);
+		int lru = (int) Math.min(ru, meta.nrow-1);
+		for( int c : lcols )
+			if( c < 0 || c >= meta.ncol )
+				throw new IOException("Column index "+c+" out of range [0,"+meta.ncol+").");
+		ValueType[] lschema = new ValueType[lcols.length];
+		String[] lnames = new String[lcols.length];
+		for( int j=0; j<lcols.length; j++ ) {
+			lschema[j] = meta.schema[lcols[j]];
+			lnames[j] = meta.names[lcols[j]];
+		}
+
+		//read and decode overlapping column chunks of projected columns
+		int len = Math.max(lru - lrl + 1, 0);
+		Object[] data = new Object[lcols.length];
+		for( int j=0; j<lcols.length; j++ )
+			data[j] = allocateColumn(lschema[j], len);
+		if( len > 0 ) {
+			int kl = lrl / meta.rowsPerChunk, ku = lru / meta.rowsPerChunk;
+			for( int k=kl; k<=ku; k++ ) {
+				int crl = k * meta.rowsPerChunk;
+				int cru = (int) Math.min(crl + meta.rowsPerChunk, meta.nrow);
+				for( int j=0; j<lcols.length; j++ ) {
+					int ix = k * meta.ncol + lcols[j];
+					byte[] buff = new byte[meta.lengths[ix]];
+					in.readFully(meta.offsets[ix], buff);
+					DataInputStream dis = new DataInputStream(new ByteArrayInputStream(buff));
+					readColumnChunk(dis, lschema[j], cru-crl, data[j],
+						Math.max(lrl, crl)-crl, Math.min(lru+1, cru)-crl, Math.max(crl-lrl, 0));
+				}
+			}
+		}
+
+		FrameBlock ret = new FrameBlock(lschema, lnames);
+		ret.setColumnData(data);
+		return ret;
+	}
+
+	private static ColumnarMetaData readMetaData(FSDataInputStream in, long flen)
+		throws IOException
+	{
+		ColumnarMetaData meta = new ColumnarMetaData();
+
+		//read header
+		in.seek(0);
+		if( in.readInt() != FrameWriterBinaryColumnar.MAGIC )
+			throw new IOException("Invalid binary columnar frame file (wrong magic number).");
+		int version = in.readInt();
+		if( version != FrameWriterBinaryColumnar.VERSION )
+			throw new IOException("Unsupported binary columnar frame version: "+version);
+		meta.nrow = in.readLong();
+		meta.ncol = in.readInt();
+		meta.rowsPerChunk = in.readInt();
+		meta.schema = new ValueType[meta.ncol];
+		meta.names = new String[meta.ncol];
+		for( int j=0; j<meta.ncol; j++ ) {
+			meta.schema[j] = ValueType.values()[in.readByte()];
+			meta.names[j] = readString(in);
+		}
+
+		//read footer (chunk index)
+		in.seek(flen - 8);
+		long foffset = in.readLong();
+		int nentries = (int) ((flen - 8 - foffset) / 28);
+		meta.offsets = new long[nentries];
+		meta.lengths = new int[nentries];
+		meta.mins = new double[nentries];
+		meta.maxs = new double[nentries];
+		in.seek(foffset);
+		for( int ix=0; ix<nentries; ix++ ) {
+			meta.offsets[ix] = in.readLong();
+			meta.lengths[ix] = in.readInt();
+			meta.mins[ix] = in.readDouble();
+			meta.maxs[ix] = in.readDouble();
+		}
+		return meta;
+	}
+
+	private static Object allocateColumn(ValueType vt, int len) {
+		switch( vt ) {
+			case STRING:  return new String[len];
+			case BOOLEAN: return new boolean[len];
+			case INT64:   return new long[len];
+			case FP64:    return new double[len];
+			default: throw new DMLRuntimeException("Unsupported value type: "+vt);
+		}
+	}
+
+	/**
+	 * Decodes a column chunk of n rows and copies its rows [rl,ru)
+	 * into the output column starting at position pos.
+	 */
+	private static void readColumnChunk(DataInput in, ValueType vt, int n, Object out, int rl, int ru, int pos)
+		throws IOException
+	{
+		switch( vt ) {
+			case STRING: {
+				String[] c = (String[]) out;
+				byte enc = in.readByte();
+				if( enc == FrameWriterBinaryColumnar.ENC_PLAIN ) {
+					for( int i=0; i<ru; i++ ) {
+						String s = readString(in);
+						if( i >= rl )
+							c[pos+i-rl] = s;
+					}
+				}
+				else {
+					String[] dict = new String[in.readInt()];
+					for( int i=0; i<dict.length; i++ )
+						dict[i] = readString(in);
+					for( int i=0; i<ru; i++ ) {
+						int code = (dict.length < Byte.MAX_VALUE) ? in.readByte() :
+							(dict.length < Short.MAX_VALUE) ? in.readShort() : in.readInt();
+						if( i >= rl )
+							c[pos+i-rl] = (code >= 0) ? dict[code] : null;
+					}
+				}
+				break;
+			}
+			case BOOLEAN: {
+				boolean[] c = (boolean[]) out;
+				long[] words = new long[(n + 63) / 64];
+				for( int i=0; i<words.length; i++ )
+					words[i] = in.readLong();
+				for( int i=rl; i<ru; i++ )
+					c[pos+i-rl] = (words[i / 64] & (1L << (i % 64))) != 0;
+				break;
+			}
+			case INT64: {
+				long[] c = (long[]) out;
+				long prev = 0;
+				for( int i=0; i<ru; i++ ) {
+					long v = readVarLong(in);
+					prev += (v >>> 1) ^ -(v & 1);
+					if( i >= rl )
+						c[pos+i-rl] = prev;
+				}
+				break;
+			}
+			case FP64: {
+				double[] c = (double[]) out;
+				in.skipBytes(8 * rl);
+				for( int i=rl; i<ru; i++ )
+					c[pos+i-rl] = in.readDouble();
+				break;
+			}
+			default:
+				throw new DMLRuntimeException("Unsupported value type: "+vt);
+		}
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		int len = in.readInt();
+		if( len < 0 )
+			return null;
+		byte[] b = new byte[len];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	private static long readVarLong(DataInput in) throws IOException {
+		long ret = 0;
+		for( int shift=0; ; shift+=7 ) {
+			byte b = in.readByte();
+			ret |= (long)(b & 0x7F) << shift;
+			if( (b & 0x80) == 0 )
+				return ret;
+		}
+	}
+
+	private static class ColumnarMetaData {
+		private long nrow;
+		private int ncol;
+		private int rowsPerChunk;
+		private ValueType[] schema;
+		private String[] names;
+		private long[] offsets;
+		private int[] lengths;
+		private double[] mins;
+		private double[] maxs;
+	}
+
+	/**
+	 * Seekable in-memory input stream, which allows decoding buffered
+	 * streams through the same positioned reads as files.
+	 */
+	private static class SeekableByteArrayInputStream extends ByteArrayInputStream implements Seekable, PositionedReadable
+	{
+		public SeekableByteArrayInputStream(byte[] buf) {
+			super(buf);
+		}
+
+		@Override
+		public void seek(long pos) throws IOException {
+			if( pos < 0 || pos > count )
+				throw new IOException("Invalid seek position: "+pos);
+			this.pos = (int) pos;
+		}
+
+		@Override
+		public long getPos() {
+			return pos;
+		}
+
+		@Override
+		public boolean seekToNewSource(long targetPos) {
+			return false;
+		}
+
+		@Override
+		public int read(long position, byte[] buffer, int offset, int length) {
+			if( position >= count )
+				return -1;
+			int len = (int) Math.min(length, count - position);
+			System.arraycopy(buf, (int) position, buffer, offset, len);
+			return len;
+		}
+
+		@Override
+		public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+			if( position < 0 || position + length > count )
+				throw new EOFException("Reached end of buffer at position "+position+".");
+			System.arraycopy(buf, (int) position, buffer, offset, length);
+		}
+
+		@Override
+		public void readFully(long position, byte[] buffer) throws IOException {
+			readFully(position, buffer, 0, buffer.length);
+		}
+	}
+}
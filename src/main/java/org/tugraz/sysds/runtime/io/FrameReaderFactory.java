@@ -56,6 +56,11 @@ public class FrameReaderFactory
 			else
 				reader = new FrameReaderBinaryBlock();
 		}
+		else if( iinfo == InputInfo.BinaryColumnarInputInfo ) {
+			if( props!=null && !(props instanceof FileFormatPropertiesColumnar) )
+				throw new DMLRuntimeException("Wrong type of file format properties for columnar reader.");
+			reader = new FrameReaderBinaryColumnar( (FileFormatPropertiesColumnar)props );
+		}
 		else {
 			throw new DMLRuntimeException("Failed to create frame reader for unknown input info: "
 				+ InputInfo.inputInfoToString(iinfo));
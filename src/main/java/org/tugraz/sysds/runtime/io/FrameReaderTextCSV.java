@@ -21,6 +21,7 @@ package org.tugraz.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -83,6 +84,11 @@ public class FrameReaderTextCSV extends FrameReader
 		//core read (sequential/parallel) 
 		readCSVFrameFromHDFS(path, job, fs, ret, lschema, lnames, rlen, clen);
 		
+		//dictionary-encode low-cardinality string columns, and
+		//byte-encode all other string columns (if not already)
+		ret.dictEncodeStringColumns();
+		ret.byteEncodeStringColumns();
+		
 		return ret;
 	}
 	
@@ -95,12 +101,16 @@ public class FrameReaderTextCSV extends FrameReader
 		ValueType[] lschema = createOutputSchema(schema, clen);
 		String[] lnames = createOutputNames(names, clen);
 		FrameBlock ret = createOutputFrameBlock(lschema, lnames, rlen);
+		ret.byteEncodeStringColumns();
 	
 		//core read (sequential/parallel) 
 		InputStreamInputFormat informat = new InputStreamInputFormat(is);
 		InputSplit split = informat.getSplits(null, 1)[0];
 		readCSVFrameFromInputSplit(split, informat, null, ret, schema, names, rlen, clen, 0, true);
 		
+		//dictionary-encode low-cardinality string columns
+		ret.dictEncodeStringColumns();
+		
 		return ret;
 	}
 
@@ -112,6 +122,9 @@ public class FrameReaderTextCSV extends FrameReader
 		informat.configure(job);
 		InputSplit[] splits = informat.getSplits(job, 1);
 		splits = IOUtilFunctions.sortInputSplits(splits);
+		
+		//sequential read directly into byte-encoded string columns
+		dest.byteEncodeStringColumns();
 		for( int i=0, rpos=0; i<splits.length; i++ )
 			rpos = readCSVFrameFromInputSplit(splits[i], informat,
 				job, dest, schema, names, rlen, clen, rpos, i==0);
@@ -127,6 +140,12 @@ public class FrameReaderTextCSV extends FrameReader
 		String sfillValue = String.valueOf(_props.getFillValue());
 		String delim = _props.getDelim();
 		
+		//fast path for byte-encoded string columns and single-byte delimiters
+		boolean byteCols = false;
+		for( int j=0; j<dest.getNumColumns(); j++ )
+			byteCols |= dest.isColumnByteEncoded(j);
+		int delimByte = (byteCols && delim.length()==1 && delim.charAt(0) < 128) ? delim.charAt(0) : -1;
+		
 		//create record reader
 		RecordReader<LongWritable, Text> reader = informat.getRecordReader(split, job, Reporter.NULL);
 		LongWritable key = new LongWritable();
@@ -146,6 +165,15 @@ public class FrameReaderTextCSV extends FrameReader
 		{
 			while( reader.next(key, value) ) //foreach line
 			{
+				if( delimByte >= 0 && isPlainCSVLine(value) ) {
+					emptyValuesFound = readCSVLineBytes(value, dest, schema, row,
+						(byte)delimByte, isFill, dfillValue, sfillValue, clen);
+					if( emptyValuesFound )
+						IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value.toString().trim(), isFill, true);
+					row++;
+					continue;
+				}
+				
 				String cellStr = value.toString().trim();
 				emptyValuesFound = false; col = 0;
 				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
@@ -188,6 +216,76 @@ public class FrameReaderTextCSV extends FrameReader
 		return row;
 	}
 
+	/**
+	 * Indicates if a line can be split on the raw bytes, i.e., if it contains 
+	 * no quotes and is no meta data line.
+	 * 
+	 * @param value line of text
+	 * @return true if a plain line
+	 */
+	private static boolean isPlainCSVLine(Text value) {
+		byte[] buf = value.getBytes();
+		int len = value.getLength();
+		int pos = 0;
+		while( pos < len && (buf[pos]&0xff) <= ' ' )
+			pos++;
+		if( pos < len && buf[pos] == '#' )
+			return false;
+		for( int i=pos; i<len; i++ )
+			if( buf[i] == '"' )
+				return false;
+		return true;
+	}
+	
+	/**
+	 * Splits a plain line on the UTF-8 bytes and sets the trimmed cells, where 
+	 * values of byte-encoded string columns are copied w/o intermediate strings.
+	 * Trimming and splitting are consistent with the string-based parsing.
+	 * 
+	 * @return true if empty values found
+	 */
+	private static boolean readCSVLineBytes(Text value, FrameBlock dest, ValueType[] schema, int row, 
+		byte delim, boolean isFill, double dfillValue, String sfillValue, long clen) throws IOException
+	{
+		byte[] buf = value.getBytes();
+		int from = 0, end = value.getLength();
+		while( from < end && (buf[from]&0xff) <= ' ' )
+			from++;
+		while( end > from && (buf[end-1]&0xff) <= ' ' )
+			end--;
+		
+		//check number of columns before any update
+		int ncol = 1;
+		for( int i=from; i<end; i++ )
+			ncol += (buf[i] == delim) ? 1 : 0;
+		if( ncol != clen )
+			IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", value.toString().trim(), ncol, clen);
+		
+		boolean emptyValuesFound = false;
+		for( int col=0; col<ncol; col++ ) {
+			int to = from;
+			while( to < end && buf[to] != delim )
+				to++;
+			int cl = from, cu = to;
+			while( cl < cu && (buf[cl]&0xff) <= ' ' )
+				cl++;
+			while( cu > cl && (buf[cu-1]&0xff) <= ' ' )
+				cu--;
+			if( cl == cu ) {
+				if( isFill && dfillValue!=0 )
+					dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+				emptyValuesFound = true;
+			}
+			else if( dest.isColumnByteEncoded(col) )
+				dest.setBytes(row, col, buf, cl, cu-cl);
+			else
+				dest.set(row, col, UtilFunctions.stringToObject(schema[col],
+					new String(buf, cl, cu-cl, StandardCharsets.UTF_8)));
+			from = to + 1;
+		}
+		return emptyValuesFound;
+	}
+
 	protected Pair<Integer,Integer> computeCSVSize( Path path, JobConf job, FileSystem fs) 
 		throws IOException 
 	{	
@@ -83,22 +83,38 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 				offset += count.get();
 			}
 			
-			//read individual splits
+			//read individual splits into partial blocks w/ byte-encoded string columns
 			ArrayList<ReadRowsTask> tasks2 = new ArrayList<>();
-			for( int i=0; i<splits.length; i++ )
-				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest, offsets.get(i).intValue(), i==0));
-			List<Future<Object>> rret = pool.invokeAll(tasks2);
+			for( int i=0; i<splits.length; i++ ) {
+				long nrow = ((i+1 < splits.length) ? offsets.get(i+1) : offset) - offsets.get(i);
+				tasks2.add( new ReadRowsTask(splits[i], informat, job, dest, (int)nrow, i==0));
+			}
+			List<Future<FrameBlock>> rret = pool.invokeAll(tasks2);
 			pool.shutdown();
 			
-			//error handling
-			for( Future<Object> read : rret )
-				read.get();
+			//merge partial blocks (incl error handling), where string columns
+			//are concatenated by their pages instead of per-value copies
+			dest.byteEncodeStringColumns();
+			for( int i=0; i<rret.size(); i++ ) {
+				FrameBlock part = rret.get(i).get();
+				dest.moveRows(part, offsets.get(i).intValue());
+				mergeMetadata(part, dest, i==0 && _props.hasHeader());
+			}
 		} 
 		catch (Exception e) {
 			throw new IOException("Failed parallel read of text csv input.", e);
 		}
 	}
 
+	private static void mergeMetadata(FrameBlock part, FrameBlock dest, boolean header) {
+		//column names of header and meta data lines (missing values / num distinct)
+		if( header )
+			dest.setColumnNames(part.getColumnNames());
+		for( int j=0; j<dest.getNumColumns(); j++ )
+			if( !part.isColumnMetadataDefault(j) )
+				dest.setColumnMetadata(j, part.getColumnMetadata(j));
+	}
+
 	@Override
 	protected Pair<Integer,Integer> computeCSVSize( Path path, JobConf job, FileSystem fs) 
 		throws IOException 
@@ -175,34 +191,37 @@ public class FrameReaderTextCSVParallel extends FrameReaderTextCSV
 		}
 	}
 
-	private class ReadRowsTask implements Callable<Object> 
+	private class ReadRowsTask implements Callable<FrameBlock> 
 	{
 		private InputSplit _split = null;
 		private TextInputFormat _informat = null;
 		private JobConf _job = null;
 		private FrameBlock _dest = null;
-		private int _offset = -1;
+		private int _nrow = -1;
 		private boolean _isFirstSplit = false;
 		
 		
 		public ReadRowsTask(InputSplit split, TextInputFormat informat, JobConf job, 
-				FrameBlock dest, int offset, boolean first) 
+				FrameBlock dest, int nrow, boolean first) 
 		{
 			_split = split;
 			_informat = informat;
 			_job = job;
 			_dest = dest;
-			_offset = offset;
+			_nrow = nrow;
 			_isFirstSplit = first;
 		}
 
 		@Override
-		public Object call() 
+		public FrameBlock call() 
 			throws Exception 
 		{
-			readCSVFrameFromInputSplit(_split, _informat, _job, _dest, _dest.getSchema(), 
-					_dest.getColumnNames(), _dest.getNumRows(), _dest.getNumColumns(), _offset, _isFirstSplit);
-			return null;
+			//read split directly into byte-encoded string columns of a partial block
+			FrameBlock part = createOutputFrameBlock(_dest.getSchema(), _dest.getColumnNames(), _nrow);
+			part.byteEncodeStringColumns();
+			readCSVFrameFromInputSplit(_split, _informat, _job, part, part.getSchema(), 
+					part.getColumnNames(), _nrow, _dest.getNumColumns(), 0, _isFirstSplit);
+			return part;
 		}
 	}
 }
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+
+/**
+ * Single-threaded frame writer for a binary columnar format. The frame
+ * is split into row chunks, and every chunk stores its columns separately
+ * with type-specific encodings: dictionary (or plain) encoding for strings,
+ * bit-packing for booleans, delta encoding with zig-zag varints for longs,
+ * and plain encoding for doubles. A footer with offsets and min/max statistics
+ * per column chunk allows readers to project columns and skip row ranges.
+ *
+ * File layout: header (magic, version, rows, cols, rows per chunk, schema and
+ * column names), column chunks in row-chunk-major order, footer (chunk index),
+ * and the footer offset as last 8 bytes.
+ */
+public class FrameWriterBinaryColumnar extends FrameWriter
+{
+	protected static final int MAGIC = 0x53444346; //SDCF
+	protected static final int VERSION = 1;
+	protected static final int DEFAULT_ROWS_PER_CHUNK = 64 * 1024;
+
+	//string chunk encodings
+	protected static final byte ENC_PLAIN = 0;
+	protected static final byte ENC_DICT = 1;
+
+	private final int _rowsPerChunk;
+
+	public FrameWriterBinaryColumnar() {
+		this(DEFAULT_ROWS_PER_CHUNK);
+	}
+
+	public FrameWriterBinaryColumnar(int rowsPerChunk) {
+		if( rowsPerChunk <= 0 )
+			throw new DMLRuntimeException("Invalid number of rows per chunk: "+rowsPerChunk);
+		_rowsPerChunk = rowsPerChunk;
+	}
+
+	@Override
+	public final void writeFrameToHDFS( FrameBlock src, String fname, long rlen, long clen )
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+
+		//bound check for src block
+		if( src.getNumRows() > rlen || src.getNumColumns() > clen ) {
+			throw new IOException("Frame block [1:"+src.getNumRows()+",1:"+src.getNumColumns()+"] " +
+				"out of overall frame range [1:"+rlen+",1:"+clen+"].");
+		}
+
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		writeColumnarFrameToFile(path, fs, src);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	private void writeColumnarFrameToFile(Path path, FileSystem fs, FrameBlock src)
+		throws IOException
+	{
+		int nrow = src.getNumRows();
+		int ncol = src.getNumColumns();
+		int nchunk = Math.max((nrow + _rowsPerChunk - 1) / _rowsPerChunk, 1);
+		ValueType[] schema = src.getSchema();
+		String[] names = src.getColumnNames();
+
+		long[] offsets = new long[nchunk * ncol];
+		int[] lengths = new int[nchunk * ncol];
+		double[] mins = new double[nchunk * ncol];
+		double[] maxs = new double[nchunk * ncol];
+
+		FSDataOutputStream out = fs.create(path, true);
+		try {
+			//write header
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			DataOutputStream dos = new DataOutputStream(bos);
+			dos.writeInt(MAGIC);
+			dos.writeInt(VERSION);
+			dos.writeLong(nrow);
+			dos.writeInt(ncol);
+			dos.writeInt(_rowsPerChunk);
+			for( int j=0; j<ncol; j++ ) {
+				dos.writeByte(schema[j].ordinal());
+				writeString(dos, names[j]);
+			}
+			dos.flush();
+			bos.writeTo(out);
+			long pos = bos.size();
+
+			//write column chunks (encoded in memory for exact offsets),
+			//where column data is obtained once (decoded if dictionary-encoded)
+			Object[] cols = new Object[ncol];
+			for( int j=0; j<ncol && nrow>0; j++ )
+				cols[j] = src.getColumnData(j);
+			for( int k=0; k<nchunk; k++ ) {
+				int rl = k * _rowsPerChunk;
+				int ru = Math.min(rl + _rowsPerChunk, nrow);
+				for( int j=0; j<ncol; j++ ) {
+					int ix = k * ncol + j;
+					bos.reset();
+					double[] stats = writeColumnChunk(dos, schema[j], cols[j], rl, ru);
+					dos.flush();
+					bos.writeTo(out);
+					offsets[ix] = pos;
+					lengths[ix] = bos.size();
+					mins[ix] = stats[0];
+					maxs[ix] = stats[1];
+					pos += bos.size();
+				}
+			}
+
+			//write footer (chunk index) and footer offset
+			bos.reset();
+			for( int ix=0; ix<offsets.length; ix++ ) {
+				dos.writeLong(offsets[ix]);
+				dos.writeInt(lengths[ix]);
+				dos.writeDouble(mins[ix]);
+				dos.writeDouble(maxs[ix]);
+			}
+			dos.writeLong(pos);
+			dos.flush();
+			bos.writeTo(out);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+
+	/**
+	 * Encodes the row range [rl,ru) of a column and returns its min/max
+	 * statistics (NaN for strings and empty chunks).
+	 */
+	private static double[] writeColumnChunk(DataOutput out, ValueType vt, Object col, int rl, int ru)
+		throws IOException
+	{
+		double min = Double.NaN, max = Double.NaN;
+		switch( vt ) {
+			case STRING:
+				writeStringChunk(out, (String[])col, rl, ru);
+				break;
+			case BOOLEAN: {
+				boolean[] data = (boolean[]) col;
+				int len = ru - rl;
+				long[] words = new long[(len + 63) / 64];
+				for( int i=0; i<len; i++ )
+					if( data[rl+i] )
+						words[i / 64] |= 1L << (i % 64);
+				for( long w : words )
+					out.writeLong(w);
+				for( int i=rl; i<ru; i++ ) {
+					double v = data[i] ? 1 : 0;
+					min = (i==rl) ? v : Math.min(min, v);
+					max = (i==rl) ? v : Math.max(max, v);
+				}
+				break;
+			}
+			case INT64: {
+				long[] data = (long[]) col;
+				long prev = 0;
+				for( int i=rl; i<ru; i++ ) {
+					writeVarLong(out, zigzag(data[i] - prev));
+					prev = data[i];
+					min = (i==rl) ? data[i] : Math.min(min, data[i]);
+					max = (i==rl) ? data[i] : Math.max(max, data[i]);
+				}
+				break;
+			}
+			case FP64: {
+				double[] data = (double[]) col;
+				for( int i=rl; i<ru; i++ ) {
+					out.writeDouble(data[i]);
+					min = (i==rl) ? data[i] : Math.min(min, data[i]);
+					max = (i==rl) ? data[i] : Math.max(max, data[i]);
+				}
+				break;
+			}
+			default:
+				throw new DMLRuntimeException("Unsupported value type: "+vt);
+		}
+		return new double[]{min, max};
+	}
+
+	private static void writeStringChunk(DataOutput out, String[] data, int rl, int ru)
+		throws IOException
+	{
+		//build dictionary, but fall back to plain for high cardinality
+		int maxDict = (ru - rl) / 2;
+		HashMap<String,Integer> dict = new HashMap<>();
+		for( int i=rl; i<ru && dict.size()<=maxDict; i++ )
+			if( data[i] != null && !dict.containsKey(data[i]) )
+				dict.put(data[i], dict.size());
+
+		if( dict.size() > maxDict ) {
+			out.writeByte(ENC_PLAIN);
+			for( int i=rl; i<ru; i++ )
+				writeString(out, data[i]);
+			return;
+		}
+
+		//dictionary encoding with codes of minimal width (-1 for nulls)
+		out.writeByte(ENC_DICT);
+		String[] values = new String[dict.size()];
+		dict.forEach((k,v) -> values[v] = k);
+		out.writeInt(values.length);
+		for( String s : values )
+			writeString(out, s);
+		for( int i=rl; i<ru; i++ ) {
+			int code = (data[i] != null) ? dict.get(data[i]) : -1;
+			if( values.length < Byte.MAX_VALUE )
+				out.writeByte(code);
+			else if( values.length < Short.MAX_VALUE )
+				out.writeShort(code);
+			else
+				out.writeInt(code);
+		}
+	}
+
+	protected static void writeString(DataOutput out, String s) throws IOException {
+		if( s == null ) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	protected static void writeVarLong(DataOutput out, long v) throws IOException {
+		while( (v & ~0x7FL) != 0 ) {
+			out.writeByte((int)((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.writeByte((int)v);
+	}
+
+	protected static long zigzag(long v) {
+		return (v << 1) ^ (v >> 63);
+	}
+}
@@ -54,6 +54,9 @@ public class FrameWriterFactory
 			else
 				writer = new FrameWriterBinaryBlock();
 		}
+		else if( oinfo == OutputInfo.BinaryColumnarOutputInfo ) {
+			writer = new FrameWriterBinaryColumnar();
+		}
 		else {
 			throw new DMLRuntimeException("Failed to create frame writer for unknown output info: "
 		                                   + OutputInfo.outputInfoToString(oinfo));
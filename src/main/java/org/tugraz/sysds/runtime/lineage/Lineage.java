@@ -97,6 +97,7 @@ public class Lineage {
 	
 	public static void resetInternalState() {
 		LineageItem.resetIDSequence();
+		LineageItem.resetInternedItems();
 		LineageCache.resetCache();
 	}
 	
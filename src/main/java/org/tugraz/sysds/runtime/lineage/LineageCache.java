@@ -64,8 +64,8 @@ public class LineageCache {
 				//try to reuse full or partial intermediates
 				if (LineageCacheConfig.getCacheType().isFullReuse())
 					reuse = fullReuse(item, (ComputationCPInstruction)inst, ec); 
-				if (LineageCacheConfig.getCacheType().isPartialReuse())
-					reuse |= LineageRewriteReuse.executeRewrites(inst, ec);
+				if (!reuse && LineageCacheConfig.getCacheType().isPartialReuse())
+					reuse = LineageRewriteReuse.executeRewrites(inst, ec);
 
 				//create a placeholder if no reuse to avoid redundancy
 				//(e.g., concurrent threads that try to start the computation)
@@ -177,7 +177,9 @@ public class LineageCache {
 				|| (inst.getOpcode().equalsIgnoreCase("*") &&
 					inst instanceof BinaryMatrixMatrixCPInstruction) //TODO support scalar
 				|| inst.getOpcode().equalsIgnoreCase("rightIndex")
-				|| inst.getOpcode().equalsIgnoreCase("groupedagg");
+				|| inst.getOpcode().equalsIgnoreCase("groupedagg")
+				|| inst.getOpcode().equalsIgnoreCase("uack+")
+				|| inst.getOpcode().equalsIgnoreCase("uark+");
 	}
 	
 	//---------------- CACHE SPACE MANAGEMENT METHODS -----------------
@@ -227,7 +229,7 @@ public class LineageCache {
 		return loadtime+writetime;
 	}
 	
-	private static double getRecomputeEstimate(Instruction inst, ExecutionContext ec) {
+	static double getRecomputeEstimate(Instruction inst, ExecutionContext ec) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		double nflops = 0;
 		CPType cptype = CPInstructionParser.String2CPInstructionType.get(inst.getOpcode());
@@ -286,6 +288,17 @@ public class LineageCache {
 				break;
 			}
 			
+			case AggregateUnary:  //colSums, rowSums
+			{
+				MatrixObject mo1 = ec.getMatrixObject(((ComputationCPInstruction)inst).input1);
+				long r1 = mo1.getNumRows();
+				long c1 = mo1.getNumColumns();
+				double s1 = OptimizerUtils.getSparsity(r1, c1, mo1.getNnz());
+				//kahan addition per non-zero
+				nflops = 4 * r1 * c1 * s1;
+				break;
+			}
+			
 			case MatrixIndexing:
 			{
 				MatrixObject mo1 = ec.getMatrixObject(((ComputationCPInstruction)inst).input1);
@@ -16,6 +16,14 @@
 
 package org.tugraz.sysds.runtime.lineage;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.parfor.util.IDSequence;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -23,6 +31,13 @@ import org.tugraz.sysds.runtime.util.UtilFunctions;
 public class LineageItem {
 	private static IDSequence _idSeq = new IDSequence();
 	
+	//interned opcodes and literals (shared instances, compared by reference)
+	private static final int MAX_INTERNED_STRINGS = 64 * 1024;
+	private static final Map<String, String> _strings = new ConcurrentHashMap<>();
+	//hash-consed lineage items (weak keys to allow garbage collection)
+	private static final Map<InternKey, InternKey> _items = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<LineageItem> _itemsQueue = new ReferenceQueue<>();
+	
 	private final long _id;
 	private final String _opcode;
 	private final String _name;
@@ -52,9 +67,10 @@ public class LineageItem {
 	
 	public LineageItem(long id, String name, String data, String opcode, LineageItem[] inputs) {
 		_id = id;
-		_opcode = opcode;
+		_opcode = internString(opcode);
 		_name = name;
-		_data = data;
+		_data = (inputs == null || inputs.length == 0) && _opcode.isEmpty() ?
+			internString(data) : data;
 		_inputs = inputs;
 	}
 	
@@ -128,54 +144,152 @@ public class LineageItem {
 	
 	@Override
 	public boolean equals(Object o) {
+		if (this == o)
+			return true;
 		if (!(o instanceof LineageItem))
 			return false;
 		
-		resetVisitStatus();
-		boolean ret = equalsLI((LineageItem) o);
-		resetVisitStatus();
-		return ret;
+		//iterative comparison of both DAGs w/o visit status,
+		//memoizing already compared pairs of items
+		LineageItem that = (LineageItem) o;
+		IdentityHashMap<LineageItem, LineageItem> memo = new IdentityHashMap<>();
+		ArrayDeque<LineageItem> stack = new ArrayDeque<>();
+		stack.push(this);
+		stack.push(that);
+		while (!stack.isEmpty()) {
+			LineageItem li2 = stack.pop();
+			LineageItem li1 = stack.pop();
+			if (li1 == li2 || memo.get(li1) == li2)
+				continue;
+			if (li1.hashCode() != li2.hashCode() || !li1.equalsShallow(li2))
+				return false;
+			memo.put(li1, li2);
+			if (!li1.isLeaf())
+				for (int i = 0; i < li1._inputs.length; i++) {
+					stack.push(li1._inputs[i]);
+					stack.push(li2._inputs[i]);
+				}
+		}
+		return true;
 	}
 	
-	private boolean equalsLI(LineageItem that) {
-		if (isVisited() || this == that)
-			return true;
-		
-		boolean ret = _opcode.equals(that._opcode);
+	private boolean equalsShallow(LineageItem that) {
+		boolean ret = _opcode == that._opcode || _opcode.equals(that._opcode);
 		
 		//If this is LineageItemType.Creation, remove _name in _data
-		if (getType() == LineageItemType.Creation) {
+		if (ret && getType() == LineageItemType.Creation) {
 			String this_data = _data.replace(_name, "");
 			String that_data = that._data.replace(that._name, "");
-			ret &= this_data.equals(that_data);
-		} else
-			ret &= _data.equals(that._data);
-		
-		if (_inputs != null && ret && (_inputs.length == that._inputs.length))
-			for (int i = 0; i < _inputs.length; i++)
-				ret &= _inputs[i].equalsLI(that._inputs[i]);
+			ret = this_data.equals(that_data);
+		} else if (ret)
+			ret = _data == that._data || _data.equals(that._data);
 		
-		setVisited();
-		return ret;
+		return ret && (isLeaf() ? that.isLeaf() :
+			!that.isLeaf() && _inputs.length == that._inputs.length);
 	}
 	
 	@Override
 	public int hashCode() {
 		if (_hash == 0) {
-			//compute hash over opcode and all inputs
-			int h = _opcode.hashCode();
-			if (_inputs != null)
-				for (LineageItem li : _inputs)
-					h = UtilFunctions.intHashCode(h, li.hashCode());
-			
-			//if Creation type, remove _name in _data
-			_hash = UtilFunctions.intHashCode(h, 
-				((getType() == LineageItemType.Creation) ?
-				_data.replace(_name, "") : _data).hashCode());
+			//iterative post-order computation over all inputs
+			//w/o hash to avoid stack overflows for long traces
+			ArrayDeque<LineageItem> stack = new ArrayDeque<>();
+			stack.push(this);
+			while (!stack.isEmpty()) {
+				LineageItem li = stack.peek();
+				boolean ready = true;
+				if (li._inputs != null)
+					for (LineageItem in : li._inputs)
+						if (in._hash == 0) {
+							stack.push(in);
+							ready = false;
+						}
+				if (ready) {
+					stack.pop();
+					if (li._hash == 0)
+						li._hash = li.computeHash();
+				}
+			}
 		}
 		return _hash;
 	}
 	
+	private int computeHash() {
+		//compute hash over opcode and all inputs
+		int h = _opcode.hashCode();
+		if (_inputs != null)
+			for (LineageItem li : _inputs)
+				h = UtilFunctions.intHashCode(h, li._hash);
+		
+		//if Creation type, remove _name in _data
+		h = UtilFunctions.intHashCode(h, 
+			((getType() == LineageItemType.Creation) ?
+			_data.replace(_name, "") : _data).hashCode());
+		return (h != 0) ? h : 1; //0 reserved for unknown
+	}
+	
+	/**
+	 * Obtains the canonical instance of a structurally equal literal or 
+	 * instruction item (hash-consing), which allows sharing common 
+	 * subexpressions across loop iterations and reference comparisons 
+	 * in subsequent equals checks. Creation and dedup items are returned 
+	 * as is because their names are used for input resolution.
+	 * 
+	 * Literal inputs are interned as well, while all other inputs are 
+	 * already canonical and hence compared by reference, which keeps 
+	 * the lookup independent of the size of the lineage DAG.
+	 * 
+	 * @param li lineage item
+	 * @return canonical lineage item
+	 */
+	public static LineageItem intern(LineageItem li) {
+		if (li == null || li.getType() == LineageItemType.Creation
+			|| li.getType() == LineageItemType.Dedup)
+			return li;
+		if (!li.isLeaf())
+			for (int i = 0; i < li._inputs.length; i++)
+				if (li._inputs[i].getType() == LineageItemType.Literal)
+					li._inputs[i] = intern(li._inputs[i]);
+		
+		//lock-free lookup or insert, with cleanup of collected items
+		expungeInternedItems();
+		InternKey key = new InternKey(li, _itemsQueue);
+		while (true) {
+			InternKey prev = _items.putIfAbsent(key, key);
+			LineageItem ret = (prev != null) ? prev.get() : li;
+			if (ret != null)
+				return ret;
+			_items.remove(prev, prev); //collected, but not yet expunged
+		}
+	}
+	
+	private static void expungeInternedItems() {
+		for (Reference<? extends LineageItem> ref; (ref = _itemsQueue.poll()) != null; )
+			_items.remove(ref, ref);
+	}
+	
+	private boolean equalsInterned(LineageItem that) {
+		//shallow comparison with canonical inputs by reference
+		if (_hash != that._hash || !equalsShallow(that))
+			return false;
+		if (!isLeaf())
+			for (int i = 0; i < _inputs.length; i++)
+				if (_inputs[i] != that._inputs[i])
+					return false;
+		return true;
+	}
+	
+	private static String internString(String str) {
+		if (str == null)
+			return null;
+		String ret = _strings.get(str);
+		if (ret == null && _strings.size() < MAX_INTERNED_STRINGS) {
+			ret = _strings.putIfAbsent(str, str);
+			ret = (ret != null) ? ret : str;
+		}
+		return (ret != null) ? ret : str;
+	}
+	
 	public boolean isLeaf() {
 		return _inputs == null || _inputs.length == 0;
 	}
@@ -203,4 +317,40 @@ public class LineageItem {
 	public static void resetIDSequence() {
 		_idSeq.reset(-1);
 	}
+	
+	public static void resetInternedItems() {
+		_items.clear();
+		_strings.clear();
+		while (_itemsQueue.poll() != null);
+	}
+	
+	/**
+	 * Weak reference to an interned lineage item with its hash, where keys of 
+	 * collected items are only equal to themselves to allow their removal.
+	 */
+	private static class InternKey extends WeakReference<LineageItem> {
+		private final int _hash;
+		
+		public InternKey(LineageItem li, ReferenceQueue<LineageItem> queue) {
+			super(li, queue);
+			_hash = li.hashCode();
+		}
+		
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (!(o instanceof InternKey) || _hash != ((InternKey)o)._hash)
+				return false;
+			LineageItem li1 = get();
+			LineageItem li2 = ((InternKey)o).get();
+			return li1 != null && li2 != null
+				&& (li1 == li2 || li1.equalsInterned(li2));
+		}
+	}
 }
@@ -55,16 +55,29 @@ import org.tugraz.sysds.runtime.instructions.spark.SPInstruction.SPType;
 import org.tugraz.sysds.runtime.instructions.cp.CPInstruction.CPType;
 import org.tugraz.sysds.runtime.util.HDFSTool;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class LineageItemUtils {
 	
 	private static final String LVARPREFIX = "lvar";
+	private static final int TRACE_MAGIC = 0x53444C54; //SDLT
+	private static final int TRACE_VERSION = 2;
 	
 	public static LineageItemType getType(String str) {
 		if (str.length() == 1) {
@@ -340,6 +353,140 @@ public class LineageItemUtils {
 		}
 	}
 	
+	/**
+	 * Writes the lineage trace of the given root item in a compact binary 
+	 * format: a header, a table of distinct opcode and data strings (varint 
+	 * byte length and UTF-8 bytes, without the 64KB limit of writeUTF), and all 
+	 * items in topological order, where each item is encoded by its type, 
+	 * the numeric ids of its opcode and data, and its inputs as varint 
+	 * distances to the (preceding) referenced items.
+	 * 
+	 * @param root root lineage item
+	 * @param fname file name
+	 */
+	public static void writeTraceToHDFS(LineageItem root, String fname) {
+		//collect items in topological order and distinct strings
+		ArrayList<LineageItem> items = getTopologicalOrder(root);
+		Map<String, Integer> strings = new HashMap<>();
+		ArrayList<String> stringTable = new ArrayList<>();
+		for (LineageItem li : items)
+			for (String str : new String[]{li.getOpcode(), li.getData()})
+				if (!strings.containsKey(str)) {
+					strings.put(str, stringTable.size());
+					stringTable.add(str);
+				}
+		
+		try {
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(fs.create(path, true))))
+			{
+				out.writeInt(TRACE_MAGIC);
+				out.writeInt(TRACE_VERSION);
+				writeVarInt(out, stringTable.size());
+				for (String str : stringTable)
+					writeString(out, str);
+				writeVarInt(out, items.size());
+				Map<LineageItem, Integer> pos = new IdentityHashMap<>();
+				for (LineageItem li : items) {
+					out.writeByte(li.getType().ordinal());
+					writeVarInt(out, strings.get(li.getOpcode()));
+					writeVarInt(out, strings.get(li.getData()));
+					writeVarInt(out, li.isLeaf() ? 0 : li.getInputs().length);
+					if (!li.isLeaf())
+						for (LineageItem in : li.getInputs())
+							writeVarInt(out, pos.size() - pos.get(in));
+					pos.put(li, pos.size());
+				}
+			}
+			if (fs instanceof LocalFileSystem)
+				IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+		} catch (IOException e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Reads a lineage trace written in the compact binary format
+	 * of {@link #writeTraceToHDFS(LineageItem, String)}.
+	 * 
+	 * @param fname file name
+	 * @return root lineage item
+	 */
+	public static LineageItem readTraceFromHDFS(String fname) {
+		try {
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(fs.open(path))))
+			{
+				if (in.readInt() != TRACE_MAGIC || in.readInt() != TRACE_VERSION)
+					throw new DMLRuntimeException("Invalid binary lineage trace: "+fname);
+				String[] strings = new String[readVarInt(in)];
+				for (int i=0; i<strings.length; i++)
+					strings[i] = readString(in);
+				return LineageParser.parseLineageTrace(in, strings, readVarInt(in));
+			}
+		} catch (IOException e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+	
+	private static ArrayList<LineageItem> getTopologicalOrder(LineageItem root) {
+		//iterative post-order traversal to avoid stack overflows for long traces
+		ArrayList<LineageItem> ret = new ArrayList<>();
+		Set<LineageItem> done = Collections.newSetFromMap(new IdentityHashMap<>());
+		ArrayDeque<LineageItem> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			LineageItem li = stack.peek();
+			boolean ready = true;
+			if (!done.contains(li) && !li.isLeaf())
+				for (LineageItem in : li.getInputs())
+					if (!done.contains(in)) {
+						stack.push(in);
+						ready = false;
+					}
+			if (ready) {
+				stack.pop();
+				if (done.add(li))
+					ret.add(li);
+			}
+		}
+		return ret;
+	}
+	
+	private static void writeVarInt(DataOutput out, int v) throws IOException {
+		while ((v & ~0x7F) != 0) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte(v);
+	}
+	
+	static int readVarInt(DataInput in) throws IOException {
+		int ret = 0;
+		for (int shift=0; ; shift+=7) {
+			byte b = in.readByte();
+			ret |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return ret;
+		}
+	}
+	
+	private static void writeString(DataOutput out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+	
+	private static String readString(DataInput in) throws IOException {
+		byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
 	private static void rSetDedupInputOntoOutput(String name, LineageItem item, LineageItem dedupInput) {
 		if (item.isVisited())
 			return;
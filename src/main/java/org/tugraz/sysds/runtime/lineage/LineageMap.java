@@ -77,14 +77,14 @@ public class LineageMap {
 		if (variable.isLiteral()) {
 			LineageItem ret = _literals.get(varname);
 			if (ret == null)
-				_literals.put(varname, ret = new LineageItem(
-					varname, variable.getLineageLiteral()));
+				_literals.put(varname, ret = internLineageItem(
+					new LineageItem(varname, variable.getLineageLiteral())));
 			return ret;
 		}
 		//handle variables
 		LineageItem ret = _traces.get(variable.getName());
-		return (ret != null) ? ret :
-			new LineageItem(varname, variable.getLineageLiteral());
+		return (ret != null) ? ret : internLineageItem(
+			new LineageItem(varname, variable.getLineageLiteral()));
 	}
 	
 	public LineageItem get(String varName) {
@@ -140,7 +140,7 @@ public class LineageMap {
 					break;
 				}
 				case MoveVariable: {
-					processMoveLI(li);
+					processMoveLI(vcp_inst, li);
 					break;
 				}
 				case CastAsBooleanVariable:
@@ -194,7 +194,13 @@ public class LineageMap {
 	
 	private void addLineageItem(LineageItem li) {
 		//add item or overwrite existing item
-		_traces.put(li.getName(), li);
+		_traces.put(li.getName(), internLineageItem(li));
+	}
+	
+	private static LineageItem internLineageItem(LineageItem li) {
+		//hash-consing of items, except for deduplication
+		//which resolves placeholders by item names
+		return DMLScript.LINEAGE_DEDUP ? li : LineageItem.intern(li);
 	}
 	
 	private void processWriteLI(VariableCPInstruction inst, ExecutionContext ec) {
@@ -205,12 +211,17 @@ public class LineageMap {
 			LineageItemUtils.writeTraceToHDFS(Explain.explain(li), fName + ".lineage.dedup");
 			li = LineageItemUtils.rDecompress(li);
 		}
-		LineageItemUtils.writeTraceToHDFS(Explain.explain(li), fName + ".lineage");
+		if (DMLScript.LINEAGE_BINARY)
+			LineageItemUtils.writeTraceToHDFS(li, fName + ".lineage");
+		else
+			LineageItemUtils.writeTraceToHDFS(Explain.explain(li), fName + ".lineage");
 	}
 	
-	private void processMoveLI(LineageItem li) {
+	private void processMoveLI(VariableCPInstruction inst, LineageItem li) {
+		//note: obtain the source variable name from the instruction 
+		//because hash-consed input items might carry a different name
 		if (li.getName().equals("__pred"))
-			removeLineageItem(li.getInputs()[0].getName());
+			removeLineageItem(inst.getInput1().getName());
 		else
 			addLineageItem(li);
 	}
@@ -25,6 +25,8 @@ import org.tugraz.sysds.runtime.instructions.Instruction;
 import org.tugraz.sysds.runtime.instructions.InstructionParser;
 import org.tugraz.sysds.runtime.instructions.cp.CPOperand;
 
+import java.io.DataInput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -56,17 +58,7 @@ public class LineageParser {
 			
 			switch (type) {
 				case Creation:
-					Instruction inst = InstructionParser.parseSingleInstruction(representation);
-					if (!(inst instanceof LineageTraceable))
-						throw new ParseException("Invalid Instruction (" + inst.getOpcode() + ") traced");
-					
-					LineageItem[] items = ((LineageTraceable) inst).getLineageItems(ec);
-					if (items == null)
-						throw new ParseException("Instruction without output (" + inst.getOpcode() + ") not supported");
-					if (items.length != 1)
-						throw new ParseException("Instruction with multiple outputs (" + inst.getOpcode() + ") not supported");
-					
-					li = new LineageItem(id, items[0]);
+					li = parseLineageCreation(id, representation, ec);
 					break;
 				
 				case Literal:
@@ -85,6 +77,59 @@ public class LineageParser {
 		return li;
 	}
 	
+	/**
+	 * Parses a binary lineage trace (after its header and string table),
+	 * where the items are given in topological order and reference their
+	 * inputs by distance. The position of an item is used as its id.
+	 * 
+	 * @param in data input positioned at the first item
+	 * @param strings table of opcodes and data
+	 * @param len number of items
+	 * @return root lineage item
+	 * @throws IOException if IOException occurs
+	 */
+	public static LineageItem parseLineageTrace(DataInput in, String[] strings, int len) throws IOException {
+		ExecutionContext ec = ExecutionContextFactory.createContext();
+		LineageItem[] items = new LineageItem[len];
+		for (int i = 0; i < len; i++) {
+			LineageItem.LineageItemType type = LineageItem.LineageItemType.values()[in.readByte()];
+			String opcode = strings[LineageItemUtils.readVarInt(in)];
+			String data = strings[LineageItemUtils.readVarInt(in)];
+			LineageItem[] inputs = new LineageItem[LineageItemUtils.readVarInt(in)];
+			for (int j = 0; j < inputs.length; j++)
+				inputs[j] = items[i - LineageItemUtils.readVarInt(in)];
+			switch (type) {
+				case Creation:
+					items[i] = parseLineageCreation(i, data, ec);
+					break;
+				case Literal:
+					items[i] = new LineageItem(i, new CPOperand(data).getName(), data);
+					break;
+				case Instruction:
+				case Dedup:
+					items[i] = new LineageItem(i, null, data, opcode, inputs);
+					break;
+				default:
+					throw new ParseException("Invalid LineageItemType given");
+			}
+		}
+		return (len > 0) ? items[len-1] : null;
+	}
+	
+	private static LineageItem parseLineageCreation(long id, String representation, ExecutionContext ec) {
+		Instruction inst = InstructionParser.parseSingleInstruction(representation);
+		if (!(inst instanceof LineageTraceable))
+			throw new ParseException("Invalid Instruction (" + inst.getOpcode() + ") traced");
+		
+		LineageItem[] items = ((LineageTraceable) inst).getLineageItems(ec);
+		if (items == null)
+			throw new ParseException("Instruction without output (" + inst.getOpcode() + ") not supported");
+		if (items.length != 1)
+			throw new ParseException("Instruction with multiple outputs (" + inst.getOpcode() + ") not supported");
+		
+		return new LineageItem(id, items[0]);
+	}
+	
 	private static LineageItem parseLineageInstruction(Long id, String str, Map<Long, LineageItem> map) {
 		ArrayList<LineageItem> inputs = new ArrayList<>();
 		String[] tokens = str.split(" ");
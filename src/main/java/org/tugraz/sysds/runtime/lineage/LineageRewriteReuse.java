@@ -18,6 +18,7 @@ package org.tugraz.sysds.runtime.lineage;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -26,15 +27,19 @@ import org.apache.commons.logging.LogFactory;
 import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.hops.AggBinaryOp;
+import org.tugraz.sysds.hops.AggUnaryOp;
 import org.tugraz.sysds.hops.BinaryOp;
 import org.tugraz.sysds.hops.DataOp;
 import org.tugraz.sysds.hops.Hop;
+import org.tugraz.sysds.hops.Hop.AggOp;
+import org.tugraz.sysds.hops.Hop.Direction;
 import org.tugraz.sysds.hops.Hop.OpOp2;
 import org.tugraz.sysds.hops.Hop.OpOpN;
 import org.tugraz.sysds.hops.Hop.ParamBuiltinOp;
 import org.tugraz.sysds.hops.IndexingOp;
 import org.tugraz.sysds.hops.LiteralOp;
 import org.tugraz.sysds.hops.NaryOp;
+import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.hops.ParameterizedBuiltinOp;
 import org.tugraz.sysds.hops.ReorgOp;
 import org.tugraz.sysds.hops.recompile.Recompiler;
@@ -87,9 +92,17 @@ public class LineageRewriteReuse
 		newInst = (newInst == null) ? rewriteElementMulCbind(curr, ec, lrwec) : newInst;
 		//aggregate(target=X+deltaX,...) = cbind(C, aggregate(target=deltaX,...)) where C = aggregate(target=X,...)
 		newInst = (newInst == null) ? rewriteAggregateCbind(curr, ec, lrwec) : newInst;
+		//t(cbind(X, deltaX)) %*% Y -> rbind(C, t(deltaX) %*% Y), where C = t(X) %*% Y
+		newInst = (newInst == null) ? rewriteMatMulTransCbindLeft(curr, ec, lrwec) : newInst;
+		//colSums(rbind(X, deltaX)) -> C + colSums(deltaX), where C = colSums(X)
+		newInst = (newInst == null) ? rewriteColSumsRbind(curr, ec, lrwec) : newInst;
+		//rowSums(cbind(X, deltaX)) -> C + rowSums(deltaX), where C = rowSums(X)
+		newInst = (newInst == null) ? rewriteRowSumsCbind(curr, ec, lrwec) : newInst;
 		
-		if (newInst == null)
+		if (newInst == null) {
+			DMLScript.EXPLAIN = et;
 			return false;
+		}
 		
 		//execute instructions & write the o/p to symbol table
 		executeInst(newInst, lrwec);
@@ -115,14 +128,16 @@ public class LineageRewriteReuse
 		MatrixBlock cachedEntry = inCache.get("lastMatrix");
 		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
 		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
-		// Create rightIndex op to find the last matrix
-		// TODO: For now assumption is that a single column is being appended in a loop
-		//       Need to go down the lineage to find number of columns are being appended.
+		// Create rightIndex op to find the last matrix, where the number of 
+		// appended columns is derived from the size of the cached tsmm result
 		MatrixObject mo = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
+		long oldCols = cachedEntry.getNumColumns();
+		if (oldCols >= mo.getNumColumns())
+			return null;
 		lrwec.setVariable("oldMatrix", mo);
 		DataOp newMatrix = HopRewriteUtils.createTransientRead("oldMatrix", mo);
 		IndexingOp oldMatrix = HopRewriteUtils.createIndexingOp(newMatrix, new LiteralOp(1), 
-				new LiteralOp(mo.getNumRows()), new LiteralOp(1), new LiteralOp(mo.getNumColumns()-1));
+				new LiteralOp(mo.getNumRows()), new LiteralOp(1), new LiteralOp(oldCols));
 		Hop lastCol;
 		// Use deltaX from cache, or create rightIndex
 		if (inCache.containsKey("deltaX")) {
@@ -132,7 +147,7 @@ public class LineageRewriteReuse
 		}
 		else
 			lastCol = HopRewriteUtils.createIndexingOp(newMatrix, new LiteralOp(1), new LiteralOp(mo.getNumRows()), 
-					new LiteralOp(mo.getNumColumns()), new LiteralOp(mo.getNumColumns()));
+					new LiteralOp(oldCols+1), new LiteralOp(mo.getNumColumns()));
 		// cell topRight = t(oldMatrix) %*% lastCol
 		ReorgOp tOldM = HopRewriteUtils.createTranspose(oldMatrix);
 		AggBinaryOp topRight = HopRewriteUtils.createMatrixMultiply(tOldM, lastCol);
@@ -148,6 +163,8 @@ public class LineageRewriteReuse
 		// rbind(rowOne, rowTwo)
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(rowOne, rowTwo, OpOp2.RBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -190,6 +207,8 @@ public class LineageRewriteReuse
 		AggBinaryOp tsmm_lr = HopRewriteUtils.createMatrixMultiply(tlastRow, lastRow);
 		BinaryOp lrwHop = HopRewriteUtils.createBinary(lastRes, tsmm_lr, OpOp2.PLUS);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -251,6 +270,8 @@ public class LineageRewriteReuse
 		NaryOp rowTwo = HopRewriteUtils.createNary(OpOpN.CBIND, bottomLeft, bottomCol, bottomRight);
 		NaryOp lrwHop = HopRewriteUtils.createNary(OpOpN.RBIND, rowOne, newCol, rowTwo);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -274,8 +295,10 @@ public class LineageRewriteReuse
 		MatrixBlock cachedEntry = inCache.get("lastMatrix");
 		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
 		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
-		//TODO: support for block of rows
 		MatrixObject moL = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
+		long oldRows = cachedEntry.getNumRows();
+		if (oldRows >= moL.getNumRows())
+			return null;
 		lrwec.setVariable("leftMatrix", moL);
 		DataOp leftMatrix = HopRewriteUtils.createTransientRead("leftMatrix", moL);
 		MatrixObject moR = ec.getMatrixObject(((ComputationCPInstruction)curr).input2);
@@ -288,12 +311,15 @@ public class LineageRewriteReuse
 			lrwec.setVariable("deltaX", convMBtoMO(cachedRI));
 			lastRow = HopRewriteUtils.createTransientRead("deltaX", cachedRI);
 		}
-		lastRow = HopRewriteUtils.createIndexingOp(leftMatrix, new LiteralOp(moL.getNumRows()), 
+		else
+			lastRow = HopRewriteUtils.createIndexingOp(leftMatrix, new LiteralOp(oldRows+1), 
 				new LiteralOp(moL.getNumRows()), new LiteralOp(1), new LiteralOp(moL.getNumColumns()));
 		// ba+*(X+lastRow, Y) = rbind(ba+*(X, Y), ba+*(lastRow, Y))
 		AggBinaryOp rowTwo = HopRewriteUtils.createMatrixMultiply(lastRow, rightMatrix);
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.RBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -317,11 +343,13 @@ public class LineageRewriteReuse
 		MatrixBlock cachedEntry = inCache.get("lastMatrix");
 		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
 		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
-		//TODO: support for block of rows
 		MatrixObject moL = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
 		lrwec.setVariable("leftMatrix", moL);
 		DataOp leftMatrix = HopRewriteUtils.createTransientRead("leftMatrix", moL);
 		MatrixObject moR = ec.getMatrixObject(((ComputationCPInstruction)curr).input2);
+		long oldCols = cachedEntry.getNumColumns();
+		if (oldCols >= moR.getNumColumns())
+			return null;
 		lrwec.setVariable("rightMatrix", moR);
 		DataOp rightMatrix = HopRewriteUtils.createTransientRead("rightMatrix", moR);
 		Hop lastCol;
@@ -331,12 +359,15 @@ public class LineageRewriteReuse
 			lrwec.setVariable("deltaY", convMBtoMO(cachedRI));
 			lastCol = HopRewriteUtils.createTransientRead("deltaY", cachedRI);
 		}
-		lastCol = HopRewriteUtils.createIndexingOp(rightMatrix, new LiteralOp(1), new LiteralOp(moR.getNumRows()), 
-				new LiteralOp(moR.getNumColumns()), new LiteralOp(moR.getNumColumns()));
+		else
+			lastCol = HopRewriteUtils.createIndexingOp(rightMatrix, new LiteralOp(1), new LiteralOp(moR.getNumRows()), 
+				new LiteralOp(oldCols+1), new LiteralOp(moR.getNumColumns()));
 		// ba+*(X, Y+lastCol) = cbind(ba+*(X, Y), ba+*(X, lastCol))
 		AggBinaryOp rowTwo = HopRewriteUtils.createMatrixMultiply(leftMatrix, lastCol);
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.CBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -391,6 +422,8 @@ public class LineageRewriteReuse
 		BinaryOp rowTwo = HopRewriteUtils.createBinary(lastRowL, lastRowR, OpOp2.MULT);
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.RBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -445,6 +478,8 @@ public class LineageRewriteReuse
 		BinaryOp rowTwo = HopRewriteUtils.createBinary(lastColL, lastColR, OpOp2.MULT);
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.CBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -468,9 +503,10 @@ public class LineageRewriteReuse
 		MatrixBlock cachedEntry = inCache.get("lastMatrix");
 		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
 		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
-		//TODO: support for block of rows
 		HashMap<String, String> params = ((ParameterizedBuiltinCPInstruction)curr).getParameterMap();
 		MatrixObject mo = ec.getMatrixObject(params.get(Statement.GAGG_TARGET));
+		if (cachedEntry.getNumColumns() >= mo.getNumColumns())
+			return null;
 		lrwec.setVariable("oldMatrix", mo);
 		DataOp newMatrix = HopRewriteUtils.createTransientRead("oldMatrix", mo);
 		MatrixObject moG = ec.getMatrixObject(params.get(Statement.GAGG_GROUPS));
@@ -488,7 +524,7 @@ public class LineageRewriteReuse
 		}
 		else
 			lastCol = HopRewriteUtils.createIndexingOp(newMatrix, new LiteralOp(1), new LiteralOp(mo.getNumRows()), 
-					new LiteralOp(mo.getNumColumns()), new LiteralOp(mo.getNumColumns()));
+					new LiteralOp(cachedEntry.getNumColumns()+1), new LiteralOp(mo.getNumColumns()));
 		// aggregate(target=X+lastCol,...) = cbind(aggregate(target=X,...), aggregate(target=lastCol,...))
 		LinkedHashMap<String, Hop> args = new LinkedHashMap<>();
 		args.put("target", lastCol);
@@ -499,6 +535,8 @@ public class LineageRewriteReuse
 		ParameterizedBuiltinOp rowTwo = HopRewriteUtils.createParameterizedBuiltinOp(newMatrix, args, ParamBuiltinOp.GROUPEDAGG);
 		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.CBIND);
 		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
 
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
@@ -506,7 +544,154 @@ public class LineageRewriteReuse
 		}
 
 		// generate runtime instructions
-		LOG.debug("LINEAGE REWRITE rewriteElementMulCbind APPLIED");
+		LOG.debug("LINEAGE REWRITE rewriteAggregateCbind APPLIED");
+		return genInst(lrwWrite, lrwec);
+	}
+
+	private static ArrayList<Instruction> rewriteMatMulTransCbindLeft (Instruction curr, ExecutionContext ec, ExecutionContext lrwec) 
+	{
+		// Check the applicability of this rewrite.
+		Map<String, MatrixBlock> inCache = new HashMap<>();
+		if (!isMatMulTransCbindLeft(curr, ec, inCache))
+			return null;
+
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		// Create a transient read op over the last ba+* result
+		MatrixBlock cachedEntry = inCache.get("lastMatrix");
+		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
+		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
+		// the left input is already transposed, i.e., the appended columns are its last rows
+		MatrixObject moL = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
+		long oldRows = cachedEntry.getNumRows();
+		if (oldRows >= moL.getNumRows())
+			return null;
+		lrwec.setVariable("leftMatrix", moL);
+		DataOp leftMatrix = HopRewriteUtils.createTransientRead("leftMatrix", moL);
+		MatrixObject moR = ec.getMatrixObject(((ComputationCPInstruction)curr).input2);
+		lrwec.setVariable("rightMatrix", moR);
+		DataOp rightMatrix = HopRewriteUtils.createTransientRead("rightMatrix", moR);
+		Hop lastRows;
+		// Use t(deltaX) from cache, or create rightIndex
+		if (inCache.containsKey("deltaX")) {
+			MatrixBlock cachedRI = inCache.get("deltaX");
+			lrwec.setVariable("deltaX", convMBtoMO(cachedRI));
+			lastRows = HopRewriteUtils.createTranspose(HopRewriteUtils.createTransientRead("deltaX", cachedRI));
+		}
+		else
+			lastRows = HopRewriteUtils.createIndexingOp(leftMatrix, new LiteralOp(oldRows+1), 
+				new LiteralOp(moL.getNumRows()), new LiteralOp(1), new LiteralOp(moL.getNumColumns()));
+		// ba+*(t(cbind(X, deltaX)), Y) = rbind(ba+*(t(X), Y), ba+*(t(deltaX), Y))
+		AggBinaryOp rowTwo = HopRewriteUtils.createMatrixMultiply(lastRows, rightMatrix);
+		BinaryOp lrwHop= HopRewriteUtils.createBinary(lastRes, rowTwo, OpOp2.RBIND);
+		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
+
+		if (DMLScript.STATISTICS) {
+			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
+			LineageCacheStatistics.incrementPRewrites();
+		}
+		
+		// generate runtime instructions
+		LOG.debug("LINEAGE REWRITE rewriteMatMulTransCbindLeft APPLIED");
+		return genInst(lrwWrite, lrwec);
+	}
+
+	private static ArrayList<Instruction> rewriteColSumsRbind (Instruction curr, ExecutionContext ec, ExecutionContext lrwec) 
+	{
+		// Check the applicability of this rewrite.
+		Map<String, MatrixBlock> inCache = new HashMap<>();
+		if (!isAggUnaryAppend(curr, ec, inCache, "uack+", "rbind"))
+			return null;
+
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		// Create a transient read op over the last colSums result
+		MatrixBlock cachedEntry = inCache.get("lastMatrix");
+		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
+		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
+		Hop lastRows;
+		// Use deltaX from cache, or create rightIndex over the appended rows,
+		// whose number is derived from the cached X (unknown otherwise)
+		if (inCache.containsKey("deltaX")) {
+			MatrixBlock cachedRI = inCache.get("deltaX");
+			lrwec.setVariable("deltaX", convMBtoMO(cachedRI));
+			lastRows = HopRewriteUtils.createTransientRead("deltaX", cachedRI);
+		}
+		else {
+			if (!inCache.containsKey("oldMatrix"))
+				return null;
+			MatrixObject mo = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
+			long oldRows = inCache.get("oldMatrix").getNumRows();
+			if (oldRows >= mo.getNumRows())
+				return null;
+			lrwec.setVariable("newMatrix", mo);
+			DataOp newMatrix = HopRewriteUtils.createTransientRead("newMatrix", mo);
+			lastRows = HopRewriteUtils.createIndexingOp(newMatrix, new LiteralOp(oldRows+1), 
+				new LiteralOp(mo.getNumRows()), new LiteralOp(1), new LiteralOp(mo.getNumColumns()));
+		}
+		// colSums(rbind(X, deltaX)) = colSums(X) + colSums(deltaX)
+		Hop colSums = HopRewriteUtils.createAggUnaryOp(lastRows, AggOp.SUM, Direction.Col);
+		BinaryOp lrwHop = HopRewriteUtils.createBinary(lastRes, colSums, OpOp2.PLUS);
+		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
+
+		if (DMLScript.STATISTICS) {
+			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
+			LineageCacheStatistics.incrementPRewrites();
+		}
+		
+		// generate runtime instructions
+		LOG.debug("LINEAGE REWRITE rewriteColSumsRbind APPLIED");
+		return genInst(lrwWrite, lrwec);
+	}
+
+	private static ArrayList<Instruction> rewriteRowSumsCbind (Instruction curr, ExecutionContext ec, ExecutionContext lrwec) 
+	{
+		// Check the applicability of this rewrite.
+		Map<String, MatrixBlock> inCache = new HashMap<>();
+		if (!isAggUnaryAppend(curr, ec, inCache, "uark+", "cbind"))
+			return null;
+
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		// Create a transient read op over the last rowSums result
+		MatrixBlock cachedEntry = inCache.get("lastMatrix");
+		lrwec.setVariable("cachedEntry", convMBtoMO(cachedEntry));
+		DataOp lastRes = HopRewriteUtils.createTransientRead("cachedEntry", cachedEntry);
+		Hop lastCols;
+		// Use deltaX from cache, or create rightIndex over the appended columns,
+		// whose number is derived from the cached X (unknown otherwise)
+		if (inCache.containsKey("deltaX")) {
+			MatrixBlock cachedRI = inCache.get("deltaX");
+			lrwec.setVariable("deltaX", convMBtoMO(cachedRI));
+			lastCols = HopRewriteUtils.createTransientRead("deltaX", cachedRI);
+		}
+		else {
+			if (!inCache.containsKey("oldMatrix"))
+				return null;
+			MatrixObject mo = ec.getMatrixObject(((ComputationCPInstruction)curr).input1);
+			long oldCols = inCache.get("oldMatrix").getNumColumns();
+			if (oldCols >= mo.getNumColumns())
+				return null;
+			lrwec.setVariable("newMatrix", mo);
+			DataOp newMatrix = HopRewriteUtils.createTransientRead("newMatrix", mo);
+			lastCols = HopRewriteUtils.createIndexingOp(newMatrix, new LiteralOp(1), 
+				new LiteralOp(mo.getNumRows()), new LiteralOp(oldCols+1), new LiteralOp(mo.getNumColumns()));
+		}
+		// rowSums(cbind(X, deltaX)) = rowSums(X) + rowSums(deltaX)
+		Hop rowSums = HopRewriteUtils.createAggUnaryOp(lastCols, AggOp.SUM, Direction.Row);
+		BinaryOp lrwHop = HopRewriteUtils.createBinary(lastRes, rowSums, OpOp2.PLUS);
+		DataOp lrwWrite = HopRewriteUtils.createTransientWrite(LR_VAR, lrwHop);
+		if (!isCostEffective(curr, ec, lrwHop))
+			return null;
+
+		if (DMLScript.STATISTICS) {
+			LineageCacheStatistics.incrementPRewriteTime(System.nanoTime() - t0);
+			LineageCacheStatistics.incrementPRewrites();
+		}
+		
+		// generate runtime instructions
+		LOG.debug("LINEAGE REWRITE rewriteRowSumsCbind APPLIED");
 		return genInst(lrwWrite, lrwec);
 	}
 	
@@ -721,6 +906,98 @@ public class LineageRewriteReuse
 		return inCache.containsKey("lastMatrix") ? true : false;
 	}
 
+	private static boolean isMatMulTransCbindLeft(Instruction curr, ExecutionContext ec, Map<String, MatrixBlock> inCache)
+	{
+		if (!LineageCache.isReusable(curr))
+			return false;
+
+		// If the left input to ba+* is a transposed cbind, look for both the inputs in cache.
+		LineageItem[] items = ((ComputationCPInstruction) curr).getLineageItems(ec);
+		if (curr.getOpcode().equalsIgnoreCase("ba+*")) {
+			LineageItem left = items[0].getInputs()[0];
+			LineageItem right = items[0].getInputs()[1];
+			if (left.getOpcode().equalsIgnoreCase("r'") 
+				&& left.getInputs()[0].getOpcode().equalsIgnoreCase("cbind")) {
+				LineageItem append = left.getInputs()[0];
+				// create ba+* lineage on top of the transposed input of last append
+				LineageItem tX = new LineageItem("toProbe", left.getOpcode(), new LineageItem[] {append.getInputs()[0]});
+				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {tX, right});
+				if (LineageCache.probe(tmp))
+					inCache.put("lastMatrix", LineageCache.get(tmp));
+				// look for the appended columns in cache
+				if (LineageCache.probe(append.getInputs()[1])) 
+					inCache.put("deltaX", LineageCache.get(append.getInputs()[1]));
+			}
+		}
+		return inCache.containsKey("lastMatrix") ? true : false;
+	}
+
+	private static boolean isAggUnaryAppend(Instruction curr, ExecutionContext ec, Map<String, MatrixBlock> inCache, String aggOpcode, String appendOpcode)
+	{
+		if (!LineageCache.isReusable(curr) || !curr.getOpcode().equalsIgnoreCase(aggOpcode))
+			return false;
+
+		// If the input to the aggregate came from the given append, look for both the inputs in cache.
+		LineageItem[] items = ((ComputationCPInstruction) curr).getLineageItems(ec);
+		LineageItem source = items[0].getInputs()[0];
+		if (source.getOpcode().equalsIgnoreCase(appendOpcode)) {
+			// create aggregate lineage on top of the input of last append
+			LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {source.getInputs()[0]});
+			if (LineageCache.probe(tmp))
+				inCache.put("lastMatrix", LineageCache.get(tmp));
+			// look for the appended rows or columns in cache
+			if (LineageCache.probe(source.getInputs()[1]))
+				inCache.put("deltaX", LineageCache.get(source.getInputs()[1]));
+			// otherwise, look for X in cache to derive the number of appended rows or columns
+			else if (LineageCache.probe(source.getInputs()[0]))
+				inCache.put("oldMatrix", LineageCache.get(source.getInputs()[0]));
+		}
+		return inCache.containsKey("lastMatrix") ? true : false;
+	}
+
+	/*-------------------------------COST MODEL---------------------------------------*/
+	
+	/**
+	 * Decides between reuse and recompute by comparing the estimated flops 
+	 * of the compensation plan (over the cached partial result) with the 
+	 * estimated flops of recomputing the current instruction from scratch.
+	 * 
+	 * @param curr current instruction
+	 * @param ec execution context
+	 * @param lrwHop root of the compensation plan
+	 * @return true if the compensation plan is expected to be cheaper
+	 */
+	private static boolean isCostEffective(Instruction curr, ExecutionContext ec, Hop lrwHop) {
+		double recompute = LineageCache.getRecomputeEstimate(curr, ec);
+		double compensate = estimateCompensationCost(lrwHop, new HashSet<>()) / (2L * 1024 * 1024 * 1024);
+		boolean ret = compensate < recompute;
+		if (!ret)
+			LOG.debug("LINEAGE REWRITE rejected: compensation cost "+compensate+" >= recompute cost "+recompute);
+		return ret;
+	}
+	
+	private static double estimateCompensationCost(Hop hop, HashSet<Long> memo) {
+		if (memo.contains(hop.getHopID()) || hop instanceof DataOp || hop instanceof LiteralOp)
+			return 0;
+		memo.add(hop.getHopID());
+		double ret = 0;
+		for (Hop in : hop.getInput())
+			ret += estimateCompensationCost(in, memo);
+		double outCells = (double) Math.max(hop.getDim1(), 0) * Math.max(hop.getDim2(), 0);
+		if (hop instanceof AggBinaryOp) {
+			Hop left = hop.getInput().get(0);
+			double sp = OptimizerUtils.getSparsity(left.getDim1(), left.getDim2(), left.getNnz());
+			ret += outCells * Math.max(left.getDim2(), 0) * sp;
+		}
+		else if (hop instanceof AggUnaryOp || hop instanceof ParameterizedBuiltinOp) {
+			Hop in = hop.getInput().get(0);
+			ret += 4d * Math.max(in.getDim1(), 0) * Math.max(in.getDim2(), 0);
+		}
+		else //copies and elementwise ops (append, indexing, transpose, plus, mult)
+			ret += outCells;
+		return ret;
+	}
+
 	/*----------------------INSTRUCTIONS GENERATION & EXECUTION-----------------------*/
 
 	private static ArrayList<Instruction> genInst(Hop hops, ExecutionContext ec) {
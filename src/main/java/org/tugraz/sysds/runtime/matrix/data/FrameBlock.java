@@ -27,12 +27,16 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.hadoop.io.Writable;
@@ -41,6 +45,7 @@ import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.transform.encode.EncoderRecode;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.IndexRange;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
@@ -54,6 +59,18 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	//internal configuration
 	private static final boolean REUSE_RECODE_MAPS = true;
 	
+	/** Min number of cells for multi-threaded column-wise slice and append */
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024;
+	
+	/** Max ratio of distinct values to rows for dictionary-encoded string columns */
+	public static final double DICT_MAX_DISTINCT_FRACTION = 0.1;
+	
+	/** Flag in the serialized value type of dictionary-encoded string columns */
+	private static final int DICT_ENCODED_FLAG = 0x40;
+	
+	/** Flag in the serialized value type of byte-encoded (UTF-8 arena) string columns */
+	private static final int BYTES_ENCODED_FLAG = 0x20;
+	
 	/** The number of rows of the FrameBlock */
 	private int _numRows = -1;
 	
@@ -490,7 +507,9 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 
 	public Object getColumnData(int c) {
 		switch(_schema[c]) {
-			case STRING:  return ((StringArray)_coldata[c])._data; 
+			case STRING:  return (_coldata[c] instanceof DictStringArray) ?
+				((DictStringArray)_coldata[c]).decode() : (_coldata[c] instanceof ByteStringArray) ?
+				((ByteStringArray)_coldata[c]).decode() : ((StringArray)_coldata[c])._data;
 			case BOOLEAN: return ((BooleanArray)_coldata[c])._data;
 			case INT64:     return ((LongArray)_coldata[c])._data;
 			case FP64:  return ((DoubleArray)_coldata[c])._data;
@@ -498,6 +517,37 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 	}
 	}
 	
+	/**
+	 * Sets the data of all columns from typed column arrays (String[], 
+	 * boolean[], long[], or double[] according to the schema). The given 
+	 * arrays are wrapped but not copied, which allows a zero-copy handoff
+	 * of columnar data, and hence might be updated in the future.
+	 * 
+	 * @param cols array of typed column arrays
+	 */
+	public void setColumnData(Object[] cols) {
+		if( cols.length != getNumColumns() )
+			throw new DMLRuntimeException("Mismatch in number of columns: "
+				+ cols.length + " (expected: " + getNumColumns() + ")");
+		Array[] tmpData = new Array[cols.length];
+		for( int j=0; j<cols.length; j++ ) {
+			switch(_schema[j]) {
+				case STRING:  tmpData[j] = new StringArray((String[])cols[j]); break;
+				case BOOLEAN: tmpData[j] = new BooleanArray((boolean[])cols[j]); break;
+				case INT64:   tmpData[j] = new LongArray((long[])cols[j]); break;
+				case FP64:    tmpData[j] = new DoubleArray((double[])cols[j]); break;
+				default: throw new DMLRuntimeException("Unsupported value type: "+_schema[j]);
+			}
+		}
+		int nrow = (cols.length > 0) ? tmpData[0]._size : 0;
+		for( int j=1; j<cols.length; j++ )
+			if( tmpData[j]._size != nrow )
+				throw new DMLRuntimeException("Mismatch in number of rows: "
+					+ tmpData[j]._size + " (expected: " + nrow + ")");
+		_coldata = tmpData;
+		_numRows = nrow;
+	}
+	
 	public Array getColumn(int c) {
 		return _coldata[c]; 
 	}
@@ -508,6 +558,153 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		_coldata[c] = column; 
 	}
 	
+	/**
+	 * Dictionary-encodes all string columns whose number of distinct values
+	 * is at most {@link #DICT_MAX_DISTINCT_FRACTION} of the number of rows.
+	 */
+	public void dictEncodeStringColumns() {
+		dictEncodeStringColumns(DICT_MAX_DISTINCT_FRACTION);
+	}
+	
+	/**
+	 * Dictionary-encodes all string columns whose number of distinct values
+	 * is at most the given fraction of the number of rows. Encoded columns 
+	 * store an int code per row and every distinct string only once, which
+	 * reduces the size of low-cardinality (e.g., categorical) columns.
+	 * 
+	 * @param maxDistinctFraction max ratio of distinct values to rows
+	 */
+	public void dictEncodeStringColumns(double maxDistinctFraction) {
+		int maxDistinct = (int)Math.ceil(maxDistinctFraction * _numRows);
+		for( int j=0; j<getNumColumns() && _coldata!=null; j++ ) {
+			if( _schema[j] != ValueType.STRING || _coldata[j] instanceof DictStringArray )
+				continue;
+			DictStringArray tmp = (_coldata[j] instanceof ByteStringArray) ?
+				((ByteStringArray)_coldata[j]).toDictionary(_numRows, maxDistinct) :
+				DictStringArray.encode((StringArray)_coldata[j], _numRows, maxDistinct);
+			if( tmp != null )
+				_coldata[j] = tmp;
+		}
+	}
+	
+	/**
+	 * Converts all plain string columns into byte-encoded columns, which
+	 * store UTF-8 values in a contiguous byte arena with per-row offsets
+	 * and materialize strings only on access. This avoids the per-value
+	 * object overhead of high-cardinality columns such as ids or URLs.
+	 */
+	public void byteEncodeStringColumns() {
+		for( int j=0; j<getNumColumns() && _coldata!=null; j++ ) {
+			if( !(_coldata[j] instanceof StringArray) )
+				continue;
+			ByteStringArray tmp = new ByteStringArray(_numRows);
+			tmp.set(0, _numRows-1, _coldata[j]);
+			_coldata[j] = tmp;
+		}
+	}
+	
+	/**
+	 * Indicates if the given column is a byte-encoded string column.
+	 * 
+	 * @param c column index
+	 * @return true if byte-encoded
+	 */
+	public boolean isColumnByteEncoded(int c) {
+		return _coldata != null && _coldata[c] instanceof ByteStringArray;
+	}
+	
+	/**
+	 * Indicates if the dictionary and codes of the given column are available
+	 * without hashing of strings, i.e., for dictionary-encoded columns, and
+	 * byte-encoded columns via byte-level hashing.
+	 * 
+	 * @param c column index
+	 * @return true if a dictionary is available
+	 */
+	public boolean hasColumnDictionary(int c) {
+		return isColumnDictEncoded(c) || isColumnByteEncoded(c);
+	}
+	
+	/**
+	 * Sets a value of a string column from UTF-8 bytes, which are copied 
+	 * into the arena of byte-encoded columns without intermediate string.
+	 * 
+	 * @param r row index
+	 * @param c column index
+	 * @param bytes input buffer
+	 * @param off offset of the value in the buffer
+	 * @param len length of the value in bytes
+	 */
+	public void setBytes(int r, int c, byte[] bytes, int off, int len) {
+		if( _coldata[c] instanceof ByteStringArray )
+			((ByteStringArray)_coldata[c]).set(r, bytes, off, len);
+		else
+			set(r, c, new String(bytes, off, len, StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Sets the rows of a partial frame block (e.g., of an input split) starting
+	 * at the given row, where byte-encoded string columns take over the pages 
+	 * of the partial block without copying the bytes. Hence, the partial block
+	 * must not be used afterwards.
+	 * 
+	 * @param src partial frame block of equal schema
+	 * @param rl row index of the first row of the partial block
+	 */
+	public void moveRows(FrameBlock src, int rl) {
+		int ru = rl + src.getNumRows() - 1;
+		if( ru < rl )
+			return;
+		for( int j=0; j<getNumColumns(); j++ ) {
+			if( _coldata[j] instanceof ByteStringArray && src._coldata[j] instanceof ByteStringArray )
+				((ByteStringArray)_coldata[j]).setPages(rl, (ByteStringArray)src._coldata[j]);
+			else
+				_coldata[j].set(rl, ru, src._coldata[j]);
+		}
+	}
+	
+	/**
+	 * Indicates if the given column is a dictionary-encoded string column.
+	 * 
+	 * @param c column index
+	 * @return true if dictionary-encoded
+	 */
+	public boolean isColumnDictEncoded(int c) {
+		return _coldata != null && _coldata[c] instanceof DictStringArray;
+	}
+	
+	/**
+	 * Returns a copy of the dictionary of a dictionary-encoded string column,
+	 * where the code of a row is the index into this array. The dictionary 
+	 * might contain entries that are no longer referenced by any row. For
+	 * byte-encoded columns, the dictionary is built via byte-level hashing.
+	 * 
+	 * @param c column index
+	 * @return array of distinct strings
+	 */
+	public String[] getColumnDictionary(int c) {
+		DictStringArray arr = getDictionaryView(c);
+		return Arrays.copyOf(arr._dict, arr._dictSize);
+	}
+	
+	/**
+	 * Returns the per-row codes of a dictionary-encoded string column, 
+	 * where -1 encodes null values. The array is not copied and might be
+	 * larger than the number of rows.
+	 * 
+	 * @param c column index
+	 * @return array of dictionary codes
+	 */
+	public int[] getColumnDictCodes(int c) {
+		return getDictionaryView(c)._codes;
+	}
+	
+	private DictStringArray getDictionaryView(int c) {
+		return (_coldata[c] instanceof ByteStringArray) ?
+			((ByteStringArray)_coldata[c]).getDictionaryView(_numRows) :
+			(DictStringArray)_coldata[c];
+	}
+	
 	/**
 	 * Get a row iterator over the frame where all fields are encoded
 	 * as strings independent of their value types.  
@@ -627,7 +824,9 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		out.writeBoolean(isDefaultMeta);
 		//write columns (value type, data)
 		for( int j=0; j<getNumColumns(); j++ ) {
-			out.writeByte(_schema[j].ordinal());
+			out.writeByte(_schema[j].ordinal()
+				| (isColumnDictEncoded(j) ? DICT_ENCODED_FLAG : 0)
+				| (isColumnByteEncoded(j) ? BYTES_ENCODED_FLAG : 0));
 			if( !isDefaultMeta ) {
 				out.writeUTF(getColumnName(j));
 				out.writeLong(_colmeta[j].getNumDistinct());
@@ -655,13 +854,17 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				_coldata : new Array[numCols];
 		//read columns (value type, meta, data)
 		for( int j=0; j<numCols; j++ ) {
-			ValueType vt = ValueType.values()[in.readByte()];
+			byte type = in.readByte();
+			boolean dict = (type & DICT_ENCODED_FLAG) != 0;
+			boolean bytes = (type & BYTES_ENCODED_FLAG) != 0;
+			ValueType vt = ValueType.values()[type & ~(DICT_ENCODED_FLAG|BYTES_ENCODED_FLAG)];
 			String name = isDefaultMeta ? createColName(j) : in.readUTF();
 			long ndistinct = isDefaultMeta ? 0 : in.readLong();
 			String mvvalue = isDefaultMeta ? null : in.readUTF();
 			Array arr = null;
 			switch( vt ) {
-				case STRING:  arr = new StringArray(new String[_numRows]); break;
+				case STRING:  arr = dict ? new DictStringArray(new int[_numRows]) :
+					bytes ? new ByteStringArray(_numRows) : new StringArray(new String[_numRows]); break;
 				case BOOLEAN: arr = new BooleanArray(new boolean[_numRows]); break;
 				case INT64:     arr = new LongArray(new long[_numRows]); break;
 				case FP64:  arr = new DoubleArray(new double[_numRows]); break;
@@ -720,6 +923,17 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				case INT64:
 				case FP64: size += 8*_numRows; break;
 				case STRING: 
+					if( _coldata[j] instanceof DictStringArray ) {
+						DictStringArray darr = (DictStringArray)_coldata[j];
+						size += 16 + 4*darr._codes.length + 16 + 8*darr._dict.length;
+						for( int i=0; i<darr._dictSize; i++ )
+							size += getInMemoryStringSize(darr._dict[i]);
+						break;
+					}
+					if( _coldata[j] instanceof ByteStringArray ) {
+						size += ((ByteStringArray)_coldata[j]).getInMemorySize();
+						break;
+					}
 					StringArray arr = (StringArray)_coldata[j];
 					for( int i=0; i<_numRows; i++ )
 						size += getInMemoryStringSize(arr.get(i));
@@ -751,6 +965,17 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				case INT64:
 				case FP64: size += 8*_numRows; break;
 				case STRING: 
+					if( _coldata[j] instanceof DictStringArray ) {
+						DictStringArray darr = (DictStringArray)_coldata[j];
+						size += 4 + 4*_numRows; //dict size, codes
+						for( int i=0; i<darr._dictSize; i++ )
+							size += IOUtilFunctions.getUTFSize(darr._dict[i]);
+						break;
+					}
+					if( _coldata[j] instanceof ByteStringArray ) {
+						size += ((ByteStringArray)_coldata[j]).getExactSerializedSize();
+						break;
+					}
 					StringArray arr = (StringArray)_coldata[j];
 					for( int i=0; i<_numRows; i++ )
 						size += IOUtilFunctions.getUTFSize(arr.get(i));
@@ -771,9 +996,10 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	public boolean isShallowSerialize(boolean inclConvert) {
 		//shallow serialize if non-string schema because a frame block
 		//is always dense but strings have large array overhead per cell
+		//(except for dictionary- and byte-encoded string columns)
 		boolean ret = true;
 		for( int j=0; j<_schema.length && ret; j++ )
-			ret &= (_schema[j] != ValueType.STRING);
+			ret &= (_schema[j] != ValueType.STRING || hasColumnDictionary(j));
 		return ret;
 	}
 	
@@ -855,9 +1081,13 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	}
 
 	public FrameBlock slice(IndexRange ixrange, FrameBlock ret) {
+		return slice(ixrange, ret, 1);
+	}
+	
+	public FrameBlock slice(IndexRange ixrange, FrameBlock ret, int k) {
 		return slice(
 				(int)ixrange.rowStart, (int)ixrange.rowEnd,
-				(int)ixrange.colStart, (int)ixrange.colEnd, ret);
+				(int)ixrange.colStart, (int)ixrange.colEnd, ret, k);
 	}
 	
 	/**
@@ -873,6 +1103,23 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 */
 	@Override
 	public FrameBlock slice(int rl, int ru, int cl, int cu, CacheBlock retCache) {
+		return slice(rl, ru, cl, cu, retCache, 1);
+	}
+	
+	/**
+	 * Right indexing operations to slice a subframe out of this frame block,
+	 * where row-range slices of wide frames are copied column-parallel.
+	 * Column-only slices share the column arrays of this frame block.
+	 * 
+	 * @param rl row lower index, inclusive, 0-based
+	 * @param ru row upper index, inclusive, 0-based
+	 * @param cl column lower index, inclusive, 0-based
+	 * @param cu column upper index, inclusive, 0-based
+	 * @param retCache cache block
+	 * @param k degree of parallelism
+	 * @return frame block
+	 */
+	public FrameBlock slice(int rl, int ru, int cl, int cu, CacheBlock retCache, int k) {
 		FrameBlock ret = (FrameBlock)retCache;
 		// check the validity of bounds
 		if (   rl < 0 || rl >= getNumRows() || ru < rl || ru >= getNumRows()
@@ -911,19 +1158,26 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 			for( int j=cl; j<=cu; j++ )
 				ret._coldata[j-cl] = _coldata[j];
 		}
-		//copy output data
+		//copy output data (column-parallel for large slices)
+		else if( isParallelColumnOp(ret._numRows, numCols, k) ) {
+			execColumnTasks(ret, numCols, k, false, this, rl, ru, cl);
+		}
 		else {
-			for( int j=cl; j<=cu; j++ ) {
-				if( ret._coldata[j-cl] == null )
-					ret._coldata[j-cl] = _coldata[j].slice(rl,ru);
-				else
-					ret._coldata[j-cl].set(0, ru-rl, _coldata[j], rl);
-			}
+			sliceColumns(ret, this, rl, ru, cl, 0, numCols);
 		}
 		
 		return ret;
 	}
 	
+	private static void sliceColumns(FrameBlock ret, FrameBlock in, int rl, int ru, int cl, int jl, int ju) {
+		for( int j=jl; j<ju; j++ ) {
+			if( ret._coldata[j] == null )
+				ret._coldata[j] = in._coldata[cl+j].slice(rl,ru);
+			else
+				ret._coldata[j].set(0, ru-rl, in._coldata[cl+j], rl);
+		}
+	}
+	
 	
 	public void slice(ArrayList<Pair<Long,FrameBlock>> outlist, IndexRange range, int rowCut)
 	{
@@ -970,6 +1224,21 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 * @return frame block
 	 */
 	public FrameBlock append( FrameBlock that, FrameBlock ret, boolean cbind ) {
+		return append(that, ret, cbind, 1);
+	}
+	
+	/**
+	 * Appends the given argument frameblock 'that' to this frameblock, where
+	 * cbind shares the column arrays of both inputs and rbind concatenates
+	 * the columns (column-parallel for large frames).
+	 * 
+	 * @param that frame block to append to current frame block
+	 * @param ret frame block to return, can be null
+	 * @param cbind if true, column append
+	 * @param k degree of parallelism
+	 * @return frame block
+	 */
+	public FrameBlock append( FrameBlock that, FrameBlock ret, boolean cbind, int k ) {
 		if( cbind ) //COLUMN APPEND
 		{
 			//sanity check row dimension mismatch
@@ -1006,25 +1275,64 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 			//allocate output frame (incl deep copy schema)
 			if( ret == null )
 				ret = new FrameBlock();
-			ret._numRows = _numRows;
+			ret._numRows = _numRows + that._numRows;
 			ret._schema = _schema.clone();
 			ret._colnames = (_colnames!=null) ? _colnames.clone() : null;
 			ret._colmeta = new ColumnMetadata[getNumColumns()];
 			for( int j=0; j<_schema.length; j++ )
 				ret._colmeta[j] = new ColumnMetadata(0);
 			
-			//concatenate data (deep copy first, append second)
+			//concatenate data per column (deep copy first, append second)
 			ret._coldata = new Array[getNumColumns()];
-			for( int j=0; j<getNumColumns(); j++ )
-				ret._coldata[j] = _coldata[j].clone();
-			Iterator<Object[]> iter = that.getObjectRowIterator(_schema);
-			while( iter.hasNext() )
-				ret.appendRow(iter.next());
+			if( isParallelColumnOp(ret._numRows, getNumColumns(), k) )
+				execColumnTasks(ret, getNumColumns(), k, true, that, 0, 0, 0);
+			else
+				rbindColumns(ret, this, that, 0, getNumColumns());
 		}
 		
 		return ret;
 	}
 
+	private static void rbindColumns(FrameBlock ret, FrameBlock in1, FrameBlock in2, int jl, int ju) {
+		int n1 = in1._numRows, n2 = in2._numRows;
+		for( int j=jl; j<ju; j++ ) {
+			Array tmp = null;
+			if( n2 > 0 && in1._schema[j] == in2._schema[j] ) {
+				//copy of the first input, padded to the output size, and column memcopy
+				tmp = in1._coldata[j].slice(0, n1+n2-1);
+				tmp.set(n1, n1+n2-1, in2._coldata[j]);
+			}
+			else {
+				//copy of the first input, and append w/ value type conversion
+				tmp = in1._coldata[j].slice(0, n1-1);
+				for( int i=0; i<n2; i++ )
+					tmp.append(UtilFunctions.objectToObject(in1._schema[j], in2.get(i, j)));
+			}
+			ret._coldata[j] = tmp;
+		}
+	}
+	
+	private static boolean isParallelColumnOp(int rows, int cols, int k) {
+		return k > 1 && cols > 1 && (long)rows * cols >= PAR_NUMCELL_THRESHOLD;
+	}
+	
+	private void execColumnTasks(FrameBlock ret, int ncol, int k, boolean rbind, FrameBlock in, int rl, int ru, int cl) {
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<ColumnTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(ncol, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(rbind ? new ColumnTask(ret, this, in, lb, lb+blklens.get(i)) :
+					new ColumnTask(ret, in, rl, ru, cl, lb, lb+blklens.get(i)));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
 	public void copy(FrameBlock src) {
 		copy(0, src.getNumRows()-1, 0, src.getNumColumns()-1, src);
 	}
@@ -1276,6 +1584,44 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	}
 	
 	///////
+	private static class ColumnTask implements Callable<Object> {
+		private final FrameBlock _ret;
+		private final FrameBlock _in1;
+		private final FrameBlock _in2;
+		private final int _rl, _ru, _cl;
+		private final int _jl, _ju;
+		
+		//column range of a row-range slice
+		protected ColumnTask(FrameBlock ret, FrameBlock in, int rl, int ru, int cl, int jl, int ju) {
+			this(ret, in, null, rl, ru, cl, jl, ju);
+		}
+		
+		//column range of a rbind
+		protected ColumnTask(FrameBlock ret, FrameBlock in1, FrameBlock in2, int jl, int ju) {
+			this(ret, in1, in2, -1, -1, -1, jl, ju);
+		}
+		
+		private ColumnTask(FrameBlock ret, FrameBlock in1, FrameBlock in2, int rl, int ru, int cl, int jl, int ju) {
+			_ret = ret;
+			_in1 = in1;
+			_in2 = in2;
+			_rl = rl;
+			_ru = ru;
+			_cl = cl;
+			_jl = jl;
+			_ju = ju;
+		}
+		
+		@Override
+		public Object call() {
+			if( _in2 != null )
+				rbindColumns(_ret, _in1, _in2, _jl, _ju);
+			else
+				sliceColumns(_ret, _in1, _rl, _ru, _cl, _jl, _ju);
+			return null;
+		}
+	}
+	
 	// generic, resizable native arrays 
 	
 	/**
@@ -1324,10 +1670,22 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 		@Override
 		public void set(int rl, int ru, Array value, int rlSrc) {
-			System.arraycopy(((StringArray)value)._data, rlSrc, _data, rl, ru-rl+1);
+			if( value instanceof StringArray )
+				System.arraycopy(((StringArray)value)._data, rlSrc, _data, rl, ru-rl+1);
+			else //dictionary-encoded
+				for( int i=rl; i<ru+1; i++ )
+					_data[i] = (String)value.get(rlSrc+i-rl);
 		}
 		@Override
 		public void setNz(int rl, int ru, Array value) {
+			if( !(value instanceof StringArray) ) {
+				for( int i=rl; i<ru+1; i++ ) {
+					String tmp = (String)value.get(i);
+					if( tmp!=null )
+						_data[i] = tmp;
+				}
+				return;
+			}
 			String[] data2 = ((StringArray)value)._data;
 			for( int i=rl; i<ru+1; i++ )
 				if( data2[i]!=null )
@@ -1368,6 +1726,513 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		}
 	}
 
+	/**
+	 * Dictionary-encoded string array, which stores an int code per row (-1 
+	 * for null) and every distinct string once in a dictionary. The reverse 
+	 * mapping from strings to codes is built lazily on the first update.
+	 * Clones and slices share the dictionary, which is copied on the first 
+	 * update that adds a new distinct value.
+	 */
+	private static class DictStringArray extends Array<String> {
+		private int[] _codes = null;
+		private String[] _dict = null;
+		private int _dictSize = 0;
+		private HashMap<String,Integer> _dictMap = null;
+		private boolean _shared = false;
+		
+		public DictStringArray(int[] codes) {
+			this(codes, new String[4], 0);
+		}
+		public DictStringArray(int[] codes, String[] dict, int dictSize) {
+			_codes = codes;
+			_size = _codes.length;
+			_dict = dict;
+			_dictSize = dictSize;
+		}
+		public static DictStringArray encode(StringArray in, int size, int maxDistinct) {
+			HashMap<String,Integer> map = new HashMap<>();
+			int[] codes = new int[size];
+			for( int i=0; i<size; i++ ) {
+				String val = in._data[i];
+				if( val == null ) {
+					codes[i] = -1;
+					continue;
+				}
+				Integer code = map.get(val);
+				if( code == null ) {
+					if( map.size() >= maxDistinct )
+						return null; //abort if too many distinct values
+					map.put(val, code = map.size());
+				}
+				codes[i] = code;
+			}
+			String[] dict = new String[Math.max(map.size(), 4)];
+			for( Map.Entry<String,Integer> e : map.entrySet() )
+				dict[e.getValue()] = e.getKey();
+			DictStringArray ret = new DictStringArray(codes, dict, map.size());
+			ret._dictMap = map;
+			return ret;
+		}
+		@Override
+		public String get(int index) {
+			int code = _codes[index];
+			return (code >= 0) ? _dict[code] : null;
+		}
+		@Override
+		public void set(int index, String value) {
+			_codes[index] = getCode(value);
+		}
+		@Override
+		public void set(int rl, int ru, Array value) {
+			set(rl, ru, value, 0);
+		}
+		@Override
+		public void set(int rl, int ru, Array value, int rlSrc) {
+			if( value instanceof DictStringArray ) {
+				//translate source codes once per distinct value
+				DictStringArray src = (DictStringArray)value;
+				int[] lut = new int[src._dictSize];
+				Arrays.fill(lut, -2);
+				for( int i=rl; i<ru+1; i++ ) {
+					int code = src._codes[rlSrc+i-rl];
+					if( code >= 0 && lut[code] == -2 )
+						lut[code] = getCode(src._dict[code]);
+					_codes[i] = (code >= 0) ? lut[code] : -1;
+				}
+			}
+			else {
+				for( int i=rl; i<ru+1; i++ )
+					_codes[i] = getCode((String)value.get(rlSrc+i-rl));
+			}
+		}
+		@Override
+		public void setNz(int rl, int ru, Array value) {
+			for( int i=rl; i<ru+1; i++ ) {
+				String tmp = (String)value.get(i);
+				if( tmp!=null )
+					_codes[i] = getCode(tmp);
+			}
+		}
+		@Override
+		public void append(String value) {
+			if( _codes.length <= _size )
+				_codes = Arrays.copyOf(_codes, newSize());
+			_codes[_size++] = getCode(value);
+		}
+		private int getCode(String value) {
+			if( value == null )
+				return -1;
+			if( _dictMap == null ) {
+				_dictMap = new HashMap<>();
+				for( int i=0; i<_dictSize; i++ )
+					_dictMap.put(_dict[i], i);
+			}
+			Integer code = _dictMap.get(value);
+			if( code == null ) {
+				if( _shared ) { //copy-on-write of shared dictionary
+					_dict = Arrays.copyOf(_dict, Math.max(_dictSize*2, 4));
+					_dictMap = new HashMap<>(_dictMap);
+					_shared = false;
+				}
+				else if( _dict.length <= _dictSize )
+					_dict = Arrays.copyOf(_dict, Math.max(_dictSize*2, 4));
+				_dict[_dictSize] = value;
+				_dictMap.put(value, code = _dictSize++);
+			}
+			return code;
+		}
+		public String[] decode() {
+			String[] ret = new String[_size];
+			for( int i=0; i<_size; i++ )
+				ret[i] = get(i);
+			return ret;
+		}
+		@Override
+		public void write(DataOutput out) throws IOException {
+			out.writeInt(_dictSize);
+			for( int i=0; i<_dictSize; i++ )
+				out.writeUTF(_dict[i]);
+			for( int i=0; i<_size; i++ )
+				out.writeInt(_codes[i]);
+		}
+		@Override
+		public void readFields(DataInput in) throws IOException {
+			_dictSize = in.readInt();
+			_dict = new String[Math.max(_dictSize, 4)];
+			for( int i=0; i<_dictSize; i++ )
+				_dict[i] = in.readUTF();
+			_dictMap = null;
+			_shared = false;
+			_size = _codes.length;
+			for( int i=0; i<_size; i++ )
+				_codes[i] = in.readInt();
+		}
+		@Override
+		public Array clone() {
+			return shareDict(new DictStringArray(Arrays.copyOf(_codes, _size), _dict, _dictSize));
+		}
+		@Override
+		public Array slice(int rl, int ru) {
+			//note: padded rows beyond the array size are null
+			int[] codes = Arrays.copyOfRange(_codes, rl, ru+1);
+			if( ru >= _size )
+				Arrays.fill(codes, Math.max(_size-rl, 0), codes.length, -1);
+			return shareDict(new DictStringArray(codes, _dict, _dictSize));
+		}
+		private DictStringArray shareDict(DictStringArray ret) {
+			//both arrays copy the dictionary before adding new values
+			ret._dictMap = _dictMap;
+			ret._shared = _shared = true;
+			return ret;
+		}
+		@Override
+		public void reset(int size) {
+			if( _codes.length < size )
+				_codes = new int[size];
+			Arrays.fill(_codes, 0, size, -1);
+			_size = size;
+		}
+	}
+
+	/**
+	 * String array of UTF-8 encoded values in a byte arena with per-row offsets
+	 * and lengths (-1 for null), which avoids the per-value object overhead of
+	 * strings. The arena consists of pages of growing size, where the offset 
+	 * of a row encodes the page index in the upper 32 bits. Strings are only
+	 * materialized on access, and updates overwrite values in place if they
+	 * fit and the page is not shared, or otherwise append to the last page.
+	 * Slices share the pages and start a new page on their first append. Once
+	 * the dead bytes of replaced values exceed the live bytes, the live values
+	 * are compacted into new pages.
+	 */
+	private static class ByteStringArray extends Array<String> {
+		private static final int MIN_PAGE_SIZE = 1024;
+		private static final int MAX_PAGE_SIZE = 64*1024*1024;
+		
+		private ArrayList<byte[]> _pages = new ArrayList<>();
+		private int _pageLen = 0; //used bytes of the last page
+		private int _sharedPages = 0; //leading pages shared with slices
+		private long _liveBytes = 0;
+		private long _deadBytes = 0;
+		private long[] _offsets = null;
+		private int[] _lengths = null;
+		private SoftReference<DictStringArray> _dictView = null;
+		
+		public ByteStringArray(int size) {
+			_offsets = new long[size];
+			_lengths = new int[size];
+			Arrays.fill(_lengths, -1);
+			_size = size;
+		}
+		@Override
+		public String get(int index) {
+			int len = _lengths[index];
+			if( len < 0 )
+				return null;
+			long off = _offsets[index];
+			return new String(_pages.get((int)(off>>>32)), (int)off, len, StandardCharsets.UTF_8);
+		}
+		@Override
+		public void set(int index, String value) {
+			if( value == null ) {
+				setNull(index);
+				return;
+			}
+			byte[] tmp = value.getBytes(StandardCharsets.UTF_8);
+			set(index, tmp, 0, tmp.length);
+		}
+		public void set(int index, byte[] bytes, int off, int len) {
+			int old = _lengths[index];
+			long pos = _offsets[index];
+			if( old > 0 && len <= old && (int)(pos>>>32) >= _sharedPages ) {
+				//in-place overwrite of the old value
+				_dictView = null;
+				_deadBytes += old - len;
+			}
+			else {
+				pos = allocate(len);
+				_deadBytes += Math.max(old, 0);
+			}
+			System.arraycopy(bytes, off, _pages.get((int)(pos>>>32)), (int)pos, len);
+			_offsets[index] = pos;
+			_lengths[index] = len;
+			_liveBytes += len - Math.max(old, 0);
+			if( _deadBytes > Math.max(_liveBytes, MIN_PAGE_SIZE) )
+				compact();
+		}
+		public void setPages(int rl, ByteStringArray src) {
+			//take over the pages of src w/o byte copies, where the
+			//last page of src becomes the last page of this array
+			long base = (long)_pages.size() << 32;
+			if( src._sharedPages > 0 )
+				_sharedPages = _pages.size() + src._sharedPages;
+			_pages.addAll(src._pages);
+			if( !src._pages.isEmpty() )
+				_pageLen = src._pageLen;
+			for( int i=0; i<src._size; i++ ) {
+				setNull(rl+i);
+				_offsets[rl+i] = src._offsets[i] + base;
+				_lengths[rl+i] = src._lengths[i];
+			}
+			_liveBytes += src._liveBytes;
+			_deadBytes += src._deadBytes;
+		}
+		private void setNull(int index) {
+			int old = _lengths[index];
+			if( old > 0 ) {
+				_liveBytes -= old;
+				_deadBytes += old;
+			}
+			_lengths[index] = -1;
+			_dictView = null;
+		}
+		private void compact() {
+			//copy all live values into new pages
+			ArrayList<byte[]> pages = _pages;
+			_pages = new ArrayList<>();
+			_pageLen = 0;
+			_sharedPages = 0;
+			for( int i=0; i<_size; i++ ) {
+				int len = _lengths[i];
+				if( len < 0 ) continue;
+				long off = _offsets[i];
+				long pos = allocate(len);
+				System.arraycopy(pages.get((int)(off>>>32)), (int)off, _pages.get((int)(pos>>>32)), (int)pos, len);
+				_offsets[i] = pos;
+			}
+			_deadBytes = 0;
+		}
+		@Override
+		public void set(int rl, int ru, Array value) {
+			set(rl, ru, value, 0);
+		}
+		@Override
+		public void set(int rl, int ru, Array value, int rlSrc) {
+			if( value instanceof ByteStringArray ) {
+				//byte copy w/o string materialization
+				ByteStringArray src = (ByteStringArray)value;
+				for( int i=rl; i<ru+1; i++ )
+					setBytes(i, src, rlSrc+i-rl);
+			}
+			else {
+				for( int i=rl; i<ru+1; i++ )
+					set(i, (String)value.get(rlSrc+i-rl));
+			}
+		}
+		@Override
+		public void setNz(int rl, int ru, Array value) {
+			for( int i=rl; i<ru+1; i++ ) {
+				if( value instanceof ByteStringArray ) {
+					if( ((ByteStringArray)value)._lengths[i] >= 0 )
+						setBytes(i, (ByteStringArray)value, i);
+				}
+				else {
+					String tmp = (String)value.get(i);
+					if( tmp != null )
+						set(i, tmp);
+				}
+			}
+		}
+		private void setBytes(int index, ByteStringArray src, int srcIndex) {
+			int len = src._lengths[srcIndex];
+			if( len < 0 ) {
+				setNull(index);
+				return;
+			}
+			long off = src._offsets[srcIndex];
+			set(index, src._pages.get((int)(off>>>32)), (int)off, len);
+		}
+		@Override
+		public void append(String value) {
+			if( _lengths.length <= _size ) {
+				int len = _lengths.length;
+				_offsets = Arrays.copyOf(_offsets, newSize());
+				_lengths = Arrays.copyOf(_lengths, _offsets.length);
+				Arrays.fill(_lengths, len, _lengths.length, -1);
+			}
+			set(_size++, value);
+		}
+		private long allocate(int len) {
+			_dictView = null;
+			int npages = _pages.size();
+			if( _sharedPages == npages || _pages.get(npages-1).length - _pageLen < len ) {
+				//new page, never appending to pages shared with slices
+				int last = (npages > 0) ? _pages.get(npages-1).length : 0;
+				_pages.add(new byte[Math.max(Math.min(Math.max(2*last, MIN_PAGE_SIZE), MAX_PAGE_SIZE), len)]);
+				_pageLen = 0;
+				npages++;
+			}
+			long ret = ((long)(npages-1) << 32) | _pageLen;
+			_pageLen += len;
+			return ret;
+		}
+		public int hashCode(int index) {
+			int len = _lengths[index];
+			if( len < 0 )
+				return 0;
+			long off = _offsets[index];
+			byte[] page = _pages.get((int)(off>>>32));
+			int h = 1;
+			for( int i=(int)off; i<(int)off+len; i++ )
+				h = 31 * h + page[i];
+			return h ^ (h >>> 16);
+		}
+		public boolean equals(int index, ByteStringArray that, int thatIndex) {
+			int len = _lengths[index];
+			if( len != that._lengths[thatIndex] )
+				return false;
+			if( len <= 0 )
+				return true;
+			long off1 = _offsets[index], off2 = that._offsets[thatIndex];
+			byte[] page1 = _pages.get((int)(off1>>>32));
+			byte[] page2 = that._pages.get((int)(off2>>>32));
+			for( int i=0; i<len; i++ )
+				if( page1[(int)off1+i] != page2[(int)off2+i] )
+					return false;
+			return true;
+		}
+		/**
+		 * Creates a dictionary-encoded representation via byte-level hashing
+		 * and equality, where only the distinct values are materialized.
+		 * 
+		 * @param size number of rows
+		 * @param maxDistinct max number of distinct values
+		 * @return dictionary-encoded array, or null if too many distinct values
+		 */
+		public DictStringArray toDictionary(int size, int maxDistinct) {
+			int[] codes = new int[size];
+			int[] reps = new int[16]; //representative row per code
+			int[] table = new int[64]; //open addressing, code+1
+			int ndict = 0;
+			for( int i=0; i<size; i++ ) {
+				if( _lengths[i] < 0 ) {
+					codes[i] = -1;
+					continue;
+				}
+				int mask = table.length - 1;
+				int pos = hashCode(i) & mask;
+				while( table[pos] != 0 && !equals(i, this, reps[table[pos]-1]) )
+					pos = (pos + 1) & mask;
+				if( table[pos] != 0 ) {
+					codes[i] = table[pos] - 1;
+					continue;
+				}
+				if( ndict >= maxDistinct )
+					return null; //abort if too many distinct values
+				if( ndict == reps.length )
+					reps = Arrays.copyOf(reps, 2*reps.length);
+				reps[ndict] = i;
+				codes[i] = ndict++;
+				table[pos] = ndict;
+				if( 2*ndict > table.length )
+					table = rehash(reps, ndict, 2*table.length);
+			}
+			String[] dict = new String[Math.max(ndict, 4)];
+			for( int k=0; k<ndict; k++ )
+				dict[k] = get(reps[k]);
+			return new DictStringArray(codes, dict, ndict);
+		}
+		private int[] rehash(int[] reps, int ndict, int capacity) {
+			int[] table = new int[capacity];
+			for( int k=0; k<ndict; k++ ) {
+				int pos = hashCode(reps[k]) & (capacity-1);
+				while( table[pos] != 0 )
+					pos = (pos + 1) & (capacity-1);
+				table[pos] = k+1;
+			}
+			return table;
+		}
+		public DictStringArray getDictionaryView(int size) {
+			DictStringArray ret = (_dictView != null) ? _dictView.get() : null;
+			if( ret == null ) {
+				ret = toDictionary(size, Integer.MAX_VALUE);
+				_dictView = new SoftReference<>(ret);
+			}
+			return ret;
+		}
+		public String[] decode() {
+			String[] ret = new String[_size];
+			for( int i=0; i<_size; i++ )
+				ret[i] = get(i);
+			return ret;
+		}
+		public long getInMemorySize() {
+			long size = 16 + 8*_offsets.length + 16 + 4*_lengths.length + 32;
+			for( byte[] page : _pages )
+				size += 16 + page.length;
+			return size;
+		}
+		public long getExactSerializedSize() {
+			long size = 4L * _size;
+			for( int i=0; i<_size; i++ )
+				size += Math.max(_lengths[i], 0);
+			return size;
+		}
+		@Override
+		public void write(DataOutput out) throws IOException {
+			for( int i=0; i<_size; i++ )
+				out.writeInt(_lengths[i]);
+			for( int i=0; i<_size; i++ ) {
+				if( _lengths[i] <= 0 ) continue;
+				long off = _offsets[i];
+				out.write(_pages.get((int)(off>>>32)), (int)off, _lengths[i]);
+			}
+		}
+		@Override
+		public void readFields(DataInput in) throws IOException {
+			_size = _lengths.length;
+			_pages = new ArrayList<>();
+			_pageLen = 0;
+			_sharedPages = 0;
+			_liveBytes = _deadBytes = 0;
+			for( int i=0; i<_size; i++ )
+				_lengths[i] = in.readInt();
+			for( int i=0; i<_size; i++ ) {
+				int len = _lengths[i];
+				if( len < 0 ) continue;
+				long pos = allocate(len);
+				in.readFully(_pages.get((int)(pos>>>32)), (int)pos, len);
+				_offsets[i] = pos;
+				_liveBytes += len;
+			}
+		}
+		@Override
+		public Array clone() {
+			ByteStringArray ret = new ByteStringArray(_size);
+			ret.set(0, _size-1, this);
+			return ret;
+		}
+		@Override
+		public Array slice(int rl, int ru) {
+			//zero-copy slice w/ shared pages, padded rows beyond the array size are null
+			ByteStringArray ret = new ByteStringArray(0);
+			ret._offsets = Arrays.copyOfRange(_offsets, rl, ru+1);
+			ret._lengths = Arrays.copyOfRange(_lengths, rl, ru+1);
+			if( ru >= _size )
+				Arrays.fill(ret._lengths, Math.max(_size-rl, 0), ret._lengths.length, -1);
+			ret._size = ret._lengths.length;
+			ret._pages = new ArrayList<>(_pages);
+			ret._sharedPages = _sharedPages = _pages.size();
+			for( int len : ret._lengths )
+				ret._liveBytes += Math.max(len, 0);
+			return ret;
+		}
+		@Override
+		public void reset(int size) {
+			if( _lengths.length < size ) {
+				_offsets = new long[size];
+				_lengths = new int[size];
+			}
+			Arrays.fill(_lengths, 0, size, -1);
+			_pages = new ArrayList<>();
+			_pageLen = 0;
+			_sharedPages = 0;
+			_liveBytes = _deadBytes = 0;
+			_dictView = null;
+			_size = size;
+		}
+	}
+
 	private static class BooleanArray extends Array<Boolean> {
 		private boolean[] _data = null;
 		
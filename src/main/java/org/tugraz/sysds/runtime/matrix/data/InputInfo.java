@@ -24,8 +24,10 @@ package org.tugraz.sysds.runtime.matrix.data;
 
 
 import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapred.FileInputFormat;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.SequenceFileInputFormat;
 import org.apache.hadoop.mapred.TextInputFormat;
@@ -83,6 +85,10 @@ public class InputInfo implements Serializable
 	public static final InputInfo LIBSVMInputInfo=new InputInfo(TextInputFormat.class, 
 			 LongWritable.class, Text.class);
 	
+	//note: read via local frame reader only (no hadoop input format)
+	public static final InputInfo BinaryColumnarInputInfo=new InputInfo(FileInputFormat.class, 
+			 NullWritable.class, FrameBlock.class);
+	
 	public static OutputInfo getMatchingOutputInfo(InputInfo ii) {
 		if ( ii == InputInfo.BinaryBlockInputInfo )
 			return OutputInfo.BinaryBlockOutputInfo;
@@ -98,6 +104,8 @@ public class InputInfo implements Serializable
 			return OutputInfo.CSVOutputInfo;
 		else if ( ii == InputInfo.LIBSVMInputInfo)
 			return OutputInfo.LIBSVMOutputInfo;
+		else if ( ii == InputInfo.BinaryColumnarInputInfo)
+			return OutputInfo.BinaryColumnarOutputInfo;
 		else 
 			throw new DMLRuntimeException("Unrecognized output info: " + ii);
 	}
@@ -123,6 +131,8 @@ public class InputInfo implements Serializable
 			return CSVInputInfo;
 		else if ( str.equalsIgnoreCase("libsvm"))
 			return LIBSVMInputInfo;
+		else if ( str.equalsIgnoreCase("binarycolumnar"))
+			return BinaryColumnarInputInfo;
 		return null;
 	}
 
@@ -135,6 +145,8 @@ public class InputInfo implements Serializable
 			return InputInfo.CSVInputInfo; 
 		else if( DataExpression.FORMAT_TYPE_VALUE_LIBSVM.equals(str) )
 			return InputInfo.LIBSVMInputInfo; 
+		else if( DataExpression.FORMAT_TYPE_VALUE_COLUMNAR.equals(str) )
+			return InputInfo.BinaryColumnarInputInfo; 
 		else if( DataExpression.FORMAT_TYPE_VALUE_BINARY.equals(str) ) // TODO BinaryTensorBlockInputInfo
 			return InputInfo.BinaryBlockInputInfo; 		
 		return null;
@@ -155,6 +167,8 @@ public class InputInfo implements Serializable
 			return "csv";
 		else if ( ii == LIBSVMInputInfo)
 			return "libsvm";
+		else if ( ii == BinaryColumnarInputInfo)
+			return "binarycolumnar";
 		else
 			throw new DMLRuntimeException("Unrecognized inputInfo: " + ii);
 	}
@@ -34,6 +34,7 @@ import org.tugraz.sysds.runtime.codegen.SpoofOperator.SideInputSparseCell;
 import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.DenseBlockFP32;
 import org.tugraz.sysds.runtime.data.DenseBlockFactory;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlockCSR;
@@ -210,6 +211,13 @@ public class LibMatrixAgg
 			return;
 		}
 		
+		//single-precision dense kernels (fp32 mode) or fp64 copy of fp32 inputs
+		if( in.isFP32() ) {
+			if( aggregateUnaryMatrixFP32(in, out, aggtype, uaop) )
+				return;
+			in = in.getFP64();
+		}
+		
 		//Timing time = new Timing(true);
 		
 		//allocate output arrays (if required)
@@ -247,6 +255,13 @@ public class LibMatrixAgg
 			return;
 		}
 		
+		//single-precision dense kernels (fp32 mode) or fp64 copy of fp32 inputs
+		if( in.isFP32() ) {
+			if( aggregateUnaryMatrixFP32(in, out, aggtype, uaop) )
+				return;
+			in = in.getFP64();
+		}
+		
 		//Timing time = new Timing(true);
 		
 		//allocate output arrays (if required)
@@ -1274,6 +1289,88 @@ public class LibMatrixAgg
 		aggVal.examSparsity(); 
 	}
 
+	/**
+	 * Single-precision unary aggregates (fp32 mode) for sum, min, and max over
+	 * dense FP32 inputs, with double accumulation and FP64 outputs (incl corrections).
+	 * FP32 inputs of all other aggregates are handled by the callers via FP64 copies.
+	 * 
+	 * @return true if the aggregate was computed
+	 */
+	private static boolean aggregateUnaryMatrixFP32(MatrixBlock in, MatrixBlock out, AggType aggtype, AggregateUnaryOperator uaop) {
+		if( !in.isFP32() )
+			return false;
+		IndexFunction ixFn = uaop.indexFn;
+		boolean supported = (aggtype == AggType.KAHAN_SUM || aggtype == AggType.MIN || aggtype == AggType.MAX)
+			&& (ixFn instanceof ReduceAll || ixFn instanceof ReduceCol || ixFn instanceof ReduceRow);
+		if( !supported || !MatrixBlock.isFP32Applicable(in) )
+			return false;
+		
+		final int m = in.rlen;
+		final int n = in.clen;
+		float[] a = ((DenseBlockFP32)in.getDenseBlock()).getData();
+		out.reset(out.rlen, out.clen, false); //always dense
+		out.allocateDenseBlock();
+		DenseBlock c = out.getDenseBlock();
+		
+		if( aggtype == AggType.KAHAN_SUM ) {
+			KahanObject kbuff = new KahanObject(0, 0);
+			KahanPlus kplus = KahanPlus.getKahanPlusFnObject();
+			if( ixFn instanceof ReduceRow ) { //COLSUM
+				double[] sum = new double[n];
+				for( int i=0, ix=0; i<m; i++ )
+					for( int j=0; j<n; j++, ix++ )
+						sum[j] += a[ix];
+				for( int j=0; j<n; j++ )
+					c.set(0, j, sum[j]);
+			}
+			else { //SUM, ROWSUM
+				for( int i=0, ix=0; i<m; i++ ) {
+					double sum = 0; //double accumulation per row
+					for( int j=0; j<n; j++, ix++ )
+						sum += a[ix];
+					if( ixFn instanceof ReduceCol ) {
+						kbuff.set(sum, 0);
+						c.set(i, kbuff);
+					}
+					else
+						kplus.execute2(kbuff, sum);
+				}
+				if( ixFn instanceof ReduceAll )
+					c.set(kbuff);
+			}
+		}
+		else { //MIN, MAX
+			Builtin builtin = (Builtin) uaop.aggOp.increOp.fn;
+			double init = (aggtype == AggType.MAX) ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			if( ixFn instanceof ReduceRow ) { //COLMIN/COLMAX
+				double[] tmp = new double[n];
+				Arrays.fill(tmp, init);
+				for( int i=0, ix=0; i<m; i++ )
+					for( int j=0; j<n; j++, ix++ )
+						tmp[j] = builtin.execute(tmp[j], a[ix]);
+				for( int j=0; j<n; j++ )
+					c.set(0, j, tmp[j]);
+			}
+			else { //MIN/MAX, ROWMIN/ROWMAX
+				double tmp = init;
+				for( int i=0, ix=0; i<m; i++ ) {
+					double rtmp = init;
+					for( int j=0; j<n; j++, ix++ )
+						rtmp = builtin.execute(rtmp, a[ix]);
+					if( ixFn instanceof ReduceCol )
+						c.set(i, 0, rtmp);
+					tmp = builtin.execute(tmp, rtmp);
+				}
+				if( ixFn instanceof ReduceAll )
+					c.set(0, 0, tmp);
+			}
+		}
+		
+		out.recomputeNonZeros();
+		out.examSparsity();
+		return true;
+	}
+	
 	private static void aggregateUnaryMatrixDense(MatrixBlock in, MatrixBlock out, AggType optype, ValueFunction vFn, IndexFunction ixFn, int rl, int ru) {
 		final int n = in.clen;
 		
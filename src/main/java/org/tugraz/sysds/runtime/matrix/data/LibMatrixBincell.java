@@ -19,10 +19,15 @@
 
 package org.tugraz.sysds.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.DenseBlockFP32;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlockCSR;
 import org.tugraz.sysds.runtime.data.SparseBlockFactory;
@@ -47,7 +52,9 @@ import org.tugraz.sysds.runtime.functionobjects.Power2;
 import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
 import org.tugraz.sysds.runtime.functionobjects.Builtin.BuiltinCode;
 import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.DataConverter;
 import org.tugraz.sysds.runtime.util.SortUtils;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -61,7 +68,9 @@ import org.tugraz.sysds.runtime.util.UtilFunctions;
  */
 public class LibMatrixBincell 
 {
-
+	//internal configuration
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M elements
+	
 	public enum BinaryAccessType {
 		MATRIX_MATRIX,
 		MATRIX_COL_VECTOR,
@@ -92,6 +101,15 @@ public class LibMatrixBincell
 			throw new DMLRuntimeException("Wrong output representation for safe="+op.sparseSafe+": "+m1.isInSparseFormat()+", "+ret.isInSparseFormat());
 		}
 		
+		//single-precision dense kernel (fp32 mode) or fp64 copy of fp32 inputs
+		if( m1.isFP32() ) {
+			if( MatrixBlock.isFP32Applicable(m1) ) {
+				binaryScalarFP32(m1, ret, op);
+				return;
+			}
+			m1 = m1.getFP64();
+		}
+		
 		//execute binary cell operations
 		if(op.sparseSafe)
 			safeBinaryScalar(m1, ret, op);
@@ -113,6 +131,18 @@ public class LibMatrixBincell
 	 * @param op binary operator
 	 */
 	public static void bincellOp(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
+		//single-precision dense kernel (fp32 mode) or fp64 copies of fp32 inputs
+		if( m1.isFP32() || m2.isFP32() ) {
+			BinaryAccessType atype = getBinaryAccessType(m1, m2);
+			if( (atype == BinaryAccessType.MATRIX_MATRIX || atype == BinaryAccessType.MATRIX_COL_VECTOR
+				|| atype == BinaryAccessType.MATRIX_ROW_VECTOR) && MatrixBlock.isFP32Applicable(m1, m2) ) {
+				binaryFP32(m1.getFP32(), m2.getFP32(), ret, op);
+				return;
+			}
+			m1 = m1.getFP64();
+			m2 = m2.getFP64();
+		}
+		
 		//execute binary cell operations
 		if(op.sparseSafe || isSparseSafeDivide(op, m2))
 			safeBinary(m1, m2, ret, op);
@@ -133,6 +163,20 @@ public class LibMatrixBincell
 	 * @param op binary operator
 	 */
 	public static void bincellOpInPlace(MatrixBlock m1ret, MatrixBlock m2, BinaryOperator op) {
+		//in-place updates only with default fp64 kernels
+		//(the update target is owned by the operation, the other input is never modified)
+		m1ret.convertToFP64();
+		m2 = m2.getFP64();
+		
+		//multi-threaded dense-dense updates over row partitions
+		//(elementwise kernels are safe for aliased inputs and outputs)
+		int k = op.getNumThreads();
+		if( !m1ret.sparse && !m2.sparse && m1ret.getDenseBlock() != null
+			&& m2.getDenseBlock() != null && isParallelBincell(m1ret, m2, m1ret, k) ) {
+			m1ret.nonZeros = bincellParallel(m1ret, m2, m1ret, op, k);
+			return;
+		}
+		
 		//execute binary cell operations
 		if(op.sparseSafe || isSparseSafeDivide(op, m2))
 			safeBinaryInPlace(m1ret, m2, op);
@@ -145,6 +189,52 @@ public class LibMatrixBincell
 			m1ret.examSparsity();
 	}
 
+	/**
+	 * matrix-scalar operations in place, which require an allocated
+	 * fp64 dense block because all cells are updated.
+	 * 
+	 * @param m1ret input and result matrix
+	 * @param op scalar operator
+	 */
+	public static void bincellOpInPlace(MatrixBlock m1ret, ScalarOperator op) {
+		if( !isSupportedInPlace(m1ret) )
+			throw new DMLRuntimeException("Unsupported in-place scalar operation over sparse, fp32, or unallocated input.");
+		
+		//compute scalar operation, incl nnz maintenance
+		int k = op.getNumThreads();
+		m1ret.nonZeros = isParallelBincell(m1ret, null, m1ret, k) ?
+			bincellParallel(m1ret, null, m1ret, op, k) :
+			denseBinaryScalar(m1ret, m1ret, op, 0, m1ret.rlen);
+		
+		//ensure empty results sparse representation 
+		if( m1ret.isEmptyBlock(false) )
+			m1ret.examSparsity();
+	}
+	
+	/**
+	 * Indicates if a matrix-scalar operation can update the given block in place.
+	 * 
+	 * @param m1 input matrix
+	 * @return true if in-place updates are supported
+	 */
+	public static boolean isSupportedInPlace(MatrixBlock m1) {
+		return !m1.sparse && !m1.isFP32() && m1.getDenseBlock() != null;
+	}
+	
+	/**
+	 * Indicates if a matrix-matrix operation can update the first input in place,
+	 * which requires equal dimensions, no aliasing, fp64 inputs, and excludes
+	 * sparse-dense combinations that would fall back to cell-wise updates.
+	 * 
+	 * @param m1 input matrix 1
+	 * @param m2 input matrix 2
+	 * @return true if in-place updates are supported
+	 */
+	public static boolean isSupportedInPlace(MatrixBlock m1, MatrixBlock m2) {
+		return m1 != m2 && m1.rlen == m2.rlen && m1.clen == m2.clen
+			&& !m1.isFP32() && !m2.isFP32() && !(m1.sparse && !m2.sparse);
+	}
+	
 	public static BinaryAccessType getBinaryAccessType(MatrixBlock m1, MatrixBlock m2)
 	{
 		int rlen1 = m1.rlen;
@@ -273,81 +363,84 @@ public class LibMatrixBincell
 		ret.allocateDenseBlock();
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
+		double[] b = m2.getDenseBlockValues(); // always single block
 		long nnz = 0;
 		
-		if( atype == BinaryAccessType.MATRIX_COL_VECTOR )
+		if( atype == BinaryAccessType.MATRIX_ROW_VECTOR && da==null && b==null ) { //both empty
+			double v = op.fn.execute( 0, 0 );
+			dc.set(v);
+			nnz += (v != 0) ? (long)rlen*clen : 0;
+		}
+		else if( atype == BinaryAccessType.MATRIX_ROW_VECTOR && da==null ) //left empty
 		{
-			double[] b = m2.getDenseBlockValues(); // always single block
-			
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] a = da.valuesAt(bi);
-				double[] c = dc.valuesAt(bi);
-				int len = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<len; i++, ix+=clen )
-				{
-					//replicate vector value
-					double v2 = (b==null) ? 0 : b[off+i];
-					if( skipEmpty && v2 == 0 ) //skip empty rows
-						continue;
-						
-					if( isMultiply && v2 == 1 ) { //ROW COPY
-						//a guaranteed to be non-null (see early abort)
-						System.arraycopy(a, ix, c, ix, clen);
-						nnz += m1.recomputeNonZeros(i, i, 0, clen-1);
-					}
-					else { //GENERAL CASE
-						if( a != null )
-							for( int j=0; j<clen; j++ ) {
-								c[ix+j] = op.fn.execute( a[ix+j], v2 );	
-								nnz += (c[ix+j] != 0) ? 1 : 0;
-							}
-						else {
-							double val = op.fn.execute( 0, v2 );
-							Arrays.fill(c, ix, ix+clen, val);
-							nnz += (val != 0) ? clen : 0;
-						}
-					}
-				}
+			//compute first row
+			double[] c = dc.valuesAt(0);
+			for( int j=0; j<clen; j++ ) {
+				c[j] = op.fn.execute( 0, b[j] );
+				nnz += (c[j] != 0) ? rlen : 0;
 			}
+			//copy first to all other rows
+			for( int i=1; i<rlen; i++ )
+				dc.set(i, c);
 		}
-		else if( atype == BinaryAccessType.MATRIX_ROW_VECTOR )
+		else //default case (incl right empty)
 		{
-			double[] b = m2.getDenseBlockValues(); // always single block
+			int k = op.getNumThreads();
+			nnz = isParallelBincell(m1, m2, ret, k) ?
+				bincellParallel(m1, m2, ret, op, k) :
+				safeBinaryMVDense(m1, m2, ret, op, 0, rlen);
+		}
+		
+		ret.nonZeros = nnz;
+	}
+	
+	private static long safeBinaryMVDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
+		boolean isMultiply = (op.fn instanceof Multiply);
+		boolean skipEmpty = (isMultiply);
+		boolean colVector = (getBinaryAccessType(m1, m2) == BinaryAccessType.MATRIX_COL_VECTOR);
+		int clen = m1.clen;
+		DenseBlock da = m1.getDenseBlock();
+		DenseBlock dc = ret.getDenseBlock();
+		double[] b = m2.getDenseBlockValues(); // always single block
+		long nnz = 0;
+		
+		for( int i=rl; i<ru; i++ ) {
+			double[] a = (da != null) ? da.values(i) : null;
+			double[] c = dc.values(i);
+			int aix = (da != null) ? da.pos(i) : 0;
+			int cix = dc.pos(i);
 			
-			if( da==null && b==null ) { //both empty
-				double v = op.fn.execute( 0, 0 );
-				dc.set(v);
-				nnz += (v != 0) ? (long)rlen*clen : 0;
-			}
-			else if( da==null ) //left empty
-			{
-				//compute first row
-				double[] c = dc.valuesAt(0);
-				for( int j=0; j<clen; j++ ) {
-					c[j] = op.fn.execute( 0, b[j] );
-					nnz += (c[j] != 0) ? rlen : 0;
+			if( colVector ) {
+				//replicate vector value
+				double v2 = (b==null) ? 0 : b[i];
+				if( skipEmpty && v2 == 0 ) //skip empty rows
+					continue;
+				
+				if( isMultiply && v2 == 1 ) { //ROW COPY
+					//a guaranteed to be non-null (see early abort)
+					System.arraycopy(a, aix, c, cix, clen);
+					nnz += UtilFunctions.countNonZeros(c, cix, clen);
+				}
+				else if( a != null ) { //GENERAL CASE
+					for( int j=0; j<clen; j++ ) {
+						c[cix+j] = op.fn.execute( a[aix+j], v2 );
+						nnz += (c[cix+j] != 0) ? 1 : 0;
+					}
+				}
+				else {
+					double val = op.fn.execute( 0, v2 );
+					Arrays.fill(c, cix, cix+clen, val);
+					nnz += (val != 0) ? clen : 0;
 				}
-				//copy first to all other rows
-				for( int i=1; i<rlen; i++ )
-					dc.set(i, c);
 			}
-			else //default case (incl right empty) 
-			{
-				for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-					double[] a = da.valuesAt(bi);
-					double[] c = dc.valuesAt(bi);
-					int len = dc.blockSize(bi);
-					for( int i=0, ix=0; i<len; i++, ix+=clen )
-						for( int j=0; j<clen; j++ ) {
-							c[ix+j] = op.fn.execute( a[ix+j], ((b!=null) ? b[j] : 0) );	
-							nnz += (c[ix+j] != 0) ? 1 : 0;
-						}
+			else { //MATRIX_ROW_VECTOR
+				for( int j=0; j<clen; j++ ) {
+					c[cix+j] = op.fn.execute( (a!=null) ? a[aix+j] : 0, (b!=null) ? b[j] : 0 );
+					nnz += (c[cix+j] != 0) ? 1 : 0;
 				}
 			}
 		}
-		
-		ret.nonZeros = nnz;
+		return nnz;
 	}
 
 	private static void safeBinaryMVSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
@@ -601,10 +694,18 @@ public class LibMatrixBincell
 	}
 	
 	private static void safeBinaryMMSparseSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
-		final int rlen = m1.rlen;
 		if(ret.sparse)
 			ret.allocateSparseRowsBlock();
 		
+		//note: multi-threading only for sparse outputs (independent rows)
+		int k = op.getNumThreads();
+		if( ret.sparse && isParallelBincell(m1, m2, ret, k) )
+			ret.nonZeros = bincellParallel(m1, m2, ret, op, k);
+		else
+			safeBinaryMMSparseSparse(m1, m2, ret, op, 0, m1.rlen);
+	}
+	
+	private static void safeBinaryMMSparseSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
 		//both sparse blocks existing
 		if(m1.sparseBlock!=null && m2.sparseBlock!=null)
 		{
@@ -614,7 +715,7 @@ public class LibMatrixBincell
 			if( ret.sparse && lsblock.isAligned(rsblock) )
 			{
 				SparseBlock c = ret.sparseBlock;
-				for(int r=0; r<rlen; r++) 
+				for(int r=rl; r<ru; r++) 
 					if( !lsblock.isEmpty(r) ) {
 						int alen = lsblock.size(r);
 						int apos = lsblock.pos(r);
@@ -631,7 +732,7 @@ public class LibMatrixBincell
 			}
 			else //general case
 			{
-				for(int r=0; r<rlen; r++) {
+				for(int r=rl; r<ru; r++) {
 					if( !lsblock.isEmpty(r) && !rsblock.isEmpty(r) ) {
 						mergeForSparseBinary(op, lsblock.values(r), lsblock.indexes(r), lsblock.pos(r), lsblock.size(r),
 							rsblock.values(r), rsblock.indexes(r), rsblock.pos(r), rsblock.size(r), r, ret);
@@ -652,7 +753,7 @@ public class LibMatrixBincell
 		else if( m2.sparseBlock!=null )
 		{
 			SparseBlock rsblock = m2.sparseBlock;
-			for(int r=0; r<Math.min(rlen, rsblock.numRows()); r++) {
+			for(int r=rl; r<Math.min(ru, rsblock.numRows()); r++) {
 				if( rsblock.isEmpty(r) ) continue;
 				appendRightForSparseBinary(op, rsblock.values(r), rsblock.indexes(r), 
 					rsblock.pos(r), rsblock.size(r), 0, r, ret);
@@ -662,7 +763,7 @@ public class LibMatrixBincell
 		else
 		{
 			SparseBlock lsblock = m1.sparseBlock;
-			for(int r=0; r<rlen; r++) {
+			for(int r=rl; r<ru; r++) {
 				if( lsblock.isEmpty(r) ) continue;
 				appendLeftForSparseBinary(op, lsblock.values(r), lsblock.indexes(r), 
 					lsblock.pos(r), lsblock.size(r), 0, r, ret);
@@ -673,105 +774,110 @@ public class LibMatrixBincell
 	private static void safeBinaryMMSparseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
 		//specific case in order to prevent binary search on sparse inputs (see quickget and quickset)
 		ret.allocateDenseBlock();
+		int k = op.getNumThreads();
+		long lnnz = isParallelBincell(m1, m2, ret, k) ?
+			bincellParallel(m1, m2, ret, op, k) :
+			safeBinaryMMSparseDenseDense(m1, m2, ret, op, 0, m1.rlen);
+		ret.setNonZeros(lnnz);
+	}
+	
+	private static long safeBinaryMMSparseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
 		final int n = ret.clen;
 		DenseBlock dc = ret.getDenseBlock();
+		boolean emptyLeft = !m1.sparse && m1.isEmptyBlock(false);
+		boolean emptyRight = !m2.sparse && m2.isEmptyBlock(false);
 		
-		//1) process left input: assignment
-		
-		if( m1.sparse && m1.sparseBlock != null ) //SPARSE left
-		{
-			SparseBlock a = m1.sparseBlock;
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] c = dc.valuesAt(bi);
-				int blen = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<blen; i++, ix+=n ) {
-					int ai = off + i;
-					if( a.isEmpty(ai) ) continue;
-					int apos = a.pos(ai);
-					int alen = a.size(ai);
-					int[] aix = a.indexes(ai);
-					double[] avals = a.values(ai);
+		long lnnz = 0;
+		for( int i=rl; i<ru; i++ ) {
+			double[] c = dc.values(i);
+			int cix = dc.pos(i);
+			
+			//1) process left input: assignment
+			if( m1.sparse && m1.sparseBlock != null ) { //SPARSE left
+				SparseBlock a = m1.sparseBlock;
+				if( !a.isEmpty(i) ) {
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					double[] avals = a.values(i);
 					for(int k = apos; k < apos+alen; k++) 
-						c[ix+aix[k]] = avals[k];
+						c[cix+aix[k]] = avals[k];
 				}
 			}
-		}
-		else if( !m1.sparse ) //DENSE left
-		{
-			if( !m1.isEmptyBlock(false) ) 
-				dc.set(m1.getDenseBlock());
-			else
-				dc.set(0);
-		}
-		
-		//2) process right input: op.fn (+,-,*), * only if dense
-		long lnnz = 0;
-		if( m2.sparse && m2.sparseBlock!=null ) //SPARSE right
-		{
-			SparseBlock a = m2.sparseBlock;
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] c = dc.valuesAt(bi);
-				int blen = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<blen; i++, ix+=n ) {
-					int ai = off + i;
-					if( !a.isEmpty(ai) ) {
-						int apos = a.pos(ai);
-						int alen = a.size(ai);
-						int[] aix = a.indexes(ai);
-						double[] avals = a.values(ai);
-						for(int k = apos; k < apos+alen; k++) 
-							c[ix+aix[k]] = op.fn.execute(c[ix+aix[k]], avals[k]);
-					}
-					//exploit temporal locality of rows
-					lnnz += ret.recomputeNonZeros(ai, ai, 0, n-1);
+			else if( !m1.sparse ) { //DENSE left
+				if( !emptyLeft )
+					System.arraycopy(m1.getDenseBlock().values(i), m1.getDenseBlock().pos(i), c, cix, n);
+				else
+					Arrays.fill(c, cix, cix+n, 0);
+			}
+			
+			//2) process right input: op.fn (+,-,*), * only if dense
+			if( m2.sparse && m2.sparseBlock!=null ) { //SPARSE right
+				SparseBlock a = m2.sparseBlock;
+				if( !a.isEmpty(i) ) {
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					double[] avals = a.values(i);
+					for(int k = apos; k < apos+alen; k++) 
+						c[cix+aix[k]] = op.fn.execute(c[cix+aix[k]], avals[k]);
 				}
 			}
-		}
-		else if( !m2.sparse ) //DENSE right
-		{
-			if( !m2.isEmptyBlock(false) ) {
-				for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-					double[] a = m2.getDenseBlock().valuesAt(bi);
-					double[] c = dc.valuesAt(bi);
-					int len = dc.size(bi);
-					for( int i=0; i<len; i++ ) {
-						c[i] = op.fn.execute(c[i], a[i]);
-						lnnz += (c[i]!=0) ? 1 : 0;
-					}
+			else if( !m2.sparse ) { //DENSE right
+				if( !emptyRight ) {
+					double[] b = m2.getDenseBlock().values(i);
+					int bix = m2.getDenseBlock().pos(i);
+					for( int j=0; j<n; j++ )
+						c[cix+j] = op.fn.execute(c[cix+j], b[bix+j]);
 				}
+				else if( op.fn instanceof Multiply )
+					Arrays.fill(c, cix, cix+n, 0);
 			}
-			else if(op.fn instanceof Multiply)
-				ret.denseBlock.set(0);
-			else
-				lnnz = m1.nonZeros;
+			
+			//3) recompute nnz (exploit temporal locality of rows)
+			lnnz += UtilFunctions.countNonZeros(c, cix, n);
 		}
-		
-		//3) recompute nnz
-		ret.setNonZeros(lnnz);
+		return lnnz;
 	}
 	
 	private static void safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
 		ret.allocateDenseBlock();
+		int k = op.getNumThreads();
+		long lnnz = isParallelBincell(m1, m2, ret, k) ?
+			bincellParallel(m1, m2, ret, op, k) :
+			safeBinaryMMDenseDenseDense(m1, m2, ret, op, 0, m1.rlen);
+		ret.setNonZeros(lnnz);
+	}
+	
+	private static long safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock db = m2.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
 		ValueFunction fn = op.fn;
+		final int n = m1.clen;
 		
 		//compute dense-dense binary, maintain nnz on-the-fly
 		long lnnz = 0;
-		for( int bi=0; bi<da.numBlocks(); bi++ ) {
-			double[] a = da.valuesAt(bi);
-			double[] b = db.valuesAt(bi);
-			double[] c = dc.valuesAt(bi);
-			int len = da.size(bi);
-			for( int i=0; i<len; i++ ) {
+		if( da.isContiguous() && db.isContiguous() && dc.isContiguous() ) {
+			double[] a = da.valuesAt(0);
+			double[] b = db.valuesAt(0);
+			double[] c = dc.valuesAt(0);
+			for( int i=rl*n; i<ru*n; i++ ) {
 				c[i] = fn.execute(a[i], b[i]);
 				lnnz += (c[i]!=0)? 1 : 0;
 			}
 		}
-		ret.setNonZeros(lnnz);
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = da.values(i), b = db.values(i), c = dc.values(i);
+				int aix = da.pos(i), bix = db.pos(i), cix = dc.pos(i);
+				for( int j=0; j<n; j++ ) {
+					c[cix+j] = fn.execute(a[aix+j], b[bix+j]);
+					lnnz += (c[cix+j]!=0)? 1 : 0;
+				}
+			}
+		}
+		return lnnz;
 	}
 	
 	private static void safeBinaryMMSparseDenseSkip(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
@@ -876,7 +982,18 @@ public class LibMatrixBincell
 		int clen = m1.clen;
 		BinaryAccessType atype = getBinaryAccessType(m1, m2);
 		
-		if( atype == BinaryAccessType.MATRIX_COL_VECTOR ) //MATRIX - COL_VECTOR
+		//dense-dense inputs and output (all cells computed, hence also valid
+		//for sparse-unsafe operations), incl multi-threaded execution
+		if( !m1.sparse && !m2.sparse && !ret.sparse && m1.denseBlock!=null
+			&& (atype == BinaryAccessType.MATRIX_COL_VECTOR || atype == BinaryAccessType.MATRIX_ROW_VECTOR
+			|| atype == BinaryAccessType.MATRIX_MATRIX && m2.denseBlock!=null && clen > 1) )
+		{
+			if( atype == BinaryAccessType.MATRIX_MATRIX )
+				safeBinaryMMDenseDenseDense(m1, m2, ret, op);
+			else
+				safeBinaryMVDense(m1, m2, ret, op);
+		}
+		else if( atype == BinaryAccessType.MATRIX_COL_VECTOR ) //MATRIX - COL_VECTOR
 		{
 			for(int r=0; r<rlen; r++) {
 				double v2 = m2.quickGetValue(r, 0);
@@ -947,6 +1064,81 @@ public class LibMatrixBincell
 		}
 	}
 
+	/**
+	 * Single-precision dense binary operation (fp32 mode) for matrix-matrix
+	 * and matrix-vector inputs, where vectors are broadcast over rows or columns.
+	 */
+	private static void binaryFP32(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
+		ret.allocateDenseBlockFP32();
+		int k = op.getNumThreads();
+		long nnz = isParallelBincell(m1, m2, ret, k) ?
+			bincellParallel(m1, m2, ret, op, k) :
+			binaryFP32(m1, m2, ret, op, 0, m1.rlen);
+		ret.setNonZeros(nnz);
+		if( nnz == 0 )
+			ret.examSparsity();
+	}
+	
+	private static long binaryFP32(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
+		final int n = m1.clen;
+		float[] a = ((DenseBlockFP32)m1.getDenseBlock()).getData();
+		float[] b = ((DenseBlockFP32)m2.getDenseBlock()).getData();
+		float[] c = ((DenseBlockFP32)ret.getDenseBlock()).getData();
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		ValueFunction fn = op.fn;
+		
+		long nnz = 0;
+		if( atype == BinaryAccessType.MATRIX_MATRIX ) {
+			for( int ix=rl*n; ix<ru*n; ix++ ) {
+				c[ix] = (float) fn.execute(a[ix], b[ix]);
+				nnz += (c[ix] != 0) ? 1 : 0;
+			}
+		}
+		else if( atype == BinaryAccessType.MATRIX_COL_VECTOR ) {
+			for( int i=rl, ix=rl*n; i<ru; i++ ) {
+				double bval = b[i];
+				for( int j=0; j<n; j++, ix++ ) {
+					c[ix] = (float) fn.execute(a[ix], bval);
+					nnz += (c[ix] != 0) ? 1 : 0;
+				}
+			}
+		}
+		else { //MATRIX_ROW_VECTOR
+			for( int i=rl, ix=rl*n; i<ru; i++ )
+				for( int j=0; j<n; j++, ix++ ) {
+					c[ix] = (float) fn.execute(a[ix], b[j]);
+					nnz += (c[ix] != 0) ? 1 : 0;
+				}
+		}
+		return nnz;
+	}
+	
+	/**
+	 * Single-precision dense matrix-scalar operation (fp32 mode).
+	 */
+	private static void binaryScalarFP32(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) {
+		ret.allocateDenseBlockFP32();
+		int k = op.getNumThreads();
+		long nnz = isParallelBincell(m1, null, ret, k) ?
+			bincellParallel(m1, null, ret, op, k) :
+			binaryScalarFP32(m1, ret, op, 0, m1.rlen);
+		ret.setNonZeros(nnz);
+		if( nnz == 0 )
+			ret.examSparsity();
+	}
+	
+	private static long binaryScalarFP32(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
+		final int n = m1.clen;
+		float[] a = ((DenseBlockFP32)m1.getDenseBlock()).getData();
+		float[] c = ((DenseBlockFP32)ret.getDenseBlock()).getData();
+		long nnz = 0;
+		for( int ix=rl*n; ix<ru*n; ix++ ) {
+			c[ix] = (float) op.executeScalar(a[ix]);
+			nnz += (c[ix] != 0) ? 1 : 0;
+		}
+		return nnz;
+	}
+	
 	private static void safeBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) {
 		//early abort possible since sparsesafe
 		if( m1.isEmptyBlock(false) ) {
@@ -957,56 +1149,63 @@ public class LibMatrixBincell
 		if( m1.sparse != ret.sparse )
 			throw new DMLRuntimeException("Unsupported safe binary scalar operations over different input/output representation: "+m1.sparse+" "+ret.sparse);
 		
+		if( m1.sparse ) //SPARSE <- SPARSE
+		{
+			//allocate sparse row structure
+			ret.allocateSparseRowsBlock();
+			int k = op.getNumThreads();
+			ret.nonZeros = isParallelBincell(m1, null, ret, k) ?
+				bincellParallel(m1, null, ret, op, k) :
+				safeBinaryScalarSparse(m1, ret, op, 0, m1.rlen);
+		}
+		else { //DENSE <- DENSE
+			denseBinaryScalar(m1, ret, op);
+		}
+	}
+	
+	private static long safeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
 		boolean copyOnes = (op.fn instanceof NotEquals && op.getConstant()==0);
 		boolean allocExact = (op.fn instanceof Multiply || op.fn instanceof Multiply2 
 			|| op.fn instanceof Power2 || Builtin.isBuiltinCode(op.fn, BuiltinCode.MAX)
 			|| Builtin.isBuiltinCode(op.fn, BuiltinCode.MIN));
 		
-		if( m1.sparse ) //SPARSE <- SPARSE
-		{
-			//allocate sparse row structure
-			ret.allocateSparseRowsBlock();
-			SparseBlock a = m1.sparseBlock;
-			SparseBlock c = ret.sparseBlock;
-			int rlen = Math.min(m1.rlen, a.numRows());
+		SparseBlock a = m1.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		int lru = Math.min(ru, a.numRows());
+		
+		long nnz = 0;
+		for(int r=rl; r<lru; r++) {
+			if( a.isEmpty(r) ) continue;
 			
-			long nnz = 0;
-			for(int r=0; r<rlen; r++) {
-				if( a.isEmpty(r) ) continue;
+			int apos = a.pos(r);
+			int alen = a.size(r);
+			int[] aix = a.indexes(r);
+			double[] avals = a.values(r);
+			
+			if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
+				//create sparse row without repeated resizing
+				SparseRowVector crow = new SparseRowVector(alen);
+				crow.setSize(alen);
 				
-				int apos = a.pos(r);
-				int alen = a.size(r);
-				int[] aix = a.indexes(r);
-				double[] avals = a.values(r);
+				//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
+				System.arraycopy(aix, apos, crow.indexes(), 0, alen);
+				Arrays.fill(crow.values(), 0, alen, 1);
+				c.set(r, crow, false);
+				nnz += alen;
+			}
+			else { //GENERAL CASE
+				//create sparse row without repeated resizing for specific ops
+				if( allocExact )
+					c.allocate(r, alen);
 				
-				if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
-					//create sparse row without repeated resizing
-					SparseRowVector crow = new SparseRowVector(alen);
-					crow.setSize(alen);
-					
-					//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
-					System.arraycopy(aix, apos, crow.indexes(), 0, alen);
-					Arrays.fill(crow.values(), 0, alen, 1);
-					c.set(r, crow, false);
-					nnz += alen;
-				}
-				else { //GENERAL CASE
-					//create sparse row without repeated resizing for specific ops
-					if( allocExact )
-						c.allocate(r, alen);
-					
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c.append(r, aix[j], val);
-						nnz += (val != 0) ? 1 : 0; 
-					}
+				for(int j=apos; j<apos+alen; j++) {
+					double val = op.executeScalar(avals[j]);
+					c.append(r, aix[j], val);
+					nnz += (val != 0) ? 1 : 0; 
 				}
 			}
-			ret.nonZeros = nnz;
-		}
-		else { //DENSE <- DENSE
-			denseBinaryScalar(m1, ret, op);
 		}
+		return nnz;
 	}
 	
 	/**
@@ -1034,62 +1233,84 @@ public class LibMatrixBincell
 		{
 			ret.allocateDenseBlock();
 			
-			SparseBlock a = m1.sparseBlock;
-			DenseBlock dc = ret.getDenseBlock();
-			int m = m1.rlen;
-			int n = m1.clen;
-			
 			//init dense result with unsafe 0-value
 			double val0 = op.executeScalar(0);
-			boolean lsparseSafe = (val0 == 0);
-			if( !lsparseSafe )
-				dc.set(val0);
+			if( val0 != 0 )
+				ret.getDenseBlock().set(val0);
 			
 			//compute non-zero input values
-			long nnz = lsparseSafe ? 0 : m * n;
-			for(int bi=0; bi<dc.numBlocks(); bi++) {
-				int blen = dc.blockSize(bi);
-				double[] c = dc.valuesAt(bi);
-				for(int i=bi*dc.blockSize(), cix=i*n; i<blen && i<m; i++, cix+=n) {
-					if( a.isEmpty(i) ) continue;
-					int apos = a.pos(i);
-					int alen = a.size(i);
-					int[] aix = a.indexes(i);
-					double[] avals = a.values(i);
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c[ cix+aix[j] ] = val;
-						nnz += lsparseSafe ? (val!=0 ? 1 : 0) :
-							(val==0 ? -1 : 0);
-					}
-				}
-			}
-			ret.nonZeros = nnz;
+			int k = op.getNumThreads();
+			ret.nonZeros = isParallelBincell(m1, null, ret, k) ?
+				bincellParallel(m1, null, ret, op, k) :
+				unsafeBinaryScalarSparse(m1, ret, op, 0, m1.rlen);
 		}
 		else { //DENSE MATRIX
 			denseBinaryScalar(m1, ret, op);
 		}
 	}
+	
+	private static long unsafeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
+		SparseBlock a = m1.sparseBlock;
+		DenseBlock dc = ret.getDenseBlock();
+		int n = m1.clen;
+		int lru = Math.min(ru, a.numRows());
+		boolean lsparseSafe = (op.executeScalar(0) == 0);
+		
+		long nnz = lsparseSafe ? 0 : (long)(ru-rl) * n;
+		for(int i=rl; i<lru; i++) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			double[] c = dc.values(i);
+			int cix = dc.pos(i);
+			for(int j=apos; j<apos+alen; j++) {
+				double val = op.executeScalar(avals[j]);
+				c[ cix+aix[j] ] = val;
+				nnz += lsparseSafe ? (val!=0 ? 1 : 0) :
+					(val==0 ? -1 : 0);
+			}
+		}
+		return nnz;
+	}
 
 	private static void denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) {
 		//allocate dense block (if necessary), incl clear nnz
 		ret.allocateDenseBlock(true);
 		
+		//compute scalar operation, incl nnz maintenance
+		int k = op.getNumThreads();
+		ret.nonZeros = isParallelBincell(m1, null, ret, k) ?
+			bincellParallel(m1, null, ret, op, k) :
+			denseBinaryScalar(m1, ret, op, 0, m1.rlen);
+	}
+	
+	private static long denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
+		final int n = m1.clen;
 		
-		//compute scalar operation, incl nnz maintenance
 		long nnz = 0;
-		for( int bi=0; bi<da.numBlocks(); bi++) {
-			double[] a = da.valuesAt(bi);
-			double[] c = dc.valuesAt(bi);
-			int limit = da.size(bi);
-			for( int i=0; i<limit; i++ ) {
+		if( da.isContiguous() && dc.isContiguous() ) {
+			double[] a = da.valuesAt(0);
+			double[] c = dc.valuesAt(0);
+			for( int i=rl*n; i<ru*n; i++ ) {
 				c[i] = op.executeScalar( a[i] );
 				nnz += (c[i] != 0) ? 1 : 0;
 			}
 		}
-		ret.nonZeros = nnz;
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = da.values(i), c = dc.values(i);
+				int aix = da.pos(i), cix = dc.pos(i);
+				for( int j=0; j<n; j++ ) {
+					c[cix+j] = op.executeScalar( a[aix+j] );
+					nnz += (c[cix+j] != 0) ? 1 : 0;
+				}
+			}
+		}
+		return nnz;
 	}
 
 	private static void safeBinaryInPlace(MatrixBlock m1ret, MatrixBlock m2, BinaryOperator op) {
@@ -1360,4 +1581,82 @@ public class LibMatrixBincell
 		if( zero )
 			c.compact(r);
 	}
+	
+	private static boolean isParallelBincell(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		//parallelize over row partitions of sufficiently large inputs, where
+		//sparse outputs require row-independent updates of a MCSR block
+		long work = !ret.sparse ? (long)m1.rlen * m1.clen :
+			m1.nonZeros + ((m2 != null) ? m2.nonZeros : 0);
+		return k > 1 && m1.rlen >= 2*k && work >= PAR_NUMCELL_THRESHOLD
+			&& (!ret.sparse || ret.sparseBlock instanceof SparseBlockMCSR);
+	}
+	
+	private static long bincellParallel(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, Operator op, int k) {
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<BincellTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m1.rlen, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new BincellTask(m1, m2, ret, op, lb, lb+blklens.get(i)));
+			//execute tasks and aggregate partial nnz
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			return nnz;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static class BincellTask implements Callable<Long>
+	{
+		private final MatrixBlock _m1;
+		private final MatrixBlock _m2;
+		private final MatrixBlock _ret;
+		private final Operator _op;
+		private final int _rl;
+		private final int _ru;
+		
+		protected BincellTask(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, Operator op, int rl, int ru) {
+			_m1 = m1;
+			_m2 = m2;
+			_ret = ret;
+			_op = op;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			//matrix-scalar operations
+			if( _op instanceof ScalarOperator ) {
+				ScalarOperator sop = (ScalarOperator) _op;
+				if( _m1.isFP32() )
+					return binaryScalarFP32(_m1, _ret, sop, _rl, _ru);
+				else if( !_m1.sparse )
+					return denseBinaryScalar(_m1, _ret, sop, _rl, _ru);
+				else if( sop.sparseSafe )
+					return safeBinaryScalarSparse(_m1, _ret, sop, _rl, _ru);
+				else
+					return unsafeBinaryScalarSparse(_m1, _ret, sop, _rl, _ru);
+			}
+			
+			//matrix-matrix and matrix-vector operations
+			BinaryOperator bop = (BinaryOperator) _op;
+			if( _m1.isFP32() )
+				return binaryFP32(_m1, _m2, _ret, bop, _rl, _ru);
+			else if( getBinaryAccessType(_m1, _m2) != BinaryAccessType.MATRIX_MATRIX )
+				return safeBinaryMVDense(_m1, _m2, _ret, bop, _rl, _ru);
+			else if( _m1.sparse && _m2.sparse ) {
+				safeBinaryMMSparseSparse(_m1, _m2, _ret, bop, _rl, _ru);
+				return _ret.sparseBlock.size(_rl, _ru);
+			}
+			else if( _m1.sparse || _m2.sparse )
+				return safeBinaryMMSparseDenseDense(_m1, _m2, _ret, bop, _rl, _ru);
+			else
+				return safeBinaryMMDenseDenseDense(_m1, _m2, _ret, bop, _rl, _ru);
+		}
+	}
 }
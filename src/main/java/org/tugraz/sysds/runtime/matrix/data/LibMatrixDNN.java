@@ -435,6 +435,79 @@ public class LibMatrixDNN {
 		dX.recomputeNonZeros();
 	}
 	
+	/**
+	 * Performs the forward pass of a single-layer, unidirectional lstm
+	 * (see scripts/nn/layers/lstm.dml for the semantics).
+	 * 
+	 * @param X input sequences (N, T*D)
+	 * @param W weights (D+M, 4M)
+	 * @param b bias (1, 4M)
+	 * @param out0 initial outputs (N, M)
+	 * @param c0 initial cell state (N, M)
+	 * @param returnSeq if true, return outputs of all timesteps
+	 * @param out output (N, T*M) or (N, M), dense and allocated
+	 * @param cy cell state of the final timestep (N, M), dense and allocated
+	 * @param numThreads number of threads
+	 */
+	public static void lstm(MatrixBlock X, MatrixBlock W, MatrixBlock b, MatrixBlock out0, MatrixBlock c0,
+		boolean returnSeq, MatrixBlock out, MatrixBlock cy, int numThreads)
+	{
+		int N = X.getNumRows(), M = checkInputsLstm(X, W, b, out0, c0);
+		int D = W.getNumRows() - M, T = X.getNumColumns() / D;
+		int k = OptimizerUtils.getConstrainedNumThreads(numThreads);
+		long nnz = execute(LibMatrixDNNLSTM.getLstmWorkers(
+			X, W, b, out0, c0, returnSeq, T, D, out, cy, k), k, N);
+		
+		//post-processing: maintain nnz
+		out.setNonZeros(nnz);
+		out.examSparsity();
+		cy.recomputeNonZeros();
+		cy.examSparsity();
+	}
+	
+	/**
+	 * Performs the backward pass of a single-layer, unidirectional lstm
+	 * (see scripts/nn/layers/lstm.dml for the semantics), where the forward
+	 * pass is recomputed internally.
+	 * 
+	 * @param X input sequences (N, T*D)
+	 * @param W weights (D+M, 4M)
+	 * @param b bias (1, 4M)
+	 * @param out0 initial outputs (N, M)
+	 * @param c0 initial cell state (N, M)
+	 * @param returnSeq if true, dout holds the gradients of all timesteps
+	 * @param dout gradients w.r.t. outputs (N, T*M) or (N, M)
+	 * @param dcy gradient w.r.t. the cell state of the final timestep (N, M)
+	 * @param dX gradient w.r.t. X (N, T*D), dense and allocated
+	 * @param dW gradient w.r.t. W (D+M, 4M), dense and allocated
+	 * @param db gradient w.r.t. b (1, 4M), dense and allocated
+	 * @param dout0 gradient w.r.t. out0 (N, M), dense and allocated
+	 * @param dc0 gradient w.r.t. c0 (N, M), dense and allocated
+	 * @param numThreads number of threads
+	 */
+	public static void lstmBackward(MatrixBlock X, MatrixBlock W, MatrixBlock b, MatrixBlock out0, MatrixBlock c0,
+		boolean returnSeq, MatrixBlock dout, MatrixBlock dcy, MatrixBlock dX, MatrixBlock dW, MatrixBlock db,
+		MatrixBlock dout0, MatrixBlock dc0, int numThreads)
+	{
+		int N = X.getNumRows(), M = checkInputsLstm(X, W, b, out0, c0);
+		int D = W.getNumRows() - M, T = X.getNumColumns() / D;
+		checkOrThrowException("Incorrect input to lstm_backward: Number of columns of dout != "
+			+ "number of outputs", dout.getNumColumns(), returnSeq ? (long)T*M : M);
+		checkOrThrowException("Incorrect input to lstm_backward: Number of columns of dcy != "
+			+ "hidden size", dcy.getNumColumns(), M);
+		int k = OptimizerUtils.getConstrainedNumThreads(numThreads);
+		long nnz = execute(LibMatrixDNNLSTM.getLstmBackwardWorkers(X, W, b, out0, c0,
+			returnSeq, dout, dcy, T, D, dX, dW, db, dout0, dc0, k), k, N);
+		
+		//post-processing: maintain nnz
+		dX.setNonZeros(nnz);
+		for( MatrixBlock mb : new MatrixBlock[]{dX, dW, db, dout0, dc0} ) {
+			if( mb != dX )
+				mb.recomputeNonZeros();
+			mb.examSparsity();
+		}
+	}
+	
 	public static void batchNorm2D(MatrixBlock image, MatrixBlock scale, MatrixBlock bias, MatrixBlock runningMean, 
 			MatrixBlock runningVar, String phase, double epsilon, double mu,
 			MatrixBlock ret, MatrixBlock retRunningMean, MatrixBlock retRunningVar, 
@@ -700,7 +773,10 @@ public class LibMatrixDNN {
 	 * @param params convolution parameters
 	 */
 	private static long execute(ArrayList<Callable<Long>> tasks, DnnParameters params) {
-		int k = OptimizerUtils.getConstrainedNumThreads(params.numThreads);
+		return execute(tasks, OptimizerUtils.getConstrainedNumThreads(params.numThreads), params.N);
+	}
+	
+	private static long execute(ArrayList<Callable<Long>> tasks, int k, int N) {
 		long lnnz = 0;
 		try {
 			if(k == 1) {
@@ -711,7 +787,7 @@ public class LibMatrixDNN {
 				}
 			}
 			else {
-				ExecutorService pool = CommonThreadPool.get( Math.min(k, params.N) );
+				ExecutorService pool = CommonThreadPool.get( Math.min(k, N) );
 				List<Future<Long>> taskret = pool.invokeAll(tasks);
 				pool.shutdown();
 				for( Future<Long> task : taskret )
@@ -725,6 +801,24 @@ public class LibMatrixDNN {
 		return lnnz;
 	}
 	
+	private static int checkInputsLstm(MatrixBlock X, MatrixBlock W, MatrixBlock b, MatrixBlock out0, MatrixBlock c0) {
+		int M = out0.getNumColumns();
+		checkOrThrowException("Incorrect input to lstm: Number of columns of W != 4 * hidden size",
+			W.getNumColumns(), 4L*M);
+		checkOrThrowException("Incorrect input to lstm: Number of columns of b != 4 * hidden size",
+			b.getNumColumns(), 4L*M);
+		checkOrThrowException("Incorrect input to lstm: Number of columns of c0 != hidden size",
+			c0.getNumColumns(), M);
+		int D = W.getNumRows() - M;
+		if( D <= 0 || X.getNumColumns() % D != 0 )
+			throw new DMLRuntimeException("Incorrect input to lstm: Number of columns of X ("
+				+ X.getNumColumns() + ") is not a multiple of the number of features (" + D + ")");
+		if( out0.getNumRows() < X.getNumRows() || c0.getNumRows() < X.getNumRows() )
+			throw new DMLRuntimeException("Incorrect input to lstm: Number of rows of out0 and c0 "
+				+ "must be at least the batch size " + X.getNumRows());
+		return M;
+	}
+	
 	private static void checkOrThrowException(String msg, long lhs, long rhs) {
 		if(lhs != rhs)
 			throw new DMLRuntimeException(msg + ":" + lhs + " != " + rhs);
@@ -34,6 +34,11 @@ import org.tugraz.sysds.utils.Statistics;
  */
 public class LibMatrixDNNConv2d 
 {
+	//enables the Winograd kernels for dense 3x3 stride-1 convolutions
+	public static boolean ALLOW_WINOGRAD = true;
+	//enables the direct kernels for dense 1x1 or small-channel convolutions
+	public static boolean ALLOW_DIRECT = true;
+	
 	/**
 	 * Factory method that returns list of callable tasks for performing conv2d
 	 * 
@@ -57,6 +62,23 @@ public class LibMatrixDNNConv2d
 		if( applyNative )
 			Statistics.numNativeSparseConv2dCalls.increment();
 		
+		//use im2col-free kernels for eligible dense convolutions
+		if( !applyNative && !isEmptyDenseInput ) {
+			if( isEligibleForWinograd(params, in1, params.input2) ) {
+				int m = LibMatrixDNNWinograd.getTileSize(params.P, params.Q);
+				double[] U = LibMatrixDNNWinograd.transformFilter(
+					params.input2.getDenseBlockValues(), params.K, params.C, m, false);
+				for(int i = 0; i*taskSize < params.N; i++)
+					ret.add(new WinogradConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params, U, m));
+				return ret;
+			}
+			if( isEligibleForDirect(params, in1, params.input2) ) {
+				for(int i = 0; i*taskSize < params.N; i++)
+					ret.add(new DirectConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
+				return ret;
+			}
+		}
+		
 		//transpose filter once for efficient sparse-dense multiplies in LoopedIm2ColConv2dTransAllChan
 		//in order to share the temporary object and its creation costs across threads
 		if( !applyNative && !isEmptyDenseInput && isTransPref ) {
@@ -99,12 +121,16 @@ public class LibMatrixDNNConv2d
 			&& !params.input2.isInSparseFormat();
 		if( applyNative )
 			Statistics.numNativeSparseConv2dBwdFilterCalls.increment();
+		boolean applyDirect = !applyNative && !isEmptyDenseInput
+			&& isEligibleForDirect(params, params.input1, params.input2);
 		
 		for(int i = 0; i*taskSize < params.N; i++) {
 			//note: we prefer the java backend for sparse filters because the native 
 			//implementation simply rotates the sparse filters into dense rows
 			if( applyNative ) 
 				ret.add(new SparseNativeConv2dBackwardFilterDense(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
+			else if( applyDirect )
+				ret.add(new DirectConv2dBackwardFilter(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
 			else if( params.input2.sparse && params.input1.getSparsity() > params.input2.getSparsity() )
 				ret.add(new Conv2dBackwardFilterTrans(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
 			else if(!isEmptyDenseInput)
@@ -137,6 +163,24 @@ public class LibMatrixDNNConv2d
 		if( applyNative )
 			Statistics.numNativeSparseConv2dBwdDataCalls.increment();
 		
+		//use im2col-free kernels for eligible dense convolutions
+		if( !applyNative && !isEmptyDenseInput ) {
+			if( isEligibleForWinograd(params, params.input1, params.input2) ) {
+				//backward data as Winograd convolution of dout with rotate180(t(filter))
+				int m = LibMatrixDNNWinograd.getTileSize(params.H, params.W);
+				double[] U = LibMatrixDNNWinograd.transformFilter(
+					params.input1.getDenseBlockValues(), params.K, params.C, m, true);
+				for(int i = 0; i*taskSize < params.N; i++)
+					ret.add(new WinogradConv2dBackwardData(i*taskSize, Math.min((i+1)*taskSize, params.N), params, U, m));
+				return ret;
+			}
+			if( isEligibleForDirect(params, params.input1, params.input2) ) {
+				for(int i = 0; i*taskSize < params.N; i++)
+					ret.add(new DirectConv2dBackwardData(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
+				return ret;
+			}
+		}
+		
 		for(int i = 0; i*taskSize < params.N; i++) {
 			//note: we prefer the java backend for sparse filters because the native 
 			//implementation simply converts the sparse filters into dense rows
@@ -340,8 +384,140 @@ public class LibMatrixDNNConv2d
 		}
 	}
 	
+	/**
+	 * Performs stride-1 3x3 convolution via Winograd minimal filtering
+	 * without im2col intermediates, with filters transformed once by the caller.
+	 */
+	private static class WinogradConv2d implements Callable<Long> 
+	{
+		private final int _rl, _ru;
+		private final DnnParameters _params;
+		private final double[] _U;
+		private final int _m;
+		
+		public WinogradConv2d(int rl, int ru, DnnParameters params, double[] U, int m) {
+			_rl = rl; _ru = ru;
+			_params = params;
+			_U = U; _m = m;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			final int C = _params.C, H = _params.H, W = _params.W;
+			final int K = _params.K, P = _params.P, Q = _params.Q;
+			LibMatrixDNNWinograd.WinogradBuffers buff =
+				new LibMatrixDNNWinograd.WinogradBuffers(_m, C, K, P, Q);
+			double[] in = _params.input1.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			for(int n = _rl; n < _ru; n++) {
+				LibMatrixDNNWinograd.conv2d(in, n*C*H*W, C, H, W, _U,
+					K, P, Q, _params.pad_h, _params.pad_w, out, n*K*P*Q, buff);
+				
+				// Add bias to current row if necessary, always dense
+				if(_params.bias != null)
+					addBias(n, out, _params.bias.getDenseBlockValues(), K, P*Q);
+			}
+			
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
+	/**
+	 * Performs convolution via direct loops over the filter values
+	 * without im2col intermediates.
+	 */
+	private static class DirectConv2d implements Callable<Long> 
+	{
+		private final int _rl, _ru;
+		private final DnnParameters _params;
+		
+		public DirectConv2d(int rl, int ru, DnnParameters params) {
+			_rl = rl; _ru = ru;
+			_params = params;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			double[] in = _params.input1.getDenseBlockValues();
+			double[] filter = _params.input2.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			for(int n = _rl; n < _ru; n++) {
+				LibMatrixDNNDirectConv.conv2d(in, filter, out, n, _params);
+				
+				// Add bias to current row if necessary, always dense
+				if(_params.bias != null)
+					addBias(n, out, _params.bias.getDenseBlockValues(), _params.K, _params.P*_params.Q);
+			}
+			
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
 	// BACKWARD DATA
 	
+	/**
+	 * Performs stride-1 3x3 backward data as Winograd convolution of dout
+	 * with the rotated and transposed filter, and padding 2-pad.
+	 */
+	private static class WinogradConv2dBackwardData implements Callable<Long> 
+	{
+		private final int _rl, _ru;
+		private final DnnParameters _params;
+		private final double[] _U;
+		private final int _m;
+		
+		public WinogradConv2dBackwardData(int rl, int ru, DnnParameters params, double[] U, int m) {
+			_rl = rl; _ru = ru;
+			_params = params;
+			_U = U; _m = m;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			final int C = _params.C, H = _params.H, W = _params.W;
+			final int K = _params.K, P = _params.P, Q = _params.Q;
+			LibMatrixDNNWinograd.WinogradBuffers buff =
+				new LibMatrixDNNWinograd.WinogradBuffers(_m, K, C, H, W);
+			double[] dout = _params.input2.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			for(int n = _rl; n < _ru; n++)
+				LibMatrixDNNWinograd.conv2d(dout, n*K*P*Q, K, P, Q, _U,
+					C, H, W, 2-_params.pad_h, 2-_params.pad_w, out, n*C*H*W, buff);
+			
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
+	/**
+	 * Performs backward data via direct loops over the filter values
+	 * without rotate180 and col2im intermediates.
+	 */
+	private static class DirectConv2dBackwardData implements Callable<Long> 
+	{
+		private final int _rl, _ru;
+		private final DnnParameters _params;
+		
+		public DirectConv2dBackwardData(int rl, int ru, DnnParameters params) {
+			_rl = rl; _ru = ru;
+			_params = params;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			double[] filter = _params.input1.getDenseBlockValues();
+			double[] dout = _params.input2.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			for(int n = _rl; n < _ru; n++)
+				LibMatrixDNNDirectConv.conv2dBackwardData(filter, dout, out, n, _params);
+			
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
 	/**
 	 * This operator is used only if native is enabled and filter is sparse. 
 	 * dout is converted into dense if sparse.
@@ -497,6 +673,31 @@ public class LibMatrixDNNConv2d
 		}
 	}
 	
+	/**
+	 * Performs backward filter via direct loops over the filter values
+	 * without rotate180 and im2col intermediates.
+	 */
+	private static class DirectConv2dBackwardFilter implements Callable<Long> {
+		private final int _rl, _ru;
+		private final DnnParameters _params;
+		
+		public DirectConv2dBackwardFilter(int rl, int ru, DnnParameters params) {
+			_rl = rl; _ru = ru;
+			_params = params;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			double[] in = _params.input1.getDenseBlockValues();
+			double[] dout = _params.input2.getDenseBlockValues();
+			double[] partRet = new double[_params.K*_params.C*_params.R*_params.S]; //K x CRS
+			for(int n = _rl; n < _ru; n++)
+				LibMatrixDNNDirectConv.conv2dBackwardFilter(in, dout, partRet, n, _params);
+			inplaceAdd(partRet, _params);
+			return 0L;
+		}
+	}
+	
 	private static class Conv2dBackwardFilterTrans implements Callable<Long> {
 		private final int _rl, _ru; 
 		private final DnnParameters _params;
@@ -590,6 +791,14 @@ public class LibMatrixDNNConv2d
 			LibMatrixMult.vectAddInPlace(bias[k], out, cix, PQ);
 	}
 	
+	private static boolean isEligibleForWinograd(DnnParameters params, MatrixBlock in1, MatrixBlock in2) {
+		return ALLOW_WINOGRAD && LibMatrixDNNWinograd.isSupported(params, in1, in2);
+	}
+	
+	private static boolean isEligibleForDirect(DnnParameters params, MatrixBlock in1, MatrixBlock in2) {
+		return ALLOW_DIRECT && LibMatrixDNNDirectConv.isSupported(params, in1, in2);
+	}
+	
 	// ----------------------------------------------------------------------------------------------
 	// TODO: Support sparse native convolution operations without dense intermediates + dense matmult
 	// Currently, it will fall back to more optimized sparse Java-based operators.
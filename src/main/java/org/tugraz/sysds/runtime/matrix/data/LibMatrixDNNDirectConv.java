@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+/**
+ * Pure-Java direct convolution kernels for the forward, backward data, and
+ * backward filter passes over dense single images, which avoid the im2col 
+ * intermediates altogether. For every filter value, the kernels process 
+ * contiguous output rows (or contiguous row ranges for stride 1), which makes
+ * them efficient for 1x1 filters and small numbers of channels, where the 
+ * im2col copy dominates the actual matrix multiplication.
+ */
+public class LibMatrixDNNDirectConv 
+{
+	//max number of input channels for direct convolutions w/ non-1x1 filters
+	private static final int MAX_CHANNELS = 4;
+	//max image size (in cells) for direct convolutions w/ 1x1 filters
+	private static final long MAX_IMAGE_SIZE_1x1 = 64 * 1024;
+	
+	/**
+	 * Indicates if the given convolution is supported and beneficial
+	 * for the direct kernels, i.e., dense inputs and outputs, and either
+	 * 1x1 filters over cache-resident images or a small number of input channels.
+	 * 
+	 * @param params convolution parameters
+	 * @param in1 first input (images or filter)
+	 * @param in2 second input (filter or errors)
+	 * @return true if the direct kernels apply
+	 */
+	public static boolean isSupported(DnnParameters params, MatrixBlock in1, MatrixBlock in2) {
+		boolean is1x1 = params.R == 1 && params.S == 1
+			&& (long)params.C * params.H * params.W <= MAX_IMAGE_SIZE_1x1
+			&& (long)params.K * params.P * params.Q <= MAX_IMAGE_SIZE_1x1;
+		return (is1x1 || params.C <= MAX_CHANNELS)
+			&& isDense(in1) && isDense(in2) && isDense(params.output);
+	}
+	
+	/**
+	 * Computes the forward convolution of a single image as
+	 * out[k,p,q] = sum_{c,r,s} w[k,c,r,s] * in[c, p*sh-ph+r, q*sw-pw+s].
+	 * 
+	 * @param in dense input images [N, C*H*W]
+	 * @param filter dense filter [K, C*R*S]
+	 * @param out dense output [N, K*P*Q] (zero-initialized)
+	 * @param n row index of the image
+	 * @param params convolution parameters
+	 */
+	public static void conv2d(double[] in, double[] filter, double[] out, int n, DnnParameters params) {
+		final int C = params.C, H = params.H, W = params.W, K = params.K;
+		final int R = params.R, S = params.S, P = params.P, Q = params.Q;
+		final int HW = H*W, PQ = P*Q, RS = R*S;
+		final int inOff = n*C*HW, outOff = n*K*PQ;
+		for( int k=0; k<K; k++ )
+			for( int c=0; c<C; c++ )
+				for( int r=0; r<R; r++ )
+					for( int s=0; s<S; s++ ) {
+						double wval = filter[k*C*RS + c*RS + r*S + s];
+						if( wval == 0 ) continue;
+						int qmin = getQMin(s, params), qmax = getQMax(s, params);
+						for( int p=0; p<P; p++ ) {
+							int h = p*params.stride_h - params.pad_h + r;
+							if( h < 0 || h >= H || qmin > qmax ) continue;
+							int iix = inOff + c*HW + h*W - params.pad_w + s;
+							int oix = outOff + k*PQ + p*Q;
+							if( params.stride_w == 1 )
+								LibMatrixMult.vectMultiplyAdd(wval, in, out, iix+qmin, oix+qmin, qmax-qmin+1);
+							else
+								for( int q=qmin; q<=qmax; q++ )
+									out[oix+q] += wval * in[iix+q*params.stride_w];
+						}
+					}
+	}
+	
+	/**
+	 * Computes the backward data pass of a single image as
+	 * dx[c, p*sh-ph+r, q*sw-pw+s] += w[k,c,r,s] * dout[k,p,q].
+	 * 
+	 * @param filter dense filter [K, C*R*S]
+	 * @param dout dense errors [N, K*P*Q]
+	 * @param out dense output [N, C*H*W] (zero-initialized)
+	 * @param n row index of the image
+	 * @param params convolution parameters
+	 */
+	public static void conv2dBackwardData(double[] filter, double[] dout, double[] out, int n, DnnParameters params) {
+		final int C = params.C, H = params.H, W = params.W, K = params.K;
+		final int R = params.R, S = params.S, P = params.P, Q = params.Q;
+		final int HW = H*W, PQ = P*Q, RS = R*S;
+		final int doutOff = n*K*PQ, outOff = n*C*HW;
+		for( int c=0; c<C; c++ )
+			for( int k=0; k<K; k++ )
+				for( int r=0; r<R; r++ )
+					for( int s=0; s<S; s++ ) {
+						double wval = filter[k*C*RS + c*RS + r*S + s];
+						if( wval == 0 ) continue;
+						int qmin = getQMin(s, params), qmax = getQMax(s, params);
+						for( int p=0; p<P; p++ ) {
+							int h = p*params.stride_h - params.pad_h + r;
+							if( h < 0 || h >= H || qmin > qmax ) continue;
+							int dix = doutOff + k*PQ + p*Q;
+							int oix = outOff + c*HW + h*W - params.pad_w + s;
+							if( params.stride_w == 1 )
+								LibMatrixMult.vectMultiplyAdd(wval, dout, out, dix+qmin, oix+qmin, qmax-qmin+1);
+							else
+								for( int q=qmin; q<=qmax; q++ )
+									out[oix+q*params.stride_w] += wval * dout[dix+q];
+						}
+					}
+	}
+	
+	/**
+	 * Computes the backward filter pass of a single image as
+	 * dw[k,c,r,s] += sum_{p,q} dout[k,p,q] * in[c, p*sh-ph+r, q*sw-pw+s].
+	 * 
+	 * @param in dense input images [N, C*H*W]
+	 * @param dout dense errors [N, K*P*Q]
+	 * @param out dense partial output [K, C*R*S]
+	 * @param n row index of the image
+	 * @param params convolution parameters
+	 */
+	public static void conv2dBackwardFilter(double[] in, double[] dout, double[] out, int n, DnnParameters params) {
+		final int C = params.C, H = params.H, W = params.W, K = params.K;
+		final int R = params.R, S = params.S, P = params.P, Q = params.Q;
+		final int HW = H*W, PQ = P*Q, RS = R*S;
+		final int inOff = n*C*HW, doutOff = n*K*PQ;
+		for( int k=0; k<K; k++ )
+			for( int c=0; c<C; c++ )
+				for( int r=0; r<R; r++ )
+					for( int s=0; s<S; s++ ) {
+						int qmin = getQMin(s, params), qmax = getQMax(s, params);
+						double sum = 0;
+						for( int p=0; p<P; p++ ) {
+							int h = p*params.stride_h - params.pad_h + r;
+							if( h < 0 || h >= H || qmin > qmax ) continue;
+							int iix = inOff + c*HW + h*W - params.pad_w + s;
+							int dix = doutOff + k*PQ + p*Q;
+							if( params.stride_w == 1 )
+								sum += LibMatrixMult.dotProduct(in, dout, iix+qmin, dix+qmin, qmax-qmin+1);
+							else
+								for( int q=qmin; q<=qmax; q++ )
+									sum += in[iix+q*params.stride_w] * dout[dix+q];
+						}
+						out[k*C*RS + c*RS + r*S + s] += sum;
+					}
+	}
+	
+	//first output column q with a valid input column q*sw-pw+s >= 0
+	private static int getQMin(int s, DnnParameters params) {
+		int tmp = params.pad_w - s;
+		return (tmp <= 0) ? 0 : (tmp + params.stride_w - 1) / params.stride_w;
+	}
+	
+	//last output column q with a valid input column q*sw-pw+s < W
+	private static int getQMax(int s, DnnParameters params) {
+		int tmp = params.W - 1 + params.pad_w - s;
+		return (tmp < 0) ? -1 : Math.min(params.Q - 1, tmp / params.stride_w);
+	}
+	
+	private static boolean isDense(MatrixBlock mb) {
+		return !mb.isInSparseFormat() && mb.getDenseBlock() != null
+			&& mb.getDenseBlock().isContiguous();
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import org.tugraz.sysds.runtime.data.SparseBlock;
+
+/**
+ * This class contains the CPU operators for the lstm and lstm_backward builtin
+ * functions, with the semantics of scripts/nn/layers/lstm.dml. Since the rows
+ * (sequences) of a batch are independent, the batch is split into row ranges, 
+ * and each task processes its rows for all timesteps. Per timestep, all gates
+ * are computed with a single matrix multiplication cbind(X_t, out_prev) %*% W, 
+ * followed by a fused pass for bias, activations, and the cell and output updates,
+ * where all intermediates reside in preallocated per-task buffers.
+ * 
+ * Shapes: X (N, T*D), W (D+M, 4M), b (1, 4M), out0 and c0 (N, M),
+ * out (N, T*M) or (N, M), and gate order i, f, o, g.
+ */
+public class LibMatrixDNNLSTM 
+{
+	/**
+	 * Factory method that returns list of callable tasks for performing lstm
+	 * 
+	 * @param X input sequences (N, T*D)
+	 * @param W weights (D+M, 4M)
+	 * @param b bias (1, 4M)
+	 * @param out0 initial outputs (N, M)
+	 * @param c0 initial cell state (N, M)
+	 * @param returnSeq if true, return outputs of all timesteps
+	 * @param T sequence length
+	 * @param D number of features
+	 * @param out output (N, T*M) or (N, M), dense
+	 * @param cy cell state of the final timestep (N, M), dense
+	 * @param k number of threads
+	 * @return list of callable tasks
+	 */
+	public static ArrayList<Callable<Long>> getLstmWorkers(MatrixBlock X, MatrixBlock W, MatrixBlock b,
+		MatrixBlock out0, MatrixBlock c0, boolean returnSeq, int T, int D, MatrixBlock out, MatrixBlock cy, int k)
+	{
+		ArrayList<Callable<Long>> ret = new ArrayList<>();
+		int N = X.getNumRows();
+		int blklen = (int)Math.ceil((double)N / k);
+		for( int i=0; i*blklen < N; i++ )
+			ret.add(new LstmWorker(i*blklen, Math.min((i+1)*blklen, N),
+				X, W, b, out0, c0, returnSeq, T, D, out, cy));
+		return ret;
+	}
+	
+	/**
+	 * Factory method that returns list of callable tasks for performing lstm_backward
+	 * 
+	 * @param X input sequences (N, T*D)
+	 * @param W weights (D+M, 4M)
+	 * @param b bias (1, 4M)
+	 * @param out0 initial outputs (N, M)
+	 * @param c0 initial cell state (N, M)
+	 * @param returnSeq if true, dout holds the gradients of all timesteps
+	 * @param dout gradients w.r.t. outputs (N, T*M) or (N, M)
+	 * @param dcy gradient w.r.t. the cell state of the final timestep (N, M)
+	 * @param T sequence length
+	 * @param D number of features
+	 * @param dX gradient w.r.t. X (N, T*D), dense
+	 * @param dW gradient w.r.t. W (D+M, 4M), dense, zero-initialized
+	 * @param db gradient w.r.t. b (1, 4M), dense, zero-initialized
+	 * @param dout0 gradient w.r.t. out0 (N, M), dense
+	 * @param dc0 gradient w.r.t. c0 (N, M), dense
+	 * @param k number of threads
+	 * @return list of callable tasks
+	 */
+	public static ArrayList<Callable<Long>> getLstmBackwardWorkers(MatrixBlock X, MatrixBlock W, MatrixBlock b,
+		MatrixBlock out0, MatrixBlock c0, boolean returnSeq, MatrixBlock dout, MatrixBlock dcy, int T, int D,
+		MatrixBlock dX, MatrixBlock dW, MatrixBlock db, MatrixBlock dout0, MatrixBlock dc0, int k)
+	{
+		ArrayList<Callable<Long>> ret = new ArrayList<>();
+		int N = X.getNumRows();
+		int blklen = (int)Math.ceil((double)N / k);
+		//transpose weights once for dinput = difog %*% t(W), shared across tasks
+		MatrixBlock Wt = LibMatrixReorg.transpose(W,
+			new MatrixBlock(W.getNumColumns(), W.getNumRows(), W.isInSparseFormat()));
+		for( int i=0; i*blklen < N; i++ )
+			ret.add(new LstmBackwardWorker(i*blklen, Math.min((i+1)*blklen, N), X, W, Wt, b,
+				out0, c0, returnSeq, dout, dcy, T, D, dX, dW, db, dout0, dc0));
+		return ret;
+	}
+	
+	private static class LstmWorker implements Callable<Long> 
+	{
+		private final int _rl, _ru, _T, _D;
+		private final MatrixBlock _X, _W, _b, _out0, _c0, _out, _cy;
+		private final boolean _returnSeq;
+		
+		public LstmWorker(int rl, int ru, MatrixBlock X, MatrixBlock W, MatrixBlock b, MatrixBlock out0,
+			MatrixBlock c0, boolean returnSeq, int T, int D, MatrixBlock out, MatrixBlock cy)
+		{
+			_rl = rl; _ru = ru; _T = T; _D = D;
+			_X = X; _W = W; _b = b; _out0 = out0; _c0 = c0;
+			_returnSeq = returnSeq;
+			_out = out; _cy = cy;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			final int n = _ru - _rl, D = _D, M = _W.getNumColumns()/4;
+			final int DM = D + M, M4 = 4*M;
+			
+			//preallocated intermediates
+			MatrixBlock input = new MatrixBlock(n, DM, false).allocateBlock();
+			MatrixBlock ifog = new MatrixBlock(n, M4, false).allocateBlock();
+			double[] in = input.getDenseBlockValues();
+			double[] c = new double[n*M];
+			double[] bias = new double[M4];
+			copyRow(_b, 0, 0, M4, bias, 0);
+			for( int i=0; i<n; i++ ) {
+				copyRow(_out0, _rl+i, 0, M, in, i*DM+D);
+				copyRow(_c0, _rl+i, 0, M, c, i*M);
+			}
+			
+			double[] out = _out.getDenseBlockValues();
+			final int outLen = _out.getNumColumns();
+			for( int t=0; t<_T; t++ ) {
+				//input = cbind(X_t, out_prev), ifog = input %*% W
+				for( int i=0; i<n; i++ )
+					copyRow(_X, _rl+i, t*D, D, in, i*DM);
+				double[] a = gates(input, _W, ifog);
+				
+				//fused bias, activations, cell state, and output
+				for( int i=0; i<n; i++ ) {
+					int aix = i*M4, cix = i*M, oix = (_rl+i)*outLen + (_returnSeq ? t*M : 0);
+					for( int j=0; j<M; j++ ) {
+						double ig = sigmoid(a[aix+j] + bias[j]);
+						double fg = sigmoid(a[aix+M+j] + bias[M+j]);
+						double og = sigmoid(a[aix+2*M+j] + bias[2*M+j]);
+						double gg = Math.tanh(a[aix+3*M+j] + bias[3*M+j]);
+						double cval = fg * c[cix+j] + ig * gg;
+						double oval = og * Math.tanh(cval);
+						c[cix+j] = cval;
+						in[i*DM+D+j] = oval;
+						if( _returnSeq || t == _T-1 )
+							out[oix+j] = oval;
+					}
+				}
+			}
+			
+			System.arraycopy(c, 0, _cy.getDenseBlockValues(), _rl*M, n*M);
+			
+			//multi-threaded nnz maintenance of current working set
+			return _out.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
+	private static class LstmBackwardWorker implements Callable<Long> 
+	{
+		private final int _rl, _ru, _T, _D;
+		private final MatrixBlock _X, _W, _Wt, _b, _out0, _c0, _dout, _dcy;
+		private final MatrixBlock _dX, _dW, _db, _dout0, _dc0;
+		private final boolean _returnSeq;
+		
+		public LstmBackwardWorker(int rl, int ru, MatrixBlock X, MatrixBlock W, MatrixBlock Wt, MatrixBlock b,
+			MatrixBlock out0, MatrixBlock c0, boolean returnSeq, MatrixBlock dout, MatrixBlock dcy, int T, int D,
+			MatrixBlock dX, MatrixBlock dW, MatrixBlock db, MatrixBlock dout0, MatrixBlock dc0)
+		{
+			_rl = rl; _ru = ru; _T = T; _D = D;
+			_X = X; _W = W; _Wt = Wt; _b = b; _out0 = out0; _c0 = c0;
+			_returnSeq = returnSeq; _dout = dout; _dcy = dcy;
+			_dX = dX; _dW = dW; _db = db; _dout0 = dout0; _dc0 = dc0;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			final int n = _ru - _rl, T = _T, D = _D, M = _W.getNumColumns()/4;
+			final int DM = D + M, M4 = 4*M;
+			
+			//preallocated intermediates: inputs and activated gates (later, gate
+			//gradients) of all timesteps stacked row-wise, and cell states
+			MatrixBlock inputs = new MatrixBlock(T*n, DM, false).allocateBlock();
+			MatrixBlock ifogs = new MatrixBlock(T*n, M4, false).allocateBlock();
+			MatrixBlock input = new MatrixBlock(n, DM, false).allocateBlock();
+			MatrixBlock ifog = new MatrixBlock(n, M4, false).allocateBlock();
+			double[] ins = inputs.getDenseBlockValues();
+			double[] as = ifogs.getDenseBlockValues();
+			double[] in = input.getDenseBlockValues();
+			double[] cs = new double[(T+1)*n*M];
+			double[] bias = new double[M4];
+			copyRow(_b, 0, 0, M4, bias, 0);
+			for( int i=0; i<n; i++ ) {
+				copyRow(_out0, _rl+i, 0, M, in, i*DM+D);
+				copyRow(_c0, _rl+i, 0, M, cs, i*M);
+			}
+			
+			//recompute forward pass w/ caching of intermediates
+			for( int t=0; t<T; t++ ) {
+				for( int i=0; i<n; i++ )
+					copyRow(_X, _rl+i, t*D, D, in, i*DM);
+				System.arraycopy(in, 0, ins, t*n*DM, n*DM);
+				double[] a = gates(input, _W, ifog);
+				for( int i=0; i<n; i++ ) {
+					int aix = i*M4, six = (t*n+i)*M4;
+					int pix = (t*n+i)*M, cix = ((t+1)*n+i)*M;
+					for( int j=0; j<M; j++ ) {
+						double ig = sigmoid(a[aix+j] + bias[j]);
+						double fg = sigmoid(a[aix+M+j] + bias[M+j]);
+						double og = sigmoid(a[aix+2*M+j] + bias[2*M+j]);
+						double gg = Math.tanh(a[aix+3*M+j] + bias[3*M+j]);
+						double cval = fg * cs[pix+j] + ig * gg;
+						as[six+j] = ig; as[six+M+j] = fg;
+						as[six+2*M+j] = og; as[six+3*M+j] = gg;
+						cs[cix+j] = cval;
+						in[i*DM+D+j] = og * Math.tanh(cval);
+					}
+				}
+			}
+			
+			//backward pass in reverse order of timesteps
+			double[] dct = new double[n*M];
+			double[] dht = new double[n*M];
+			for( int i=0; i<n; i++ )
+				copyRow(_dcy, _rl+i, 0, M, dct, i*M);
+			double[] difog = ifog.getDenseBlockValues();
+			MatrixBlock dinput = new MatrixBlock(n, DM, false).allocateBlock();
+			double[] dX = _dX.getDenseBlockValues();
+			final int doutLen = _dout.getNumColumns();
+			for( int t=T-1; t>=0; t-- ) {
+				//dout_t = dout[,t] + dout_prev (of timestep t+1)
+				if( _returnSeq || t == T-1 )
+					for( int i=0; i<n; i++ )
+						addRow(_dout, _rl+i, (_returnSeq ? t*M : 0), M, dht, i*M);
+				
+				//gate gradients, written into the cached gates
+				for( int i=0; i<n; i++ ) {
+					int six = (t*n+i)*M4, pix = (t*n+i)*M, cix = ((t+1)*n+i)*M, dix = i*M;
+					for( int j=0; j<M; j++ ) {
+						double ig = as[six+j], fg = as[six+M+j];
+						double og = as[six+2*M+j], gg = as[six+3*M+j];
+						double tc = Math.tanh(cs[cix+j]);
+						double dh = dht[dix+j];
+						double dc = dct[dix+j] + og * dh * (1 - tc*tc);
+						double dog = tc * dh;
+						double dfg = cs[pix+j] * dc;
+						double dig = gg * dc;
+						double dgg = ig * dc;
+						dct[dix+j] = fg * dc; //dc_prev
+						as[six+j] = ig * (1-ig) * dig;
+						as[six+M+j] = fg * (1-fg) * dfg;
+						as[six+2*M+j] = og * (1-og) * dog;
+						as[six+3*M+j] = (1-gg*gg) * dgg;
+					}
+				}
+				
+				//dinput = difog %*% t(W), split into dX_t and dout_prev
+				System.arraycopy(as, t*n*M4, difog, 0, n*M4);
+				ifog.setNonZeros((long)n*M4);
+				dinput.reset(n, DM, false);
+				LibMatrixMult.matrixMult(ifog, _Wt, dinput, true);
+				double[] di = getDenseValues(dinput);
+				for( int i=0; i<n; i++ ) {
+					if( di != null ) {
+						System.arraycopy(di, i*DM, dX, (_rl+i)*T*D + t*D, D);
+						System.arraycopy(di, i*DM+D, dht, i*M, M);
+					}
+					else
+						Arrays.fill(dht, i*M, (i+1)*M, 0);
+				}
+			}
+			System.arraycopy(dht, 0, _dout0.getDenseBlockValues(), _rl*M, n*M);
+			System.arraycopy(dct, 0, _dc0.getDenseBlockValues(), _rl*M, n*M);
+			
+			//dW = t(inputs) %*% difogs and db = colSums(difogs) over all timesteps
+			inputs.setNonZeros((long)T*n*DM);
+			ifogs.setNonZeros((long)T*n*M4);
+			MatrixBlock inputsT = LibMatrixReorg.transpose(inputs, new MatrixBlock(DM, T*n, false));
+			MatrixBlock partDW = new MatrixBlock(DM, M4, false);
+			LibMatrixMult.matrixMult(inputsT, ifogs, partDW, true);
+			double[] partDb = new double[M4];
+			for( int r=0; r<T*n; r++ )
+				LibMatrixMult.vectAdd(as, partDb, r*M4, 0, M4);
+			double[] pdw = getDenseValues(partDW);
+			synchronized( _dW ) {
+				if( pdw != null )
+					LibMatrixMult.vectAdd(pdw, _dW.getDenseBlockValues(), 0, 0, DM*M4);
+				LibMatrixMult.vectAdd(partDb, _db.getDenseBlockValues(), 0, 0, M4);
+			}
+			
+			//multi-threaded nnz maintenance of current working set
+			return _dX.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
+	/**
+	 * Computes the gate pre-activations input %*% W (without bias).
+	 * 
+	 * @return dense values of the gate pre-activations
+	 */
+	private static double[] gates(MatrixBlock input, MatrixBlock W, MatrixBlock ifog) {
+		input.setNonZeros((long)input.getNumRows()*input.getNumColumns());
+		ifog.reset(ifog.getNumRows(), ifog.getNumColumns(), false);
+		if( !W.isEmptyBlock(false) )
+			LibMatrixMult.matrixMult(input, W, ifog, true);
+		return ifog.getDenseBlockValues();
+	}
+	
+	//note: nnz are not maintained for intermediates (fixed output representation)
+	private static double[] getDenseValues(MatrixBlock mb) {
+		return (mb.isInSparseFormat() || mb.getDenseBlock() == null) ?
+			null : mb.getDenseBlockValues();
+	}
+	
+	private static double sigmoid(double x) {
+		return 1 / (1 + Math.exp(-x));
+	}
+	
+	private static void copyRow(MatrixBlock in, int r, int cl, int len, double[] out, int pos) {
+		Arrays.fill(out, pos, pos+len, 0);
+		addRow(in, r, cl, len, out, pos);
+	}
+	
+	private static void addRow(MatrixBlock in, int r, int cl, int len, double[] out, int pos) {
+		if( in.isEmptyBlock(false) )
+			return;
+		if( in.isInSparseFormat() ) {
+			SparseBlock sb = in.getSparseBlock();
+			if( sb.isEmpty(r) ) return;
+			int apos = sb.pos(r), alen = sb.size(r);
+			int[] aix = sb.indexes(r);
+			double[] avals = sb.values(r);
+			int astart = (cl > 0) ? sb.posFIndexGTE(r, cl) : 0;
+			if( astart < 0 ) return;
+			for( int j=apos+astart; j<apos+alen && aix[j]<cl+len; j++ )
+				out[pos+aix[j]-cl] += avals[j];
+		}
+		else {
+			double[] a = in.getDenseBlockValues();
+			LibMatrixMult.vectAdd(a, out, r*in.getNumColumns()+cl, pos, len);
+		}
+	}
+}
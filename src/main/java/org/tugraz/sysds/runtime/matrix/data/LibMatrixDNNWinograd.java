@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.util.Arrays;
+
+/**
+ * Pure-Java Winograd minimal filtering F(mxm,3x3) for stride-1 convolutions
+ * with 3x3 filters (Lavin and Gray, "Fast Algorithms for Convolutional Neural 
+ * Networks", CVPR 2016). Every output tile of mxm cells is computed from an 
+ * input tile of (m+2)x(m+2) cells as Y = A^T [sum_c (G g G^T) * (B^T d B)] A, 
+ * where the element-wise products over all channels are evaluated as (m+2)^2 
+ * independent matrix multiplications of the transformed filters [K x C] and 
+ * the transformed input tiles [C x T]. Compared to im2col, this reduces the 
+ * number of multiplications by 2.25x (m=2) and 4x (m=4), and the transformed 
+ * input is smaller than the im2col buffer.
+ */
+public class LibMatrixDNNWinograd 
+{
+	//block size of tiles in the batched matrix multiplications
+	private static final int BLOCKSIZE_TILES = 256;
+	
+	//transform matrices of F(2x2,3x3)
+	private static final double[][] BT2 = {
+		{1, 0, -1, 0}, {0, 1, 1, 0}, {0, -1, 1, 0}, {0, 1, 0, -1}};
+	private static final double[][] G2 = {
+		{1, 0, 0}, {0.5, 0.5, 0.5}, {0.5, -0.5, 0.5}, {0, 0, 1}};
+	private static final double[][] AT2 = {
+		{1, 1, 1, 0}, {0, 1, -1, -1}};
+	
+	//transform matrices of F(4x4,3x3)
+	private static final double[][] BT4 = {
+		{4, 0, -5, 0, 1, 0}, {0, -4, -4, 1, 1, 0}, {0, 4, -4, -1, 1, 0},
+		{0, -2, -1, 2, 1, 0}, {0, 2, -1, -2, 1, 0}, {0, 4, 0, -5, 0, 1}};
+	private static final double[][] G4 = {
+		{1d/4, 0, 0}, {-1d/6, -1d/6, -1d/6}, {-1d/6, 1d/6, -1d/6},
+		{1d/24, 1d/12, 1d/6}, {1d/24, -1d/12, 1d/6}, {0, 0, 1}};
+	private static final double[][] AT4 = {
+		{1, 1, 1, 1, 1, 0}, {0, 1, -1, 2, -2, 0},
+		{0, 1, 1, 4, 4, 0}, {0, 1, -1, 8, -8, 1}};
+	
+	/**
+	 * Indicates if the given convolution is supported by the Winograd kernels,
+	 * i.e., dense inputs, 3x3 filters, stride 1, and a padding of at most 2
+	 * (the latter is required to express the backward data pass as a
+	 * Winograd convolution with padding 2-pad).
+	 * 
+	 * @param params convolution parameters
+	 * @param in1 first input (images or filter)
+	 * @param in2 second input (filter or errors)
+	 * @return true if the Winograd kernels apply
+	 */
+	public static boolean isSupported(DnnParameters params, MatrixBlock in1, MatrixBlock in2) {
+		return params.R == 3 && params.S == 3
+			&& params.stride_h == 1 && params.stride_w == 1
+			&& params.pad_h >= 0 && params.pad_h <= 2
+			&& params.pad_w >= 0 && params.pad_w <= 2
+			&& params.P >= 2 && params.Q >= 2
+			&& isDense(in1) && isDense(in2) && isDense(params.output);
+	}
+	
+	/**
+	 * Chooses the output tile size m, where the larger F(4x4,3x3)
+	 * is only used if the output is large enough to amortize the 
+	 * boundary tiles.
+	 * 
+	 * @param Hout output height
+	 * @param Wout output width
+	 * @return output tile size m (2 or 4)
+	 */
+	public static int getTileSize(int Hout, int Wout) {
+		return (Hout >= 8 && Wout >= 8) ? 4 : 2;
+	}
+	
+	/**
+	 * Transforms the filters g of shape [Cout, Cin, 3, 3] into U = G g G^T,
+	 * stored as (m+2)^2 matrices of shape [Cout x Cin]. For the backward
+	 * data pass, the filter of shape [K, C, 3, 3] is rotated by 180 degrees
+	 * and transposed to [C, K, 3, 3] on the fly.
+	 * 
+	 * @param filter dense filter values of shape [K, C*3*3]
+	 * @param K number of filters
+	 * @param C number of channels
+	 * @param m output tile size
+	 * @param rotate if true, transform rotate180(t(filter)) for the backward data pass
+	 * @return transformed filters of length (m+2)^2*K*C
+	 */
+	public static double[] transformFilter(double[] filter, int K, int C, int m, boolean rotate) {
+		final int t = m + 2;
+		final int Cout = rotate ? C : K, Cin = rotate ? K : C;
+		final double[][] G = (m == 4) ? G4 : G2;
+		double[] ret = new double[t*t*Cout*Cin];
+		double[] g = new double[9];
+		double[] tmp = new double[t*3];
+		for( int ko=0; ko<Cout; ko++ )
+			for( int ci=0; ci<Cin; ci++ ) {
+				//gather 3x3 filter (w/ optional rotate and transpose)
+				int gix = rotate ? (ci*C+ko)*9 : (ko*C+ci)*9;
+				for( int i=0; i<9; i++ )
+					g[i] = filter[gix + (rotate ? 8-i : i)];
+				//tmp = G g (t x 3)
+				for( int i=0; i<t; i++ )
+					for( int j=0; j<3; j++ )
+						tmp[i*3+j] = G[i][0]*g[j] + G[i][1]*g[3+j] + G[i][2]*g[6+j];
+				//U = tmp G^T (t x t), scattered into the xi-th [Cout x Cin] matrix
+				for( int i=0; i<t; i++ )
+					for( int j=0; j<t; j++ ) {
+						double u = tmp[i*3]*G[j][0] + tmp[i*3+1]*G[j][1] + tmp[i*3+2]*G[j][2];
+						ret[((i*t+j)*Cout + ko)*Cin + ci] = u;
+					}
+			}
+		return ret;
+	}
+	
+	/**
+	 * Reusable per-thread intermediates for a given convolution shape.
+	 */
+	public static class WinogradBuffers {
+		private final int _m, _t, _tilesW, _T;
+		private final double[] _v, _mm, _d, _tmp;
+		
+		public WinogradBuffers(int m, int Cin, int Cout, int Hout, int Wout) {
+			_m = m; _t = m + 2;
+			_tilesW = (Wout + m - 1) / m;
+			_T = ((Hout + m - 1) / m) * _tilesW;
+			_v = new double[_t*_t*Cin*_T];
+			_mm = new double[_t*_t*Cout*_T];
+			_d = new double[_t*_t];
+			_tmp = new double[_t*_t];
+		}
+	}
+	
+	/**
+	 * Computes a stride-1 3x3 convolution of a single image.
+	 * 
+	 * @param in dense input values
+	 * @param inOff offset of the image [Cin, Hin, Win] in the input
+	 * @param Cin number of input channels
+	 * @param Hin input height
+	 * @param Win input width
+	 * @param U transformed filters (see transformFilter)
+	 * @param Cout number of output channels
+	 * @param Hout output height
+	 * @param Wout output width
+	 * @param padh padding height
+	 * @param padw padding width
+	 * @param out dense output values
+	 * @param outOff offset of the output image [Cout, Hout, Wout] in the output
+	 * @param buff reusable intermediates
+	 */
+	public static void conv2d(double[] in, int inOff, int Cin, int Hin, int Win, double[] U,
+		int Cout, int Hout, int Wout, int padh, int padw, double[] out, int outOff, WinogradBuffers buff)
+	{
+		final int m = buff._m, t = buff._t, T = buff._T, tilesW = buff._tilesW, tt = t*t;
+		final double[][] BT = (m == 4) ? BT4 : BT2;
+		final double[][] AT = (m == 4) ? AT4 : AT2;
+		final double[] v = buff._v, mm = buff._mm, d = buff._d, tmp = buff._tmp;
+		final int HWin = Hin * Win;
+		
+		//input transform V = B^T d B of all tiles and channels
+		for( int c=0; c<Cin; c++ )
+			for( int tile=0; tile<T; tile++ ) {
+				int h0 = (tile / tilesW) * m - padh;
+				int w0 = (tile % tilesW) * m - padw;
+				//gather zero-padded input tile d
+				for( int i=0, dix=0; i<t; i++ ) {
+					int h = h0 + i;
+					boolean rowValid = h >= 0 && h < Hin;
+					for( int j=0; j<t; j++, dix++ ) {
+						int w = w0 + j;
+						d[dix] = (rowValid && w >= 0 && w < Win) ?
+							in[inOff + c*HWin + h*Win + w] : 0;
+					}
+				}
+				//tmp = B^T d, V = tmp B
+				for( int i=0; i<t; i++ )
+					for( int j=0; j<t; j++ ) {
+						double sum = 0;
+						for( int l=0; l<t; l++ )
+							sum += BT[i][l] * d[l*t+j];
+						tmp[i*t+j] = sum;
+					}
+				for( int i=0; i<t; i++ )
+					for( int j=0; j<t; j++ ) {
+						double sum = 0;
+						for( int l=0; l<t; l++ )
+							sum += tmp[i*t+l] * BT[j][l];
+						v[(i*t+j)*Cin*T + c*T + tile] = sum;
+					}
+			}
+		
+		//batched matrix multiplication M_xi = U_xi %*% V_xi (cache-blocked over tiles)
+		for( int xi=0; xi<tt; xi++ ) {
+			int uix = xi*Cout*Cin, vix = xi*Cin*T, mix = xi*Cout*T;
+			Arrays.fill(mm, mix, mix+Cout*T, 0);
+			for( int bt=0; bt<T; bt+=BLOCKSIZE_TILES ) {
+				int len = Math.min(BLOCKSIZE_TILES, T-bt);
+				for( int k=0; k<Cout; k++ )
+					for( int c=0; c<Cin; c++ ) {
+						double u = U[uix + k*Cin + c];
+						if( u != 0 )
+							LibMatrixMult.vectMultiplyAdd(u, v, mm, vix+c*T+bt, mix+k*T+bt, len);
+					}
+			}
+		}
+		
+		//output transform Y = A^T M A and scatter into valid output cells
+		final int HWout = Hout * Wout;
+		for( int k=0; k<Cout; k++ )
+			for( int tile=0; tile<T; tile++ ) {
+				int p0 = (tile / tilesW) * m;
+				int q0 = (tile % tilesW) * m;
+				for( int xi=0; xi<tt; xi++ )
+					d[xi] = mm[xi*Cout*T + k*T + tile];
+				//tmp = A^T M (m x t), Y = tmp A (m x m)
+				for( int i=0; i<m; i++ )
+					for( int j=0; j<t; j++ ) {
+						double sum = 0;
+						for( int l=0; l<t; l++ )
+							sum += AT[i][l] * d[l*t+j];
+						tmp[i*t+j] = sum;
+					}
+				int pmax = Math.min(m, Hout-p0), qmax = Math.min(m, Wout-q0);
+				for( int i=0; i<pmax; i++ ) {
+					int oix = outOff + k*HWout + (p0+i)*Wout + q0;
+					for( int j=0; j<qmax; j++ ) {
+						double sum = 0;
+						for( int l=0; l<t; l++ )
+							sum += tmp[i*t+l] * AT[j][l];
+						out[oix+j] = sum;
+					}
+				}
+			}
+	}
+	
+	private static boolean isDense(MatrixBlock mb) {
+		return !mb.isInSparseFormat() && mb.getDenseBlock() != null
+			&& mb.getDenseBlock().isContiguous();
+	}
+}
@@ -0,0 +1,605 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.DenseBlockFactory;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Pure-Java dense matrix multiplication (GEMM) with Goto/BLIS-style packing
+ * for use without native BLAS. The computation is blocked into NC column panels
+ * and KC slices of the common dimension (packed B panel, in L3), and MC row blocks
+ * (packed A block, in L2). The packed buffers store MR x KC slivers of A and
+ * KC x NR slivers of B contiguously, which are consumed by a register-blocked
+ * MR x NR micro-kernel. Multi-threaded GEMMs pack each B panel once and share
+ * it read-only across threads, which compute disjoint row blocks of the output.
+ * 
+ * The micro-kernel and block sizes are taken from the configuration (sysds.java.gemm)
+ * as "MRxNR,MC,KC,NC", "none", "default" for a static default, or "auto". With "auto",
+ * the first use loads the tuned configuration of this machine from the local tmp
+ * directory, or otherwise starts the auto-tuning benchmark (see {@link #tune()}) in
+ * a background thread and uses the static default until the result is available.
+ */
+public class LibMatrixGEMM
+{
+	private static final Log LOG = LogFactory.getLog(LibMatrixGEMM.class.getName());
+	
+	//applicability constraints (min dimensions and sparsity of lhs)
+	private static final int MIN_DIM = 64;
+	private static final double MIN_SPARSITY = 0.5;
+	
+	//tuning candidates of micro-kernels (MR x NR) and cache blocking (MC, KC)
+	private static final int[][] KERNELS = new int[][]{{4,4}, {4,6}, {8,4}};
+	private static final int[][] BLOCKS = new int[][]{{64,256}, {128,128}, {96,384}};
+	private static final int DEFAULT_NC = 4096;
+	private static final int TUNE_DIM = 256;
+	private static final int TUNE_REPS = 3;
+	private static final String TUNE_FILE_PREFIX = "javagemm_";
+	
+	//static default configuration (used w/o explicit tuning)
+	private static final GEMMConfig DEFAULT_CONFIG = new GEMMConfig(4, 4, 64, 256, DEFAULT_NC);
+	
+	private static volatile GEMMConfig _config = null;
+	
+	private LibMatrixGEMM() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if the packed GEMM is enabled and applies to the given dimensions,
+	 * where dense lhs inputs with many zeros are left to the sparsity-aware default kernels.
+	 * 
+	 * @param m number of rows of the output
+	 * @param n number of columns of the output
+	 * @param cd common dimension
+	 * @param sp sparsity of the lhs input
+	 * @return true if packed GEMM should be used
+	 */
+	public static boolean isApplicable(int m, int n, int cd, double sp) {
+		return m >= MIN_DIM && n >= MIN_DIM && cd >= MIN_DIM
+			&& sp >= MIN_SPARSITY && getConfig().isEnabled();
+	}
+	
+	/**
+	 * Computes C[rl:ru, cl:cu] += op(A)[rl:ru,] %*% op(B)[,cl:cu], where op is an optional
+	 * transpose, which allows the reuse for tsmm left t(X)%*%X and right X%*%t(X). 
+	 * 
+	 * @param a dense block of lhs input A (or its transpose)
+	 * @param transA true if the lhs is t(a)
+	 * @param b dense block of rhs input B (or its transpose)
+	 * @param transB true if the rhs is t(b)
+	 * @param c dense output block
+	 * @param cd common dimension
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
+	 * @param upper if true, tiles below the diagonal are skipped
+	 */
+	public static void gemm(DenseBlock a, boolean transA, DenseBlock b, boolean transB,
+		DenseBlock c, int cd, int rl, int ru, int cl, int cu, boolean upper)
+	{
+		gemm(a, transA, b, transB, c, cd, rl, ru, cl, cu, upper, getConfig());
+	}
+	
+	/**
+	 * Computes C[0:m, 0:n] += op(A) %*% op(B) with k threads. For each (NC, KC) panel,
+	 * the B panel is packed once (partitioned by slivers across threads) into a shared
+	 * buffer that is read-only during the computation, where the threads compute disjoint
+	 * MC row blocks of the output (round-robin for load balance of triangular outputs).
+	 * 
+	 * @param a dense block of lhs input A (or its transpose)
+	 * @param transA true if the lhs is t(a)
+	 * @param b dense block of rhs input B (or its transpose)
+	 * @param transB true if the rhs is t(b)
+	 * @param c dense output block
+	 * @param m number of rows of the output
+	 * @param n number of columns of the output
+	 * @param cd common dimension
+	 * @param upper if true, tiles below the diagonal are skipped
+	 * @param k maximum parallelism
+	 */
+	public static void gemm(DenseBlock a, boolean transA, DenseBlock b, boolean transB,
+		DenseBlock c, int m, int n, int cd, boolean upper, int k)
+	{
+		final GEMMConfig cfg = getConfig();
+		final int MR = cfg.mr, NR = cfg.nr;
+		//row blocks of at most MC rows, but at least k blocks if possible
+		final int mcp = Math.min(cfg.mc, Math.max(MR, (int)Math.ceil((double)m/k/MR)*MR));
+		final int numBlocks = (int)Math.ceil((double)m/mcp);
+		final int numTasks = Math.min(k, numBlocks);
+		if( numTasks <= 1 ) {
+			gemm(a, transA, b, transB, c, cd, 0, m, 0, n, upper, cfg);
+			return;
+		}
+		
+		//per-call buffers (shared B panel, per-task A blocks and partial tiles)
+		int kcMax = Math.min(cfg.kc, cd);
+		double[] pb = new double[(Math.min(cfg.nc, n) + NR) * kcMax];
+		double[][] pa = new double[numTasks][(mcp + MR) * kcMax];
+		double[][] tiles = new double[numTasks][MR * NR];
+		
+		ExecutorService pool = CommonThreadPool.get(numTasks);
+		try {
+			ArrayList<Callable<Object>> tasks = new ArrayList<>();
+			for( int jc=0; jc<n; jc+=cfg.nc ) {
+				final int jc2 = jc, nc = Math.min(cfg.nc, n-jc);
+				for( int pc=0; pc<cd; pc+=cfg.kc ) {
+					final int pc2 = pc, kc = Math.min(cfg.kc, cd-pc);
+					//pack B panel once, partitioned by slivers
+					int ns = (nc + NR - 1) / NR;
+					tasks.clear();
+					for( int t=0; t<numTasks; t++ ) {
+						int jrl = (int)((long)ns*t/numTasks) * NR;
+						int jru = Math.min((int)((long)ns*(t+1)/numTasks) * NR, nc);
+						if( jrl < jru )
+							tasks.add(() -> {
+								packB(b, transB, pc2, kc, jc2, jrl, jru, NR, pb);
+								return null;
+							});
+					}
+					invokeAll(pool, tasks);
+					//compute disjoint row blocks over the shared B panel
+					tasks.clear();
+					for( int t=0; t<numTasks; t++ ) {
+						final int tix = t;
+						tasks.add(() -> {
+							for( int bi=tix; bi<numBlocks; bi+=numTasks ) {
+								int ic = bi * mcp, mc = Math.min(mcp, m-ic);
+								if( upper && jc2+nc <= ic ) //block below diagonal
+									continue;
+								packA(a, transA, ic, mc, pc2, kc, MR, pa[tix]);
+								macroKernel(MR, NR, ic, mc, jc2, nc, kc, pa[tix], pb, c, upper, tiles[tix]);
+							}
+							return null;
+						});
+					}
+					invokeAll(pool, tasks);
+				}
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private static void gemm(DenseBlock a, boolean transA, DenseBlock b, boolean transB,
+		DenseBlock c, int cd, int rl, int ru, int cl, int cu, boolean upper, GEMMConfig cfg)
+	{
+		final int MR = cfg.mr, NR = cfg.nr;
+		//per-call packing buffers, sized by the actual blocks
+		//(A block, B panel, partial tile) to avoid pinned memory per thread
+		int kcMax = Math.min(cfg.kc, cd);
+		double[] pa = new double[(Math.min(cfg.mc, ru-rl) + MR) * kcMax];
+		double[] pb = new double[(Math.min(cfg.nc, cu-cl) + NR) * kcMax];
+		double[] tile = new double[MR * NR];
+		
+		for( int jc=cl; jc<cu; jc+=cfg.nc ) {
+			int nc = Math.min(cfg.nc, cu-jc);
+			for( int pc=0; pc<cd; pc+=cfg.kc ) {
+				int kc = Math.min(cfg.kc, cd-pc);
+				packB(b, transB, pc, kc, jc, 0, nc, NR, pb);
+				for( int ic=rl; ic<ru; ic+=cfg.mc ) {
+					int mc = Math.min(cfg.mc, ru-ic);
+					if( upper && jc+nc <= ic ) //block below diagonal
+						continue;
+					packA(a, transA, ic, mc, pc, kc, MR, pa);
+					macroKernel(MR, NR, ic, mc, jc, nc, kc, pa, pb, c, upper, tile);
+				}
+			}
+		}
+	}
+	
+	private static void invokeAll(ExecutorService pool, ArrayList<Callable<Object>> tasks)
+		throws InterruptedException, ExecutionException
+	{
+		for( Future<Object> task : pool.invokeAll(tasks) )
+			task.get(); //error handling
+	}
+	
+	private static void macroKernel(int MR, int NR, int ic, int mc, int jc, int nc, int kc,
+		double[] pa, double[] pb, DenseBlock c, boolean upper, double[] tile)
+	{
+		//macro-kernel over micro-tiles (B sliver in L1)
+		for( int jr=0; jr<nc; jr+=NR ) {
+			int nr = Math.min(NR, nc-jr);
+			for( int ir=0; ir<mc; ir+=MR ) {
+				int mr = Math.min(MR, mc-ir);
+				if( upper && jc+jr+nr <= ic+ir ) //tile below diagonal
+					continue;
+				microKernel(MR, NR, kc, pa, ir*kc, pb, jr*kc,
+					c, ic+ir, jc+jr, mr, nr, tile);
+			}
+		}
+	}
+	
+	private static void packA(DenseBlock a, boolean transA, int ic, int mc, int pc, int kc, int MR, double[] pa) {
+		for( int ir=0, off=0; ir<mc; ir+=MR, off+=kc*MR ) {
+			int mr = Math.min(MR, mc-ir);
+			if( !transA ) {
+				for( int i=0; i<mr; i++ ) {
+					double[] avals = a.values(ic+ir+i);
+					int aix = a.pos(ic+ir+i, pc);
+					for( int p=0, pix=off+i; p<kc; p++, pix+=MR )
+						pa[pix] = avals[aix+p];
+				}
+			}
+			else {
+				for( int p=0, pix=off; p<kc; p++, pix+=MR ) {
+					double[] avals = a.values(pc+p);
+					int aix = a.pos(pc+p, ic+ir);
+					for( int i=0; i<mr; i++ )
+						pa[pix+i] = avals[aix+i];
+				}
+			}
+			//zero padding of partial slivers
+			for( int i=mr; i<MR; i++ )
+				for( int p=0, pix=off+i; p<kc; p++, pix+=MR )
+					pa[pix] = 0;
+		}
+	}
+	
+	private static void packB(DenseBlock b, boolean transB, int pc, int kc, int jc, int jrl, int jru, int NR, double[] pb) {
+		//pack slivers [jrl, jru) of the panel starting at column jc
+		for( int jr=jrl, off=jrl/NR*kc*NR; jr<jru; jr+=NR, off+=kc*NR ) {
+			int nr = Math.min(NR, jru-jr);
+			if( !transB ) {
+				for( int p=0, pix=off; p<kc; p++, pix+=NR ) {
+					System.arraycopy(b.values(pc+p), b.pos(pc+p, jc+jr), pb, pix, nr);
+					if( nr < NR )
+						Arrays.fill(pb, pix+nr, pix+NR, 0);
+				}
+			}
+			else {
+				for( int j=0; j<nr; j++ ) {
+					double[] bvals = b.values(jc+jr+j);
+					int bix = b.pos(jc+jr+j, pc);
+					for( int p=0, pix=off+j; p<kc; p++, pix+=NR )
+						pb[pix] = bvals[bix+p];
+				}
+				for( int j=nr; j<NR; j++ )
+					for( int p=0, pix=off+j; p<kc; p++, pix+=NR )
+						pb[pix] = 0;
+			}
+		}
+	}
+	
+	private static void microKernel(int MR, int NR, int kc, double[] pa, int aix, double[] pb, int bix,
+		DenseBlock c, int i0, int j0, int mr, int nr, double[] tile)
+	{
+		if( MR == 4 && NR == 4 )
+			kernel4x4(kc, pa, aix, pb, bix, c, i0, j0, mr, nr, tile);
+		else if( MR == 4 && NR == 6 )
+			kernel4x6(kc, pa, aix, pb, bix, c, i0, j0, mr, nr, tile);
+		else
+			kernel8x4(kc, pa, aix, pb, bix, c, i0, j0, mr, nr, tile);
+	}
+	
+	private static void kernel4x4(int kc, double[] pa, int aix, double[] pb, int bix, DenseBlock c, int i0, int j0, int mr, int nr, double[] tile) {
+		double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+		double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+		double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+		double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+		for( int p=0; p<kc; p++, aix+=4, bix+=4 ) {
+			double a0 = pa[aix+0], a1 = pa[aix+1], a2 = pa[aix+2], a3 = pa[aix+3];
+			double b0 = pb[bix+0], b1 = pb[bix+1], b2 = pb[bix+2], b3 = pb[bix+3];
+			c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+			c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+			c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+			c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+		}
+		if( mr == 4 && nr == 4 ) { //full tile
+			addRow4(c.values(i0+0), c.pos(i0+0, j0), c00, c01, c02, c03);
+			addRow4(c.values(i0+1), c.pos(i0+1, j0), c10, c11, c12, c13);
+			addRow4(c.values(i0+2), c.pos(i0+2, j0), c20, c21, c22, c23);
+			addRow4(c.values(i0+3), c.pos(i0+3, j0), c30, c31, c32, c33);
+		}
+		else { //partial tile at matrix boundaries
+			tile[0] = c00; tile[1] = c01; tile[2] = c02; tile[3] = c03;
+			tile[4] = c10; tile[5] = c11; tile[6] = c12; tile[7] = c13;
+			tile[8] = c20; tile[9] = c21; tile[10] = c22; tile[11] = c23;
+			tile[12] = c30; tile[13] = c31; tile[14] = c32; tile[15] = c33;
+			addTile(tile, 4, c, i0, j0, mr, nr);
+		}
+	}
+	
+	private static void kernel4x6(int kc, double[] pa, int aix, double[] pb, int bix, DenseBlock c, int i0, int j0, int mr, int nr, double[] tile) {
+		double c00 = 0, c01 = 0, c02 = 0, c03 = 0, c04 = 0, c05 = 0;
+		double c10 = 0, c11 = 0, c12 = 0, c13 = 0, c14 = 0, c15 = 0;
+		double c20 = 0, c21 = 0, c22 = 0, c23 = 0, c24 = 0, c25 = 0;
+		double c30 = 0, c31 = 0, c32 = 0, c33 = 0, c34 = 0, c35 = 0;
+		for( int p=0; p<kc; p++, aix+=4, bix+=6 ) {
+			double a0 = pa[aix+0], a1 = pa[aix+1], a2 = pa[aix+2], a3 = pa[aix+3];
+			double b0 = pb[bix+0], b1 = pb[bix+1], b2 = pb[bix+2], b3 = pb[bix+3], b4 = pb[bix+4], b5 = pb[bix+5];
+			c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3; c04 += a0 * b4; c05 += a0 * b5;
+			c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3; c14 += a1 * b4; c15 += a1 * b5;
+			c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3; c24 += a2 * b4; c25 += a2 * b5;
+			c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3; c34 += a3 * b4; c35 += a3 * b5;
+		}
+		if( mr == 4 && nr == 6 ) { //full tile
+			addRow6(c.values(i0+0), c.pos(i0+0, j0), c00, c01, c02, c03, c04, c05);
+			addRow6(c.values(i0+1), c.pos(i0+1, j0), c10, c11, c12, c13, c14, c15);
+			addRow6(c.values(i0+2), c.pos(i0+2, j0), c20, c21, c22, c23, c24, c25);
+			addRow6(c.values(i0+3), c.pos(i0+3, j0), c30, c31, c32, c33, c34, c35);
+		}
+		else { //partial tile at matrix boundaries
+			tile[0] = c00; tile[1] = c01; tile[2] = c02; tile[3] = c03; tile[4] = c04; tile[5] = c05;
+			tile[6] = c10; tile[7] = c11; tile[8] = c12; tile[9] = c13; tile[10] = c14; tile[11] = c15;
+			tile[12] = c20; tile[13] = c21; tile[14] = c22; tile[15] = c23; tile[16] = c24; tile[17] = c25;
+			tile[18] = c30; tile[19] = c31; tile[20] = c32; tile[21] = c33; tile[22] = c34; tile[23] = c35;
+			addTile(tile, 6, c, i0, j0, mr, nr);
+		}
+	}
+	
+	private static void kernel8x4(int kc, double[] pa, int aix, double[] pb, int bix, DenseBlock c, int i0, int j0, int mr, int nr, double[] tile) {
+		double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+		double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+		double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+		double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+		double c40 = 0, c41 = 0, c42 = 0, c43 = 0;
+		double c50 = 0, c51 = 0, c52 = 0, c53 = 0;
+		double c60 = 0, c61 = 0, c62 = 0, c63 = 0;
+		double c70 = 0, c71 = 0, c72 = 0, c73 = 0;
+		for( int p=0; p<kc; p++, aix+=8, bix+=4 ) {
+			double a0 = pa[aix+0], a1 = pa[aix+1], a2 = pa[aix+2], a3 = pa[aix+3], a4 = pa[aix+4], a5 = pa[aix+5], a6 = pa[aix+6], a7 = pa[aix+7];
+			double b0 = pb[bix+0], b1 = pb[bix+1], b2 = pb[bix+2], b3 = pb[bix+3];
+			c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+			c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+			c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+			c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+			c40 += a4 * b0; c41 += a4 * b1; c42 += a4 * b2; c43 += a4 * b3;
+			c50 += a5 * b0; c51 += a5 * b1; c52 += a5 * b2; c53 += a5 * b3;
+			c60 += a6 * b0; c61 += a6 * b1; c62 += a6 * b2; c63 += a6 * b3;
+			c70 += a7 * b0; c71 += a7 * b1; c72 += a7 * b2; c73 += a7 * b3;
+		}
+		if( mr == 8 && nr == 4 ) { //full tile
+			addRow4(c.values(i0+0), c.pos(i0+0, j0), c00, c01, c02, c03);
+			addRow4(c.values(i0+1), c.pos(i0+1, j0), c10, c11, c12, c13);
+			addRow4(c.values(i0+2), c.pos(i0+2, j0), c20, c21, c22, c23);
+			addRow4(c.values(i0+3), c.pos(i0+3, j0), c30, c31, c32, c33);
+			addRow4(c.values(i0+4), c.pos(i0+4, j0), c40, c41, c42, c43);
+			addRow4(c.values(i0+5), c.pos(i0+5, j0), c50, c51, c52, c53);
+			addRow4(c.values(i0+6), c.pos(i0+6, j0), c60, c61, c62, c63);
+			addRow4(c.values(i0+7), c.pos(i0+7, j0), c70, c71, c72, c73);
+		}
+		else { //partial tile at matrix boundaries
+			tile[0] = c00; tile[1] = c01; tile[2] = c02; tile[3] = c03;
+			tile[4] = c10; tile[5] = c11; tile[6] = c12; tile[7] = c13;
+			tile[8] = c20; tile[9] = c21; tile[10] = c22; tile[11] = c23;
+			tile[12] = c30; tile[13] = c31; tile[14] = c32; tile[15] = c33;
+			tile[16] = c40; tile[17] = c41; tile[18] = c42; tile[19] = c43;
+			tile[20] = c50; tile[21] = c51; tile[22] = c52; tile[23] = c53;
+			tile[24] = c60; tile[25] = c61; tile[26] = c62; tile[27] = c63;
+			tile[28] = c70; tile[29] = c71; tile[30] = c72; tile[31] = c73;
+			addTile(tile, 4, c, i0, j0, mr, nr);
+		}
+	}
+	
+	private static void addRow4(double[] c, int cix, double v0, double v1, double v2, double v3) {
+		c[cix+0] += v0; c[cix+1] += v1; c[cix+2] += v2; c[cix+3] += v3;
+	}
+	
+	private static void addRow6(double[] c, int cix, double v0, double v1, double v2, double v3, double v4, double v5) {
+		c[cix+0] += v0; c[cix+1] += v1; c[cix+2] += v2; c[cix+3] += v3; c[cix+4] += v4; c[cix+5] += v5;
+	}
+	
+	private static void addTile(double[] tile, int NR, DenseBlock c, int i0, int j0, int mr, int nr) {
+		for( int i=0; i<mr; i++ ) {
+			double[] cvals = c.values(i0+i);
+			int cix = c.pos(i0+i, j0);
+			for( int j=0; j<nr; j++ )
+				cvals[cix+j] += tile[i*NR+j];
+		}
+	}
+	
+	private static GEMMConfig getConfig() {
+		GEMMConfig ret = _config;
+		if( ret == null ) {
+			synchronized( LibMatrixGEMM.class ) {
+				if( (ret = _config) == null ) {
+					DMLConfig conf = ConfigurationManager.getDMLConfig();
+					String val = conf.getTextValue(DMLConfig.JAVA_GEMM);
+					val = (val != null) ? val.trim() : "default";
+					ret = val.equalsIgnoreCase("default") ? DEFAULT_CONFIG :
+						val.equalsIgnoreCase("auto") ? getTunedConfig(getTuningFile(conf)) :
+						GEMMConfig.parse(val);
+					_config = ret;
+				}
+			}
+		}
+		return ret;
+	}
+	
+	private static GEMMConfig getTunedConfig(File file) {
+		//reuse the persisted tuning result of this machine if available
+		if( file.exists() ) {
+			try {
+				return GEMMConfig.parse(new String(Files.readAllBytes(file.toPath())).trim());
+			}
+			catch(Exception ex) {
+				LOG.warn("Failed to read java gemm configuration "+file+", tuning again.", ex);
+			}
+		}
+		
+		//non-blocking tuning in a background thread (static default meanwhile),
+		//where the result is applied once the caller releases the class lock
+		Thread tuner = new Thread(() -> {
+			GEMMConfig cfg = tuneConfig();
+			writeTunedConfig(file, cfg);
+			synchronized( LibMatrixGEMM.class ) {
+				_config = cfg;
+			}
+		}, "JavaGEMMTuner");
+		tuner.setDaemon(true);
+		tuner.start();
+		return DEFAULT_CONFIG;
+	}
+	
+	private static File getTuningFile(DMLConfig conf) {
+		//one configuration per machine type (architecture and number of cores)
+		String fname = TUNE_FILE_PREFIX + System.getProperty("os.arch") + "_"
+			+ Runtime.getRuntime().availableProcessors() + ".conf";
+		return new File(conf.getTextValue(DMLConfig.LOCAL_TMP_DIR), fname);
+	}
+	
+	private static void writeTunedConfig(File file, GEMMConfig cfg) {
+		try {
+			//write and atomic rename for concurrent processes
+			file.getParentFile().mkdirs();
+			File tmp = File.createTempFile(TUNE_FILE_PREFIX, ".tmp", file.getParentFile());
+			Files.write(tmp.toPath(), cfg.toString().getBytes());
+			Files.move(tmp.toPath(), file.toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(Exception ex) {
+			LOG.warn("Failed to persist java gemm configuration "+file+".", ex);
+		}
+	}
+	
+	/**
+	 * Resets the selected configuration, which is obtained
+	 * again from the configuration at next use.
+	 */
+	public static void resetConfig() {
+		_config = null;
+	}
+	
+	/**
+	 * Runs the auto-tuning benchmark over all micro-kernels and block sizes,
+	 * selects the best configuration for subsequent use in this process, and
+	 * persists it for later processes on this machine with sysds.java.gemm=auto.
+	 * With "auto", this benchmark runs implicitly in a background thread on
+	 * first use if no persisted configuration exists.
+	 * 
+	 * @return selected configuration as "MRxNR,MC,KC,NC" or "none"
+	 */
+	public static String tune() {
+		GEMMConfig ret = tuneConfig();
+		writeTunedConfig(getTuningFile(ConfigurationManager.getDMLConfig()), ret);
+		_config = ret;
+		return ret.toString();
+	}
+	
+	private static GEMMConfig tuneConfig() {
+		final int n = TUNE_DIM;
+		DenseBlock a = createRandDenseBlock(n, 7);
+		DenseBlock b = createRandDenseBlock(n, 3);
+		DenseBlock c = DenseBlockFactory.createDenseBlock(n, n);
+		
+		//candidate configurations (incl unpacked default kernel)
+		GEMMConfig[] cands = new GEMMConfig[KERNELS.length * BLOCKS.length + 1];
+		cands[0] = GEMMConfig.DISABLED;
+		for( int i=0; i<KERNELS.length; i++ )
+			for( int j=0; j<BLOCKS.length; j++ )
+				cands[1+i*BLOCKS.length+j] = new GEMMConfig(
+					KERNELS[i][0], KERNELS[i][1], BLOCKS[j][0], BLOCKS[j][1], DEFAULT_NC);
+		
+		//measure min runtime per candidate after a warmup pass over all candidates
+		long[] times = new long[cands.length];
+		Arrays.fill(times, Long.MAX_VALUE);
+		for( int r=0; r<=TUNE_REPS; r++ )
+			for( int i=0; i<cands.length; i++ ) {
+				long t0 = System.nanoTime();
+				if( !cands[i].isEnabled() )
+					LibMatrixMult.matrixMultDenseDenseMM(a, b, c, n, n, 0, n, 0, n);
+				else
+					gemm(a, false, b, false, c, n, 0, n, 0, n, false, cands[i]);
+				if( r > 0 )
+					times[i] = Math.min(times[i], System.nanoTime()-t0);
+			}
+		
+		int best = 0;
+		for( int i=1; i<cands.length; i++ )
+			best = (times[i] < times[best]) ? i : best;
+		if( LOG.isDebugEnabled() )
+			LOG.debug("Java GEMM auto-tuning selected "+cands[best]+" ("+times[best]/1e6
+				+" ms vs "+times[0]/1e6+" ms unpacked).");
+		return cands[best];
+	}
+	
+	private static DenseBlock createRandDenseBlock(int n, long seed) {
+		Random rand = new Random(seed);
+		double[] data = new double[n*n];
+		for( int i=0; i<data.length; i++ )
+			data[i] = rand.nextDouble();
+		return DenseBlockFactory.createDenseBlock(data, n, n);
+	}
+	
+	private static class GEMMConfig {
+		private static final GEMMConfig DISABLED = new GEMMConfig(0, 0, 0, 0, 0);
+		private final int mr, nr, mc, kc, nc;
+		
+		private GEMMConfig(int mr, int nr, int mc, int kc, int nc) {
+			this.mr = mr;
+			this.nr = nr;
+			this.mc = mc;
+			this.kc = kc;
+			this.nc = nc;
+		}
+		
+		private boolean isEnabled() {
+			return mr > 0;
+		}
+		
+		private static GEMMConfig parse(String val) {
+			if( val.equalsIgnoreCase("none") )
+				return DISABLED;
+			try {
+				String[] parts = val.split(",");
+				String[] kernel = parts[0].toLowerCase().split("x");
+				GEMMConfig ret = new GEMMConfig(Integer.parseInt(kernel[0]), Integer.parseInt(kernel[1]),
+					Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+				for( int[] k : KERNELS )
+					if( k[0] == ret.mr && k[1] == ret.nr && ret.mc > 0 && ret.kc > 0 && ret.nc > 0 )
+						return ret;
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException("Invalid java gemm configuration: "+val, ex);
+			}
+			throw new DMLRuntimeException("Invalid java gemm configuration: "+val);
+		}
+		
+		@Override
+		public String toString() {
+			return isEnabled() ? mr+"x"+nr+","+mc+","+kc+","+nc : "none";
+		}
+	}
+}
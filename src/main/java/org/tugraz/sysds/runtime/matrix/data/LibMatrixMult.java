@@ -30,6 +30,7 @@ import java.util.stream.IntStream;
 
 import org.apache.commons.math3.util.FastMath;
 import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.estim.EstimatorMatrixHistogram;
 import org.tugraz.sysds.lops.MapMultChain.ChainType;
 import org.tugraz.sysds.lops.WeightedCrossEntropy.WCeMMType;
 import org.tugraz.sysds.lops.WeightedDivMM.WDivMMType;
@@ -39,6 +40,7 @@ import org.tugraz.sysds.lops.WeightedUnaryMM.WUMMType;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.DenseBlockFP32;
 import org.tugraz.sysds.runtime.data.DenseBlockFactory;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlockCSR;
@@ -68,6 +70,12 @@ public class LibMatrixMult
 	private static final long PAR_MINFLOP_THRESHOLD2 = 128L*1024; //MIN 2 MFLOP
 	public static final int L2_CACHESIZE = 256 * 1024; //256KB (common size)
 	public static final int L3_CACHESIZE = 16 * 1024 * 1024; //16MB (common size)
+	private static final boolean SPARSE_SPGEMM = true; //two-phase sparse-sparse into CSR
+	private static final int SPGEMM_DENSE_ACC_RATIO = 16; //dense accumulator if row nnz > n/16
+	public static final int SPMV_MAX_NUM_VECTORS = 8; //sparse mv/mtv for up to 8 rhs columns
+	private static final int SPMV_CSR_MAX_ROW_NNZ = 32; //csr snapshot of mcsr with short rows
+	private static final long SPMV_MIN_NNZ_PER_TASK = 64L*1024; //nnz-based parallelism
+	private static final long SPMTV_MAX_ACC_MEMORY = 64L*1024*1024; //MAX 64 MB thread-local results
 	
 	private LibMatrixMult() {
 		//prevent instantiation via private constructor
@@ -119,6 +127,27 @@ public class LibMatrixMult
 			return;
 		}
 		
+		//single-precision dense matrix mult (fp32 mode) or fp64 copies of fp32 inputs
+		if( m1.isFP32() || m2.isFP32() ) {
+			if( !fixedRet && rl == 0 && ru == m1.rlen && MatrixBlock.isFP32Applicable(m1, m2) ) {
+				matrixMultFP32(m1.getFP32(), m2.getFP32(), ret, 1);
+				return;
+			}
+			m1 = m1.getFP64();
+			m2 = m2.getFP64();
+		}
+		
+		//two-phase sparse-sparse matrix mult with exact output allocation
+		if( !fixedRet && rl == 0 && ru == m1.rlen
+			&& isSparseOutputSpGEMM(m1, m2) && matrixMultSparseSparseCSR(m1, m2, ret, 1) )
+			return;
+		
+		//sparse matrix-vector / skinny matrix-matrix (csr snapshots passed by callers)
+		if( !fixedRet && rl == 0 && ru == m1.rlen && isSparseMatrixVectorMult(m1, m2) ) {
+			matrixMultSpMV(m1, m2, ret, 1);
+			return;
+		}
+		
 		//Timing time = new Timing(true);
 		
 		//pre-processing: output allocation
@@ -174,12 +203,32 @@ public class LibMatrixMult
 			return;
 		}
 		
+		//single-precision dense matrix mult (fp32 mode) or fp64 copies of fp32 inputs
+		if( m1.isFP32() || m2.isFP32() ) {
+			if( MatrixBlock.isFP32Applicable(m1, m2) ) {
+				matrixMultFP32(m1.getFP32(), m2.getFP32(), ret, k);
+				return;
+			}
+			m1 = m1.getFP64();
+			m2 = m2.getFP64();
+		}
+		
+		//sparse matrix-vector / skinny matrix-matrix with nnz-based parallelism
+		if( isSparseMatrixVectorMult(m1, m2) ) {
+			matrixMultSpMV(m1, m2, ret, k);
+			return;
+		}
+		
 		//check too small workload and fallback to sequential if needed
 		if( !satisfiesMultiThreadingConstraints(m1, m2, m1.rlen==1, true, 2, k) ) {
 			matrixMult(m1, m2, ret);
 			return;
 		}
 		
+		//two-phase sparse-sparse matrix mult with exact output allocation
+		if( isSparseOutputSpGEMM(m1, m2) && matrixMultSparseSparseCSR(m1, m2, ret, k) )
+			return;
+		
 		//Timing time = new Timing(true);
 		
 		//pre-processing: output allocation (in contrast to single-threaded,
@@ -195,6 +244,15 @@ public class LibMatrixMult
 			return;
 		}
 		
+		//packed gemm w/ rhs panels packed once and shared across threads
+		if( !ultraSparse && !tm2 && isPackedGEMM(m1, m2) ) {
+			LibMatrixGEMM.gemm(m1.getDenseBlock(), false, m2.getDenseBlock(), false,
+				ret.getDenseBlock(), m1.rlen, m2.clen, m1.clen, false, k);
+			ret.recomputeNonZeros();
+			ret.examSparsity();
+			return;
+		}
+		
 		//prepare row-upper for special cases of vector-matrix / matrix-matrix
 		boolean pm2r = !ultraSparse && checkParMatrixMultRightInputRows(m1, m2, k);
 		boolean pm2c = !ultraSparse && checkParMatrixMultRightInputCols(m1, m2, k, pm2r);
@@ -233,6 +291,81 @@ public class LibMatrixMult
 		//		"("+m2.isInSparseFormat()+","+m2.getNumRows()+","+m2.getNumColumns()+","+m2.getNonZeros()+") in "+time.stop());
 	}
 	
+	/**
+	 * Performs a transposed sparse matrix-vector (or skinny matrix-matrix) multiplication
+	 * t(m1) %*% m2 without materializing the transpose of m1. The computation is parallelized
+	 * over row partitions of m1 with balanced nnz, where each task scatters into a thread-local
+	 * accumulator of the output, which are finally summed up.
+	 * 
+	 * @param m1 first matrix (sparse, not transposed)
+	 * @param m2 second matrix (dense, few columns)
+	 * @param ret result matrix of size m1.clen x m2.clen
+	 * @param k maximum parallelism
+	 */
+	public static void matrixMultSpMTV(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		//check inputs / outputs
+		if( m1.isEmptyBlock(false) || m2.isEmptyBlock(false) ) {
+			ret.examSparsity(); //turn empty dense into sparse
+			return;
+		}
+		
+		//pre-processing: fp64 copy of fp32 vectors and dense output allocation
+		m2 = m2.getFP64();
+		SparseBlock a = m1.sparseBlock;
+		final int n = m2.clen;
+		final long accSize = 8L * m1.clen * n;
+		ret.sparse = false;
+		ret.allocateDenseBlock();
+		
+		//core transposed matrix mult computation (thread-local accumulators
+		//limited by memory, first task directly writes into the output)
+		int numTasks = (int) Math.min(getNumSpMVTasks(m1, n, k),
+			Math.max(1, SPMTV_MAX_ACC_MEMORY / accSize));
+		if( numTasks <= 1 )
+			matrixMultSpMTV(a, m2.getDenseBlockValues(), ret.getDenseBlockValues(), n, 0, m1.rlen);
+		else {
+			try {
+				ExecutorService pool = CommonThreadPool.get(numTasks);
+				ArrayList<MatrixMultSpMVTask> tasks = new ArrayList<>();
+				int[] parts = getBalancedSpMVPartitions(a, m1.rlen, m1.nonZeros, numTasks);
+				for( int i=0; i<numTasks; i++ )
+					tasks.add(new MatrixMultSpMVTask(a, m2.getDenseBlock(), (i==0) ? ret : null,
+						null, null, n, m1.clen, true, parts[i], parts[i+1]));
+				List<Future<Object>> taskret = pool.invokeAll(tasks);
+				pool.shutdown();
+				//aggregate partial results into output
+				double[][] partret = new double[numTasks-1][];
+				for( int i=1; i<numTasks; i++ )
+					partret[i-1] = (double[]) taskret.get(i).get();
+				taskret.get(0).get(); //error handling
+				sumDenseResults(partret, ret.getDenseBlockValues());
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		
+		//post-processing: nnz/representation
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+	}
+	
+	/**
+	 * Indicates if the transpose-free t(m1) %*% m2 is applicable, which requires
+	 * a sparse m1 and a dense m2 with few columns.
+	 * 
+	 * @param m1 first matrix (not transposed)
+	 * @param m2 second matrix
+	 * @return true if matrixMultSpMTV is applicable
+	 */
+	public static boolean isSparseMatrixTransposeVectorMult(MatrixBlock m1, MatrixBlock m2) {
+		return LOW_LEVEL_OPTIMIZATION && m1.rlen == m2.rlen
+			&& m1.sparse && !m2.sparse && m2.clen <= SPMV_MAX_NUM_VECTORS
+			&& (long)m1.clen * m2.clen <= Integer.MAX_VALUE
+			&& m1.nonZeros <= Integer.MAX_VALUE
+			&& (m2.getDenseBlock() == null || m2.getDenseBlock().isContiguous());
+	}
+	
 	/**
 	 * Performs a matrix multiplication chain operation of type t(X)%*%(X%*%v) or t(X)%*%(w*(X%*%v)).
 	 * 
@@ -379,6 +512,19 @@ public class LibMatrixMult
 		//pre-processing (no need to check isThreadSafe)
 		ret.sparse = false;
 		ret.allocateDenseBlock();
+		
+		//packed gemm of upper-triangular tiles w/ shared rhs panels
+		if( isPackedGEMMTransposeSelf(m1, leftTranspose) ) {
+			DenseBlock a = m1.getDenseBlock();
+			if( leftTranspose )
+				LibMatrixGEMM.gemm(a, true, a, false, ret.getDenseBlock(), m1.clen, m1.clen, m1.rlen, true, k);
+			else
+				LibMatrixGEMM.gemm(a, false, a, true, ret.getDenseBlock(), m1.rlen, m1.rlen, m1.clen, true, k);
+			long nnz = copyUpperToLowerTriangle(ret);
+			ret.setNonZeros(nnz);
+			ret.examSparsity();
+			return;
+		}
 	
 		//core multi-threaded matrix mult computation
 		try {
@@ -932,6 +1078,10 @@ public class LibMatrixMult
 			else if( tm2 ) {                //MATRIX-MATRIX (skinny rhs)
 				matrixMultDenseDenseMMSkinnyRHS(a, b, c, m2.rlen, cd, rl, ru);
 			}
+			else if( LibMatrixGEMM.isApplicable(m, n, cd, m1.getSparsity()) ) {
+				//MATRIX-MATRIX (packed gemm)
+				LibMatrixGEMM.gemm(a, false, b, false, c, cd, rl, ru, cl, cu, false);
+			}
 			else {                          //MATRIX-MATRIX
 				matrixMultDenseDenseMM(a, b, c, n, cd, rl, ru, cl, cu);
 			}
@@ -1109,6 +1259,83 @@ public class LibMatrixMult
 					}
 				}
 	}
+	
+	/**
+	 * Single-precision dense-dense matrix multiplication (fp32 mode) over
+	 * FP32 inputs into a FP32 output, parallelized over rows of the output.
+	 */
+	private static void matrixMultFP32(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		final int m = m1.rlen;
+		float[] a = ((DenseBlockFP32)m1.getDenseBlock()).getData();
+		float[] b = ((DenseBlockFP32)m2.getDenseBlock()).getData();
+		ret.allocateDenseBlockFP32();
+		float[] c = ((DenseBlockFP32)ret.getDenseBlock()).getData();
+		
+		long nnz = 0;
+		if( k <= 1 || m == 1 ) {
+			nnz = matrixMultDenseDenseFP32(a, b, c, m1.clen, m2.clen, 0, m);
+		}
+		else {
+			try {
+				ExecutorService pool = CommonThreadPool.get(k);
+				ArrayList<MatrixMultFP32Task> tasks = new ArrayList<>();
+				ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m, k, false);
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new MatrixMultFP32Task(a, b, c, m1.clen, m2.clen, lb, lb+blklens.get(i)));
+				for( Future<Long> task : pool.invokeAll(tasks) )
+					nnz += task.get();
+				pool.shutdown();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		ret.setNonZeros(nnz);
+		ret.examSparsity();
+	}
+	
+	private static long matrixMultDenseDenseFP32(float[] a, float[] b, float[] c, int cd, int n, int rl, int ru) {
+		long nnz = 0;
+		if( n == 1 ) { //MATRIX-VECTOR
+			for( int i=rl, aix=rl*cd; i<ru; i++, aix+=cd ) {
+				double val = 0; //double accumulation
+				for( int k=0; k<cd; k++ )
+					val += a[aix+k] * (double)b[k];
+				c[i] = (float) val;
+				nnz += (c[i] != 0) ? 1 : 0;
+			}
+			return nnz;
+		}
+		
+		//MATRIX-MATRIX: blocked IKJ with double accumulators per output block,
+		//which are rounded once to fp32 after the entire common dimension
+		final int blocksizeI = 16, blocksizeK = 256, blocksizeJ = 512;
+		double[] acc = new double[blocksizeI * blocksizeJ];
+		for( int bi=rl; bi<ru; bi+=blocksizeI ) {
+			int bimin = Math.min(ru, bi+blocksizeI);
+			for( int bj=0; bj<n; bj+=blocksizeJ ) {
+				int bjlen = Math.min(n, bj+blocksizeJ) - bj;
+				Arrays.fill(acc, 0);
+				for( int bk=0; bk<cd; bk+=blocksizeK ) {
+					int bkmin = Math.min(cd, bk+blocksizeK);
+					for( int i=bi, tix=0; i<bimin; i++, tix+=bjlen )
+						for( int k=bk, aix=i*cd+bk; k<bkmin; k++, aix++ ) {
+							double aval = a[aix];
+							if( aval == 0 )
+								continue;
+							for( int j=0, bix=k*n+bj; j<bjlen; j++ )
+								acc[tix+j] += aval * b[bix+j];
+						}
+				}
+				for( int i=bi, tix=0; i<bimin; i++, tix+=bjlen )
+					for( int j=0, cix=i*n+bj; j<bjlen; j++ ) {
+						c[cix+j] = (float) acc[tix+j];
+						nnz += (c[cix+j] != 0) ? 1 : 0;
+					}
+			}
+		}
+		return nnz;
+	}
 
 	private static void matrixMultDenseSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, boolean pm2, int rl, int ru) {
 		DenseBlock a = m1.getDenseBlock();
@@ -1495,6 +1722,408 @@ public class LibMatrixMult
 		}
 	}
 
+	/**
+	 * Two-phase sparse-sparse matrix multiplication (SpGEMM) with a CSR output. A symbolic
+	 * pass computes the exact nnz per output row, which allows a single exact allocation of
+	 * the CSR arrays and a numeric pass that writes all rows in place. Both passes are
+	 * parallelized over row partitions. The numeric pass chooses per row a dense accumulator
+	 * (for rows with many non-zeros) or a hash accumulator with subsequent sort.
+	 * 
+	 * @param m1 first matrix (sparse)
+	 * @param m2 second matrix (sparse)
+	 * @param ret result matrix
+	 * @param k degree of parallelism
+	 * @return true if the output has been computed, false if the exact nnz
+	 *   requires a dense output (or exceeds the CSR capacity)
+	 */
+	private static boolean matrixMultSparseSparseCSR(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		final int m = m1.rlen;
+		final int n = m2.clen;
+		final int[] rptr = new int[m+1];
+		final int[] cnt = new int[m];
+		
+		//phase 1: symbolic pass (exact structural nnz per row)
+		k = (satisfiesMultiThreadingConstraints(m1, m2, false, true, 2, k)) ? k : 1;
+		ArrayList<Integer> blklens = (k > 1) ? //over-partitioning for skew
+			UtilFunctions.getBalancedBlockSizesDefault(m, Math.min(4*k, m), true) : null;
+		executeSpGEMMTasks(m1, m2, null, null, cnt, blklens, k);
+		
+		//prefix sums over row counts and output format decision
+		long nnz = 0;
+		for( int i=0; i<m; i++ )
+			rptr[i+1] = (int) (nnz += cnt[i]);
+		if( nnz > Integer.MAX_VALUE || !MatrixBlock.evalSparseFormatInMemory(m, n, nnz) )
+			return false;
+		
+		//phase 2: numeric pass into preallocated CSR arrays
+		int[] cix = new int[(int)nnz];
+		double[] cvals = new double[(int)nnz];
+		SparseBlockCSR c = new SparseBlockCSR(rptr, cix, cvals, (int)nnz);
+		executeSpGEMMTasks(m1, m2, c, rptr, cnt, blklens, k);
+		
+		//compaction of zeros due to numeric cancellation (cnt holds actual nnz)
+		long lnnz = 0;
+		for( int i=0; i<m; i++ )
+			lnnz += cnt[i];
+		if( lnnz < nnz ) {
+			int pos = 0;
+			for( int i=0; i<m; i++ ) {
+				int rpos = rptr[i];
+				System.arraycopy(cix, rpos, cix, pos, cnt[i]);
+				System.arraycopy(cvals, rpos, cvals, pos, cnt[i]);
+				rptr[i] = pos;
+				pos += cnt[i];
+			}
+			rptr[m] = pos;
+			c = new SparseBlockCSR(rptr, cix, cvals, pos);
+		}
+		
+		//set output (sparse, nnz maintained)
+		ret.reset(m, n, true);
+		ret.sparseBlock = c;
+		ret.nonZeros = lnnz;
+		return true;
+	}
+	
+	private static void executeSpGEMMTasks(MatrixBlock m1, MatrixBlock m2, SparseBlockCSR c,
+		int[] rptr, int[] cnt, ArrayList<Integer> blklens, int k)
+	{
+		try {
+			if( k <= 1 ) {
+				new MatrixMultSpGEMMTask(m1, m2, c, rptr, cnt, 0, m1.rlen).call();
+				return;
+			}
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<MatrixMultSpGEMMTask> tasks = new ArrayList<>();
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new MatrixMultSpGEMMTask(m1, m2, c, rptr, cnt, lb, lb+blklens.get(i)));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Sparse matrix-vector multiplication (SpMV) or sparse-dense matrix multiplication
+	 * with few rhs columns (SpMM). For MCSR inputs with short rows, the CP instruction
+	 * passes a CSR snapshot cached by the matrix object (see {@link #createSpMVSnapshot}),
+	 * which is reused by repeated products (e.g., in iterative solvers). The parallelism is determined
+	 * by the number of non-zeros, and the row partitions are balanced by nnz. Ultra-sparse
+	 * outputs of skinny matrix-matrix products are directly written into CSR arrays.
+	 * 
+	 * @param m1 first matrix (sparse)
+	 * @param m2 second matrix (dense, few columns)
+	 * @param ret result matrix
+	 * @param k maximum parallelism
+	 */
+	private static void matrixMultSpMV(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		final int m = m1.rlen;
+		final int n = m2.clen;
+		
+		//pre-processing: number of row partitions
+		//(fp32 inputs are already converted to fp64 copies by the callers)
+		SparseBlock a = m1.sparseBlock;
+		int numTasks = getNumSpMVTasks(m1, n, k);
+		int[] parts = (numTasks > 1) ?
+			getBalancedSpMVPartitions(a, m, m1.nonZeros, numTasks) : new int[]{0, m};
+		
+		//ultra-sparse output (upper bound of n nnz per non-empty row)
+		SparseBlockCSR c = null;
+		int[] cnt = null;
+		if( isUltraSparseMatrixMult(m1, m2) && (long)n * m1.nonZeros <= Integer.MAX_VALUE ) {
+			int[] rptr = new int[m+1];
+			for( int i=0; i<m; i++ )
+				rptr[i+1] = rptr[i] + (a.isEmpty(i) ? 0 : n);
+			c = new SparseBlockCSR(rptr, new int[rptr[m]], new double[rptr[m]], rptr[m]);
+			cnt = new int[m];
+		}
+		else {
+			ret.sparse = false;
+			ret.allocateDenseBlock();
+		}
+		
+		//core matrix mult computation
+		long nnz = 0;
+		try {
+			ArrayList<MatrixMultSpMVTask> tasks = new ArrayList<>();
+			for( int i=0; i<numTasks; i++ )
+				tasks.add(new MatrixMultSpMVTask(a, m2.getDenseBlock(), (c==null) ? ret : null,
+					c, cnt, n, m1.clen, false, parts[i], parts[i+1]));
+			if( numTasks <= 1 )
+				nnz = (Long) tasks.get(0).call();
+			else {
+				ExecutorService pool = CommonThreadPool.get(numTasks);
+				for( Future<Object> task : pool.invokeAll(tasks) )
+					nnz += (Long) task.get();
+				pool.shutdown();
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		//post-processing: compaction of ultra-sparse outputs, nnz/representation
+		if( c != null ) {
+			int[] rptr = c.rowPointers();
+			int[] cix = c.indexes();
+			double[] cvals = c.values();
+			int pos = 0;
+			for( int i=0; i<m; i++ ) {
+				int rpos = rptr[i];
+				System.arraycopy(cix, rpos, cix, pos, cnt[i]);
+				System.arraycopy(cvals, rpos, cvals, pos, cnt[i]);
+				rptr[i] = pos;
+				pos += cnt[i];
+			}
+			rptr[m] = pos;
+			ret.reset(m, n, true);
+			ret.sparseBlock = new SparseBlockCSR(rptr, cix, cvals, pos);
+		}
+		ret.nonZeros = nnz;
+		ret.examSparsity();
+	}
+	
+	private static boolean isSparseMatrixVectorMult(MatrixBlock m1, MatrixBlock m2) {
+		//sparse-dense with few rhs columns (excl vector-matrix and dot products)
+		return LOW_LEVEL_OPTIMIZATION && m1.sparse && !m2.sparse
+			&& m1.rlen > 1 && m2.clen <= SPMV_MAX_NUM_VECTORS
+			&& m1.sparseBlock != null && m2.getDenseBlock() != null
+			&& m2.getDenseBlock().isContiguous()
+			&& (long)m1.rlen * m2.clen <= Integer.MAX_VALUE
+			&& m1.nonZeros <= Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Indicates if a CSR snapshot of the sparse lhs input is beneficial for
+	 * sparse matrix-vector products, i.e., for MCSR blocks with short rows, 
+	 * where the snapshot avoids the per-row indirections.
+	 * 
+	 * @param m1 first matrix
+	 * @param m2 second matrix
+	 * @return true if a csr snapshot is beneficial
+	 */
+	public static boolean isSpMVSnapshotApplicable(MatrixBlock m1, MatrixBlock m2) {
+		return isSparseMatrixVectorMult(m1, m2)
+			&& m1.sparseBlock instanceof SparseBlockMCSR
+			&& m1.nonZeros <= (long)SPMV_CSR_MAX_ROW_NNZ * m1.rlen;
+	}
+	
+	/**
+	 * Creates a CSR snapshot of the given sparse matrix as a new matrix block,
+	 * which leaves the input (e.g., a shared buffer pool block) unchanged.
+	 * 
+	 * @param m1 sparse matrix
+	 * @return csr snapshot
+	 */
+	public static MatrixBlock createSpMVSnapshot(MatrixBlock m1) {
+		MatrixBlock ret = new MatrixBlock(m1.rlen, m1.clen, true);
+		ret.sparseBlock = new SparseBlockCSR(m1.sparseBlock);
+		ret.nonZeros = m1.nonZeros;
+		return ret;
+	}
+	
+	private static int getNumSpMVTasks(MatrixBlock m1, int n, int k) {
+		//parallelism by number of non-zeros instead of number of cells
+		long work = Math.max(m1.nonZeros, 0) * n;
+		return (int) Math.max(1, Math.min(Math.min(k, m1.rlen), work / SPMV_MIN_NNZ_PER_TASK));
+	}
+	
+	private static int[] getBalancedSpMVPartitions(SparseBlock a, int m, long nnz, int numTasks) {
+		//row partitions with balanced number of non-zeros (robust to skew)
+		int[] ret = new int[numTasks+1];
+		long lnnz = 0;
+		int t = 1;
+		for( int i=0; i<m && t<numTasks; i++ ) {
+			lnnz += a.size(i);
+			while( t < numTasks && lnnz >= nnz * t / numTasks )
+				ret[t++] = i+1;
+		}
+		while( t <= numTasks )
+			ret[t++] = m;
+		return ret;
+	}
+	
+	private static void matrixMultSpMV(SparseBlock a, DenseBlock b, DenseBlock c, int n, int cd, int rl, int ru) {
+		double[] bvals = b.valuesAt(0);
+		double[] cvals = c.valuesAt(0);
+		
+		if( n==1 && cd > 2*1024 && !(a instanceof SparseBlockCSR) ) {
+			//MATRIX-VECTOR (tall rhs, long rows w/ blocking)
+			long xsp = (long)(ru-rl) * cd / Math.max(a.size(rl, ru), 1);
+			matrixMultSparseDenseMVTallRHS(a, b, c, cd, xsp, rl, ru);
+		}
+		else if( a instanceof SparseBlockCSR ) {
+			//CSR snapshot w/o per-row indirections
+			SparseBlockCSR csr = (SparseBlockCSR) a;
+			int[] rptr = csr.rowPointers();
+			int[] aix = csr.indexes();
+			double[] avals = csr.values();
+			if( n == 1 ) { //MATRIX-VECTOR
+				for( int i=rl; i<ru; i++ ) {
+					double val = 0;
+					for( int k=rptr[i]; k<rptr[i+1]; k++ )
+						val += avals[k] * bvals[aix[k]];
+					cvals[i] = val;
+				}
+			}
+			else { //MATRIX-MATRIX (few rhs columns)
+				for( int i=rl, cix=rl*n; i<ru; i++, cix+=n )
+					for( int k=rptr[i]; k<rptr[i+1]; k++ )
+						vectMultiplyAdd(avals[k], bvals, cvals, aix[k]*n, cix, n);
+			}
+		}
+		else {
+			//generic sparse block (e.g., mcsr with long rows)
+			for( int i=rl, cix=rl*n; i<ru; i++, cix+=n ) {
+				if( a.isEmpty(i) ) continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				if( n == 1 )
+					cvals[i] = dotProduct(avals, bvals, aix, apos, 0, alen);
+				else
+					for( int k=apos; k<apos+alen; k++ )
+						vectMultiplyAdd(avals[k], bvals, cvals, aix[k]*n, cix, n);
+			}
+		}
+	}
+	
+	private static long matrixMultSpMVUltraSparse(SparseBlock a, double[] b, int n,
+		int[] rptr, int[] cix, double[] cvals, int[] cnt, int rl, int ru)
+	{
+		long nnz = 0;
+		for( int i=rl; i<ru; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			int cpos = rptr[i];
+			//accumulate output row in its preallocated slots
+			for( int k=apos; k<apos+alen; k++ )
+				vectMultiplyAdd(avals[k], b, cvals, aix[k]*n, cpos, n);
+			//compact non-zeros of the output row
+			int lnnz = 0;
+			for( int j=0; j<n; j++ )
+				if( cvals[cpos+j] != 0 ) {
+					cix[cpos+lnnz] = j;
+					cvals[cpos+lnnz++] = cvals[cpos+j];
+				}
+			nnz += (cnt[i] = lnnz);
+		}
+		return nnz;
+	}
+	
+	private static void matrixMultSpMTV(SparseBlock a, double[] b, double[] c, int n, int rl, int ru) {
+		//scatter of rows of a, scaled by the rows of b, into the rows of c (IKJ over t(a))
+		for( int i=rl, bix=rl*n; i<ru; i++, bix+=n ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			if( n == 1 ) {
+				double bval = b[i];
+				for( int k=apos; k<apos+alen; k++ )
+					c[aix[k]] += avals[k] * bval;
+			}
+			else {
+				for( int k=apos; k<apos+alen; k++ )
+					vectMultiplyAdd(avals[k], b, c, bix, aix[k]*n, n);
+			}
+		}
+	}
+	
+	private static void matrixMultSpGEMMSymbolic(SparseBlock a, SparseBlock b, int[] cnt, int[] marker, int rl, int ru) {
+		for( int i=rl; i<ru; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			//fast path: single row of rhs
+			if( alen == 1 ) {
+				cnt[i] = b.size(aix[apos]);
+				continue;
+			}
+			//count distinct columns via row marker (i+1)
+			int lnnz = 0;
+			for( int k=apos; k<apos+alen; k++ ) {
+				if( b.isEmpty(aix[k]) ) continue;
+				int bpos = b.pos(aix[k]);
+				int blen = b.size(aix[k]);
+				int[] bix = b.indexes(aix[k]);
+				for( int j=bpos; j<bpos+blen; j++ )
+					if( marker[bix[j]] != i+1 ) {
+						marker[bix[j]] = i+1;
+						lnnz++;
+					}
+			}
+			cnt[i] = lnnz;
+		}
+	}
+	
+	private static void matrixMultSpGEMMNumeric(SparseBlock a, SparseBlock b, int n,
+		int[] rptr, int[] cix, double[] cvals, int[] cnt, SpGEMMAccumulator acc, int rl, int ru)
+	{
+		for( int i=rl; i<ru; i++ ) {
+			if( cnt[i] == 0 ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			int cpos = rptr[i];
+			int lnnz = 0;
+			//fast path: scaled copy of single row of rhs (sorted)
+			if( alen == 1 ) {
+				int bpos = b.pos(aix[apos]);
+				int[] bix = b.indexes(aix[apos]);
+				double[] bvals = b.values(aix[apos]);
+				for( int j=bpos; j<bpos+cnt[i]; j++ ) {
+					double val = avals[apos] * bvals[j];
+					if( val != 0 ) {
+						cix[cpos+lnnz] = bix[j];
+						cvals[cpos+lnnz++] = val;
+					}
+				}
+			}
+			//dense accumulator w/ scan of output row
+			else if( (long)cnt[i] * SPGEMM_DENSE_ACC_RATIO > n ) {
+				double[] tmp = acc.getDense(n);
+				for( int k=apos; k<apos+alen; k++ ) {
+					if( b.isEmpty(aix[k]) ) continue;
+					vectMultiplyAdd(avals[k], b.values(aix[k]), tmp,
+						b.indexes(aix[k]), b.pos(aix[k]), 0, b.size(aix[k]));
+				}
+				for( int j=0; j<n; j++ )
+					if( tmp[j] != 0 ) {
+						cix[cpos+lnnz] = j;
+						cvals[cpos+lnnz++] = tmp[j];
+						tmp[j] = 0;
+					}
+			}
+			//hash accumulator w/ sort of output row
+			else {
+				acc.resetHash(cnt[i]);
+				for( int k=apos; k<apos+alen; k++ ) {
+					if( b.isEmpty(aix[k]) ) continue;
+					int bpos = b.pos(aix[k]);
+					int blen = b.size(aix[k]);
+					int[] bix = b.indexes(aix[k]);
+					double[] bvals = b.values(aix[k]);
+					double aval = avals[k];
+					for( int j=bpos; j<bpos+blen; j++ )
+						acc.add(bix[j], aval * bvals[j]);
+				}
+				lnnz = acc.extractSorted(cix, cvals, cpos);
+			}
+			cnt[i] = lnnz;
+		}
+	}
+	
 	/**
 	 * This implementation applies to any combination of dense/sparse if at least one
 	 * input is ultrasparse (sparse and very few nnz). In that case, most importantly,
@@ -1772,6 +2401,11 @@ public class LibMatrixMult
 					double[] avals = a.valuesAt(0);
 					c.set(0, 0, dotProduct(avals, avals, m));
 				}
+				else if( LibMatrixGEMM.isApplicable(n, n, m, m1.getSparsity()) )
+				{
+					//packed gemm of upper-triangular tiles (lower copied afterwards)
+					LibMatrixGEMM.gemm(a, true, a, false, c, m, rl, ru, rl, n, true);
+				}
 				else //MATRIX
 				{
 					//1) Unrolled inner loop (for better instruction-level parallelism)
@@ -1864,6 +2498,11 @@ public class LibMatrixMult
 					double[] avals = a.valuesAt(0);
 					c.set(0, 0, dotProduct(avals, avals, n));
 				}
+				else if( LibMatrixGEMM.isApplicable(m, m, n, m1.getSparsity()) )
+				{
+					//packed gemm of upper-triangular tiles (lower copied afterwards)
+					LibMatrixGEMM.gemm(a, false, a, true, c, n, rl, ru, rl, m, true);
+				}
 				else //MATRIX
 				{
 					//algorithm: scan c, foreach ci,j: scan row of a and t(a) (IJK)
@@ -3833,23 +4472,67 @@ public class LibMatrixMult
 			||(!leftTranspose && FPfactor * m1.clen * m1.rlen * m1.rlen > threshold));
 	}
 	
+	private static boolean isPackedGEMM(MatrixBlock m1, MatrixBlock m2) {
+		return LOW_LEVEL_OPTIMIZATION && !m1.sparse && !m2.sparse
+			&& LibMatrixGEMM.isApplicable(m1.rlen, m2.clen, m1.clen, m1.getSparsity());
+	}
+	
+	private static boolean isPackedGEMMTransposeSelf(MatrixBlock m1, boolean leftTranspose) {
+		int n = leftTranspose ? m1.clen : m1.rlen;
+		int cd = leftTranspose ? m1.rlen : m1.clen;
+		return LOW_LEVEL_OPTIMIZATION && !m1.sparse
+			&& LibMatrixGEMM.isApplicable(n, n, cd, m1.getSparsity());
+	}
+	
+	private static boolean isSparseOutputSpGEMM(MatrixBlock m1, MatrixBlock m2) {
+		//sparse-sparse with estimated sparse output (and no vector output, which
+		//is always dense); the final decision is made on the exact nnz
+		return SPARSE_SPGEMM && m1.sparse && m2.sparse && m2.clen > 1
+			&& m1.sparseBlock != null && m2.sparseBlock != null
+			&& (isUltraSparseMatrixMult(m1, m2) || estimateMatMultSparsity(m1, m2,
+				MatrixBlock.SPARSITY_TURN_POINT) < MatrixBlock.SPARSITY_TURN_POINT);
+	}
+	
 	public static boolean isUltraSparseMatrixMult(MatrixBlock m1, MatrixBlock m2) {
 		if( m2.clen == 1 ) //mv always dense
 			return false;
 		//note: ultra-sparse matrix mult implies also sparse outputs, hence we need
 		//to be conservative an cannot use this for all ultra-sparse matrices.
-		double outSp = OptimizerUtils.getMatMultSparsity(
-			m1.getSparsity(), m2.getSparsity(), m1.rlen, m1.clen, m2.clen, true);
-		return (m1.isUltraSparse() || m2.isUltraSparse()) //base case
+		if( (m1.isUltraSparse() || m2.isUltraSparse()) //base case
 			|| (m1.isUltraSparse(false) && m1 == m2) //ultra-sparse self product
 			|| (m1.isUltraSparsePermutationMatrix() 
-				&& OptimizerUtils.getSparsity(m2.rlen, m2.clen, m2.nonZeros)<1.0)
-			|| ((m1.isUltraSparse(false) || m2.isUltraSparse(false)) 
-				&& outSp < MatrixBlock.ULTRA_SPARSITY_TURN_POINT2)
-			|| (m1.getSparsity() < MatrixBlock.ULTRA_SPARSITY_TURN_POINT2
-				&& m1.getNonZeros() < MatrixBlock.ULTRA_SPARSE_BLOCK_NNZ
-				&& m1.getLength()+m2.getLength() < (long)m1.rlen*m2.clen
-				&& outSp < MatrixBlock.SPARSITY_TURN_POINT);
+				&& OptimizerUtils.getSparsity(m2.rlen, m2.clen, m2.nonZeros)<1.0) )
+			return true;
+		boolean usp = m1.isUltraSparse(false) || m2.isUltraSparse(false);
+		boolean sp = m1.getSparsity() < MatrixBlock.ULTRA_SPARSITY_TURN_POINT2
+			&& m1.getNonZeros() < MatrixBlock.ULTRA_SPARSE_BLOCK_NNZ
+			&& m1.getLength()+m2.getLength() < (long)m1.rlen*m2.clen;
+		if( !usp && !sp )
+			return false;
+		double outSp = estimateMatMultSparsity(m1, m2, usp ?
+			MatrixBlock.ULTRA_SPARSITY_TURN_POINT2 : MatrixBlock.SPARSITY_TURN_POINT);
+		return (usp && outSp < MatrixBlock.ULTRA_SPARSITY_TURN_POINT2)
+			|| (sp && outSp < MatrixBlock.SPARSITY_TURN_POINT);
+	}
+	
+	/**
+	 * Estimates the output sparsity of a matrix multiplication. If the worst-case
+	 * estimate exceeds the given threshold, and both inputs are sparse, we use
+	 * a matrix histogram sketch (row/column nnz counts, linear in the input nnz)
+	 * to obtain a more accurate estimate for the output format decision.
+	 * 
+	 * @param m1 first matrix
+	 * @param m2 second matrix
+	 * @param threshold sparsity threshold of the caller's decision
+	 * @return estimated output sparsity
+	 */
+	private static double estimateMatMultSparsity(MatrixBlock m1, MatrixBlock m2, double threshold) {
+		double outSp = OptimizerUtils.getMatMultSparsity(
+			m1.getSparsity(), m2.getSparsity(), m1.rlen, m1.clen, m2.clen, true);
+		if( OptimizerUtils.ALLOW_SKETCH_SPARSITY_ESTIMATION && outSp >= threshold
+			&& m1.sparse && m2.sparse && m1.nonZeros > 0 && m2.nonZeros > 0 )
+			outSp = Math.min(outSp, new EstimatorMatrixHistogram().estim(m1, m2));
+		return outSp;
 	}
 
 	private static MatrixBlock prepMatrixMultRightInput( MatrixBlock m1, MatrixBlock m2 ) {
@@ -3916,7 +4599,6 @@ public class LibMatrixMult
 		ret.quickSetValue(0, 0, val);
 	}
 
-	@SuppressWarnings("unused")
 	private static void sumDenseResults( double[][] partret, double[] ret )
 	{
 		final int len = ret.length;
@@ -3941,6 +4623,27 @@ public class LibMatrixMult
 	// Task Implementations for Multi-Threaded Operations  //
 	/////////////////////////////////////////////////////////
 
+	private static class MatrixMultFP32Task implements Callable<Long> 
+	{
+		private final float[] _a, _b, _c;
+		private final int _cd, _n, _rl, _ru;
+		
+		protected MatrixMultFP32Task(float[] a, float[] b, float[] c, int cd, int n, int rl, int ru) {
+			_a = a;
+			_b = b;
+			_c = c;
+			_cd = cd;
+			_n = n;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			return matrixMultDenseDenseFP32(_a, _b, _c, _cd, _n, _rl, _ru);
+		}
+	}
+	
 	private static class MatrixMultTask implements Callable<Object> 
 	{
 		private final MatrixBlock _m1;
@@ -4004,6 +4707,151 @@ public class LibMatrixMult
 		}
 	}
 
+	private static class MatrixMultSpGEMMTask implements Callable<Object> 
+	{
+		private final MatrixBlock _m1;
+		private final MatrixBlock _m2;
+		private final SparseBlockCSR _ret; //null for symbolic pass
+		private final int[] _rptr;
+		private final int[] _cnt;
+		private final int _rl;
+		private final int _ru;
+		
+		protected MatrixMultSpGEMMTask(MatrixBlock m1, MatrixBlock m2, SparseBlockCSR ret, int[] rptr, int[] cnt, int rl, int ru) {
+			_m1 = m1;
+			_m2 = m2;
+			_ret = ret;
+			_rptr = rptr;
+			_cnt = cnt;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			if( _ret == null )
+				matrixMultSpGEMMSymbolic(_m1.sparseBlock, _m2.sparseBlock, _cnt, new int[_m2.clen], _rl, _ru);
+			else
+				matrixMultSpGEMMNumeric(_m1.sparseBlock, _m2.sparseBlock, _m2.clen, _rptr,
+					_ret.indexes(), _ret.values(), _cnt, new SpGEMMAccumulator(), _rl, _ru);
+			return null;
+		}
+	}
+	
+	private static class MatrixMultSpMVTask implements Callable<Object> 
+	{
+		private final SparseBlock _a;
+		private final DenseBlock _b;
+		private final MatrixBlock _ret; //dense output, null for thread-local mtv results
+		private final SparseBlockCSR _cret; //ultra-sparse output
+		private final int[] _cnt;
+		private final int _n;
+		private final int _cd;
+		private final boolean _tm1; //transposed m1
+		private final int _rl;
+		private final int _ru;
+		
+		protected MatrixMultSpMVTask(SparseBlock a, DenseBlock b, MatrixBlock ret, SparseBlockCSR cret,
+			int[] cnt, int n, int cd, boolean tm1, int rl, int ru)
+		{
+			_a = a;
+			_b = b;
+			_ret = ret;
+			_cret = cret;
+			_cnt = cnt;
+			_n = n;
+			_cd = cd;
+			_tm1 = tm1;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			if( _tm1 ) { //t(X) %*% v
+				double[] c = (_ret != null) ? _ret.getDenseBlockValues() : new double[_cd * _n];
+				matrixMultSpMTV(_a, _b.valuesAt(0), c, _n, _rl, _ru);
+				return c;
+			}
+			else if( _cret != null ) { //ultra-sparse X %*% V
+				return matrixMultSpMVUltraSparse(_a, _b.valuesAt(0), _n, _cret.rowPointers(),
+					_cret.indexes(), _cret.values(), _cnt, _rl, _ru);
+			}
+			else { //X %*% v
+				matrixMultSpMV(_a, _b, _ret.getDenseBlock(), _n, _cd, _rl, _ru);
+				return (_rl < _ru) ? _ret.recomputeNonZeros(_rl, _ru-1, 0, _n-1) : 0L;
+			}
+		}
+	}
+	
+	/**
+	 * Thread-local row accumulator of the SpGEMM numeric pass, with a lazily
+	 * allocated dense row and an open-addressing hash table (linear probing).
+	 */
+	private static class SpGEMMAccumulator
+	{
+		private double[] _dense = null;
+		private int[] _keys = new int[16];
+		private double[] _vals = new double[16];
+		private int _mask;
+		private int _size;
+		
+		public double[] getDense(int n) {
+			if( _dense == null )
+				_dense = new double[n];
+			return _dense;
+		}
+		
+		public void resetHash(int nnz) {
+			int cap = Math.max(UtilFunctions.nextIntPow2(2*nnz), 16);
+			if( cap > _keys.length ) {
+				_keys = new int[cap];
+				_vals = new double[cap];
+			}
+			Arrays.fill(_keys, 0, cap, -1);
+			Arrays.fill(_vals, 0, cap, 0);
+			_mask = cap - 1;
+			_size = 0;
+		}
+		
+		public void add(int key, double val) {
+			int ix = hash(key) & _mask;
+			while( _keys[ix] != key && _keys[ix] != -1 )
+				ix = (ix + 1) & _mask;
+			if( _keys[ix] == -1 ) {
+				_keys[ix] = key;
+				_size++;
+			}
+			_vals[ix] += val;
+		}
+		
+		public int extractSorted(int[] cix, double[] cvals, int cpos) {
+			//collect and sort keys, then probe values in sorted order
+			int len = 0;
+			for( int i=0; i<=_mask && len<_size; i++ )
+				if( _keys[i] != -1 )
+					cix[cpos+len++] = _keys[i];
+			Arrays.sort(cix, cpos, cpos+len);
+			int lnnz = 0;
+			for( int i=cpos; i<cpos+len; i++ ) {
+				int key = cix[i];
+				int ix = hash(key) & _mask;
+				while( _keys[ix] != key )
+					ix = (ix + 1) & _mask;
+				if( _vals[ix] != 0 ) {
+					cix[cpos+lnnz] = key;
+					cvals[cpos+lnnz++] = _vals[ix];
+				}
+			}
+			return lnnz;
+		}
+		
+		private static int hash(int key) {
+			int h = key * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+	
 	private static class MatrixMultChainTask implements Callable<double[]> 
 	{
 		private MatrixBlock _m1  = null;
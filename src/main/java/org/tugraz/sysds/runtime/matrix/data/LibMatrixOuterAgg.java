@@ -19,8 +19,15 @@
 
 package org.tugraz.sysds.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.functionobjects.Builtin;
 import org.tugraz.sysds.runtime.functionobjects.Equals;
@@ -37,7 +44,9 @@ import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.SortUtils;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 /**
  * ACS:
@@ -49,6 +58,8 @@ import org.tugraz.sysds.runtime.util.SortUtils;
  */
 public class LibMatrixOuterAgg 
 {
+	//internal configuration
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M probes
 
 	private LibMatrixOuterAgg() {
 		//prevent instantiation via private constructor
@@ -357,6 +368,67 @@ public class LibMatrixOuterAgg
 		}
 	}
 	
+	/**
+	 * Multi-threaded unary aggregate outer chain, where the input vector is split
+	 * into partitions of rows (row/full aggregates) or columns (column aggregates)
+	 * that are processed by independent tasks over the shared sorted vector bv
+	 * (and row indices bvi). Small inputs fall back to the single-threaded kernels.
+	 * 
+	 * @param in1Val input matrix block (column or row vector)
+	 * @param outVal output matrix block incl correction, reset by the caller
+	 * @param bv sorted right-hand-side values
+	 * @param bvi row indices for rowIndexMax/rowIndexMin, otherwise null
+	 * @param bOp binary operator
+	 * @param uaggOp aggregate unary operator
+	 * @param k degree of parallelism
+	 */
+	public static void aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int k) {
+		boolean colAgg = uaggOp.indexFn instanceof ReduceRow;
+		int len = colAgg ? in1Val.getNumColumns() : in1Val.getNumRows();
+		
+		//fallback to sequential kernels for small inputs (by number of probes and search depth)
+		long probes = (long)len * (32 - Integer.numberOfLeadingZeros(bv.length));
+		if( k <= 1 || probes < PAR_NUMCELL_THRESHOLD || len < 2*k ) {
+			aggregateMatrix(in1Val, outVal, bv, bvi, bOp, uaggOp);
+			return;
+		}
+		
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<OuterAggTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(len, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new OuterAggTask(in1Val, bv, bvi, bOp, uaggOp, lb, lb+blklens.get(i)));
+			List<Future<MatrixBlock>> rtasks = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//merge partial results into disjoint output ranges or the full aggregate
+			if( uaggOp.indexFn instanceof ReduceAll ) {
+				double sum = 0;
+				for( Future<MatrixBlock> rtask : rtasks )
+					sum += rtask.get().quickGetValue(0, 0);
+				outVal.quickSetValue(0, 0, sum);
+			}
+			else {
+				DenseBlock c = outVal.allocateBlock().getDenseBlock();
+				for( int i=0; i<rtasks.size(); i++ ) {
+					MatrixBlock part = rtasks.get(i).get();
+					int lb = tasks.get(i)._rl;
+					for( int j=0; j<tasks.get(i)._ru-lb; j++ ) {
+						if( colAgg )
+							c.set(0, lb+j, part.quickGetValue(0, j));
+						else
+							c.set(lb+j, 0, part.quickGetValue(j, 0));
+					}
+				}
+				outVal.recomputeNonZeros();
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
 	/**
 	 * UAgg rowSums for LessThan and GreaterThanEqual operator
 	 * 
@@ -1403,4 +1475,39 @@ public class LibMatrixOuterAgg
     	}
 	}
 
+
+	private static class OuterAggTask implements Callable<MatrixBlock>
+	{
+		private final MatrixBlock _in;
+		private final double[] _bv;
+		private final int[] _bvi;
+		private final BinaryOperator _bOp;
+		private final AggregateUnaryOperator _uaggOp;
+		private final int _rl;
+		private final int _ru;
+
+		protected OuterAggTask(MatrixBlock in, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int rl, int ru) {
+			_in = in;
+			_bv = bv;
+			_bvi = bvi;
+			_bOp = bOp;
+			_uaggOp = uaggOp;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public MatrixBlock call() {
+			//slice the input partition and aggregate into a local output
+			boolean colAgg = _uaggOp.indexFn instanceof ReduceRow;
+			MatrixBlock in = colAgg ?
+				_in.slice(0, 0, _rl, _ru-1, new MatrixBlock()) :
+				_in.slice(_rl, _ru-1, 0, 0, new MatrixBlock());
+			MatrixBlock out = new MatrixBlock(
+				(_uaggOp.indexFn instanceof ReduceCol) ? _ru-_rl : 2,
+				colAgg ? _ru-_rl : 2, false);
+			aggregateMatrix(in, out, _bv, _bvi, _bOp, _uaggOp);
+			return out;
+		}
+	}
 }
\ No newline at end of file
@@ -79,6 +79,10 @@ public class LibMatrixReorg
 	//use csr instead of mcsr sparse block for rexpand columns / diag v2m
 	public static final boolean SPARSE_OUTPUTS_IN_CSR = true;
 	
+	//minimum number of non-zeros per task of multi-threaded sparse transpose
+	//(each task also allocates a column histogram of the input number of columns)
+	public static final long PAR_MIN_NNZ_TRANSPOSE = 64*1024; //64K
+	
 	private enum ReorgType {
 		TRANSPOSE,
 		REV,
@@ -141,6 +145,12 @@ public class LibMatrixReorg
 		
 		//Timing time = new Timing(true);
 		
+		//sparse-sparse transpose via count-then-scatter into csr
+		if( isSparseTransposeToCSR(in, out) ) {
+			transposeSparseToCSR(in, out, 1);
+			return out;
+		}
+		
 		//allocate output arrays (if required)
 		if( out.sparse )
 			out.allocateSparseRowsBlock(false);
@@ -164,6 +174,13 @@ public class LibMatrixReorg
 	}
 
 	public static MatrixBlock transpose( MatrixBlock in, MatrixBlock out, int k ) {
+		//sparse-sparse transpose via count-then-scatter into csr
+		//(number of tasks determined by nnz, independent of thread-safe outputs)
+		if( !in.isEmptyBlock(false) && isSparseTransposeToCSR(in, out) ) {
+			transposeSparseToCSR(in, out, k);
+			return out;
+		}
+		
 		//redirect small or special cases to sequential execution
 		if( in.isEmptyBlock(false) || (in.rlen * in.clen < PAR_NUMCELL_THRESHOLD) || k == 1
 			|| (SHALLOW_COPY_REORG && !in.sparse && !out.sparse && (in.rlen==1 || in.clen==1) )
@@ -504,6 +521,23 @@ public class LibMatrixReorg
 	 * @return matrix block
 	 */
 	public static MatrixBlock rmempty(MatrixBlock in, MatrixBlock ret, boolean rows, boolean emptyReturn, MatrixBlock select) {
+		return rmempty(in, ret, rows, emptyReturn, select, 1);
+	}
+	
+	/**
+	 * CP rmempty operation (single input, single output matrix), where large inputs
+	 * are processed with a multi-threaded scan of row partitions, a prefix sum of
+	 * partition counts as output offsets, and a multi-threaded copy.
+	 * 
+	 * @param in input matrix
+	 * @param ret output matrix
+	 * @param rows remove empty rows (true) or columns (false)
+	 * @param emptyReturn return row/column of zeros for empty input
+	 * @param select optional selection vector
+	 * @param k degree of parallelism
+	 * @return matrix block
+	 */
+	public static MatrixBlock rmempty(MatrixBlock in, MatrixBlock ret, boolean rows, boolean emptyReturn, MatrixBlock select, int k) {
 		//check for empty inputs 
 		//(the semantics of removeEmpty are that for an empty m-by-n matrix, the output 
 		//is an empty 1-by-n or m-by-1 matrix because we don't allow matrices with dims 0)
@@ -517,7 +551,9 @@ public class LibMatrixReorg
 		}
 		
 		if( rows )
-			return removeEmptyRows(in, ret, select, emptyReturn);
+			return removeEmptyRows(in, ret, select, emptyReturn, k);
+		else if( isParallelRmEmpty(in, k) )
+			return removeEmptyColumnsParallel(in, ret, select, emptyReturn, k);
 		else //cols
 			return removeEmptyColumns(in, ret, select, emptyReturn);
 	}
@@ -963,6 +999,149 @@ public class LibMatrixReorg
 		return cnt;
 	}
 
+	private static boolean isSparseTransposeToCSR(MatrixBlock in, MatrixBlock out) {
+		return in.sparse && out.sparse && in.sparseBlock != null
+			&& in.nonZeros > 0 && in.nonZeros < Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Sparse-sparse transpose that directly builds a CSR output block in
+	 * two passes over the input: (1) per-task column histograms over nnz-balanced
+	 * row partitions, and (2) a scatter of row indexes and values into the
+	 * task-local write positions obtained from the prefix sums of all histograms.
+	 * Since row partitions are processed in order, the column indexes of all
+	 * output rows are sorted without any appends or reallocations.
+	 * 
+	 * @param in input matrix block
+	 * @param out output matrix block
+	 * @param k maximum number of threads
+	 */
+	private static void transposeSparseToCSR(MatrixBlock in, MatrixBlock out, int k) {
+		final int n = in.clen;
+		final long nnz = in.nonZeros;
+		SparseBlock a = in.sparseBlock;
+		
+		//determine number of tasks and nnz-balanced row partitions, where 
+		//each task requires at least nnz as large as its column histogram
+		int numTasks = (int) Math.max(1, Math.min(k, nnz/Math.max(PAR_MIN_NNZ_TRANSPOSE, n)));
+		int[] rix = getBalancedTransposePartitions(a, in.rlen, nnz, numTasks);
+		numTasks = rix.length - 1;
+		
+		try {
+			//phase 1: task-local column histograms
+			int[][] pos = new int[numTasks][];
+			if( numTasks == 1 )
+				pos[0] = countNnzPerColumn(a, n, 0, in.rlen);
+			else {
+				ExecutorService pool = CommonThreadPool.get(numTasks);
+				ArrayList<TransposeCSRTask> tasks = new ArrayList<>();
+				for( int i=0; i<numTasks; i++ )
+					tasks.add(new TransposeCSRTask(a, n, rix[i], rix[i+1], null, null, null));
+				List<Future<int[]>> rtasks = pool.invokeAll(tasks);
+				pool.shutdown();
+				for( int i=0; i<numTasks; i++ )
+					pos[i] = rtasks.get(i).get();
+			}
+			
+			//prefix sums to output row pointers and task-local write positions
+			int[] rptr = new int[n+1];
+			for( int j=0; j<n; j++ ) {
+				int lpos = rptr[j];
+				for( int i=0; i<numTasks; i++ ) {
+					int cnt = pos[i][j];
+					pos[i][j] = lpos;
+					lpos += cnt;
+				}
+				rptr[j+1] = lpos;
+			}
+			
+			//phase 2: scatter row indexes and values
+			int nnz2 = rptr[n];
+			int[] cix = new int[nnz2];
+			double[] cvals = new double[nnz2];
+			if( numTasks == 1 )
+				transposeSparseToCSR(a, 0, in.rlen, pos[0], cix, cvals);
+			else {
+				ExecutorService pool = CommonThreadPool.get(numTasks);
+				ArrayList<TransposeCSRTask> tasks = new ArrayList<>();
+				for( int i=0; i<numTasks; i++ )
+					tasks.add(new TransposeCSRTask(a, n, rix[i], rix[i+1], pos[i], cix, cvals));
+				List<Future<int[]>> rtasks = pool.invokeAll(tasks);
+				pool.shutdown();
+				for( Future<int[]> rtask : rtasks )
+					rtask.get();
+			}
+			
+			out.sparseBlock = new SparseBlockCSR(rptr, cix, cvals, nnz2);
+			out.nonZeros = nnz2;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static void transposeSparseToCSR(SparseBlock a, int rl, int ru, int[] pos, int[] cix, double[] cvals) {
+		if( a instanceof SparseBlockCSR ) {
+			//csr-csr transpose over contiguous arrays (w/o empty row checks)
+			SparseBlockCSR csr = (SparseBlockCSR) a;
+			int[] aptr = csr.rowPointers();
+			int[] aix = csr.indexes();
+			double[] avals = csr.values();
+			for( int i=rl; i<ru; i++ )
+				for( int j=aptr[i]; j<aptr[i+1]; j++ ) {
+					int p = pos[aix[j]]++;
+					cix[p] = i;
+					cvals[p] = avals[j];
+				}
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				if( a.isEmpty(i) ) continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for( int j=apos; j<apos+alen; j++ ) {
+					int p = pos[aix[j]]++;
+					cix[p] = i;
+					cvals[p] = avals[j];
+				}
+			}
+		}
+	}
+	
+	private static int[] countNnzPerColumn(SparseBlock a, int n, int rl, int ru) {
+		int[] cnt = new int[n];
+		if( a instanceof SparseBlockCSR ) {
+			//single pass over the contiguous column indexes of the row range
+			int[] aptr = ((SparseBlockCSR) a).rowPointers();
+			countAgg(cnt, ((SparseBlockCSR) a).indexes(), aptr[rl], aptr[ru]-aptr[rl]);
+		}
+		else {
+			for( int i=rl; i<ru; i++ )
+				if( !a.isEmpty(i) )
+					countAgg(cnt, a.indexes(i), a.pos(i), a.size(i));
+		}
+		return cnt;
+	}
+	
+	private static int[] getBalancedTransposePartitions(SparseBlock a, int m, long nnz, int numTasks) {
+		if( numTasks <= 1 )
+			return new int[]{0, m};
+		//row partitions with roughly equal nnz (robust to skew)
+		int[] rix = new int[numTasks+1];
+		long target = (long) Math.ceil((double)nnz/numTasks);
+		long lnnz = 0;
+		int t = 1;
+		for( int i=0; i<m && t<numTasks; i++ ) {
+			lnnz += a.size(i);
+			if( lnnz >= t*target )
+				rix[t++] = i+1;
+		}
+		rix[t] = m;
+		return (t < numTasks) ? Arrays.copyOf(rix, t+1) : rix;
+	}
+
 	private static void reverseDense(MatrixBlock in, MatrixBlock out) {
 		final int m = in.rlen;
 		final int n = in.clen;
@@ -1680,7 +1859,7 @@ public class LibMatrixReorg
 		return rowwise ? ai*mcIn.getCols()+aj : ai+mcIn.getRows()*aj;
 	}
 
-	private static MatrixBlock removeEmptyRows(MatrixBlock in, MatrixBlock ret, MatrixBlock select, boolean emptyReturn) {
+	private static MatrixBlock removeEmptyRows(MatrixBlock in, MatrixBlock ret, MatrixBlock select, boolean emptyReturn, int k) {
 		final int m = in.rlen;
 		final int n = in.clen;
 		boolean[] flags = null;
@@ -1715,6 +1894,10 @@ public class LibMatrixReorg
 			}
 		}
 		
+		//multi-threaded scan and copy for large inputs
+		if( isParallelRmEmpty(in, k) )
+			return removeEmptyRowsParallel(in, ret, select, emptyReturn, k);
+		
 		//Step 1: scan block and determine non-empty rows
 		if(select == null) 
 		{
@@ -1924,6 +2107,281 @@ public class LibMatrixReorg
 		return ret;
 	}
 
+	private static boolean isParallelRmEmpty(MatrixBlock in, int k) {
+		return k > 1 && in.rlen >= 2*k && !in.isEmptyBlock(false)
+			&& (in.sparse ? in.nonZeros : (long)in.rlen*in.clen) >= PAR_NUMCELL_THRESHOLD;
+	}
+	
+	private static MatrixBlock removeEmptyRowsParallel(MatrixBlock in, MatrixBlock ret, MatrixBlock select, boolean emptyReturn, int k) {
+		final int m = in.rlen;
+		final int n = in.clen;
+		boolean[] flags = (select == null) ? new boolean[m] :
+			DataConverter.convertToBooleanVector(select);
+		
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m, k, false);
+			
+			//Step 1: scan row partitions and determine non-empty rows
+			ArrayList<RmEmptyRowsScanTask> tasks = new ArrayList<>();
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new RmEmptyRowsScanTask(in, flags, select==null, lb, lb+blklens.get(i)));
+			List<Future<Integer>> cnts = pool.invokeAll(tasks);
+			
+			//Step 2: prefix sum of partition counts as output row offsets
+			int[] offsets = new int[cnts.size()];
+			int rlen2 = 0;
+			for( int i=0; i<cnts.size(); i++ ) {
+				offsets[i] = rlen2;
+				rlen2 += cnts.get(i).get();
+			}
+			
+			//Step 3: reset result and copy row partitions to their offsets
+			rlen2 = Math.max(rlen2, emptyReturn ? 1 : 0); //ensure valid output
+			boolean sp = MatrixBlock.evalSparseFormatInMemory(rlen2, n, in.nonZeros);
+			ret.reset(rlen2, n, sp);
+			if( SHALLOW_COPY_REORG && m == rlen2 ) {
+				ret.sparse = in.sparse;
+				if( ret.sparse )
+					ret.sparseBlock = in.sparseBlock;
+				else
+					ret.denseBlock = in.denseBlock;
+				ret.nonZeros = in.nonZeros;
+			}
+			else {
+				if( ret.sparse )
+					ret.allocateSparseRowsBlock();
+				else
+					ret.allocateDenseBlock();
+				ArrayList<RmEmptyCopyTask> tasks2 = new ArrayList<>();
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks2.add(new RmEmptyCopyTask(in, ret, true, flags, null, lb, lb+blklens.get(i), offsets[i]));
+				long nnz = 0;
+				for( Future<Long> task : pool.invokeAll(tasks2) )
+					nnz += task.get();
+				ret.nonZeros = nnz;
+			}
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		//check sparsity
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static MatrixBlock removeEmptyColumnsParallel(MatrixBlock in, MatrixBlock ret, MatrixBlock select, boolean emptyReturn, int k) {
+		final int m = in.rlen;
+		final int n = in.clen;
+		
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m, k, false);
+			
+			//Step 1: scan row partitions and merge non-empty columns
+			boolean[] flags = null;
+			if( select == null ) {
+				flags = new boolean[n];
+				ArrayList<RmEmptyColsScanTask> tasks = new ArrayList<>();
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new RmEmptyColsScanTask(in, lb, lb+blklens.get(i)));
+				for( Future<boolean[]> task : pool.invokeAll(tasks) ) {
+					boolean[] lflags = task.get();
+					for( int j=0; j<n; j++ )
+						flags[j] |= lflags[j];
+				}
+			}
+			else {
+				flags = DataConverter.convertToBooleanVector(select);
+			}
+			
+			//Step 2: prefix sum of column flags as target column indexes
+			int[] cix = new int[n];
+			int clen2 = 0;
+			for( int j=0; j<n; j++ )
+				if( flags[j] )
+					cix[j] = clen2++;
+			
+			//Step 3: reset result and copy row partitions
+			clen2 = Math.max(clen2, emptyReturn ? 1 : 0); //ensure valid output
+			boolean sp = MatrixBlock.evalSparseFormatInMemory(m, clen2, in.nonZeros);
+			ret.reset(m, clen2, sp);
+			if( SHALLOW_COPY_REORG && n == clen2 ) {
+				ret.sparse = in.sparse;
+				if( ret.sparse )
+					ret.sparseBlock = in.sparseBlock;
+				else
+					ret.denseBlock = in.denseBlock;
+				ret.nonZeros = in.nonZeros;
+			}
+			else {
+				if( ret.sparse )
+					ret.allocateSparseRowsBlock();
+				else
+					ret.allocateDenseBlock();
+				ArrayList<RmEmptyCopyTask> tasks2 = new ArrayList<>();
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks2.add(new RmEmptyCopyTask(in, ret, false, flags, cix, lb, lb+blklens.get(i), lb));
+				long nnz = 0;
+				for( Future<Long> task : pool.invokeAll(tasks2) )
+					nnz += task.get();
+				ret.nonZeros = nnz;
+			}
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		//check sparsity
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static int scanNonEmptyRows(MatrixBlock in, boolean[] flags, boolean compute, int rl, int ru) {
+		int cnt = 0;
+		if( !compute ) { //given selection vector
+			for( int i=rl; i<ru; i++ )
+				cnt += flags[i] ? 1 : 0;
+		}
+		else if( in.sparse ) { //SPARSE
+			SparseBlock a = in.sparseBlock;
+			for( int i=rl; i<ru; i++ )
+				cnt += (flags[i] = !a.isEmpty(i)) ? 1 : 0;
+		}
+		else { //DENSE
+			DenseBlock a = in.getDenseBlock();
+			final int n = in.clen;
+			for( int i=rl; i<ru; i++ ) {
+				double[] avals = a.values(i);
+				int aix = a.pos(i);
+				for( int j=0; j<n; j++ )
+					if( avals[aix+j] != 0 ) {
+						flags[i] = true;
+						cnt++;
+						break; //early abort for current row
+					}
+			}
+		}
+		return cnt;
+	}
+	
+	private static boolean[] scanNonEmptyColumns(MatrixBlock in, int rl, int ru) {
+		final int n = in.clen;
+		boolean[] flags = new boolean[n];
+		if( in.sparse ) { //SPARSE
+			SparseBlock a = in.sparseBlock;
+			for( int i=rl; i<ru; i++ ) {
+				if( a.isEmpty(i) ) continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				for( int j=apos; j<apos+alen; j++ )
+					flags[aix[j]] = true;
+			}
+		}
+		else { //DENSE
+			DenseBlock a = in.getDenseBlock();
+			for( int i=rl; i<ru; i++ ) {
+				double[] avals = a.values(i);
+				int aix = a.pos(i);
+				for( int j=0; j<n; j++ )
+					flags[j] |= (avals[aix+j] != 0);
+			}
+		}
+		return flags;
+	}
+	
+	private static long copyNonEmptyRows(MatrixBlock in, MatrixBlock ret, boolean[] flags, int rl, int ru, int ci) {
+		final int n = in.clen;
+		long nnz = 0;
+		if( in.sparse ) { //* <- SPARSE
+			SparseBlock a = in.sparseBlock;
+			for( int i=rl; i<ru; i++ ) {
+				if( !flags[i] ) continue;
+				if( !a.isEmpty(i) ) {
+					if( ret.sparse )
+						ret.sparseBlock.set(ci, a.get(i), !SHALLOW_COPY_REORG);
+					else {
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						double[] avals = a.values(i);
+						double[] cvals = ret.denseBlock.values(ci);
+						int cix = ret.denseBlock.pos(ci);
+						for( int j=apos; j<apos+alen; j++ )
+							cvals[cix+aix[j]] = avals[j];
+					}
+					nnz += a.size(i);
+				}
+				ci++; //target row index
+			}
+		}
+		else { //* <- DENSE
+			DenseBlock a = in.getDenseBlock();
+			for( int i=rl; i<ru; i++ ) {
+				if( !flags[i] ) continue;
+				double[] avals = a.values(i);
+				int aix = a.pos(i);
+				int lnnz = UtilFunctions.computeNnz(avals, aix, n);
+				if( ret.sparse && lnnz > 0 ) {
+					SparseBlock c = ret.sparseBlock;
+					c.allocate(ci, lnnz);
+					for( int j=0; j<n; j++ )
+						if( avals[aix+j] != 0 )
+							c.append(ci, j, avals[aix+j]);
+				}
+				else if( !ret.sparse ) {
+					System.arraycopy(avals, aix,
+						ret.denseBlock.values(ci), ret.denseBlock.pos(ci), n);
+				}
+				nnz += lnnz;
+				ci++; //target row index
+			}
+		}
+		return nnz;
+	}
+	
+	private static long copyNonEmptyColumns(MatrixBlock in, MatrixBlock ret, boolean[] flags, int[] cix, int rl, int ru) {
+		final int n = in.clen;
+		long nnz = 0;
+		for( int i=rl; i<ru; i++ ) {
+			if( in.sparse ) { //* <- SPARSE
+				SparseBlock a = in.sparseBlock;
+				if( a.isEmpty(i) ) continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for( int j=apos; j<apos+alen; j++ )
+					if( flags[aix[j]] && avals[j] != 0 ) {
+						if( ret.sparse )
+							ret.sparseBlock.append(i, cix[aix[j]], avals[j]);
+						else
+							ret.denseBlock.set(i, cix[aix[j]], avals[j]);
+						nnz++;
+					}
+			}
+			else { //* <- DENSE
+				double[] avals = in.denseBlock.values(i);
+				int aix = in.denseBlock.pos(i);
+				for( int j=0; j<n; j++ ) {
+					double aval = avals[aix+j];
+					if( flags[j] && aval != 0 ) {
+						if( ret.sparse )
+							ret.sparseBlock.append(i, cix[j], aval);
+						else
+							ret.denseBlock.set(i, cix[j], aval);
+						nnz++;
+					}
+				}
+			}
+		}
+		return nnz;
+	}
+
 	private static MatrixBlock rexpandRows(MatrixBlock in, MatrixBlock ret, int max, boolean cast, boolean ignore) {
 		//set meta data
 		final int rlen = max;
@@ -2298,6 +2756,36 @@ public class LibMatrixReorg
 		}
 	}
 
+	private static class TransposeCSRTask implements Callable<int[]>
+	{
+		private final SparseBlock _a;
+		private final int _n;
+		private final int _rl;
+		private final int _ru;
+		private final int[] _pos;
+		private final int[] _cix;
+		private final double[] _cvals;
+
+		protected TransposeCSRTask(SparseBlock a, int n, int rl, int ru, int[] pos, int[] cix, double[] cvals) {
+			_a = a;
+			_n = n;
+			_rl = rl;
+			_ru = ru;
+			_pos = pos;
+			_cix = cix;
+			_cvals = cvals;
+		}
+		
+		@Override
+		public int[] call() {
+			//count phase w/o write positions, scatter phase otherwise
+			if( _pos == null )
+				return countNnzPerColumn(_a, _n, _rl, _ru);
+			transposeSparseToCSR(_a, _rl, _ru, _pos, _cix, _cvals);
+			return _pos;
+		}
+	}
+
 	private static class CountNnzTask implements Callable<int[]>
 	{
 		private MatrixBlock _in = null;
@@ -2341,4 +2829,74 @@ public class LibMatrixReorg
 			return rexpandColumns(_in, _out, _max, _cast, _ignore, _rl, _ru);
 		}
 	}
+
+	private static class RmEmptyRowsScanTask implements Callable<Integer>
+	{
+		private final MatrixBlock _in;
+		private final boolean[] _flags;
+		private final boolean _compute;
+		private final int _rl;
+		private final int _ru;
+
+		protected RmEmptyRowsScanTask(MatrixBlock in, boolean[] flags, boolean compute, int rl, int ru) {
+			_in = in;
+			_flags = flags;
+			_compute = compute;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Integer call() {
+			return scanNonEmptyRows(_in, _flags, _compute, _rl, _ru);
+		}
+	}
+	
+	private static class RmEmptyColsScanTask implements Callable<boolean[]>
+	{
+		private final MatrixBlock _in;
+		private final int _rl;
+		private final int _ru;
+
+		protected RmEmptyColsScanTask(MatrixBlock in, int rl, int ru) {
+			_in = in;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public boolean[] call() {
+			return scanNonEmptyColumns(_in, _rl, _ru);
+		}
+	}
+	
+	private static class RmEmptyCopyTask implements Callable<Long>
+	{
+		private final MatrixBlock _in;
+		private final MatrixBlock _out;
+		private final boolean _rows;
+		private final boolean[] _flags;
+		private final int[] _cix;
+		private final int _rl;
+		private final int _ru;
+		private final int _ci;
+
+		protected RmEmptyCopyTask(MatrixBlock in, MatrixBlock out, boolean rows, boolean[] flags, int[] cix, int rl, int ru, int ci) {
+			_in = in;
+			_out = out;
+			_rows = rows;
+			_flags = flags;
+			_cix = cix;
+			_rl = rl;
+			_ru = ru;
+			_ci = ci;
+		}
+		
+		@Override
+		public Long call() {
+			return _rows ?
+				copyNonEmptyRows(_in, _out, _flags, _rl, _ru, _ci) :
+				copyNonEmptyColumns(_in, _out, _flags, _cix, _rl, _ru);
+		}
+	}
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.functionobjects.IfElse;
+import org.tugraz.sysds.runtime.functionobjects.MinusMultiply;
+import org.tugraz.sysds.runtime.functionobjects.PlusMultiply;
+import org.tugraz.sysds.runtime.functionobjects.TernaryValueFunction;
+import org.tugraz.sysds.runtime.matrix.operators.TernaryOperator;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Library for ternary cellwise operations (ifelse, +*, -*) over matrices and
+ * scalars (given as 1x1 matrices). The operations are computed row-wise into a
+ * dense output, where sparse rows are expanded into row buffers, and large
+ * outputs are processed in row partitions by multiple threads.
+ */
+public class LibMatrixTercell
+{
+	//internal configuration
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M elements
+
+	private LibMatrixTercell() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Ternary cellwise operation into a dense output of the maximum input
+	 * dimensions, where 1x1 inputs are treated as scalars.
+	 *
+	 * @param m1 input matrix 1
+	 * @param m2 input matrix 2
+	 * @param m3 input matrix 3
+	 * @param ret result matrix
+	 * @param op ternary operator
+	 */
+	public static void tercellOp(MatrixBlock m1, MatrixBlock m2, MatrixBlock m3, MatrixBlock ret, TernaryOperator op) {
+		ret.allocateDenseBlock();
+		int k = op.getNumThreads();
+		if( k > 1 && (long)ret.rlen * ret.clen >= PAR_NUMCELL_THRESHOLD && ret.rlen >= 2*k ) {
+			try {
+				ExecutorService pool = CommonThreadPool.get(k);
+				ArrayList<TercellTask> tasks = new ArrayList<>();
+				ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(ret.rlen, k, false);
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new TercellTask(m1, m2, m3, ret, op, lb, lb+blklens.get(i)));
+				//execute tasks and aggregate partial nnz
+				long nnz = 0;
+				for( Future<Long> task : pool.invokeAll(tasks) )
+					nnz += task.get();
+				pool.shutdown();
+				ret.setNonZeros(nnz);
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		else {
+			ret.setNonZeros(tercellOp(m1, m2, m3, ret, op, 0, ret.rlen));
+		}
+	}
+
+	private static long tercellOp(MatrixBlock m1, MatrixBlock m2, MatrixBlock m3, MatrixBlock ret, TernaryOperator op, int rl, int ru) {
+		final int n = ret.clen;
+		final boolean s1 = isScalar(m1, ret), s2 = isScalar(m2, ret), s3 = isScalar(m3, ret);
+		double[] b1 = createRowBuffer(m1, s1, n);
+		double[] b2 = createRowBuffer(m2, s2, n);
+		double[] b3 = createRowBuffer(m3, s3, n);
+		DenseBlock dc = ret.getDenseBlock();
+		TernaryValueFunction fn = op.fn;
+
+		long nnz = 0;
+		for( int i=rl; i<ru; i++ ) {
+			double[] a1 = getRow(m1, s1, i, b1), a2 = getRow(m2, s2, i, b2), a3 = getRow(m3, s3, i, b3);
+			int ix1 = getRowPos(m1, i, b1), ix2 = getRowPos(m2, i, b2), ix3 = getRowPos(m3, i, b3);
+			double[] c = dc.values(i);
+			int cix = dc.pos(i);
+
+			//dedicated loops for the supported ternary functions
+			if( fn instanceof IfElse ) {
+				for( int j=0; j<n; j++ )
+					c[cix+j] = (a1[ix1+j] != 0) ? a2[ix2+j] : a3[ix3+j];
+			}
+			else if( fn instanceof PlusMultiply ) {
+				for( int j=0; j<n; j++ )
+					c[cix+j] = a1[ix1+j] + a2[ix2+j] * a3[ix3+j];
+			}
+			else if( fn instanceof MinusMultiply ) {
+				for( int j=0; j<n; j++ )
+					c[cix+j] = a1[ix1+j] - a2[ix2+j] * a3[ix3+j];
+			}
+			else {
+				for( int j=0; j<n; j++ )
+					c[cix+j] = fn.execute(a1[ix1+j], a2[ix2+j], a3[ix3+j]);
+			}
+			nnz += UtilFunctions.countNonZeros(c, cix, n);
+		}
+		return nnz;
+	}
+
+	private static boolean isScalar(MatrixBlock in, MatrixBlock ret) {
+		return in.rlen==1 && in.clen==1 && (ret.rlen > 1 || ret.clen > 1);
+	}
+
+	private static double[] createRowBuffer(MatrixBlock in, boolean scalar, int n) {
+		//scalars are replicated once, dense inputs are accessed in-place
+		if( scalar ) {
+			double[] ret = new double[n];
+			Arrays.fill(ret, in.quickGetValue(0, 0));
+			return ret;
+		}
+		return (in.sparse || in.isEmptyBlock(false)) ? new double[n] : null;
+	}
+
+	private static double[] getRow(MatrixBlock in, boolean scalar, int i, double[] buff) {
+		if( scalar )
+			return buff;
+		if( buff == null ) //dense
+			return in.getDenseBlock().values(i);
+		//sparse or empty: expand row into buffer
+		Arrays.fill(buff, 0);
+		SparseBlock a = in.sparseBlock;
+		if( in.sparse && a != null && !a.isEmpty(i) ) {
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				buff[aix[j]] = avals[j];
+		}
+		return buff;
+	}
+
+	private static int getRowPos(MatrixBlock in, int i, double[] buff) {
+		return (buff != null) ? 0 : in.getDenseBlock().pos(i);
+	}
+
+	private static class TercellTask implements Callable<Long>
+	{
+		private final MatrixBlock _m1;
+		private final MatrixBlock _m2;
+		private final MatrixBlock _m3;
+		private final MatrixBlock _ret;
+		private final TernaryOperator _op;
+		private final int _rl;
+		private final int _ru;
+
+		protected TercellTask(MatrixBlock m1, MatrixBlock m2, MatrixBlock m3, MatrixBlock ret, TernaryOperator op, int rl, int ru) {
+			_m1 = m1;
+			_m2 = m2;
+			_m3 = m3;
+			_ret = ret;
+			_op = op;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Long call() {
+			return tercellOp(_m1, _m2, _m3, _ret, _op, _rl, _ru);
+		}
+	}
+}
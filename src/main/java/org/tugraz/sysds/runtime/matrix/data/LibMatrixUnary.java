@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlockMCSR;
+import org.tugraz.sysds.runtime.functionobjects.Builtin;
+import org.tugraz.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Library for elementwise unary operations (e.g., abs, round, sqrt, exp, tanh) over
+ * dense and sparse inputs. Builtin functions are applied via per-function loops over
+ * row segments, and large inputs are processed in row partitions by multiple threads,
+ * where the decision is based on the number of cells weighted by the per-cell cost.
+ */
+public class LibMatrixUnary
+{
+	//internal configuration
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M elements
+	private static final int EXPENSIVE_OP_WEIGHT = 8; //relative per-cell costs
+
+	private LibMatrixUnary() {
+		//prevent instantiation via private constructor
+	}
+
+	/**
+	 * Elementwise unary operation, where the output representation is
+	 * expected to be allocated according to the sparse-safeness of the operator.
+	 *
+	 * @param in input matrix
+	 * @param ret result matrix
+	 * @param op unary operator
+	 */
+	public static void unaryOp(MatrixBlock in, MatrixBlock ret, UnaryOperator op) {
+		//prepare 0-value init (determine if unnecessarily sparse-unsafe)
+		double val0 = op.fn.execute(0d);
+
+		//early abort possible if sparse-safe or unnecessarily sparse unsafe
+		//(otherwise full init with val0, no need for computation)
+		if( in.isEmptyBlock(false) ) {
+			if( !op.sparseSafe && val0 != 0 )
+				ret.reset(in.rlen, in.clen, val0);
+			return;
+		}
+
+		//allocate output, incl init of sparse inputs w/ val0
+		if( in.sparse && ret.sparse )
+			ret.allocateSparseRowsBlock();
+		else if( in.sparse && val0 != 0 )
+			ret.reset(in.rlen, in.clen, val0);
+		else
+			ret.allocateDenseBlock(false);
+
+		//core unary operation, incl nnz maintenance
+		int k = op.getNumThreads();
+		ret.nonZeros = isParallelUnary(in, ret, op, k) ?
+			unaryOpParallel(in, ret, op, k) :
+			unaryOp(in, ret, op, 0, in.rlen);
+	}
+
+	/**
+	 * Elementwise unary operation in place, which requires an allocated fp64
+	 * dense block because sparse-safe and unsafe operations update all cells.
+	 *
+	 * @param in input and result matrix
+	 * @param op unary operator
+	 */
+	public static void unaryOpInPlace(MatrixBlock in, UnaryOperator op) {
+		if( !isSupportedInPlace(in) )
+			throw new DMLRuntimeException("Unsupported in-place unary operation over sparse, fp32, or unallocated input.");
+
+		//core unary operation, incl nnz maintenance
+		//(dense kernels are safe for aliased inputs and outputs)
+		int k = op.getNumThreads();
+		in.nonZeros = isParallelUnary(in, in, op, k) ?
+			unaryOpParallel(in, in, op, k) :
+			unaryOp(in, in, op, 0, in.rlen);
+	}
+
+	/**
+	 * Indicates if a unary operation can update the given block in place.
+	 *
+	 * @param in input matrix
+	 * @return true if in-place updates are supported
+	 */
+	public static boolean isSupportedInPlace(MatrixBlock in) {
+		return !in.sparse && !in.isFP32() && in.getDenseBlock() != null;
+	}
+
+	/**
+	 * Indicates if a unary operation is worth multi-threading, where the
+	 * number of cells is weighted by the relative per-cell compute cost.
+	 *
+	 * @param cells number of (non-zero) input cells
+	 * @param expensive true for expensive functions such as exp, log, or tanh
+	 * @param k degree of parallelism
+	 * @return true if the operation should be multi-threaded
+	 */
+	public static boolean isParallelUnary(long cells, boolean expensive, int k) {
+		return k > 1 && cells * (expensive ? EXPENSIVE_OP_WEIGHT : 1) >= PAR_NUMCELL_THRESHOLD;
+	}
+
+	private static boolean isExpensiveOperation(ValueFunction fn) {
+		if( !(fn instanceof Builtin) )
+			return false;
+		BuiltinCode code = ((Builtin) fn).getBuiltinCode();
+		return code == BuiltinCode.EXP || code == BuiltinCode.LOG || code == BuiltinCode.LOG_NZ
+			|| code == BuiltinCode.SIGMOID || code == BuiltinCode.PLOGP
+			|| code == BuiltinCode.SIN || code == BuiltinCode.COS || code == BuiltinCode.TAN
+			|| code == BuiltinCode.ASIN || code == BuiltinCode.ACOS || code == BuiltinCode.ATAN
+			|| code == BuiltinCode.SINH || code == BuiltinCode.COSH || code == BuiltinCode.TANH;
+	}
+
+	private static boolean isParallelUnary(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int k) {
+		//note: sparse outputs require row-independent updates of a MCSR block
+		long cells = in.sparse ? in.nonZeros : (long)in.rlen * in.clen;
+		return isParallelUnary(cells, isExpensiveOperation(op.fn), k) && in.rlen >= 2*k
+			&& (!ret.sparse || ret.sparseBlock instanceof SparseBlockMCSR);
+	}
+
+	private static long unaryOpParallel(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int k) {
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<UnaryTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(in.rlen, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new UnaryTask(in, ret, op, lb, lb+blklens.get(i)));
+			//execute tasks and aggregate partial nnz
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			return nnz;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	private static long unaryOp(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int rl, int ru) {
+		if( in.sparse && ret.sparse )
+			return unaryOpSparseSparse(in, ret, op, rl, ru);
+		else if( in.sparse )
+			return unaryOpSparseDense(in, ret, op, rl, ru);
+		else
+			return unaryOpDenseDense(in, ret, op, rl, ru);
+	}
+
+	private static long unaryOpSparseSparse(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int rl, int ru) {
+		SparseBlock a = in.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		double[] tmp = new double[in.clen];
+
+		long nnz = 0;
+		for(int i=rl; i<ru; i++) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+
+			execute(op.fn, avals, apos, tmp, 0, alen);
+			c.allocate(i, alen); //avoid repeated alloc
+			for( int j=0; j<alen; j++ ) {
+				c.append(i, aix[apos+j], tmp[j]);
+				nnz += (tmp[j] != 0) ? 1 : 0;
+			}
+		}
+		return nnz;
+	}
+
+	private static long unaryOpSparseDense(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int rl, int ru) {
+		SparseBlock a = in.sparseBlock;
+		DenseBlock c = ret.getDenseBlock();
+		double[] tmp = new double[in.clen];
+
+		//note: output initialized with val0 if unnecessarily sparse unsafe
+		long nnz = (op.fn.execute(0d) != 0) ?
+			(long)(ru-rl) * in.clen - a.size(rl, ru) : 0;
+		for(int i=rl; i<ru; i++) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			double[] cvals = c.values(i);
+			int cix = c.pos(i);
+
+			execute(op.fn, avals, apos, tmp, 0, alen);
+			for( int j=0; j<alen; j++ ) {
+				cvals[cix + aix[apos+j]] = tmp[j];
+				nnz += (tmp[j] != 0) ? 1 : 0;
+			}
+		}
+		return nnz;
+	}
+
+	private static long unaryOpDenseDense(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int rl, int ru) {
+		DenseBlock a = in.getDenseBlock();
+		DenseBlock c = ret.getDenseBlock();
+		final int n = in.clen;
+
+		long nnz = 0;
+		if( a.isContiguous() && c.isContiguous() ) {
+			double[] avals = a.valuesAt(0);
+			double[] cvals = c.valuesAt(0);
+			execute(op.fn, avals, rl*n, cvals, rl*n, (ru-rl)*n);
+			nnz = UtilFunctions.countNonZeros(cvals, rl*n, (ru-rl)*n);
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				double[] cvals = c.values(i);
+				execute(op.fn, a.values(i), a.pos(i), cvals, c.pos(i), n);
+				nnz += UtilFunctions.countNonZeros(cvals, c.pos(i), n);
+			}
+		}
+		return nnz;
+	}
+
+	private static void execute(ValueFunction fn, double[] a, int ai, double[] c, int ci, int len) {
+		if( fn instanceof Builtin )
+			((Builtin) fn).execute(a, ai, c, ci, len);
+		else
+			for( int i=0; i<len; i++ )
+				c[ci+i] = fn.execute(a[ai+i]);
+	}
+
+	private static class UnaryTask implements Callable<Long>
+	{
+		private final MatrixBlock _in;
+		private final MatrixBlock _ret;
+		private final UnaryOperator _op;
+		private final int _rl;
+		private final int _ru;
+
+		protected UnaryTask(MatrixBlock in, MatrixBlock ret, UnaryOperator op, int rl, int ru) {
+			_in = in;
+			_ret = ret;
+			_op = op;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public Long call() {
+			return unaryOp(_in, _ret, _op, _rl, _ru);
+		}
+	}
+}
@@ -24,7 +24,9 @@ package org.tugraz.sysds.runtime.matrix.data;
 import org.apache.commons.lang3.concurrent.ConcurrentUtils;
 import org.apache.commons.math3.random.Well1024a;
 import org.apache.hadoop.io.DataInputBuffer;
+import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.common.Types.BlockType;
+import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.lops.MMTSJ.MMTSJType;
@@ -35,6 +37,7 @@ import org.tugraz.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.tugraz.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
 import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.DenseBlockFP32;
 import org.tugraz.sysds.runtime.data.DenseBlockFactory;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlockCOO;
@@ -92,6 +95,7 @@ import org.tugraz.sysds.runtime.util.FastBufferedDataInputStream;
 import org.tugraz.sysds.runtime.util.FastBufferedDataOutputStream;
 import org.tugraz.sysds.runtime.util.HDFSTool;
 import org.tugraz.sysds.runtime.util.IndexRange;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 import org.tugraz.sysds.utils.NativeHelper;
 
@@ -107,6 +111,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.stream.IntStream;
@@ -357,9 +362,11 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	
 	public boolean allocateDenseBlock(boolean clearNNZ) {
 		//allocate block if non-existing or too small (guaranteed to be 0-initialized),
+		//where fp32 blocks are replaced because default kernels require fp64 blocks
 		long limit = (long)rlen * clen;
-		boolean reset = (denseBlock == null || denseBlock.capacity() < limit);
-		if( denseBlock == null )
+		boolean fp32 = denseBlock instanceof DenseBlockFP32;
+		boolean reset = (denseBlock == null || fp32 || denseBlock.capacity() < limit);
+		if( denseBlock == null || fp32 )
 			denseBlock = DenseBlockFactory.createDenseBlock(rlen, clen);
 		else if( denseBlock.capacity() < limit )
 			denseBlock.reset(rlen, clen);
@@ -372,6 +379,125 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return reset;
 	}
 
+	/**
+	 * Allocates a single-precision dense block (FP32) for outputs of
+	 * operations with specialized FP32 kernels, see {@link #isFP32()}.
+	 */
+	public void allocateDenseBlockFP32() {
+		if( !(denseBlock instanceof DenseBlockFP32) || denseBlock.capacity() < (long)rlen*clen )
+			denseBlock = DenseBlockFactory.createDenseBlock(ValueType.FP32, new int[]{rlen, clen});
+		else
+			denseBlock.reset(rlen, clen);
+		nonZeros = 0;
+		sparse = false;
+	}
+	
+	/**
+	 * Indicates if this block is dense and backed by a single-precision
+	 * (FP32) dense block, which is only produced in the CP FP32 mode.
+	 * 
+	 * @return true if dense FP32 block
+	 */
+	public boolean isFP32() {
+		return !sparse && denseBlock instanceof DenseBlockFP32;
+	}
+	
+	/**
+	 * Converts a dense FP64 block in-place into a single-precision FP32 block.
+	 * Sparse, empty, and large dense blocks (multiple physical blocks) are not converted.
+	 * Since this modifies the representation, it must only be called for blocks that
+	 * are not yet shared (e.g., on read into the buffer pool).
+	 * 
+	 * @return this matrix block
+	 */
+	public MatrixBlock toFP32() {
+		if( sparse || denseBlock == null || isFP32() || !denseBlock.isContiguous() )
+			return this;
+		denseBlock = createDenseBlockFP32();
+		nonZeros = recomputeNonZerosFP32(); //underflows to zero
+		return this;
+	}
+	
+	/**
+	 * Obtains a single-precision FP32 view of this block for operations with
+	 * specialized FP32 kernels, see {@link #isFP32Applicable(MatrixBlock...)}.
+	 * FP64 blocks are converted into a new block, and thus, inputs are never modified.
+	 * 
+	 * @return this matrix block if FP32, otherwise a converted copy
+	 */
+	public MatrixBlock getFP32() {
+		if( sparse || denseBlock == null || isFP32() || !denseBlock.isContiguous() )
+			return this;
+		MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+		ret.denseBlock = createDenseBlockFP32();
+		ret.nonZeros = ret.recomputeNonZerosFP32();
+		return ret;
+	}
+	
+	/**
+	 * Obtains a FP64 view of this block, which is required for all operations
+	 * without specialized FP32 kernels. FP32 blocks are converted into a new
+	 * block, and thus, inputs are never modified.
+	 * 
+	 * @return this matrix block if not FP32, otherwise a converted copy
+	 */
+	public MatrixBlock getFP64() {
+		if( !isFP32() )
+			return this;
+		MatrixBlock ret = new MatrixBlock(rlen, clen, false);
+		ret.denseBlock = createDenseBlockFP64();
+		ret.nonZeros = nonZeros;
+		return ret;
+	}
+	
+	/**
+	 * Converts a dense FP32 block in-place into a FP64 block. This is only used
+	 * for blocks owned by the calling operation (e.g., update-in-place targets).
+	 */
+	void convertToFP64() {
+		if( isFP32() )
+			denseBlock = createDenseBlockFP64();
+	}
+	
+	/**
+	 * Indicates if the inputs of an operation with specialized FP32 kernels qualify
+	 * for these kernels, i.e., if FP32 mode is enabled and all inputs are dense
+	 * and allocated. Qualifying inputs are obtained via {@link #getFP32()}.
+	 * 
+	 * @param inputs matrix blocks of the operation
+	 * @return true if the FP32 kernels are applicable
+	 */
+	public static boolean isFP32Applicable(MatrixBlock... inputs) {
+		boolean fp32 = DMLScript.CP_FP32;
+		for( MatrixBlock in : inputs )
+			fp32 &= !in.sparse && in.denseBlock != null && in.denseBlock.isContiguous();
+		return fp32;
+	}
+	
+	private DenseBlock createDenseBlockFP32() {
+		double[] a = denseBlock.valuesAt(0);
+		float[] c = new float[rlen * clen];
+		for( int i=0; i<c.length; i++ )
+			c[i] = (float) a[i];
+		return DenseBlockFactory.createDenseBlock(c, rlen, clen);
+	}
+	
+	private DenseBlock createDenseBlockFP64() {
+		float[] a = ((DenseBlockFP32)denseBlock).getData();
+		double[] c = new double[rlen * clen];
+		for( int i=0; i<c.length; i++ )
+			c[i] = a[i];
+		return DenseBlockFactory.createDenseBlock(c, rlen, clen);
+	}
+	
+	private long recomputeNonZerosFP32() {
+		float[] a = ((DenseBlockFP32)denseBlock).getData();
+		long nnz = 0;
+		for( int i=0; i<rlen*clen; i++ )
+			nnz += (a[i] != 0) ? 1 : 0;
+		return nnz;
+	}
+	
 	public boolean allocateSparseRowsBlock() {
 		return allocateSparseRowsBlock(true);
 	}
@@ -1075,6 +1201,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	
 	private void denseToSparse(boolean allowCSR)
 	{
+		convertToFP64(); //default row access
 		DenseBlock a = getDenseBlock();
 		
 		//set target representation, early abort on empty blocks
@@ -2028,7 +2155,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		}
 		else { //general case (if fast serialize not supported)
 			for(int i=0; i<a.numBlocks(); i++) {
-				double[] avals = a.values(i);
+				double[] avals = a.valuesAt(i); //fp64 (incl fp32 blocks)
 				int limit = a.size(i);
 				for(int j=0; j<limit; j++)
 					out.writeDouble(avals[j]);
@@ -2624,6 +2751,15 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return ret;
 	}
 
+	/**
+	 * Matrix-scalar operation that updates this dense block in place.
+	 * 
+	 * @param op scalar operator
+	 */
+	public void scalarOperationsInPlace(ScalarOperator op) {
+		LibMatrixBincell.bincellOpInPlace(this, op);
+	}
+
 	@Override
 	public MatrixValue unaryOperations(UnaryOperator op, MatrixValue result) {
 		MatrixBlock ret = checkType(result);
@@ -2647,26 +2783,9 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			else
 				ret = LibMatrixAgg.cumaggregateUnaryMatrix(this, ret, op);
 		}
-		else if(!sparse && !isEmptyBlock(false)
-			&& OptimizerUtils.isMaxLocalParallelism(op.getNumThreads())) {
-			//note: we apply multi-threading in a best-effort manner here
-			//only for expensive operators such as exp, log, sigmoid, because
-			//otherwise allocation, read and write anyway dominates
-			ret.allocateDenseBlock(false);
-			DenseBlock a = getDenseBlock();
-			DenseBlock c = ret.getDenseBlock();
-			for(int bi=0; bi<a.numBlocks(); bi++) {
-				double[] avals = a.valuesAt(bi), cvals = c.valuesAt(bi);
-				Arrays.parallelSetAll(cvals, i -> op.fn.execute(avals[i]));
-			}
-			ret.recomputeNonZeros();
-		}
 		else {
-			//default execute unary operations
-			if(op.sparseSafe)
-				sparseUnaryOperations(op, ret);
-			else
-				denseUnaryOperations(op, ret);
+			//default execute unary operations, incl multi-threading
+			LibMatrixUnary.unaryOp(this, ret, op);
 		}
 		
 		//ensure empty results sparse representation 
@@ -2677,104 +2796,15 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return ret;
 	}
 
-	private void sparseUnaryOperations(UnaryOperator op, MatrixBlock ret) {
-		//early abort possible since sparse-safe
+	/**
+	 * Elementwise unary operation that updates this dense block in place.
+	 * 
+	 * @param op unary operator
+	 */
+	public void unaryOperationsInPlace(UnaryOperator op) {
+		LibMatrixUnary.unaryOpInPlace(this, op);
 		if( isEmptyBlock(false) )
-			return;
-		
-		final int m = rlen;
-		final int n = clen;
-		
-		if( sparse && ret.sparse ) //SPARSE <- SPARSE
-		{
-			ret.allocateSparseRowsBlock();
-			SparseBlock a = sparseBlock;
-			SparseBlock c = ret.sparseBlock;
-		
-			long nnz = 0;
-			for(int i=0; i<m; i++) {
-				if( a.isEmpty(i) ) continue;
-				
-				int apos = a.pos(i);
-				int alen = a.size(i);
-				int[] aix = a.indexes(i);
-				double[] avals = a.values(i);
-				
-				c.allocate(i, alen); //avoid repeated alloc
-				for( int j=apos; j<apos+alen; j++ ) {
-					double val = op.fn.execute(avals[j]);
-					c.append(i, aix[j], val);
-					nnz += (val != 0) ? 1 : 0;
-				}
-			}
-			ret.nonZeros = nnz;
-		}
-		else if( sparse ) //DENSE <- SPARSE
-		{
-			ret.allocateDenseBlock(false);
-			SparseBlock a = sparseBlock;
-			DenseBlock c = ret.denseBlock;
-			long nnz = (ret.nonZeros > 0) ?
-				(long) m*n-a.size() : 0;
-			for(int i=0; i<m; i++) {
-				if( a.isEmpty(i) ) continue;
-				int apos = a.pos(i);
-				int alen = a.size(i);
-				int[] aix = a.indexes(i);
-				double[] avals = a.values(i);
-				double[] cvals = c.values(i);
-				int cix = c.pos(i);
-				for( int j=apos; j<apos+alen; j++ ) {
-					double val = op.fn.execute(avals[j]);
-					cvals[cix + aix[j]] = val; 
-					nnz += (val != 0) ? 1 : 0;
-				}
-			}
-			ret.nonZeros = nnz;
-		}
-		else //DENSE <- DENSE
-		{
-			//allocate dense output block
-			ret.allocateDenseBlock(false);
-			DenseBlock da = getDenseBlock();
-			DenseBlock dc = ret.getDenseBlock();
-			
-			//unary op, incl nnz maintenance
-			long nnz = 0;
-			for( int bi=0; bi<da.numBlocks(); bi++ ) {
-				double[] a = da.valuesAt(bi);
-				double[] c = dc.valuesAt(bi);
-				int len = da.size(bi);
-				for( int i=0; i<len; i++ ) {
-					c[i] = op.fn.execute(a[i]);
-					nnz += (c[i] != 0) ? 1 : 0;
-				}
-			}
-			ret.nonZeros = nnz;
-		}
-	}
-
-	private void denseUnaryOperations(UnaryOperator op, MatrixBlock ret) {
-		//prepare 0-value init (determine if unnecessarily sparse-unsafe)
-		double val0 = op.fn.execute(0d);
-		
-		final int m = rlen;
-		final int n = clen;
-		
-		//early abort possible if unnecessarily sparse unsafe
-		//(otherwise full init with val0, no need for computation)
-		if( isEmptyBlock(false) ) {
-			if( val0 != 0 )
-				ret.reset(m, n, val0);
-			return;
-		}
-		
-		//redirection to sparse safe operation w/ init by val0
-		if( sparse && val0 != 0 ) {
-			ret.reset(m, n, val0);
-			ret.nonZeros = (long)m * n;
-		}
-		sparseUnaryOperations(op, ret);
+			examSparsity();
 	}
 
 	@Override
@@ -2869,19 +2899,12 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			//SPECIAL CASE for sparse-dense combinations of common +* and -*
 			BinaryOperator bop = ((ValueFunctionWithConstant)op.fn)
 				.setOp2Constant(s2 ? d2 : d3);
-			LibMatrixBincell.bincellOp(this, s2 ? m3 : m2, ret, bop);
+			LibMatrixBincell.bincellOp(this, s2 ? m3 : m2, ret,
+				new BinaryOperator(bop.fn, op.getNumThreads()));
 		}
 		else {
-			ret.allocateDenseBlock();
-			
-			//basic ternary operations
-			for( int i=0; i<m; i++ )
-				for( int j=0; j<n; j++ ) {
-					double in1 = s1 ? d1 : quickGetValue(i, j);
-					double in2 = s2 ? d2 : m2.quickGetValue(i, j);
-					double in3 = s3 ? d3 : m3.quickGetValue(i, j);
-					ret.appendValue(i, j, op.fn.execute(in1, in2, in3));
-				}
+			//basic ternary operations, incl multi-threading
+			LibMatrixTercell.tercellOp(this, m2, m3, ret, op);
 			
 			//ensure correct output representation
 			ret.examSparsity();
@@ -3420,7 +3443,15 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return append(new MatrixBlock[]{that}, ret, cbind);
 	}
 	
+	public MatrixBlock append( MatrixBlock that, MatrixBlock ret, boolean cbind, int k ) {
+		return append(new MatrixBlock[]{that}, ret, cbind, k);
+	}
+	
 	public MatrixBlock append( MatrixBlock[] that, MatrixBlock ret, boolean cbind ) {
+		return append(that, ret, cbind, 1);
+	}
+	
+	public MatrixBlock append( MatrixBlock[] that, MatrixBlock ret, boolean cbind, int k ) {
 		MatrixBlock result = checkType( ret );
 		final int m = cbind ? rlen : rlen+Arrays.stream(that).mapToInt(mb -> mb.rlen).sum();
 		final int n = cbind ? clen+Arrays.stream(that).mapToInt(mb -> mb.clen).sum() : clen;
@@ -3436,7 +3467,25 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		
 		//core append operation
 		//copy left and right input into output
-		if( !result.sparse && nnz!=0 ) //DENSE
+		if( nnz!=0 && isParallelCopy(result, m, sp ? nnz : (long)m*n, k) ) //MULTI-THREADED
+		{
+			//row-partitioned copy of all inputs (w/ offsets) into the output
+			MatrixBlock[] in = new MatrixBlock[that.length+1];
+			int[] roff = new int[in.length], coff = new int[in.length];
+			in[0] = this;
+			for(int i=0; i<that.length; i++) {
+				in[i+1] = that[i];
+				roff[i+1] = cbind ? 0 : roff[i] + in[i].rlen;
+				coff[i+1] = cbind ? coff[i] + in[i].clen : 0;
+			}
+			if( result.sparse )
+				result.allocateSparseRowsBlock();
+			else
+				result.allocateDenseBlock();
+			copyRowsParallel(in, roff, coff, result, 0, m, false,
+				!shallowCopy, cbind && nnz > rlen && !shallowCopy, k);
+		}
+		else if( !result.sparse && nnz!=0 ) //DENSE
 		{
 			if( cbind ) {
 				result.copy(0, m-1, 0, clen-1, this, false);
@@ -3489,6 +3538,108 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return result;
 	}
 	
+	private static boolean isParallelCopy(MatrixBlock ret, int rows, long cells, int k) {
+		//note: sparse outputs require row-independent updates of a MCSR block
+		return k > 1 && cells >= LibMatrixReorg.PAR_NUMCELL_THRESHOLD && rows >= 2*k
+			&& (!ret.sparse || DEFAULT_SPARSEBLOCK == SparseBlock.Type.MCSR);
+	}
+	
+	/**
+	 * Copies the given inputs with row and column offsets into the output rows
+	 * [rl,ru) in row partitions, where sparse outputs are only supported w/o
+	 * awareness of existing non-zeros in the output.
+	 * 
+	 * @return nnz delta if awareDestNZ=true, otherwise 0
+	 */
+	private static long copyRowsParallel(MatrixBlock[] in, int[] roff, int[] coff, MatrixBlock ret,
+		int rl, int ru, boolean awareDestNZ, boolean deep, boolean allocRows, int k)
+	{
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<CopyRowsTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(ru-rl, k, false);
+			for( int i=0, lb=rl; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new CopyRowsTask(in, roff, coff, ret, awareDestNZ, deep, allocRows, lb, lb+blklens.get(i)));
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			return nnz;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static long copyRows(MatrixBlock[] in, int[] roff, int[] coff, MatrixBlock ret,
+		int rl, int ru, boolean awareDestNZ, boolean deep, boolean allocRows)
+	{
+		//allocate sparse output rows once for all inputs
+		if( ret.sparse && allocRows ) {
+			for( int i=rl; i<ru; i++ ) {
+				long lnnz = 0;
+				for( int b=0; b<in.length; b++ )
+					if( i >= roff[b] && i < roff[b]+in[b].rlen )
+						lnnz += in[b].recomputeNonZeros(i-roff[b], i-roff[b], 0, in[b].clen-1);
+				if( lnnz > 0 )
+					ret.sparseBlock.allocate(i, (int)lnnz);
+			}
+		}
+		
+		//copy overlapping rows of all inputs
+		long nnz = 0;
+		for( int b=0; b<in.length; b++ ) {
+			MatrixBlock src = in[b];
+			int lrl = Math.max(rl, roff[b]) - roff[b];
+			int lru = Math.min(ru, roff[b]+src.rlen) - roff[b];
+			if( lrl >= lru || (!awareDestNZ && src.isEmptyBlock(false)) )
+				continue;
+			if( ret.sparse ) {
+				for( int i=lrl; i<lru; i++ )
+					ret.appendRowToSparse(ret.sparseBlock, src, i, roff[b], coff[b], deep);
+			}
+			else {
+				nnz += copyRowsToDense(src, ret, roff[b], coff[b], lrl, lru, awareDestNZ);
+			}
+		}
+		return nnz;
+	}
+	
+	private static long copyRowsToDense(MatrixBlock src, MatrixBlock ret, int roff, int coff, int rl, int ru, boolean awareDestNZ) {
+		final int n = src.clen;
+		final boolean empty = src.isEmptyBlock(false);
+		DenseBlock c = ret.getDenseBlock();
+		long nnz = 0;
+		for( int i=rl; i<ru; i++ ) {
+			double[] cvals = c.values(roff+i);
+			int cix = c.pos(roff+i, coff);
+			//clear existing non-zeros in the output range
+			if( awareDestNZ ) {
+				nnz -= UtilFunctions.computeNnz(cvals, cix, n);
+				Arrays.fill(cvals, cix, cix+n, 0);
+			}
+			if( empty )
+				continue;
+			if( src.sparse ) { //DENSE <- SPARSE
+				SparseBlock a = src.sparseBlock;
+				if( a.isEmpty(i) ) continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for( int j=apos; j<apos+alen; j++ )
+					cvals[cix+aix[j]] = avals[j];
+				nnz += awareDestNZ ? alen : 0;
+			}
+			else { //DENSE <- DENSE
+				DenseBlock a = src.getDenseBlock();
+				System.arraycopy(a.values(i), a.pos(i), cvals, cix, n);
+				nnz += awareDestNZ ? UtilFunctions.computeNnz(cvals, cix, n) : 0;
+			}
+		}
+		return nnz;
+	}
+	
 	public static MatrixBlock naryOperations(Operator op, MatrixBlock[] matrices, ScalarObject[] scalars, MatrixBlock ret) {
 		//note: currently only min and max supported and hence specialized implementation
 		
@@ -3677,12 +3828,22 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	
 	public final MatrixBlock leftIndexingOperations(MatrixBlock rhsMatrix,
 			IndexRange ixrange, MatrixBlock ret, UpdateType update) {
+		return leftIndexingOperations(rhsMatrix, ixrange, ret, update, 1);
+	}
+	
+	public final MatrixBlock leftIndexingOperations(MatrixBlock rhsMatrix,
+			IndexRange ixrange, MatrixBlock ret, UpdateType update, int k) {
 		return leftIndexingOperations(rhsMatrix, (int)ixrange.rowStart,
-			(int)ixrange.rowEnd, (int)ixrange.colStart, (int)ixrange.colEnd, ret, update);
+			(int)ixrange.rowEnd, (int)ixrange.colStart, (int)ixrange.colEnd, ret, update, k);
 	}
 
 	public MatrixBlock leftIndexingOperations(MatrixBlock rhsMatrix,
 			int rl, int ru, int cl, int cu, MatrixBlock ret, UpdateType update) {
+		return leftIndexingOperations(rhsMatrix, rl, ru, cl, cu, ret, update, 1);
+	}
+	
+	public MatrixBlock leftIndexingOperations(MatrixBlock rhsMatrix,
+			int rl, int ru, int cl, int cu, MatrixBlock ret, UpdateType update, int k) {
 		// Check the validity of bounds
 		if( rl < 0 || rl >= getNumRows() || ru < rl || ru >= getNumRows()
 			|| cl < 0 || cl >= getNumColumns() || cu < cl || cu >= getNumColumns() ) {
@@ -3705,7 +3866,15 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 				result=new MatrixBlock(rlen, clen, sp);
 			else
 				result.reset(rlen, clen, sp);
-			result.copy(this, sp);
+			if( !sp && isParallelCopy(result, rlen, (long)rlen*clen, k) && !isEmptyBlock(false) ) {
+				//row-partitioned copy into dense output
+				result.allocateDenseBlock();
+				copyRowsParallel(new MatrixBlock[]{this}, new int[1], new int[1],
+					result, 0, rlen, false, true, false, k);
+				result.nonZeros = nonZeros;
+			}
+			else
+				result.copy(this, sp);
 		}
 		else { //update in-place
 			//use current block as in-place result
@@ -3753,6 +3922,12 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 				}
 				result.nonZeros = sblock.size();
 			}
+			//copy submatrix into dense result, in row partitions
+			else if( !result.sparse && result.denseBlock != null
+				&& isParallelCopy(result, ru-rl+1, (long)(ru-rl+1)*(cu-cl+1), k) ) {
+				result.nonZeros += copyRowsParallel(new MatrixBlock[]{src}, new int[]{rl},
+					new int[]{cl}, result, rl, ru+1, true, true, false, k);
+			}
 			//copy submatrix into result
 			else {
 				result.copy(rl, ru, cl, cu, src, true);
@@ -4814,7 +4989,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			ret.reset(rl, cl, sp.sparse, sp.estimatedNonZeros);
 		
 		//compute matrix multiplication (only supported binary aggregate operation)
-		if( NativeHelper.isNativeLibraryLoaded() )
+		if( NativeHelper.isNativeLibraryLoaded() && !m1.isFP32() && !m2.isFP32() )
 			LibMatrixNative.matrixMult(m1, m2, ret, op.getNumThreads());
 		else if( op.getNumThreads() > 1 )
 			LibMatrixMult.matrixMult(m1, m2, ret, op.getNumThreads());
@@ -4824,6 +4999,41 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		return ret;
 	}
 
+	/**
+	 * Matrix multiplication t(m1) %*% m2, which avoids the transpose of sparse m1
+	 * for dense m2 with few columns, and otherwise materializes the transpose.
+	 * 
+	 * @param m1 first matrix (not transposed)
+	 * @param m2 second matrix
+	 * @param ret result matrix
+	 * @param op aggregate binary operator
+	 * @return result matrix
+	 */
+	public MatrixBlock aggregateBinaryOperationsTransposeLeft(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, AggregateBinaryOperator op) {
+		if( m1.rlen != m2.rlen ) {
+			throw new RuntimeException("Dimensions do not match for matrix multiplication ("+m1.rlen+"!="+m2.rlen+").");
+		}
+		if( !(op.binaryFn instanceof Multiply && op.aggOp.increOp.fn instanceof Plus) ) {
+			throw new DMLRuntimeException("Unsupported binary aggregate operation: ("+op.binaryFn+", "+op.aggOp+").");
+		}
+		
+		//fallback to explicit transpose
+		if( !LibMatrixMult.isSparseMatrixTransposeVectorMult(m1, m2) ) {
+			MatrixBlock tm1 = (MatrixBlock) m1.reorgOperations(new ReorgOperator(
+				SwapIndex.getSwapIndexFnObject(), op.getNumThreads()), new MatrixBlock(), 0, 0, 0);
+			return aggregateBinaryOperations(tm1, m2, ret, op);
+		}
+		
+		//create dense output and compute transpose-free matrix multiplication
+		if( ret==null )
+			ret = new MatrixBlock(m1.clen, m2.clen, false);
+		else
+			ret.reset(m1.clen, m2.clen, false);
+		LibMatrixMult.matrixMultSpMTV(m1, m2, ret, op.getNumThreads());
+		
+		return ret;
+	}
+
 	public MatrixBlock aggregateTernaryOperations(MatrixBlock m1, MatrixBlock m2, MatrixBlock m3, MatrixBlock ret, AggregateTernaryOperator op, boolean inCP) {
 		//check input dimensions and operators
 		if( m1.rlen!=m2.rlen || m1.clen!=m2.clen || (m3!=null && (m2.rlen!=m3.rlen || m2.clen!=m3.clen)) )
@@ -4851,6 +5061,10 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	}
 
 	public MatrixBlock  uaggouterchainOperations(MatrixBlock mbLeft, MatrixBlock mbRight, MatrixBlock mbOut, BinaryOperator bOp, AggregateUnaryOperator uaggOp) {
+		return uaggouterchainOperations(mbLeft, mbRight, mbOut, bOp, uaggOp, 1);
+	}
+	
+	public MatrixBlock  uaggouterchainOperations(MatrixBlock mbLeft, MatrixBlock mbRight, MatrixBlock mbOut, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int k) {
 		double bv[] = DataConverter.convertToDoubleVector(mbRight);
 		int bvi[] = null;
 		
@@ -4871,7 +5085,8 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			else
 				mbOut.reset(iRows, iCols, false);
 
-			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp);
+			//sorted vector shared by all tasks (single-threaded for small inputs)
+			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp, k);
 		} else
 			throw new DMLRuntimeException("Unsupported operator for unary aggregate operations.");
 		
@@ -4947,7 +5162,11 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	}
 
 	public MatrixBlock removeEmptyOperations( MatrixBlock ret, boolean rows, boolean emptyReturn, MatrixBlock select ) {
-		return LibMatrixReorg.rmempty(this, ret, rows, emptyReturn, select);
+		return removeEmptyOperations(ret, rows, emptyReturn, select, 1);
+	}
+	
+	public MatrixBlock removeEmptyOperations( MatrixBlock ret, boolean rows, boolean emptyReturn, MatrixBlock select, int k ) {
+		return LibMatrixReorg.rmempty(this, ret, rows, emptyReturn, select, k);
 	}
 
 	public MatrixBlock removeEmptyOperations( MatrixBlock ret, boolean rows, boolean emptyReturn) {
@@ -5681,6 +5900,38 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	///////////////////////////
 	// Helper classes
 
+	private static class CopyRowsTask implements Callable<Long>
+	{
+		private final MatrixBlock[] _in;
+		private final int[] _roff;
+		private final int[] _coff;
+		private final MatrixBlock _ret;
+		private final boolean _awareDestNZ;
+		private final boolean _deep;
+		private final boolean _allocRows;
+		private final int _rl;
+		private final int _ru;
+		
+		protected CopyRowsTask(MatrixBlock[] in, int[] roff, int[] coff, MatrixBlock ret,
+			boolean awareDestNZ, boolean deep, boolean allocRows, int rl, int ru)
+		{
+			_in = in;
+			_roff = roff;
+			_coff = coff;
+			_ret = ret;
+			_awareDestNZ = awareDestNZ;
+			_deep = deep;
+			_allocRows = allocRows;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			return copyRows(_in, _roff, _coff, _ret, _rl, _ru, _awareDestNZ, _deep, _allocRows);
+		}
+	}
+	
 	public static class SparsityEstimate
 	{
 		public long estimatedNonZeros=0;
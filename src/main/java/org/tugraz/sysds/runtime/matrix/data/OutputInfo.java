@@ -27,6 +27,7 @@ import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapred.FileOutputFormat;
 import org.apache.hadoop.mapred.OutputFormat;
 import org.apache.hadoop.mapred.SequenceFileOutputFormat;
 import org.apache.hadoop.mapred.TextOutputFormat;
@@ -67,6 +68,10 @@ public class OutputInfo implements Serializable
 	public static final OutputInfo LIBSVMOutputInfo = new OutputInfo (TextOutputFormat.class, 
 			NullWritable.class, Text.class);
 	
+	//note: written via local frame writer only (no hadoop output format)
+	public static final OutputInfo BinaryColumnarOutputInfo = new OutputInfo (FileOutputFormat.class, 
+			NullWritable.class, FrameBlock.class);
+	
 	public static InputInfo getMatchingInputInfo(OutputInfo oi) {
 		if ( oi == OutputInfo.BinaryBlockOutputInfo )
 			return InputInfo.BinaryBlockInputInfo;
@@ -82,6 +87,8 @@ public class OutputInfo implements Serializable
 			return InputInfo.CSVInputInfo;
 		else if ( oi == OutputInfo.LIBSVMOutputInfo)
 			return InputInfo.LIBSVMInputInfo;
+		else if ( oi == OutputInfo.BinaryColumnarOutputInfo)
+			return InputInfo.BinaryColumnarInputInfo;
 		else 
 			throw new DMLRuntimeException("Unrecognized output info: " + oi);
 	}
@@ -101,6 +108,8 @@ public class OutputInfo implements Serializable
 			return CSVOutputInfo;
 		else if ( str.equalsIgnoreCase("libsvm") )
 			return LIBSVMOutputInfo;
+		else if ( str.equalsIgnoreCase("binarycolumnar") )
+			return BinaryColumnarOutputInfo;
 		return null;
 	}
 	
@@ -119,6 +128,8 @@ public class OutputInfo implements Serializable
 			return "csv";
 		else if ( oi == LIBSVMOutputInfo)
 			return "libsvm";
+		else if ( oi == BinaryColumnarOutputInfo)
+			return "binarycolumnar";
 		else
 			throw new DMLRuntimeException("Unrecognized outputInfo: " + oi);
 	}
@@ -133,6 +144,8 @@ public class OutputInfo implements Serializable
 			return DataExpression.FORMAT_TYPE_VALUE_CSV;
 		else if( oinfo == OutputInfo.LIBSVMOutputInfo)
 			return DataExpression.FORMAT_TYPE_VALUE_LIBSVM;
+		else if( oinfo == OutputInfo.BinaryColumnarOutputInfo)
+			return DataExpression.FORMAT_TYPE_VALUE_COLUMNAR;
 		else if( oinfo == OutputInfo.BinaryBlockOutputInfo 
 				|| oinfo == OutputInfo.BinaryCellOutputInfo
 				|| oinfo == OutputInfo.BinaryTensorBlockOutputInfo)
@@ -45,12 +45,13 @@ public abstract class ScalarOperator extends Operator
 
 	public final ValueFunction fn;
 	protected final double _constant;
+	protected final int _k; //num threads
 	
 	public ScalarOperator(ValueFunction p, double cst) {
-		this(p, cst, false);
+		this(p, cst, false, 1);
 	}
 	
-	protected ScalarOperator(ValueFunction p, double cst, boolean altSparseSafe) {
+	protected ScalarOperator(ValueFunction p, double cst, boolean altSparseSafe, int numThreads) {
 		super( isSparseSafeStatic(p) || altSparseSafe
 				|| (p instanceof NotEquals && cst==0)
 				|| (p instanceof Equals && cst!=0)
@@ -59,14 +60,36 @@ public abstract class ScalarOperator extends Operator
 				|| (p instanceof Builtin && ((Builtin)p).getBuiltinCode()==BuiltinCode.MIN && cst>=0));
 		fn = p;
 		_constant = cst;
+		_k = numThreads;
 	}
 	
 	public double getConstant() {
 		return _constant;
 	}
 	
+	public int getNumThreads() {
+		return _k;
+	}
+	
+	/**
+	 * Creates a new scalar operator of the same type and degree of
+	 * parallelism with the given constant.
+	 * 
+	 * @param cst scalar constant
+	 * @return new scalar operator
+	 */
 	public abstract ScalarOperator setConstant(double cst);
 	
+	/**
+	 * Creates a new scalar operator of the same type with the
+	 * given constant and degree of parallelism.
+	 * 
+	 * @param cst scalar constant
+	 * @param numThreads degree of parallelism
+	 * @return new scalar operator
+	 */
+	public abstract ScalarOperator setConstant(double cst, int numThreads);
+	
 	/**
 	 * Apply the scalar operator over a given input value.
 	 * 
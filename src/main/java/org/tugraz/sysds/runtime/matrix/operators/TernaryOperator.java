@@ -32,11 +32,21 @@ public class TernaryOperator  extends Operator implements Serializable
 	private static final long serialVersionUID = 3456088891054083634L;
 	
 	public final TernaryValueFunction fn;
+	private final int _k; //num threads
 	
 	public TernaryOperator(TernaryValueFunction p) {
+		this(p, 1); //default single-threaded
+	}
+	
+	public TernaryOperator(TernaryValueFunction p, int numThreads) {
 		//ternaryop is sparse-safe iff (op 0 0 0) == 0
 		super (p instanceof PlusMultiply || p instanceof MinusMultiply || p instanceof IfElse);
 		fn = p;
+		_k = numThreads;
+	}
+	
+	public int getNumThreads() {
+		return _k;
 	}
 	
 	@Override
@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -82,11 +83,30 @@ public class EncoderRecode extends Encoder
 		if( !isApplicable() )
 			return;
 
-		Iterator<String[]> iter = in.getStringRowIterator(_colList);
+		//build maps of dictionary- and byte-encoded columns from their dictionaries 
+		//(w/o string hashing per row), and all other columns via a row iterator
+		ArrayList<Integer> rowCols = new ArrayList<>();
+		for( int colID : _colList ) {
+			if( !in.hasColumnDictionary(colID-1) ) {
+				rowCols.add(colID);
+				continue;
+			}
+			if( in.getNumRows() > 0 && !_rcdMaps.containsKey(colID) )
+				_rcdMaps.put(colID, new HashMap<String,Long>());
+			HashMap<String,Long> map = _rcdMaps.get(colID);
+			for( String key : getDictTokens(in, colID-1) )
+				if( !key.isEmpty() && !map.containsKey(key) )
+					map.put(key, Long.valueOf(map.size()+1));
+		}
+		if( rowCols.isEmpty() )
+			return;
+		
+		int[] cols = rowCols.stream().mapToInt(i -> i).toArray();
+		Iterator<String[]> iter = in.getStringRowIterator(cols);
 		while( iter.hasNext() ) {
 			String[] row = iter.next(); 
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j]; //1-based
+			for( int j=0; j<cols.length; j++ ) {
+				int colID = cols[j]; //1-based
 				//allocate column map if necessary
 				if( !_rcdMaps.containsKey(colID) ) 
 					_rcdMaps.put(colID, new HashMap<String,Long>());
@@ -116,8 +136,11 @@ public class EncoderRecode extends Encoder
 				_rcdMapsPart.put(colID, new HashSet<>());
 			HashSet<Object> map = _rcdMapsPart.get(colID);
 			//probe and build column map
-			for( int i=0; i<in.getNumRows(); i++ )
-				map.add(in.get(i, colID-1));
+			if( in.hasColumnDictionary(colID-1) )
+				map.addAll(getDictTokens(in, colID-1));
+			else
+				for( int i=0; i<in.getNumRows(); i++ )
+					map.add(in.get(i, colID-1));
 			//cleanup unnecessary entries once
 			map.remove(null);
 			map.remove("");
@@ -129,6 +152,10 @@ public class EncoderRecode extends Encoder
 		//apply recode maps column wise
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j];
+			if( in.hasColumnDictionary(colID-1) ) {
+				applyDictEncoded(in, out, colID);
+				continue;
+			}
 			for( int i=0; i<in.getNumRows(); i++ ) {
 				Object okey = in.get(i, colID-1);
 				String key = (okey!=null) ? okey.toString() : null;
@@ -141,6 +168,43 @@ public class EncoderRecode extends Encoder
 		return out;
 	}
 
+	private void applyDictEncoded(FrameBlock in, MatrixBlock out, int colID) {
+		//lookup codes once per dictionary entry, and map rows via their codes
+		String[] dict = in.getColumnDictionary(colID-1);
+		int[] codes = in.getColumnDictCodes(colID-1);
+		double[] lut = new double[dict.length];
+		for( int k=0; k<dict.length; k++ ) {
+			long code = lookupRCDMap(colID, dict[k]);
+			lut[k] = (code >= 0) ? code : Double.NaN;
+		}
+		for( int i=0; i<in.getNumRows(); i++ )
+			out.quickSetValue(i, colID-1, (codes[i] >= 0) ? lut[codes[i]] : Double.NaN);
+	}
+	
+	/**
+	 * Returns the distinct tokens of a dictionary- or byte-encoded column in order of
+	 * their first occurrence (as a row-wise scan would insert them), which
+	 * excludes dictionary entries that are not referenced by any row.
+	 * 
+	 * @param in input frame block
+	 * @param col 0-based column index
+	 * @return list of distinct tokens
+	 */
+	private static ArrayList<String> getDictTokens(FrameBlock in, int col) {
+		String[] dict = in.getColumnDictionary(col);
+		int[] codes = in.getColumnDictCodes(col);
+		boolean[] seen = new boolean[dict.length];
+		ArrayList<String> ret = new ArrayList<>();
+		for( int i=0; i<in.getNumRows(); i++ ) {
+			int code = codes[i];
+			if( code >= 0 && !seen[code] ) {
+				seen[code] = true;
+				ret.add(dict[code]);
+			}
+		}
+		return ret;
+	}
+
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
 		if( !isApplicable() )
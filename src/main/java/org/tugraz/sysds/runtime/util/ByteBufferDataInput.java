@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlockCSR;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlockDataInput;
 
 public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
@@ -123,9 +124,15 @@ public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
 	
 	@Override
 	public long readDoubleArray(int len, double[] varr) throws IOException  {
+		//bulk transfer via double view (w/ byte order of underlying buffer)
+		//note: the view has an independent position, so we advance explicitly
+		_buff.asDoubleBuffer().get(varr, 0, len);
+		_buff.position(_buff.position() + len*8);
+		
+		//nnz maintenance
 		long nnz = 0;
 		for( int i=0; i<len; i++ )
-			nnz += (varr[i] = _buff.getDouble()) != 0 ? 1 : 0;
+			nnz += (varr[i] != 0) ? 1 : 0;
 		return nnz;
 	}
 
@@ -133,6 +140,12 @@ public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
 	public long readSparseRows(int rlen, long nnz, SparseBlock rows) 
 		throws IOException 
 	{
+		//check for CSR quick-path
+		if( rows instanceof SparseBlockCSR ) {
+			((SparseBlockCSR) rows).initSparse(rlen, (int)nnz, this);
+			return nnz;
+		}
+		
 		//counter for non-zero elements
 		long gnnz = 0;
 		
@@ -69,6 +69,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 
 /**
@@ -79,6 +82,9 @@ import java.util.StringTokenizer;
  */
 public class DataConverter 
 {
+	//internal configuration
+	private static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //Min 1M elements
+
 	private static final String DELIM = " ";
 	
 	//////////////
@@ -443,6 +449,31 @@ public class DataConverter
 	 * @return matrix block
 	 */
 	public static MatrixBlock convertToMatrixBlock( double[][] data ) {
+		return convertToMatrixBlock(data, false);
+	}
+	
+	/**
+	 * Creates a dense Matrix Block and copies the given double matrix into it,
+	 * where the input is given either as an array of rows or as an array of 
+	 * columns. Column arrays are copied with a cache-conscious blocked transpose,
+	 * which avoids any intermediate row representation for columnar inputs.
+	 * 
+	 * @param data 2d double array
+	 * @param colMajor if true, data is interpreted as an array of columns
+	 * @return matrix block
+	 */
+	public static MatrixBlock convertToMatrixBlock( double[][] data, boolean colMajor ) {
+		if( colMajor ) {
+			int cols = data.length;
+			int rows = (cols > 0) ? data[0].length : 0;
+			MatrixBlock mb = new MatrixBlock(rows, cols, false);
+			mb.allocateDenseBlock();
+			copyColumnsToRowMajor(data, mb.getDenseBlockValues(), 0, rows, cols);
+			mb.recomputeNonZeros();
+			mb.examSparsity();
+			return mb;
+		}
+		
 		int rows = data.length;
 		int cols = (rows > 0)? data[0].length : 0;
 		MatrixBlock mb = new MatrixBlock(rows, cols, false);
@@ -569,7 +600,20 @@ public class DataConverter
 	 * @param frame frame block
 	 * @return matrix block
 	 */
-	public static MatrixBlock convertToMatrixBlock(FrameBlock frame) 
+	public static MatrixBlock convertToMatrixBlock(FrameBlock frame) {
+		return convertToMatrixBlock(frame, 1);
+	}
+	
+	/**
+	 * Converts a frame block with arbitrary schema into a matrix block,
+	 * where large frames are converted by multiple threads over disjoint
+	 * row partitions of the dense output.
+	 * 
+	 * @param frame frame block
+	 * @param k degree of parallelism
+	 * @return matrix block
+	 */
+	public static MatrixBlock convertToMatrixBlock(FrameBlock frame, int k) 
 	{
 		int m = frame.getNumRows();
 		int n = frame.getNumColumns();
@@ -579,22 +623,30 @@ public class DataConverter
 		ValueType[] schema = frame.getSchema();
 		int dFreq = UtilFunctions.frequency(schema, ValueType.FP64);
 		
-		if( dFreq == schema.length ) {
+		if( isParallelFrameConversion(m, n, k) ) {
+			// multi-threaded conversion of row partitions
+			double[] c = mb.getDenseBlockValues();
+			ArrayList<FrameConvertTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new FrameConvertTask(frame, c, lb, lb+blklens.get(i)));
+			mb.setNonZeros(execFrameConvertTasks(tasks, k));
+		}
+		else if( dFreq == schema.length ) {
 			// special case double schema (without cell-object creation, 
 			// cache-friendly row-column copy)
 			double[][] a = new double[n][];
-			double[] c = mb.getDenseBlockValues();
 			for( int j=0; j<n; j++ )
 				a[j] = (double[])frame.getColumnData(j);
-			int blocksizeIJ = 16; //blocks of a+overhead/c in L1 cache
-			for( int bi=0; bi<m; bi+=blocksizeIJ )
-				for( int bj=0; bj<n; bj+=blocksizeIJ ) {
-					int bimin = Math.min(bi+blocksizeIJ, m);
-					int bjmin = Math.min(bj+blocksizeIJ, n);
-					for( int i=bi, aix=bi*n; i<bimin; i++, aix+=n )
-						for( int j=bj; j<bjmin; j++ )
-							c[aix+j] = a[j][i];
-				}
+			copyColumnsToRowMajor(a, mb.getDenseBlockValues(), 0, m, n);
+		}
+		else if( UtilFunctions.frequency(schema, ValueType.STRING) == 0 ) {
+			// special case numeric schema (without cell-object creation,
+			// typed column conversion, and cache-friendly row-column copy)
+			double[][] a = new double[n][];
+			for( int j=0; j<n; j++ )
+				a[j] = convertToDoubleColumn(schema[j], frame.getColumnData(j), 0, m);
+			copyColumnsToRowMajor(a, mb.getDenseBlockValues(), 0, m, n);
 		}
 		else { 
 			//general case
@@ -611,6 +663,201 @@ public class DataConverter
 		return mb;
 	}
 	
+	/**
+	 * Converts a frame block into an array of typed column arrays (String[], 
+	 * boolean[], long[], or double[] according to the schema). Column arrays
+	 * are returned without copy if they exactly match the number of rows.
+	 * 
+	 * @param frame frame block
+	 * @return array of typed column arrays
+	 */
+	public static Object[] convertToColumns(FrameBlock frame) {
+		int m = frame.getNumRows();
+		ValueType[] schema = frame.getSchema();
+		Object[] ret = new Object[schema.length];
+		for( int j=0; j<schema.length; j++ ) {
+			Object col = (m > 0) ? frame.getColumnData(j) : null;
+			switch( schema[j] ) {
+				case STRING:
+					ret[j] = (col!=null && ((String[])col).length==m) ? col :
+						(col!=null) ? Arrays.copyOf((String[])col, m) : new String[m];
+					break;
+				case BOOLEAN:
+					ret[j] = (col!=null && ((boolean[])col).length==m) ? col :
+						(col!=null) ? Arrays.copyOf((boolean[])col, m) : new boolean[m];
+					break;
+				case INT64:
+					ret[j] = (col!=null && ((long[])col).length==m) ? col :
+						(col!=null) ? Arrays.copyOf((long[])col, m) : new long[m];
+					break;
+				case FP64:
+					ret[j] = (col!=null && ((double[])col).length==m) ? col :
+						(col!=null) ? Arrays.copyOf((double[])col, m) : new double[m];
+					break;
+				default:
+					throw new DMLRuntimeException("Unsupported value type: "+schema[j]);
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Converts a matrix block into an array of double column arrays.
+	 * 
+	 * @param mb matrix block
+	 * @return 2d double array of columns
+	 */
+	public static double[][] convertToDoubleColumns(MatrixBlock mb) {
+		int m = mb.getNumRows();
+		int n = mb.getNumColumns();
+		double[][] ret = new double[n][m];
+		if( mb.isEmptyBlock(false) )
+			return ret;
+		if( mb.isInSparseFormat() ) {
+			SparseBlock sblock = mb.getSparseBlock();
+			for( int i=0; i<m; i++ ) {
+				if( sblock.isEmpty(i) ) continue;
+				int apos = sblock.pos(i);
+				int alen = sblock.size(i);
+				int[] aix = sblock.indexes(i);
+				double[] avals = sblock.values(i);
+				for( int k=apos; k<apos+alen; k++ )
+					ret[aix[k]][i] = avals[k];
+			}
+		}
+		else {
+			DenseBlock a = mb.getDenseBlock();
+			int blocksizeIJ = 16; //blocks of a/c+overhead in L1 cache
+			for( int bi=0; bi<m; bi+=blocksizeIJ )
+				for( int bj=0; bj<n; bj+=blocksizeIJ ) {
+					int bimin = Math.min(bi+blocksizeIJ, m);
+					int bjmin = Math.min(bj+blocksizeIJ, n);
+					for( int i=bi; i<bimin; i++ ) {
+						double[] avals = a.values(i);
+						int aix = a.pos(i);
+						for( int j=bj; j<bjmin; j++ )
+							ret[j][i] = avals[aix+j];
+					}
+				}
+		}
+		return ret;
+	}
+	
+	private static void copyColumnsToRowMajor(double[][] a, double[] c, int rl, int ru, int n) {
+		int blocksizeIJ = 16; //blocks of a+overhead/c in L1 cache
+		for( int bi=rl; bi<ru; bi+=blocksizeIJ )
+			for( int bj=0; bj<n; bj+=blocksizeIJ ) {
+				int bimin = Math.min(bi+blocksizeIJ, ru);
+				int bjmin = Math.min(bj+blocksizeIJ, n);
+				for( int i=bi, aix=bi*n; i<bimin; i++, aix+=n )
+					for( int j=bj; j<bjmin; j++ )
+						c[aix+j] = a[j][i-rl];
+			}
+	}
+	
+	private static double[] convertToDoubleColumn(ValueType vt, Object col, int rl, int ru) {
+		double[] ret = new double[ru-rl];
+		if( ru-rl == 0 )
+			return ret;
+		switch( vt ) {
+			case FP64:
+				System.arraycopy((double[])col, rl, ret, 0, ru-rl); break;
+			case INT64: {
+				long[] lcol = (long[]) col;
+				for( int i=rl; i<ru; i++ )
+					ret[i-rl] = lcol[i];
+				break;
+			}
+			case BOOLEAN: {
+				boolean[] bcol = (boolean[]) col;
+				for( int i=rl; i<ru; i++ )
+					ret[i-rl] = bcol[i] ? 1 : 0;
+				break;
+			}
+			default:
+				throw new DMLRuntimeException("Unsupported value type: "+vt);
+		}
+		return ret;
+	}
+	
+	private static boolean isParallelFrameConversion(int m, int n, int k) {
+		return k > 1 && (long)m * n >= PAR_NUMCELL_THRESHOLD && m >= 2*k;
+	}
+	
+	private static long copyFrameToRowMajor(FrameBlock frame, double[] c, int rl, int ru) {
+		ValueType[] schema = frame.getSchema();
+		int n = schema.length;
+		if( UtilFunctions.frequency(schema, ValueType.STRING) == 0 ) {
+			// numeric schema (typed column conversion of the row range,
+			// and cache-friendly row-column copy)
+			double[][] a = new double[n][];
+			for( int j=0; j<n; j++ )
+				a[j] = convertToDoubleColumn(schema[j], frame.getColumnData(j), rl, ru);
+			copyColumnsToRowMajor(a, c, rl, ru, n);
+		}
+		else {
+			// general case
+			for( int i=rl, cix=rl*n; i<ru; i++, cix+=n )
+				for( int j=0; j<n; j++ )
+					c[cix+j] = UtilFunctions.objectToDouble(schema[j], frame.get(i, j));
+		}
+		return UtilFunctions.countNonZeros(c, rl*n, (ru-rl)*n);
+	}
+	
+	private static long copyRowMajorToFrame(MatrixBlock mb, ValueType[] schema, Object[] cols, int rl, int ru) {
+		//note: zeros are represented by the default values of the typed column arrays
+		if( mb.isEmptyBlock(false) )
+			return 0;
+		if( mb.isInSparseFormat() ) {
+			SparseBlock sblock = mb.getSparseBlock();
+			for( int i=rl; i<ru; i++ ) {
+				if( sblock.isEmpty(i) ) continue;
+				int apos = sblock.pos(i);
+				int alen = sblock.size(i);
+				int[] aix = sblock.indexes(i);
+				double[] aval = sblock.values(i);
+				for( int j=apos; j<apos+alen; j++ )
+					setFrameColumnValue(schema[aix[j]], cols[aix[j]], i, aval[j]);
+			}
+		}
+		else {
+			DenseBlock a = mb.getDenseBlock();
+			int n = mb.getNumColumns();
+			for( int i=rl; i<ru; i++ ) {
+				double[] avals = a.values(i);
+				int aix = a.pos(i);
+				for( int j=0; j<n; j++ )
+					if( avals[aix+j] != 0 )
+						setFrameColumnValue(schema[j], cols[j], i, avals[aix+j]);
+			}
+		}
+		return 0;
+	}
+	
+	private static void setFrameColumnValue(ValueType vt, Object col, int i, double val) {
+		switch( vt ) {
+			case STRING:  ((String[])col)[i] = String.valueOf(val); break;
+			case BOOLEAN: ((boolean[])col)[i] = (val != 0); break;
+			case INT64:   ((long[])col)[i] = UtilFunctions.toLong(val); break;
+			case FP64:    ((double[])col)[i] = val; break;
+			default: throw new DMLRuntimeException("Unsupported value type: "+vt);
+		}
+	}
+	
+	private static long execFrameConvertTasks(ArrayList<FrameConvertTask> tasks, int k) {
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			return nnz;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
 	/**
 	 * Converts a frame block with arbitrary schema into a two dimensional
 	 * string array. 
@@ -666,6 +913,23 @@ public class DataConverter
 		return new FrameBlock(schema, colnames, data);
 	}
 	
+	/**
+	 * Converts a set of typed column arrays (String[], boolean[], long[], or 
+	 * double[] according to the schema) into a frame block. The column arrays 
+	 * are wrapped but not copied, which allows a zero-copy handoff of columnar
+	 * data (e.g., from columnar exchange formats).
+	 * 
+	 * @param cols array of typed column arrays
+	 * @param schema frame schema
+	 * @param colnames column names, or null for default names
+	 * @return frame block
+	 */
+	public static FrameBlock convertToFrameBlock(Object[] cols, ValueType[] schema, String[] colnames) {
+		FrameBlock ret = new FrameBlock(schema, colnames);
+		ret.setColumnData(cols);
+		return ret;
+	}
+	
 	/**
 	 * Converts a matrix block into a frame block of value type double.
 	 * 
@@ -689,9 +953,50 @@ public class DataConverter
 		return convertToFrameBlock(mb, schema);
 	}
 
-	public static FrameBlock convertToFrameBlock(MatrixBlock mb, ValueType[] schema)
+	public static FrameBlock convertToFrameBlock(MatrixBlock mb, ValueType[] schema) {
+		return convertToFrameBlock(mb, schema, 1);
+	}
+	
+	public static FrameBlock convertToFrameBlock(MatrixBlock mb, int k) {
+		return convertToFrameBlock(mb, UtilFunctions.nCopies(mb.getNumColumns(), ValueType.FP64), k);
+	}
+	
+	/**
+	 * Converts a matrix block into a frame block of the given schema, where
+	 * large matrices are converted by multiple threads over disjoint row
+	 * partitions of preallocated typed column arrays.
+	 * 
+	 * @param mb matrix block
+	 * @param schema frame schema
+	 * @param k degree of parallelism
+	 * @return frame block
+	 */
+	public static FrameBlock convertToFrameBlock(MatrixBlock mb, ValueType[] schema, int k)
 	{
 		FrameBlock frame = new FrameBlock(schema);
+		int nrow = mb.getNumRows();
+		
+		if( isParallelFrameConversion(nrow, mb.getNumColumns(), k) ) {
+			// multi-threaded conversion of row partitions
+			Object[] cols = new Object[schema.length];
+			for( int j=0; j<schema.length; j++ ) {
+				switch( schema[j] ) {
+					case STRING:  cols[j] = new String[nrow]; break;
+					case BOOLEAN: cols[j] = new boolean[nrow]; break;
+					case INT64:   cols[j] = new long[nrow]; break;
+					case FP64:    cols[j] = new double[nrow]; break;
+					default: throw new DMLRuntimeException("Unsupported value type: "+schema[j]);
+				}
+			}
+			ArrayList<FrameConvertTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(nrow, k, false);
+			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+				tasks.add(new FrameConvertTask(mb, schema, cols, lb, lb+blklens.get(i)));
+			execFrameConvertTasks(tasks, k);
+			frame.setColumnData(cols);
+			return frame;
+		}
+		
 		Object[] row = new Object[mb.getNumColumns()];
 		
 		if( mb.isInSparseFormat() ) //SPARSE
@@ -1337,4 +1642,42 @@ public class DataConverter
 			ret[i] = String.valueOf(data[i]);
 		return ret;
 	}
+	
+	private static class FrameConvertTask implements Callable<Long>
+	{
+		private final FrameBlock _frame;
+		private final MatrixBlock _mb;
+		private final double[] _c;
+		private final ValueType[] _schema;
+		private final Object[] _cols;
+		private final int _rl;
+		private final int _ru;
+		
+		//frame to matrix
+		protected FrameConvertTask(FrameBlock frame, double[] c, int rl, int ru) {
+			this(frame, c, null, null, null, rl, ru);
+		}
+		
+		//matrix to frame
+		protected FrameConvertTask(MatrixBlock mb, ValueType[] schema, Object[] cols, int rl, int ru) {
+			this(null, null, mb, schema, cols, rl, ru);
+		}
+		
+		private FrameConvertTask(FrameBlock frame, double[] c, MatrixBlock mb, ValueType[] schema, Object[] cols, int rl, int ru) {
+			_frame = frame;
+			_c = c;
+			_mb = mb;
+			_schema = schema;
+			_cols = cols;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			return (_frame != null) ?
+				copyFrameToRowMajor(_frame, _c, _rl, _ru) :
+				copyRowMajorToFrame(_mb, _schema, _cols, _rl, _ru);
+		}
+	}
 }
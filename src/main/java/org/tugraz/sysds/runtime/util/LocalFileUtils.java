@@ -29,13 +29,18 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 
+import org.apache.commons.lang.SystemUtils;
 import org.apache.hadoop.io.Writable;
 import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.conf.ConfigurationManager;
@@ -55,6 +60,12 @@ public class LocalFileUtils
 {
 	public static final int BUFFER_SIZE = 8192;
 	
+	//memory-mapped reads of matrix blocks larger than 1MB
+	public static boolean ALLOW_MMAP_READ = true;
+	private static final long MMAP_READ_MIN_SIZE = 1024 * 1024;
+	private static Object _unsafe = null;
+	private static Method _invokeCleaner = null;
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -69,6 +80,18 @@ public class LocalFileUtils
 	
 	static {
 		_seq = new IDSequence();
+		
+		//explicit unmap of mapped buffers via unsafe (java 9+)
+		try {
+			Class<?> clazz = Class.forName("sun.misc.Unsafe");
+			Field field = clazz.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			_invokeCleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+			_unsafe = field.get(null);
+		}
+		catch(Exception ex) {
+			_invokeCleaner = null; //java 8 fallback to buffer cleaner
+		}
 	}
 	
 	/** Reads a matrix block from local file system.
@@ -125,6 +148,10 @@ public class LocalFileUtils
 	public static Writable readWritableFromLocal(String fname, Writable ret)
 		throws IOException
 	{
+		//memory-mapped read for large matrix blocks
+		if( ret instanceof MatrixBlock && isMemoryMappedRead(fname) )
+			return readWritableFromLocalMapped(fname, ret);
+		
 		FileInputStream fis = new FileInputStream(fname);
 		DataInput in = !(ret instanceof MatrixBlock) ? 
 			new DataInputStream(new BufferedInputStream(fis, BUFFER_SIZE)) :
@@ -140,6 +167,70 @@ public class LocalFileUtils
 		return ret;
 	}
 	
+	/**
+	 * Reads an arbitrary writable from local file system via a read-only memory
+	 * mapping of the entire file. This avoids copies through intermediate stream
+	 * buffers and allows bulk transfers of dense double arrays.
+	 * 
+	 * @param fname file name to read
+	 * @param ret hadoop writable
+	 * @return hadoop writable
+	 * @throws IOException if IOException occurs
+	 */
+	public static Writable readWritableFromLocalMapped(String fname, Writable ret)
+		throws IOException
+	{
+		FileChannel channel = null;
+		MappedByteBuffer buff = null;
+		try {
+			channel = FileChannel.open(Paths.get(fname), StandardOpenOption.READ);
+			buff = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			ret.readFields(new ByteBufferDataInput(buff));
+		}
+		finally {
+			//note: the decoded block holds no references to the mapping
+			if( buff != null )
+				unmap(buff);
+			IOUtilFunctions.closeSilently(channel);
+		}
+		
+		return ret;
+	}
+	
+	/**
+	 * Explicitly releases a memory mapping instead of waiting for garbage collection,
+	 * which otherwise keeps large mappings and file handles of evicted (and already
+	 * deleted) files alive. The buffer must not be accessed after this call.
+	 * 
+	 * @param buff mapped byte buffer
+	 */
+	private static void unmap(MappedByteBuffer buff) {
+		try {
+			if( _invokeCleaner != null ) {
+				_invokeCleaner.invoke(_unsafe, buff);
+			}
+			else {
+				Method cleaner = buff.getClass().getMethod("cleaner");
+				cleaner.setAccessible(true);
+				Object obj = cleaner.invoke(buff);
+				if( obj != null )
+					obj.getClass().getMethod("clean").invoke(obj);
+			}
+		}
+		catch(Exception ex) {
+			//ignore, mapping released on garbage collection
+		}
+	}
+	
+	private static boolean isMemoryMappedRead(String fname) {
+		//note: no mapping on windows because mapped files cannot be deleted 
+		//until the mapping is garbage collected (e.g., evicted cache files)
+		if( !ALLOW_MMAP_READ || SystemUtils.IS_OS_WINDOWS )
+			return false;
+		long len = new File(fname).length();
+		return len >= MMAP_READ_MIN_SIZE && len <= Integer.MAX_VALUE;
+	}
+	
 	/**
 	 * Reads a matrix block from an input stream, using a fused buffered reader
 	 * with special support for matrix blocks.
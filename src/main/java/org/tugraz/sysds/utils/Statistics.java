@@ -136,6 +136,10 @@ public class Statistics
 	private static final LongAdder lTotalLix = new LongAdder();
 	private static final LongAdder lTotalLixUIP = new LongAdder();
 	
+	//inter-operator parallelism stats (segments and operations run concurrently)
+	private static final LongAdder interOpSegments = new LongAdder();
+	private static final LongAdder interOpOps = new LongAdder();
+	
 	private static LongAdder numNativeFailures = new LongAdder();
 	public static LongAdder numNativeLibMatrixMultCalls = new LongAdder();
 	public static LongAdder numNativeConv2dCalls = new LongAdder();
@@ -209,6 +213,19 @@ public class Statistics
 		lTotalLix.increment();
 	}
 
+	public static long getInterOpParallelSegments() {
+		return interOpSegments.longValue();
+	}
+
+	public static long getInterOpParallelOps() {
+		return interOpOps.longValue();
+	}
+
+	public static void incrementInterOpParallelSegments(int numOps) {
+		interOpSegments.increment();
+		interOpOps.add(numOps);
+	}
+
 	public static void resetNoOfCompiledJobs( int count ) {
 		//reset both mr/sp for multiple tests within one jvm
 		numCompiledSPInst.reset();
@@ -450,6 +467,9 @@ public class Statistics
 		lTotalLixUIP.reset();
 		lTotalUIPVar.reset();
 		
+		interOpSegments.reset();
+		interOpOps.reset();
+		
 		CacheStatistics.reset();
 		LineageCacheStatistics.reset();
 		
@@ -987,6 +1007,8 @@ public class Statistics
 				sb.append("ParFor result merge time:\t" + String.format("%.3f", ((double)getParforMergeTime())/1000) + " sec.\n");
 				sb.append("ParFor total update in-place:\t" + lTotalUIPVar + "/" + lTotalLixUIP + "/" + lTotalLix + "\n");
 			}
+			if( interOpSegments.longValue() > 0 )
+				sb.append("Inter-op parallel segs/ops:\t" + interOpSegments + "/" + interOpOps + ".\n");
 
 			sb.append("Total JIT compile time:\t\t" + ((double)getJITCompileTime())/1000 + " sec.\n");
 			sb.append("Total JVM GC count:\t\t" + getJVMgcCount() + ".\n");
@@ -41,6 +41,7 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Random;
 import java.util.StringTokenizer;
@@ -60,6 +61,7 @@ import org.tugraz.sysds.runtime.io.FrameWriter;
 import org.tugraz.sysds.runtime.io.FrameWriterFactory;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.IJV;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixCell;
 import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
@@ -686,6 +688,50 @@ public class TestUtils
 		assertTrue("" + countErrors + " values are not in equal", countErrors == 0);
 	}
 	
+	/**
+	 * Compares two matrix blocks regarding their dimensions, values, and
+	 * number of non-zeros, where the non-zeros of the actual block must
+	 * also be consistent with its values. Sparse expected blocks are compared
+	 * over their non-zeros only, which also allows large ultra-sparse inputs.
+	 * 
+	 * @param expectedMatrix
+	 *            expected matrix block
+	 * @param actualMatrix
+	 *            actual matrix block
+	 * @param epsilon
+	 *            tolerance for value comparison
+	 */
+	public static void compareMatrices(MatrixBlock expectedMatrix, MatrixBlock actualMatrix, double epsilon) {
+		int rows = expectedMatrix.getNumRows();
+		int cols = expectedMatrix.getNumColumns();
+		assertEquals("Number of rows not equal", rows, actualMatrix.getNumRows());
+		assertEquals("Number of columns not equal", cols, actualMatrix.getNumColumns());
+		if( expectedMatrix.isInSparseFormat() ) {
+			//complete given equal nnz and no non-zeros outside the expected ones
+			int countErrors = 0;
+			long countNonZeros = 0;
+			Iterator<IJV> iter = expectedMatrix.getSparseBlockIterator();
+			while( iter.hasNext() ) {
+				IJV cell = iter.next();
+				double v = actualMatrix.quickGetValue(cell.getI(), cell.getJ());
+				if( !compareCellValue(cell.getV(), v, epsilon, false) ) {
+					System.out.println(cell.getV() +" vs actual: "+v+" at "+cell.getI()+" "+cell.getJ());
+					countErrors++;
+				}
+				countNonZeros += (v != 0) ? 1 : 0;
+			}
+			assertTrue("" + countErrors + " values are not in equal", countErrors == 0);
+			assertEquals("Non-zeros outside the expected non-zeros", actualMatrix.getNonZeros(), countNonZeros);
+		}
+		else {
+			compareMatrices(DataConverter.convertToDoubleMatrix(expectedMatrix),
+				DataConverter.convertToDoubleMatrix(actualMatrix), rows, cols, epsilon);
+		}
+		long nnz = actualMatrix.getNonZeros();
+		assertEquals("Number of non-zeros not equal", expectedMatrix.getNonZeros(), nnz);
+		assertEquals("Inconsistent number of non-zeros", actualMatrix.recomputeNonZeros(), nnz);
+	}
+	
 	public static void compareFrames(String[][] expectedFrame, String[][] actualFrame, int rows, int cols ) {
 		int countErrors = 0;
 		for (int i = 0; i < rows; i++) {
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.dnn;
+
+import org.junit.Test;
+import org.tugraz.sysds.runtime.matrix.data.DnnParameters;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixDNN;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixDNNConv2d;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.TestUtils;
+
+public class Conv2dKernelsTest 
+{
+	private static final double eps = 1e-10;
+	
+	private enum ConvAlgo {
+		IM2COL, WINOGRAD, DIRECT
+	}
+	
+	@Test
+	public void testWinogradSmallPad1() {
+		runConv2dKernelsTest(ConvAlgo.WINOGRAD, 3, 5, 6, 7, 4, 3, 1, 1);
+	}
+	
+	@Test
+	public void testWinogradLargePad1() {
+		runConv2dKernelsTest(ConvAlgo.WINOGRAD, 4, 8, 19, 17, 6, 3, 1, 1);
+	}
+	
+	@Test
+	public void testWinogradLargePad0() {
+		runConv2dKernelsTest(ConvAlgo.WINOGRAD, 4, 8, 16, 16, 6, 3, 1, 0);
+	}
+	
+	@Test
+	public void testWinogradLargePad2() {
+		runConv2dKernelsTest(ConvAlgo.WINOGRAD, 2, 5, 12, 13, 3, 3, 1, 2);
+	}
+	
+	@Test
+	public void testDirect1x1() {
+		runConv2dKernelsTest(ConvAlgo.DIRECT, 4, 16, 14, 14, 8, 1, 1, 0);
+	}
+	
+	@Test
+	public void testDirectSmallChannels() {
+		runConv2dKernelsTest(ConvAlgo.DIRECT, 4, 3, 15, 13, 8, 5, 1, 2);
+	}
+	
+	@Test
+	public void testDirectSmallChannelsStride2() {
+		runConv2dKernelsTest(ConvAlgo.DIRECT, 4, 3, 15, 13, 8, 3, 2, 1);
+	}
+	
+	private static void runConv2dKernelsTest(ConvAlgo algo, int N, int C, int H, int W, int K, int R, int stride, int pad) {
+		boolean oldWinograd = LibMatrixDNNConv2d.ALLOW_WINOGRAD;
+		boolean oldDirect = LibMatrixDNNConv2d.ALLOW_DIRECT;
+		try {
+			MatrixBlock X = MatrixBlock.randOperations(N, C*H*W, 1.0, -1, 1, "uniform", 7);
+			MatrixBlock F = MatrixBlock.randOperations(K, C*R*R, 1.0, -1, 1, "uniform", 3);
+			DnnParameters p = new DnnParameters(N, C, H, W, K, R, R, stride, stride, pad, pad, 4);
+			MatrixBlock dout = MatrixBlock.randOperations(N, K*p.P*p.Q, 1.0, -1, 1, "uniform", 11);
+			
+			//baseline im2col-based kernels
+			MatrixBlock[] ret1 = runConv2dOps(X, F, dout, N, C, H, W, K, R, stride, pad, ConvAlgo.IM2COL);
+			//im2col-free kernels
+			MatrixBlock[] ret2 = runConv2dOps(X, F, dout, N, C, H, W, K, R, stride, pad, algo);
+			
+			//compare conv2d, conv2d_backward_data, conv2d_backward_filter
+			for( int i=0; i<ret1.length; i++ )
+				TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1[i]),
+					DataConverter.convertToDoubleMatrix(ret2[i]), ret1[i].getNumRows(), ret1[i].getNumColumns(), eps);
+		}
+		finally {
+			LibMatrixDNNConv2d.ALLOW_WINOGRAD = oldWinograd;
+			LibMatrixDNNConv2d.ALLOW_DIRECT = oldDirect;
+		}
+	}
+	
+	private static MatrixBlock[] runConv2dOps(MatrixBlock X, MatrixBlock F, MatrixBlock dout,
+		int N, int C, int H, int W, int K, int R, int stride, int pad, ConvAlgo algo)
+	{
+		LibMatrixDNNConv2d.ALLOW_WINOGRAD = (algo == ConvAlgo.WINOGRAD);
+		LibMatrixDNNConv2d.ALLOW_DIRECT = (algo == ConvAlgo.DIRECT);
+		
+		DnnParameters p = new DnnParameters(N, C, H, W, K, R, R, stride, stride, pad, pad, 4);
+		MatrixBlock out = new MatrixBlock(N, K*p.P*p.Q, false).allocateBlock();
+		LibMatrixDNN.conv2d(X, F, out, p);
+		
+		p = new DnnParameters(N, C, H, W, K, R, R, stride, stride, pad, pad, 4);
+		MatrixBlock dX = new MatrixBlock(N, C*H*W, false).allocateBlock();
+		LibMatrixDNN.conv2dBackwardData(F, dout, dX, p);
+		
+		p = new DnnParameters(N, C, H, W, K, R, R, stride, stride, pad, pad, 4);
+		MatrixBlock dF = new MatrixBlock(K, C*R*R, false).allocateBlock();
+		LibMatrixDNN.conv2dBackwardFilter(X, dout, dF, p);
+		
+		return new MatrixBlock[]{out, dX, dF};
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.estim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.hops.Hop;
+import org.tugraz.sysds.hops.MemoTable;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.estim.EstimatorMatrixHistogram.MatrixHistogram;
+import org.tugraz.sysds.hops.rewrite.HopRewriteUtils;
+import org.tugraz.sysds.runtime.controlprogram.LocalVariableMap;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.meta.MetaDataFormat;
+import org.tugraz.sysds.test.AutomatedTestBase;
+
+/**
+ * Checks the propagation of matrix histogram sketches attached to
+ * matrix objects through hop DAGs during memory estimation.
+ */
+public class SketchPropagationTest extends AutomatedTestBase 
+{
+	private final static int m = 1200;
+	private final static int k = 1000;
+	private final static int n = 900;
+	private final static double sparsity = 0.005;
+	private final static double eps = 0.1;
+	
+	@Override
+	public void setUp() {
+		//do  nothing
+	}
+	
+	@Test
+	public void testMatrixMult() {
+		runSketchPropagationTest(false);
+	}
+	
+	@Test
+	public void testTransposeMatrixMult() {
+		runSketchPropagationTest(true);
+	}
+	
+	private static void runSketchPropagationTest(boolean trans) {
+		//generate inputs and compute exact result
+		MatrixBlock A = MatrixBlock.randOperations(trans ? k : m, trans ? m : k, sparsity, 1, 1, "uniform", 3);
+		MatrixBlock B = MatrixBlock.randOperations(k, n, sparsity, 1, 1, "uniform", 7);
+		MatrixBlock A2 = trans ? LibMatrixReorg.transpose(A, new MatrixBlock(m, k, true)) : A;
+		MatrixBlock C = A2.aggregateBinaryOperations(A2, B,
+			new MatrixBlock(), InstructionUtils.getMatMultOperator(1));
+		
+		//create live variables with sketches
+		LocalVariableMap vars = new LocalVariableMap();
+		MatrixObject moA = createMatrixObject(A);
+		MatrixObject moB = createMatrixObject(B);
+		Assert.assertNotNull(moA.getSketch());
+		Assert.assertEquals(A.getNonZeros(), moA.getSketch().getNonZeros());
+		vars.put("A", moA);
+		vars.put("B", moB);
+		
+		//construct hop dag (t(A) or A) %*% B and compute mem estimates
+		Hop hA = HopRewriteUtils.createTransientRead("A", moA);
+		Hop hB = HopRewriteUtils.createTransientRead("B", moB);
+		Hop mm = HopRewriteUtils.createMatrixMultiply(
+			trans ? HopRewriteUtils.createTranspose(hA) : hA, hB);
+		ArrayList<Hop> roots = new ArrayList<>(Arrays.asList(mm));
+		MemoTable memo = new MemoTable();
+		memo.initSketches(roots, vars);
+		Hop.resetVisitStatus(roots);
+		mm.refreshMemEstimates(memo);
+		
+		//compare estimated nnz and memory estimates
+		MatrixHistogram h = memo.getSketch(mm);
+		Assert.assertNotNull(h);
+		Assert.assertEquals(m, h.getRows());
+		Assert.assertEquals(n, h.getCols());
+		Assert.assertEquals(1, (double)h.getNonZeros()/C.getNonZeros(), eps);
+		double worst = OptimizerUtils.estimateSizeExactSparsity(m, n, 1.0);
+		Assert.assertTrue(mm.getOutputMemEstimate() < worst / 2);
+	}
+	
+	private static MatrixObject createMatrixObject(MatrixBlock mb) {
+		MatrixObject mo = new MatrixObject(ValueType.FP64, null,
+			new MetaDataFormat(new MatrixCharacteristics(mb.getNumRows(), mb.getNumColumns(), 1000, -1),
+			OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+		mo.acquireModify(mb);
+		mo.release();
+		return mo;
+	}
+}
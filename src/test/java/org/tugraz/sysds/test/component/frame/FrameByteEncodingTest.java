@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.frame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.tugraz.sysds.runtime.io.FrameReaderTextCSV;
+import org.tugraz.sysds.runtime.io.FrameReaderTextCSVParallel;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.transform.encode.Encoder;
+import org.tugraz.sysds.runtime.transform.encode.EncoderFactory;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for byte-encoded (UTF-8 arena) string columns,
+ * which compares accessors, updates, shared slices, serialization, recoding,
+ * and sequential/parallel csv reads with the plain string columns of the same frame.
+ */
+public class FrameByteEncodingTest extends AutomatedTestBase
+{
+	private final static String TEST_DIR = "functions/frame/io/";
+	private final static int rows = 2791;
+	private final static ValueType[] schema = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.STRING};
+	private final static String[] tokens = new String[]{"Graz", "Zürich", "東京", "", "Wien"};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testEncodeHighCardinality() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		Assert.assertTrue(enc.isColumnByteEncoded(0));
+		Assert.assertFalse(enc.isColumnByteEncoded(1));
+		Assert.assertTrue(enc.getInMemorySize() < in.getInMemorySize());
+		compareFrames(in, enc);
+		Assert.assertArrayEquals((String[])in.getColumnData(2), (String[])enc.getColumnData(2));
+	}
+
+	@Test
+	public void testUpdatesAndAppend() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		for( FrameBlock fb : new FrameBlock[]{in, enc} ) {
+			fb.set(7, 0, "a much longer replacement value");
+			fb.set(8, 0, null);
+			fb.set(9, 2, "Zürich");
+			fb.appendRow(new String[]{"new", "1.5", null});
+		}
+		compareFrames(in, enc);
+	}
+
+	@Test
+	public void testRepeatedUpdates() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		long size = enc.getInMemorySize();
+		//in-place overwrites and compaction bound the arena size
+		for( int i=0; i<50*rows; i++ )
+			for( FrameBlock fb : new FrameBlock[]{in, enc} )
+				fb.set((i*7)%rows, 0, (i%3==0) ? null : "upd-" + i%1000 + "-" + tokens[i%tokens.length]);
+		compareFrames(in, enc);
+		Assert.assertTrue(enc.getInMemorySize() < 3*size);
+	}
+
+	@Test
+	public void testSharedSlices() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		FrameBlock slice1 = in.slice(10, rows-11, 0, 2, new FrameBlock());
+		FrameBlock slice2 = enc.slice(10, rows-11, 0, 2, new FrameBlock());
+		//updates of the source and slice must not affect each other
+		for( FrameBlock fb : new FrameBlock[]{in, enc} )
+			fb.set(20, 0, "updated source");
+		slice1.set(0, 0, "updated slice");
+		slice2.set(0, 0, "updated slice");
+		compareFrames(in, enc);
+		compareFrames(slice1, slice2);
+		compareFrames(in.append(in, new FrameBlock(), false),
+			enc.append(enc, new FrameBlock(), false));
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		FrameBlock enc = createEncodedFrame();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		enc.write(new DataOutputStream(bos));
+		Assert.assertEquals(enc.getExactSerializedSize(), bos.size());
+		FrameBlock ret = new FrameBlock();
+		ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		Assert.assertTrue(ret.isColumnByteEncoded(0));
+		compareFrames(enc, ret);
+	}
+
+	@Test
+	public void testDictionaryAndRecode() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		Assert.assertTrue(enc.hasColumnDictionary(2));
+		Assert.assertEquals(tokens.length, enc.getColumnDictionary(2).length);
+		String spec = "{ids:true, recode:[1,3]}";
+		MatrixBlock ret1 = recode(spec, in);
+		MatrixBlock ret2 = recode(spec, enc);
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+			DataConverter.convertToDoubleMatrix(ret2), rows, schema.length, 0);
+		//conversion of low-cardinality byte-encoded columns
+		enc.dictEncodeStringColumns();
+		Assert.assertTrue(enc.isColumnByteEncoded(0));
+		Assert.assertTrue(enc.isColumnDictEncoded(2));
+		compareFrames(in, enc);
+	}
+
+	@Test
+	public void testReadCSV() throws Exception {
+		FrameBlock ret = new FrameReaderTextCSV(getCSVProperties()).readFrameFromInputStream(
+			new ByteArrayInputStream(createCSV().getBytes(StandardCharsets.UTF_8)), schema, rows, schema.length);
+		checkReadCSV(ret);
+	}
+
+	@Test
+	public void testReadCSVParallel() throws Exception {
+		//partial reads of multiple splits, merged by pages
+		String fname = SCRIPT_DIR + TEST_DIR + "/frameDataBytes.csv";
+		try {
+			HDFSTool.writeStringToHDFS(createCSV(), fname);
+			FrameBlock ret = new FrameReaderTextCSVParallel(getCSVProperties())
+				.readFrameFromHDFS(fname, schema, rows, schema.length);
+			checkReadCSV(ret);
+		}
+		finally {
+			HDFSTool.deleteFileIfExistOnHDFS(fname);
+		}
+	}
+
+	private static String createCSV() {
+		StringBuilder sb = new StringBuilder();
+		for( int i=0; i<rows; i++ ) {
+			sb.append((i%10==0) ? "\"q," + i + "\"" : " id" + i + " ").append(',');
+			sb.append(i*0.5).append(',');
+			sb.append((i%7==0) ? "" : tokens[i%tokens.length]).append('\n');
+		}
+		return sb.toString();
+	}
+
+	private static FileFormatPropertiesCSV getCSVProperties() {
+		return new FileFormatPropertiesCSV(false, ",", true, 0, null);
+	}
+
+	private static void checkReadCSV(FrameBlock ret) {
+		Assert.assertTrue(ret.isColumnByteEncoded(0));
+		Assert.assertTrue(ret.isColumnDictEncoded(2));
+		for( int i=0; i<rows; i++ ) {
+			Assert.assertEquals((i%10==0) ? "\"q," + i + "\"" : "id" + i, ret.get(i, 0));
+			Assert.assertEquals(i*0.5, ret.get(i, 1));
+			String token = (i%7==0) ? null : tokens[i%tokens.length];
+			Assert.assertEquals((token==null || token.isEmpty()) ? null : token, ret.get(i, 2));
+		}
+	}
+
+	private static MatrixBlock recode(String spec, FrameBlock in) {
+		Encoder encoder = EncoderFactory.createEncoder(spec, in.getColumnNames(), in.getNumColumns(), null);
+		return encoder.encode(in, new MatrixBlock(in.getNumRows(), in.getNumColumns(), false));
+	}
+
+	private static FrameBlock createFrame() {
+		FrameBlock ret = new FrameBlock(schema);
+		for( int i=0; i<rows; i++ ) {
+			ret.appendRow(new Object[]{(i%13==0) ? null : "id-" + i + "-" + tokens[i%tokens.length],
+				Double.valueOf(i), tokens[(i/3)%tokens.length]});
+		}
+		return ret;
+	}
+
+	private static FrameBlock createEncodedFrame() {
+		FrameBlock ret = createFrame();
+		ret.byteEncodeStringColumns();
+		return ret;
+	}
+
+	private static void compareFrames(FrameBlock fb1, FrameBlock fb2) {
+		Assert.assertEquals(fb1.getNumRows(), fb2.getNumRows());
+		Assert.assertArrayEquals(fb1.getSchema(), fb2.getSchema());
+		for( int i=0; i<fb1.getNumRows(); i++ )
+			for( int j=0; j<fb1.getNumColumns(); j++ )
+				Assert.assertEquals(fb1.get(i, j), fb2.get(i, j));
+	}
+}
@@ -34,11 +34,13 @@ public class FrameCastingTest extends AutomatedTestBase
 	private final static int rows = 2891;
 	private final static ValueType[] schemaStrings = new ValueType[]{ValueType.STRING, ValueType.STRING, ValueType.STRING};	
 	private final static ValueType[] schemaMixed = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};	
+	private final static ValueType[] schemaNumeric = new ValueType[]{ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
 	
 	private enum CastType {
 		M2F_S,
 		M2F_G,
 		F2M,
+		C2F,
 	}
 	
 	@Override
@@ -76,6 +78,21 @@ public class FrameCastingTest extends AutomatedTestBase
 		runFrameCastingTest(schemaMixed, CastType.F2M);
 	}
 
+	@Test
+	public void testFrameMixedC2F() {
+		runFrameCastingTest(schemaMixed, CastType.C2F);
+	}
+	
+	@Test
+	public void testFrameNumericF2M() {
+		runFrameCastingTest(schemaNumeric, CastType.F2M);
+	}
+	
+	@Test
+	public void testFrameNumericC2F() {
+		runFrameCastingTest(schemaNumeric, CastType.C2F);
+	}
+
 	/**
 	 * 
 	 * @param sparseM1
@@ -120,6 +137,24 @@ public class FrameCastingTest extends AutomatedTestBase
 				MatrixBlock mb = DataConverter.convertToMatrixBlock(A);
 				frame = DataConverter.convertToFrameBlock(mb, schema);	
 			}
+			else if( ctype == CastType.C2F )
+			{
+				//construct typed input columns
+				Object[] cols = new Object[schema.length];
+				for( int j=0; j<schema.length; j++ ) {
+					FrameBlock tmp = new FrameBlock(new ValueType[]{schema[j]});
+					for( int i=0; i<rows; i++ )
+						tmp.appendRow(new Object[]{UtilFunctions.doubleToObject(schema[j], A[i][j])});
+					cols[j] = DataConverter.convertToColumns(tmp)[0];
+				}
+				
+				FrameBlock frame1 = DataConverter.convertToFrameBlock(cols, schema, null);
+				Object[] cols2 = DataConverter.convertToColumns(frame1);
+				for( int j=0; j<schema.length; j++ )
+					if( cols2[j] != cols[j] )
+						Assert.fail("Unexpected copy of column "+j);
+				frame = DataConverter.convertToFrameBlock(cols2, schema, null);
+			}
 			
 			//check basic meta data
 			if( frame.getNumRows() != rows )
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.frame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.transform.encode.Encoder;
+import org.tugraz.sysds.runtime.transform.encode.EncoderFactory;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for dictionary-encoded string columns, which
+ * compares accessors, updates, shared slices, serialization, and recoding of encoded
+ * columns with the plain string columns of the same frame.
+ */
+public class FrameDictEncodingTest extends AutomatedTestBase
+{
+	private final static int rows = 2791;
+	private final static ValueType[] schema = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.STRING, ValueType.STRING};
+	private final static String[] tokens = new String[]{"AT", "DE", "CH", "IT", "FR", ""};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testEncodeLowCardinality() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		Assert.assertTrue(enc.isColumnDictEncoded(0));
+		Assert.assertFalse(enc.isColumnDictEncoded(1));
+		Assert.assertTrue(enc.isColumnDictEncoded(2));
+		Assert.assertFalse(enc.isColumnDictEncoded(3)); //high cardinality
+		Assert.assertTrue(enc.getInMemorySize() < in.getInMemorySize());
+		compareFrames(in, enc);
+		Assert.assertArrayEquals((String[])in.getColumnData(0), (String[])enc.getColumnData(0));
+	}
+
+	@Test
+	public void testUpdatesAndAppend() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		for( FrameBlock fb : new FrameBlock[]{in, enc} ) {
+			fb.set(7, 0, "NL");
+			fb.set(8, 0, null);
+			fb.set(9, 2, "AT");
+			fb.appendRow(new String[]{"PL", "1.5", null, "x"});
+		}
+		Assert.assertTrue(enc.isColumnDictEncoded(0));
+		compareFrames(in, enc);
+	}
+
+	@Test
+	public void testSliceAndRbind() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		compareFrames(in.slice(10, rows-11, 0, 3, new FrameBlock()),
+			enc.slice(10, rows-11, 0, 3, new FrameBlock()));
+		compareFrames(in.append(in, new FrameBlock(), false),
+			enc.append(enc, new FrameBlock(), false));
+		compareFrames(in.append(in, new FrameBlock(), false),
+			enc.append(in, new FrameBlock(), false));
+	}
+
+	@Test
+	public void testSharedDictionarySlices() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		Assert.assertTrue(enc.isColumnDictEncoded(2));
+		FrameBlock slice1 = in.slice(10, rows-11, 0, 3, new FrameBlock());
+		FrameBlock slice2 = enc.slice(10, rows-11, 0, 3, new FrameBlock());
+		//new and existing values of the source and slice must not affect each other
+		for( FrameBlock fb : new FrameBlock[]{in, enc} ) {
+			fb.set(20, 2, "new source value");
+			fb.set(21, 2, tokens[1]);
+		}
+		for( FrameBlock fb : new FrameBlock[]{slice1, slice2} ) {
+			fb.set(0, 2, "new slice value");
+			fb.set(1, 2, tokens[2]);
+		}
+		compareFrames(in, enc);
+		compareFrames(slice1, slice2);
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		FrameBlock enc = createEncodedFrame();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(bos);
+		enc.write(dos);
+		Assert.assertEquals(enc.getExactSerializedSize(), bos.size());
+		FrameBlock ret = new FrameBlock();
+		ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		Assert.assertTrue(ret.isColumnDictEncoded(0));
+		Assert.assertFalse(ret.isColumnDictEncoded(3));
+		compareFrames(enc, ret);
+		Assert.assertTrue(enc.getExactSerializedSize() < createFrame().getExactSerializedSize());
+	}
+
+	@Test
+	public void testRecodeEncoded() {
+		FrameBlock in = createFrame();
+		FrameBlock enc = createEncodedFrame();
+		enc.set(3, 0, "NL"); //unreferenced dictionary entry after update
+		enc.set(3, 0, "AT");
+		in.set(3, 0, "AT");
+		String spec = "{ids:true, recode:[1,3,4]}";
+		MatrixBlock ret1 = recode(spec, in);
+		MatrixBlock ret2 = recode(spec, enc);
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+			DataConverter.convertToDoubleMatrix(ret2), rows, schema.length, 0);
+	}
+
+	private static MatrixBlock recode(String spec, FrameBlock in) {
+		Encoder encoder = EncoderFactory.createEncoder(spec, in.getColumnNames(), in.getNumColumns(), null);
+		return encoder.encode(in, new MatrixBlock(in.getNumRows(), in.getNumColumns(), false));
+	}
+
+	private static FrameBlock createFrame() {
+		FrameBlock ret = new FrameBlock(schema);
+		for( int i=0; i<rows; i++ ) {
+			ret.appendRow(new Object[]{
+				(i%17==0) ? null : tokens[i%tokens.length], Double.valueOf(i),
+				new String(tokens[(i/7)%tokens.length]), "row"+i});
+		}
+		return ret;
+	}
+
+	private static FrameBlock createEncodedFrame() {
+		FrameBlock ret = createFrame();
+		ret.dictEncodeStringColumns();
+		return ret;
+	}
+
+	private static void compareFrames(FrameBlock fb1, FrameBlock fb2) {
+		Assert.assertEquals(fb1.getNumRows(), fb2.getNumRows());
+		Assert.assertArrayEquals(fb1.getSchema(), fb2.getSchema());
+		for( int i=0; i<fb1.getNumRows(); i++ )
+			for( int j=0; j<fb1.getNumColumns(); j++ )
+				Assert.assertEquals(fb1.get(i, j), fb2.get(i, j));
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.frame;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for multi-threaded frame slicing, rbind, and
+ * frame/matrix casts, which compares the results of the column- and
+ * row-partitioned kernels with the single-threaded operations.
+ */
+public class FrameParallelOpsTest extends AutomatedTestBase
+{
+	private final static int rows = 20000;
+	private final static int cols = 64;
+	private final static int k = 8;
+	private final static ValueType[] schemaMixed = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testSliceRowRangeMixed() {
+		FrameBlock in = createFrame(getSchema(true), 0.9, 7);
+		compareFrames(in.slice(100, rows-101, 3, cols-1, new FrameBlock()),
+			in.slice(100, rows-101, 3, cols-1, new FrameBlock(), k));
+	}
+
+	@Test
+	public void testRbindDouble() {
+		FrameBlock in1 = createFrame(getSchema(false), 0.9, 7);
+		FrameBlock in2 = createFrame(getSchema(false), 0.9, 3);
+		compareFrames(in1.append(in2, new FrameBlock(), false),
+			in1.append(in2, new FrameBlock(), false, k));
+	}
+
+	@Test
+	public void testRbindStringDoubleConversion() {
+		//note: double values of the second input are converted to strings
+		FrameBlock in1 = createFrame(UtilFunctions.nCopies(cols, ValueType.STRING), 0.9, 7);
+		FrameBlock in2 = createFrame(getSchema(false), 0.9, 3);
+		FrameBlock ret = in1.append(in2, new FrameBlock(), false, k);
+		Assert.assertEquals(2*rows, ret.getNumRows());
+		compareFrames(in1.append(in2, new FrameBlock(), false), ret);
+	}
+
+	@Test
+	public void testCastFrameToMatrixDouble() {
+		runFrameToMatrixTest(getSchema(false));
+	}
+
+	@Test
+	public void testCastFrameToMatrixMixed() {
+		runFrameToMatrixTest(getSchema(true));
+	}
+
+	@Test
+	public void testCastDenseMatrixToFrame() {
+		runMatrixToFrameTest(0.9);
+	}
+
+	@Test
+	public void testCastSparseMatrixToFrame() {
+		runMatrixToFrameTest(0.05);
+	}
+
+	private static void runFrameToMatrixTest(ValueType[] schema) {
+		FrameBlock in = createFrame(schema, 0.9, 7);
+		MatrixBlock ret1 = DataConverter.convertToMatrixBlock(in);
+		MatrixBlock retk = DataConverter.convertToMatrixBlock(in, k);
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+			DataConverter.convertToDoubleMatrix(retk), rows, cols, 0);
+		Assert.assertEquals(ret1.getNonZeros(), retk.getNonZeros());
+		Assert.assertEquals(retk.recomputeNonZeros(), retk.getNonZeros());
+	}
+
+	private static void runMatrixToFrameTest(double sparsity) {
+		MatrixBlock in = MatrixBlock.randOperations(rows, cols, sparsity, -10, 10, "uniform", 7);
+		ValueType[] schema = getSchema(true);
+		compareFrames(DataConverter.convertToFrameBlock(in, schema),
+			DataConverter.convertToFrameBlock(in, schema, k));
+	}
+
+	private static ValueType[] getSchema(boolean mixed) {
+		ValueType[] schema = new ValueType[cols];
+		for( int j=0; j<cols; j++ )
+			schema[j] = mixed ? schemaMixed[j%schemaMixed.length] : ValueType.FP64;
+		return schema;
+	}
+
+	private static FrameBlock createFrame(ValueType[] schema, double sparsity, long seed) {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, schema.length, sparsity, -10, 10, "uniform", seed);
+		return DataConverter.convertToFrameBlock(mb, schema);
+	}
+
+	private static void compareFrames(FrameBlock ret1, FrameBlock retk) {
+		Assert.assertEquals(ret1.getNumRows(), retk.getNumRows());
+		Assert.assertEquals(ret1.getNumColumns(), retk.getNumColumns());
+		Assert.assertArrayEquals(ret1.getSchema(), retk.getSchema());
+		for( int i=0; i<ret1.getNumRows(); i++ )
+			for( int j=0; j<ret1.getNumColumns(); j++ )
+				Assert.assertEquals(ret1.get(i, j), retk.get(i, j));
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.frame;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.io.FrameReaderBinaryColumnar;
+import org.tugraz.sysds.runtime.io.FrameWriterBinaryColumnar;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+public class FrameReadWriteColumnarTest extends AutomatedTestBase
+{
+	private final static String TEST_DIR = "functions/frame/io/";
+
+	private final static int rows = 1593;
+	private final static int rowsPerChunk = 100;
+	private final static ValueType[] schemaStrings = new ValueType[]{ValueType.STRING, ValueType.STRING, ValueType.STRING};
+	private final static ValueType[] schemaMixed = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testFrameStringsFull() {
+		runFrameReadWriteColumnarTest(schemaStrings, false, false, false);
+	}
+
+	@Test
+	public void testFrameStringsDictFull() {
+		runFrameReadWriteColumnarTest(schemaStrings, true, false, false);
+	}
+
+	@Test
+	public void testFrameMixedFull() {
+		runFrameReadWriteColumnarTest(schemaMixed, false, false, false);
+	}
+
+	@Test
+	public void testFrameStringsDictProjection() {
+		runFrameReadWriteColumnarTest(schemaStrings, true, true, false);
+	}
+
+	@Test
+	public void testFrameMixedProjection() {
+		runFrameReadWriteColumnarTest(schemaMixed, false, true, false);
+	}
+
+	@Test
+	public void testFrameStringsDictStream() {
+		runFrameReadWriteColumnarTest(schemaStrings, true, false, true);
+	}
+
+	@Test
+	public void testFrameMixedStream() {
+		runFrameReadWriteColumnarTest(schemaMixed, false, false, true);
+	}
+
+	private void runFrameReadWriteColumnarTest(ValueType[] schema, boolean lowCard, boolean projection, boolean stream) {
+		String fname = SCRIPT_DIR + TEST_DIR + "/frameDataColumnar";
+		try {
+			//data generation (low cardinality via rounding)
+			double[][] A = getRandomMatrix(rows, schema.length, -10, 10, 0.9, 7231);
+			FrameBlock frame = new FrameBlock(schema);
+			Object[] row = new Object[schema.length];
+			for( int i=0; i<rows; i++ ) {
+				for( int j=0; j<schema.length; j++ )
+					row[j] = UtilFunctions.doubleToObject(schema[j],
+						lowCard ? Math.round(A[i][j]) : A[i][j]);
+				frame.appendRow(row);
+			}
+
+			//write and read frame
+			new FrameWriterBinaryColumnar(rowsPerChunk)
+				.writeFrameToHDFS(frame, fname, rows, schema.length);
+			FrameReaderBinaryColumnar reader = new FrameReaderBinaryColumnar();
+			int[] cols = projection ? new int[]{schema.length-1, 0} : null;
+			int rl = projection ? 137 : 0;
+			int ru = projection ? 1234 : rows-1;
+			FrameBlock ret = null;
+			if( stream ) {
+				try( InputStream is = new FileInputStream(fname) ) {
+					ret = reader.readFrameFromInputStream(is, schema, rows, schema.length);
+				}
+			}
+			else {
+				ret = projection ?
+					reader.readFrameFromHDFS(fname, cols, rl, ru) :
+					reader.readFrameFromHDFS(fname, schema, rows, schema.length);
+			}
+
+			//compare frames
+			int ncol = projection ? cols.length : schema.length;
+			Assert.assertEquals(ru-rl+1, ret.getNumRows());
+			Assert.assertEquals(ncol, ret.getNumColumns());
+			for( int i=0; i<ret.getNumRows(); i++ )
+				for( int j=0; j<ncol; j++ ) {
+					int c = projection ? cols[j] : j;
+					if( UtilFunctions.compareTo(schema[c], frame.get(rl+i, c), ret.get(i, j)) != 0 )
+						Assert.fail("Wrong value for cell ("+i+","+j+"): "+ret.get(i, j)
+							+ ", expected: "+frame.get(rl+i, c));
+				}
+
+			//check chunk statistics of numeric columns
+			if( schema[1] == ValueType.FP64 ) {
+				double[][] stats = reader.readColumnStatistics(fname, 1);
+				Assert.assertEquals((rows+rowsPerChunk-1)/rowsPerChunk, stats.length);
+				for( int i=0; i<rows; i++ ) {
+					double v = (Double)frame.get(i, 1);
+					double[] s = stats[i/rowsPerChunk];
+					Assert.assertTrue(v >= s[0] && v <= s[1]);
+				}
+			}
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			throw new RuntimeException(ex);
+		}
+		finally {
+			try {
+				HDFSTool.deleteFileIfExistOnHDFS(fname);
+			}
+			catch(Exception ex) {}
+		}
+	}
+}
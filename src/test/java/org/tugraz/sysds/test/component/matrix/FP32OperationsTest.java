@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.api.DMLScript;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for the single-precision (FP32) CP mode, which compares
+ * the results of FP32 kernels (matrix multiplication, binary, and unary aggregates)
+ * with the default FP64 kernels, and checks the FP32 representation of outputs.
+ */
+public class FP32OperationsTest extends AutomatedTestBase 
+{
+	private final static int m = 317;
+	private final static int cd = 143;
+	private final static int n = 79;
+	private final static double eps = 1e-4;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testMatrixMultSingleThreaded() {
+		runFP32Test("mm", 1);
+	}
+	
+	@Test
+	public void testMatrixMultMultiThreaded() {
+		runFP32Test("mm", 4);
+	}
+	
+	@Test
+	public void testBinaryMatrixMatrix() {
+		runFP32Test("+", 1);
+	}
+	
+	@Test
+	public void testBinaryMatrixColVector() {
+		runFP32Test("*col", 1);
+	}
+	
+	@Test
+	public void testBinaryMatrixScalar() {
+		runFP32Test("max", 1);
+	}
+	
+	@Test
+	public void testSum() {
+		runFP32Test("uak+", 1);
+	}
+	
+	@Test
+	public void testColSums() {
+		runFP32Test("uack+", 1);
+	}
+	
+	@Test
+	public void testRowMaxs() {
+		runFP32Test("uarmax", 4);
+	}
+	
+	@Test
+	public void testFallbackUnsupported() {
+		runFP32Test("uarimax", 1);
+	}
+	
+	private static void runFP32Test(String type, int k) {
+		boolean flag = DMLScript.CP_FP32;
+		try {
+			DMLScript.CP_FP32 = true;
+			MatrixBlock A = MatrixBlock.randOperations(m, cd, 0.9, -1, 1, "uniform", 7);
+			MatrixBlock B = MatrixBlock.randOperations(cd, n, 0.9, -1, 1, "uniform", 3);
+			MatrixBlock A2 = MatrixBlock.randOperations(m, cd, 0.9, -1, 1, "uniform", 5);
+			MatrixBlock v = MatrixBlock.randOperations(m, 1, 1.0, -1, 1, "uniform", 9);
+			
+			//reference results with default fp64 kernels
+			MatrixBlock ref = execute(type, A, B, A2, v, k);
+			Assert.assertFalse(ref.isFP32());
+			
+			//fp32 results (inputs converted as on read)
+			A.toFP32();
+			B.toFP32();
+			Assert.assertTrue(A.isFP32() && B.isFP32());
+			double[][] Aref = DataConverter.convertToDoubleMatrix(A);
+			MatrixBlock ret = execute(type, A, B, A2, v, k);
+			TestUtils.compareMatrices(ref, ret, eps);
+			
+			//check output representations (fp32 outputs only for non-aggregates)
+			boolean agg = type.startsWith("ua");
+			Assert.assertEquals(!agg, ret.isFP32());
+			Assert.assertFalse(ret.getFP64().isFP32());
+			Assert.assertEquals(!agg, ret.isFP32());
+			
+			//check unchanged inputs (conversions only into local copies)
+			Assert.assertTrue(A.isFP32() && B.isFP32());
+			Assert.assertFalse(A2.isFP32() || v.isFP32());
+			TestUtils.compareMatrices(Aref, DataConverter.convertToDoubleMatrix(A), m, cd, 0);
+		}
+		finally {
+			DMLScript.CP_FP32 = flag;
+		}
+	}
+	
+	private static MatrixBlock execute(String type, MatrixBlock A, MatrixBlock B, MatrixBlock A2, MatrixBlock v, int k) {
+		switch( type ) {
+			case "mm":
+				return A.aggregateBinaryOperations(A, B,
+					new MatrixBlock(), InstructionUtils.getMatMultOperator(k));
+			case "+":
+				return (MatrixBlock) A.binaryOperations(
+					InstructionUtils.parseBinaryOperator("+"), A2, new MatrixBlock());
+			case "*col":
+				return (MatrixBlock) A.binaryOperations(
+					InstructionUtils.parseBinaryOperator("*"), v, new MatrixBlock());
+			case "max":
+				return (MatrixBlock) A.scalarOperations(
+					InstructionUtils.parseScalarBinaryOperator("max", false, 0.1), new MatrixBlock());
+			default:
+				return (MatrixBlock) A.aggregateUnaryOperations(
+					InstructionUtils.parseBasicAggregateUnaryOperator(type, k),
+					new MatrixBlock(), A.getNumRows(), new MatrixIndexes(1, 1), true);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for multi-threaded cbind/rbind, left indexing, and
+ * removeEmpty, which compares the results and nnz of the row-partitioned copies
+ * over dense and sparse inputs with the single-threaded operations.
+ */
+public class MultiThreadedAppendIndexingTest extends AutomatedTestBase
+{
+	private final static int m = 4000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.1;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseCbind() {
+		runAppendTest(false, true);
+	}
+
+	@Test
+	public void testDenseRbind() {
+		runAppendTest(false, false);
+	}
+
+	@Test
+	public void testSparseCbind() {
+		runAppendTest(true, true);
+	}
+
+	@Test
+	public void testSparseRbind() {
+		runAppendTest(true, false);
+	}
+
+	@Test
+	public void testDenseLeftIndexing() {
+		runLeftIndexingTest(false, false);
+	}
+
+	@Test
+	public void testDenseSparseLeftIndexing() {
+		runLeftIndexingTest(false, true);
+	}
+
+	@Test
+	public void testDenseRemoveEmptyRows() {
+		runRemoveEmptyTest(false, true);
+	}
+
+	@Test
+	public void testDenseRemoveEmptyCols() {
+		runRemoveEmptyTest(false, false);
+	}
+
+	@Test
+	public void testSparseRemoveEmptyRows() {
+		runRemoveEmptyTest(true, true);
+	}
+
+	@Test
+	public void testSparseRemoveEmptyCols() {
+		runRemoveEmptyTest(true, false);
+	}
+
+	private static void runAppendTest(boolean sparse, boolean cbind) {
+		double sp = sparse ? sparsity2 : sparsity1;
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sp, -1, 1, "uniform", 7);
+		MatrixBlock[] B = new MatrixBlock[] {
+			MatrixBlock.randOperations(m, n, sp, -1, 1, "uniform", 3),
+			MatrixBlock.randOperations(m, n/2, sp, -1, 1, "uniform", 5)};
+		if( !cbind )
+			B[1] = MatrixBlock.randOperations(m/2, n, sp, -1, 1, "uniform", 5);
+		MatrixBlock ret1 = A.append(B, new MatrixBlock(), cbind);
+		MatrixBlock retk = A.append(B, new MatrixBlock(), cbind, k);
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+
+	private static void runLeftIndexingTest(boolean sparse1, boolean sparse2) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse1?sparsity2:sparsity1, -1, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(m/2, n/2, sparse2?sparsity2:sparsity1, -1, 1, "uniform", 3);
+		MatrixBlock ret1 = A.leftIndexingOperations(B, 100, 100+m/2-1, 10, 10+n/2-1, new MatrixBlock(), UpdateType.COPY);
+		MatrixBlock retk = A.leftIndexingOperations(B, 100, 100+m/2-1, 10, 10+n/2-1, new MatrixBlock(), UpdateType.COPY, k);
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+
+	private static void runRemoveEmptyTest(boolean sparse, boolean rows) {
+		double[][] A = TestUtils.generateTestMatrix(m, n, -1, 1, sparse?sparsity2:sparsity1, 7);
+		for( int i=0; i<m; i++ )
+			for( int j=0; j<n; j++ )
+				if( i%3==0 || j%5==0 )
+					A[i][j] = 0;
+		MatrixBlock mbA = DataConverter.convertToMatrixBlock(A);
+		mbA.examSparsity();
+		MatrixBlock ret1 = mbA.removeEmptyOperations(new MatrixBlock(), rows, true, null);
+		MatrixBlock retk = mbA.removeEmptyOperations(new MatrixBlock(), rows, true, null, k);
+		Assert.assertEquals(rows ? m-(m+2)/3 : n-n/5, rows ? retk.getNumRows() : retk.getNumColumns());
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+}
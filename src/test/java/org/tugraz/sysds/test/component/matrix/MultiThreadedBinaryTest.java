@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for multi-threaded elementwise binary operations,
+ * which compares the results and nnz of row-partitioned multi-threaded kernels
+ * over dense, sparse, and mixed inputs with the single-threaded kernels.
+ */
+public class MultiThreadedBinaryTest extends AutomatedTestBase
+{
+	private final static int m = 4000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.3;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseDensePlus() {
+		runBinaryTest("+", false, false, false);
+	}
+
+	@Test
+	public void testDenseDenseGreater() {
+		runBinaryTest(">", false, false, false);
+	}
+
+	@Test
+	public void testDenseColVectorMult() {
+		runBinaryTest("*", false, false, true);
+	}
+
+	@Test
+	public void testDenseRowVectorMinus() {
+		runBinaryTest("-", false, false, false, true);
+	}
+
+	@Test
+	public void testSparseSparsePlus() {
+		runBinaryTest("+", true, true, false);
+	}
+
+	@Test
+	public void testSparseSparseMult() {
+		runBinaryTest("*", true, true, false);
+	}
+
+	@Test
+	public void testSparseDensePlus() {
+		runBinaryTest("+", true, false, false);
+	}
+
+	@Test
+	public void testDenseSparseMinus() {
+		runBinaryTest("-", false, true, false);
+	}
+
+	@Test
+	public void testDenseScalarMult() {
+		runScalarTest("*", false);
+	}
+
+	@Test
+	public void testSparseScalarMult() {
+		runScalarTest("*", true);
+	}
+
+	@Test
+	public void testSparseScalarPlus() {
+		runScalarTest("+", true);
+	}
+
+	@Test
+	public void testSparseScalarNotEquals() {
+		runScalarTest("!=", true);
+	}
+
+	private static void runBinaryTest(String opcode, boolean sparse1, boolean sparse2, boolean colVector) {
+		runBinaryTest(opcode, sparse1, sparse2, colVector, false);
+	}
+
+	private static void runBinaryTest(String opcode, boolean sparse1, boolean sparse2, boolean colVector, boolean rowVector) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse1?sparsity2:sparsity1, -1, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(colVector?m:rowVector?1:m,
+			(colVector?1:n), sparse2?sparsity2:sparsity1, -1, 1, "uniform", 3);
+
+		BinaryOperator op1 = InstructionUtils.parseBinaryOperator(opcode);
+		BinaryOperator opk = new BinaryOperator(op1.fn, k);
+		MatrixBlock ret1 = (MatrixBlock) A.binaryOperations(op1, B, new MatrixBlock());
+		MatrixBlock retk = (MatrixBlock) A.binaryOperations(opk, B, new MatrixBlock());
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+
+	private static void runScalarTest(String opcode, boolean sparse) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse?sparsity2:sparsity1, -1, 1, "uniform", 7);
+
+		ScalarOperator op1 = InstructionUtils.parseScalarBinaryOperator(opcode, false, 0.5);
+		ScalarOperator opk = op1.setConstant(0.5, k);
+		Assert.assertEquals(k, opk.getNumThreads());
+		Assert.assertEquals(k, opk.setConstant(0.7).getNumThreads());
+		MatrixBlock ret1 = (MatrixBlock) A.scalarOperations(op1, new MatrixBlock());
+		MatrixBlock retk = (MatrixBlock) A.scalarOperations(opk, new MatrixBlock());
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for the multi-threaded unary aggregate outer chain
+ * (e.g., rowSums(X &lt; t(v))), which compares the results of the partitioned
+ * tasks over dense and sparse vectors with the single-threaded kernels.
+ */
+public class MultiThreadedOuterAggTest extends AutomatedTestBase
+{
+	private final static int m = 200000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.3;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseRowSumsLess() {
+		runOuterAggTest("uark+", "<", false);
+	}
+
+	@Test
+	public void testSparseRowSumsGreaterEquals() {
+		runOuterAggTest("uark+", ">=", true);
+	}
+
+	@Test
+	public void testDenseRowSumsEquals() {
+		runOuterAggTest("uark+", "==", false);
+	}
+
+	@Test
+	public void testDenseColSumsGreater() {
+		runOuterAggTest("uack+", ">", false);
+	}
+
+	@Test
+	public void testSparseColSumsLessEquals() {
+		runOuterAggTest("uack+", "<=", true);
+	}
+
+	@Test
+	public void testDenseSumLess() {
+		runOuterAggTest("uak+", "<", false);
+	}
+
+	@Test
+	public void testSparseSumNotEquals() {
+		runOuterAggTest("uak+", "!=", true);
+	}
+
+	@Test
+	public void testDenseRowIndexMaxLess() {
+		runOuterAggTest("uarimax", "<", false);
+	}
+
+	@Test
+	public void testSparseRowIndexMinGreater() {
+		runOuterAggTest("uarimin", ">", true);
+	}
+
+	private static void runOuterAggTest(String aggOpcode, String binOpcode, boolean sparse) {
+		//column aggregates probe a row vector against a column vector, all others vice versa
+		boolean colAgg = aggOpcode.equals("uack+");
+		MatrixBlock X = MatrixBlock.randOperations(colAgg?1:m, colAgg?m:1,
+			sparse?sparsity2:sparsity1, 0, 10, "uniform", 7);
+		MatrixBlock v = MatrixBlock.randOperations(colAgg?n:1, colAgg?1:n, sparsity1, 0, 10, "uniform", 3);
+		//round to increase the number of ties and equal values
+		X = (MatrixBlock) X.unaryOperations(InstructionUtils.parseUnaryOperator("round"), new MatrixBlock());
+		v = (MatrixBlock) v.unaryOperations(InstructionUtils.parseUnaryOperator("round"), new MatrixBlock());
+
+		AggregateUnaryOperator uaggOp = InstructionUtils.parseBasicAggregateUnaryOperator(aggOpcode);
+		BinaryOperator bOp = InstructionUtils.parseBinaryOperator(binOpcode);
+		MatrixBlock ret1 = X.uaggouterchainOperations(X, v, null, bOp, uaggOp);
+		MatrixBlock retk = X.uaggouterchainOperations(X, v, null, bOp, uaggOp, k);
+
+		int rlen = ret1.getNumRows(), clen = ret1.getNumColumns();
+		Assert.assertEquals(rlen, retk.getNumRows());
+		Assert.assertEquals(clen, retk.getNumColumns());
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+			DataConverter.convertToDoubleMatrix(retk), rlen, clen, 0);
+	}
+}
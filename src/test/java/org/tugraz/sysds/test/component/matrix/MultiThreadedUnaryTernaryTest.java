@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.TernaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for multi-threaded elementwise unary and ternary
+ * operations, which compares the results and nnz of the row-partitioned kernels
+ * over dense and sparse inputs with the single-threaded kernels.
+ */
+public class MultiThreadedUnaryTernaryTest extends AutomatedTestBase
+{
+	private final static int m = 4000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.1;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseTanh() {
+		runUnaryTest("tanh", false);
+	}
+
+	@Test
+	public void testDenseRound() {
+		runUnaryTest("round", false);
+	}
+
+	@Test
+	public void testDenseNot() {
+		runUnaryTest("!", false);
+	}
+
+	@Test
+	public void testSparseAbs() {
+		runUnaryTest("abs", true);
+	}
+
+	@Test
+	public void testSparseExp() {
+		runUnaryTest("exp", true);
+	}
+
+	@Test
+	public void testSparseSqrt() {
+		runUnaryTest("sqrt", true);
+	}
+
+	@Test
+	public void testDenseIfElse() {
+		runTernaryTest("ifelse", false, false, false);
+	}
+
+	@Test
+	public void testSparseIfElseScalar() {
+		runTernaryTest("ifelse", true, false, true);
+	}
+
+	@Test
+	public void testDensePlusMult() {
+		runTernaryTest("+*", false, false, false);
+	}
+
+	@Test
+	public void testSparseMinusMult() {
+		runTernaryTest("-*", true, true, false);
+	}
+
+	private static void runUnaryTest(String opcode, boolean sparse) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse?sparsity2:sparsity1, 0, 1, "uniform", 7);
+		UnaryOperator op1 = InstructionUtils.parseUnaryOperator(opcode);
+		UnaryOperator opk = InstructionUtils.parseUnaryOperator(opcode, k, false);
+		Assert.assertEquals(k, opk.getNumThreads());
+		MatrixBlock ret1 = (MatrixBlock) A.unaryOperations(op1, new MatrixBlock());
+		MatrixBlock retk = (MatrixBlock) A.unaryOperations(opk, new MatrixBlock());
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+
+	private static void runTernaryTest(String opcode, boolean sparse1, boolean sparse2, boolean scalar3) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse1?sparsity2:sparsity1, -1, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(m, n, sparse2?sparsity2:sparsity1, -1, 1, "uniform", 3);
+		MatrixBlock C = scalar3 ? new MatrixBlock(1, 1, 0.7) :
+			MatrixBlock.randOperations(m, n, sparsity1, -1, 1, "uniform", 5);
+		TernaryOperator op1 = InstructionUtils.parseTernaryOperator(opcode);
+		TernaryOperator opk = InstructionUtils.parseTernaryOperator(opcode, k);
+		Assert.assertEquals(k, opk.getNumThreads());
+		MatrixBlock ret1 = A.ternaryOperations(op1, B, C, new MatrixBlock());
+		MatrixBlock retk = A.ternaryOperations(opk, B, C, new MatrixBlock());
+		TestUtils.compareMatrices(ret1, retk, 0);
+		Assert.assertEquals(ret1.isInSparseFormat(), retk.isInSparseFormat());
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
+import org.tugraz.sysds.lops.MMTSJ.MMTSJType;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixGEMM;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for the packed java GEMM, which compares dense
+ * matrix multiplications and tsmm (left/right) for different micro-kernels
+ * and block sizes (incl. partial tiles and blocks) against a reference.
+ */
+public class PackedGEMMTest extends AutomatedTestBase 
+{
+	private final static int m = 173;
+	private final static int cd = 211;
+	private final static int n = 97;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testKernel4x4SingleThreaded() {
+		runPackedGEMMTest("4x4,64,256,4096", 1);
+	}
+	
+	@Test
+	public void testKernel4x6SingleThreaded() {
+		runPackedGEMMTest("4x6,128,128,4096", 1);
+	}
+	
+	@Test
+	public void testKernel8x4SmallBlocksSingleThreaded() {
+		runPackedGEMMTest("8x4,24,50,40", 1);
+	}
+	
+	@Test
+	public void testKernel4x4MultiThreaded() {
+		runPackedGEMMTest("4x4,64,256,4096", 4);
+	}
+	
+	@Test
+	public void testKernel4x6SmallBlocksMultiThreaded() {
+		runPackedGEMMTest("4x6,16,32,64", 4);
+	}
+	
+	@Test
+	public void testDefaultMultiThreaded() {
+		runPackedGEMMTest("default", 4);
+	}
+	
+	@Test
+	public void testAutoMultiThreaded() {
+		runPackedGEMMTest("auto", 4);
+	}
+	
+	@Test
+	public void testDisabledSingleThreaded() {
+		runPackedGEMMTest("none", 1);
+	}
+	
+	private static void runPackedGEMMTest(String config, int k) {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		String prev = conf.getTextValue(DMLConfig.JAVA_GEMM);
+		try {
+			conf.setTextValue(DMLConfig.JAVA_GEMM, config);
+			LibMatrixGEMM.resetConfig();
+			//resolve config in this thread (thread-local dml configs),
+			//where auto might resolve to a persisted or tuned "none"
+			boolean applicable = LibMatrixGEMM.isApplicable(m, n, cd, 1.0);
+			if( !config.equals("auto") )
+				Assert.assertEquals(!config.equals("none"), applicable);
+			MatrixBlock A = MatrixBlock.randOperations(m, cd, 1.0, -1, 1, "uniform", 7);
+			MatrixBlock B = MatrixBlock.randOperations(cd, n, 1.0, -1, 1, "uniform", 3);
+			double[][] dA = DataConverter.convertToDoubleMatrix(A);
+			double[][] dB = DataConverter.convertToDoubleMatrix(B);
+			
+			//matrix multiplication A %*% B
+			MatrixBlock C = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(A, B, C, k);
+			TestUtils.compareMatrices(mult(dA, dB), DataConverter.convertToDoubleMatrix(C), m, n, eps);
+			
+			//tsmm left t(A) %*% A, and right A %*% t(A)
+			MatrixBlock L = A.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT, k);
+			double[][] dL = mult(transpose(dA), dA);
+			TestUtils.compareMatrices(dL, DataConverter.convertToDoubleMatrix(L), cd, cd, eps);
+			MatrixBlock R = A.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.RIGHT, k);
+			double[][] dR = mult(dA, transpose(dA));
+			TestUtils.compareMatrices(dR, DataConverter.convertToDoubleMatrix(R), m, m, eps);
+		}
+		finally {
+			conf.setTextValue(DMLConfig.JAVA_GEMM, prev);
+			LibMatrixGEMM.resetConfig();
+		}
+	}
+	
+	private static double[][] mult(double[][] a, double[][] b) {
+		double[][] c = new double[a.length][b[0].length];
+		for( int i=0; i<a.length; i++ )
+			for( int l=0; l<b.length; l++ )
+				for( int j=0; j<b[0].length; j++ )
+					c[i][j] += a[i][l] * b[l][j];
+		return c;
+	}
+	
+	private static double[][] transpose(double[][] a) {
+		double[][] c = new double[a[0].length][a.length];
+		for( int i=0; i<a.length; i++ )
+			for( int j=0; j<a[0].length; j++ )
+				c[j][i] = a[i][j];
+		return c;
+	}
+}
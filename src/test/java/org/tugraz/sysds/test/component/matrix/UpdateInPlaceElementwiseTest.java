@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixUnary;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for elementwise update-in-place operations in loops
+ * (e.g., W = W - lr * dW), which compares the results and nnz of the in-place
+ * binary, scalar, and unary kernels with the copy-based operations.
+ */
+public class UpdateInPlaceElementwiseTest extends AutomatedTestBase
+{
+	private final static int m = 2000;
+	private final static int n = 1000;
+	private final static double sparsity1 = 0.9;
+	private final static double sparsity2 = 0.1;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testDenseDenseMinus() {
+		runBinaryInPlaceTest("-", false, false, 1);
+	}
+
+	@Test
+	public void testDenseDenseMultParallel() {
+		runBinaryInPlaceTest("*", false, false, k);
+	}
+
+	@Test
+	public void testDenseSparsePlusParallel() {
+		runBinaryInPlaceTest("+", false, true, k);
+	}
+
+	@Test
+	public void testSparseSparseMult() {
+		runBinaryInPlaceTest("*", true, true, 1);
+	}
+
+	@Test
+	public void testScalarMinus() {
+		runScalarInPlaceTest("-", 1);
+	}
+
+	@Test
+	public void testScalarMultParallel() {
+		runScalarInPlaceTest("*", k);
+	}
+
+	@Test
+	public void testUnaryExp() {
+		runUnaryInPlaceTest("exp", 1);
+	}
+
+	@Test
+	public void testUnarySqrtParallel() {
+		runUnaryInPlaceTest("sqrt", k);
+	}
+
+	@Test
+	public void testUnsupportedInPlace() {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparsity1, 0, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(m, n, sparsity2, 0, 1, "uniform", 3);
+		MatrixBlock C = MatrixBlock.randOperations(m, n/2, sparsity1, 0, 1, "uniform", 5);
+		Assert.assertTrue(LibMatrixBincell.isSupportedInPlace(A, B));
+		Assert.assertFalse(LibMatrixBincell.isSupportedInPlace(A, A)); //aliasing
+		Assert.assertFalse(LibMatrixBincell.isSupportedInPlace(A, C)); //broadcasting
+		Assert.assertFalse(LibMatrixBincell.isSupportedInPlace(B, A)); //sparse-dense
+		Assert.assertFalse(LibMatrixBincell.isSupportedInPlace(B));
+		Assert.assertFalse(LibMatrixUnary.isSupportedInPlace(B));
+		Assert.assertTrue(LibMatrixUnary.isSupportedInPlace(A));
+	}
+
+	private static void runBinaryInPlaceTest(String opcode, boolean sparse1, boolean sparse2, int numThreads) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparse1?sparsity2:sparsity1, 0, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(m, n, sparse2?sparsity2:sparsity1, 0, 1, "uniform", 3);
+		BinaryOperator bop = new BinaryOperator(InstructionUtils.parseBinaryOperator(opcode).fn, numThreads);
+		Assert.assertTrue(LibMatrixBincell.isSupportedInPlace(A, B));
+		MatrixBlock ret1 = (MatrixBlock) A.binaryOperations(bop, B, new MatrixBlock());
+		A.binaryOperationsInPlace(bop, B);
+		TestUtils.compareMatrices(ret1, A, 1e-14);
+	}
+
+	private static void runScalarInPlaceTest(String opcode, int numThreads) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparsity1, -1, 1, "uniform", 7);
+		ScalarOperator sop = InstructionUtils.parseScalarBinaryOperator(opcode, false).setConstant(0.7, numThreads);
+		MatrixBlock ret1 = (MatrixBlock) A.scalarOperations(sop, new MatrixBlock());
+		A.scalarOperationsInPlace(sop);
+		TestUtils.compareMatrices(ret1, A, 1e-14);
+	}
+
+	private static void runUnaryInPlaceTest(String opcode, int numThreads) {
+		MatrixBlock A = MatrixBlock.randOperations(m, n, sparsity1, 0, 10, "uniform", 7);
+		UnaryOperator uop = InstructionUtils.parseUnaryOperator(opcode, numThreads, true);
+		MatrixBlock ret1 = (MatrixBlock) A.unaryOperations(uop, new MatrixBlock());
+		A.unaryOperationsInPlace(uop);
+		TestUtils.compareMatrices(ret1, A, 1e-14);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.misc;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.LocalFileUtils;
+import org.tugraz.sysds.test.TestUtils;
+
+public class LocalFileMappedReadTest
+{
+	private final static int rows = 1234;
+	private final static int cols = 321;
+
+	@Test
+	public void testDenseMappedRead() {
+		runMappedReadTest(0.9);
+	}
+
+	@Test
+	public void testSparseMappedRead() {
+		runMappedReadTest(0.05);
+	}
+
+	@Test
+	public void testEmptyMappedRead() {
+		runMappedReadTest(0.0);
+	}
+
+	private static void runMappedReadTest(double sparsity) {
+		File file = null;
+		try {
+			file = File.createTempFile("mappedRead", ".bin");
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(
+				TestUtils.generateTestMatrix(rows, cols, -1, 1, sparsity, 7));
+			LocalFileUtils.writeMatrixBlockToLocal(file.getAbsolutePath(), mb);
+
+			//read via memory mapping and compare
+			MatrixBlock ret = (MatrixBlock) LocalFileUtils
+				.readWritableFromLocalMapped(file.getAbsolutePath(), new MatrixBlock());
+			Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			Assert.assertEquals(mb.isInSparseFormat(), ret.isInSparseFormat());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb),
+				DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			if( file != null )
+				file.delete();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.parfor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.controlprogram.parfor.LocalTaskQueueWorkStealing;
+import org.tugraz.sysds.runtime.controlprogram.parfor.Task;
+import org.tugraz.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.tugraz.sysds.runtime.controlprogram.parfor.TaskPartitionerAdaptive;
+import org.tugraz.sysds.runtime.instructions.cp.IntObject;
+
+public class ParForWorkStealingTest
+{
+	private static final int k = 4;
+
+	@Test
+	public void testUniformIterations() throws Exception {
+		runWorkStealingTest(1, 200, 1, false);
+	}
+
+	@Test
+	public void testSkewedIterations() throws Exception {
+		runWorkStealingTest(1, 200, 1, true);
+	}
+
+	@Test
+	public void testSkewedIterationsIncrement() throws Exception {
+		runWorkStealingTest(3, 601, 3, true);
+	}
+
+	@Test
+	public void testNegativeIncrement() throws Exception {
+		runWorkStealingTest(100, 1, -1, false);
+	}
+
+	@Test
+	public void testFewerIterationsThanWorkers() throws Exception {
+		runWorkStealingTest(1, 3, 1, true);
+	}
+
+	private static void runWorkStealingTest(long from, long to, long incr, boolean skewed)
+		throws Exception
+	{
+		TaskPartitionerAdaptive tp = new TaskPartitionerAdaptive(1, k, "i",
+			new IntObject(from), new IntObject(to), new IntObject(incr));
+		LocalTaskQueueWorkStealing queue = tp.createTaskQueue();
+		long lfrom = Math.min(from, to);
+		int len = (int) (Math.max(from, to) - lfrom + 1);
+		AtomicIntegerArray counts = new AtomicIntegerArray(len);
+
+		//workers with skew: all expensive iterations in the first range
+		Thread[] threads = new Thread[k];
+		for( int t=0; t<k; t++ ) {
+			threads[t] = new Thread(() -> {
+				try {
+					Task task = null;
+					while( (task = queue.dequeueTask()) != null ) {
+						for( long i : getIterations(task) ) {
+							counts.incrementAndGet((int)(i - lfrom));
+							if( skewed && i-lfrom < len/k )
+								Thread.sleep(2);
+						}
+					}
+				}
+				catch(InterruptedException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			threads[t].start();
+		}
+		for( Thread t : threads )
+			t.join();
+
+		//check that all iterations executed exactly once
+		long numIter = 0;
+		for( int i=0; i<len; i++ ) {
+			boolean valid = (i % Math.abs(incr)) == 0;
+			Assert.assertEquals("Wrong count of iteration "+(lfrom+i), valid ? 1 : 0, counts.get(i));
+			numIter += counts.get(i);
+		}
+		Assert.assertEquals(tp.getNumIterations(), numIter);
+		Assert.assertTrue(queue.getNumCreatedTasks() > 0);
+		if( skewed && len > 2*k )
+			Assert.assertTrue(queue.getNumSteals() > 0);
+	}
+
+	private static long[] getIterations(Task task) {
+		List<IntObject> iters = task.getIterations();
+		if( task.getType() == TaskType.SET )
+			return iters.stream().mapToLong(i -> i.getLongValue()).toArray();
+		long lfrom = iters.get(0).getLongValue();
+		long lto = iters.get(1).getLongValue();
+		long lincr = iters.get(2).getLongValue();
+		long[] ret = new long[(int)((lto-lfrom)/lincr+1)];
+		for( int i=0; i<ret.length; i++ )
+			ret[i] = lfrom + i * lincr;
+		return ret;
+	}
+}
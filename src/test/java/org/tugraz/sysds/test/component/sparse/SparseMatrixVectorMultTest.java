@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.sparse;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlockCSR;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.AggregateBinaryOperator;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for sparse matrix-vector and skinny matrix-matrix
+ * multiplications (incl transpose-free t(X) %*% v), which compares the results
+ * over csr snapshots, skewed and ultra-sparse inputs with a reference product.
+ */
+public class SparseMatrixVectorMultTest extends AutomatedTestBase
+{
+	private final static int m = 100000;
+	private final static int n = 3000;
+	private final static double sparsity1 = 0.02;
+	private final static double sparsity2 = 0.001;
+	private final static double sparsity3 = 0.00001;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testSpMVSingleThreaded() {
+		runSpMVTest(sparsity1, 1, 1, false);
+	}
+
+	@Test
+	public void testSpMVShortRows() {
+		runSpMVTest(sparsity2, 1, k, false);
+	}
+
+	@Test
+	public void testSpMVLongRows() {
+		runSpMVTest(sparsity1, 1, k, false);
+	}
+
+	@Test
+	public void testSpMMFewColumns() {
+		runSpMVTest(sparsity2, 4, k, false);
+	}
+
+	@Test
+	public void testSpMVSkewedRows() {
+		runSpMVTest(sparsity2, 1, k, true);
+	}
+
+	@Test
+	public void testSpMMUltraSparse() {
+		runSpMVTest(sparsity3, 8, k, false);
+	}
+
+	@Test
+	public void testSpMTVSingleThreaded() {
+		runSpMTVTest(sparsity2, 1, 1);
+	}
+
+	@Test
+	public void testSpMTV() {
+		runSpMTVTest(sparsity1, 1, k);
+	}
+
+	@Test
+	public void testSpMTMFewColumns() {
+		runSpMTVTest(sparsity2, 3, k);
+	}
+
+	@Test
+	public void testSpMTMUltraSparse() {
+		runSpMTVTest(sparsity3, 8, k);
+	}
+
+	private static void runSpMVTest(double sparsity, int cols, int numThreads, boolean skew) {
+		MatrixBlock X = createSparseInput(sparsity, skew);
+		MatrixBlock v = MatrixBlock.randOperations(n, cols, 1.0, -1, 1, "uniform", 3);
+		SparseBlock sblock = X.getSparseBlock();
+		AggregateBinaryOperator op = InstructionUtils.getMatMultOperator(numThreads);
+		MatrixBlock ret1 = multiply(X, v, false);
+		MatrixBlock ret2 = X.aggregateBinaryOperations(X, v, new MatrixBlock(), op);
+		TestUtils.compareMatrices(ret1, ret2, 1e-10);
+		//unchanged input, and multiplication over csr snapshot
+		Assert.assertSame(sblock, X.getSparseBlock());
+		Assert.assertEquals(X.getNonZeros() <= 32L * m, LibMatrixMult.isSpMVSnapshotApplicable(X, v));
+		MatrixBlock Xcsr = LibMatrixMult.createSpMVSnapshot(X);
+		Assert.assertTrue(Xcsr.getSparseBlock() instanceof SparseBlockCSR);
+		TestUtils.compareMatrices(ret1, Xcsr.aggregateBinaryOperations(Xcsr, v, new MatrixBlock(), op), 1e-10);
+		Assert.assertSame(sblock, X.getSparseBlock());
+	}
+
+	private static void runSpMTVTest(double sparsity, int cols, int numThreads) {
+		MatrixBlock X = createSparseInput(sparsity, false);
+		MatrixBlock v = MatrixBlock.randOperations(m, cols, 1.0, -1, 1, "uniform", 3);
+		AggregateBinaryOperator op = InstructionUtils.getMatMultOperator(numThreads);
+		MatrixBlock ret1 = multiply(X, v, true);
+		MatrixBlock ret2 = X.aggregateBinaryOperationsTransposeLeft(X, v, new MatrixBlock(), op);
+		TestUtils.compareMatrices(ret1, ret2, 1e-10);
+	}
+
+	private static MatrixBlock createSparseInput(double sparsity, boolean skew) {
+		MatrixBlock X = MatrixBlock.randOperations(m, n, sparsity, -1, 1, "uniform", 7);
+		if( skew ) //few dense rows at the beginning
+			for( int i=0; i<10; i++ )
+				for( int j=0; j<n; j++ )
+					X.quickSetValue(i, j, 1);
+		Assert.assertTrue(X.isInSparseFormat());
+		return X;
+	}
+
+	private static MatrixBlock multiply(MatrixBlock X, MatrixBlock v, boolean transpose) {
+		//reference (t(X) or X) %*% v over the non-zeros of X
+		int cols = v.getNumColumns();
+		double[][] ret = new double[transpose ? n : m][cols];
+		SparseBlock a = X.getSparseBlock();
+		for( int i=0; i<m; i++ ) {
+			if( a.isEmpty(i) ) continue;
+			for( int p=a.pos(i); p<a.pos(i)+a.size(i); p++ )
+				for( int j=0; j<cols; j++ ) {
+					int aix = a.indexes(i)[p];
+					if( transpose )
+						ret[aix][j] += a.values(i)[p] * v.quickGetValue(i, j);
+					else
+						ret[i][j] += a.values(i)[p] * v.quickGetValue(aix, j);
+				}
+		}
+		return DataConverter.convertToMatrixBlock(ret);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.sparse;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.data.SparseBlockCSR;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for the two-phase sparse-sparse matrix
+ * multiplication into CSR outputs, with row accumulators of hash type
+ * (low nnz per output row) and dense type (high nnz per output row).
+ */
+public class SparseSparseMatrixMultTest extends AutomatedTestBase 
+{
+	private final static int m = 573;
+	private final static int cd = 421;
+	private final static int n = 637;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testHashAccumulatorSingleThreaded() {
+		runSparseSparseMatrixMultTest(0.01, 0.01, 1, true);
+	}
+	
+	@Test
+	public void testHashAccumulatorMultiThreaded() {
+		runSparseSparseMatrixMultTest(0.01, 0.01, 4, true);
+	}
+	
+	@Test
+	public void testDenseAccumulatorSingleThreaded() {
+		runSparseSparseMatrixMultTest(0.005, 0.15, 1, false);
+	}
+	
+	@Test
+	public void testDenseAccumulatorMultiThreaded() {
+		runSparseSparseMatrixMultTest(0.005, 0.15, 4, false);
+	}
+	
+	private static void runSparseSparseMatrixMultTest(double sp1, double sp2, int k, boolean checkCSR) {
+		MatrixBlock A = MatrixBlock.randOperations(m, cd, sp1, -1, 1, "uniform", 7);
+		MatrixBlock B = MatrixBlock.randOperations(cd, n, sp2, -1, 1, "uniform", 3);
+		Assert.assertTrue(A.isInSparseFormat() && B.isInSparseFormat());
+		
+		//sparse-sparse matrix multiplication
+		MatrixBlock C = new MatrixBlock(m, n, false);
+		if( k > 1 )
+			LibMatrixMult.matrixMult(A, B, C, k);
+		else
+			LibMatrixMult.matrixMult(A, B, C);
+		
+		//reference via dense inputs
+		double[][] dA = DataConverter.convertToDoubleMatrix(A);
+		double[][] dB = DataConverter.convertToDoubleMatrix(B);
+		double[][] dC = new double[m][n];
+		for( int i=0; i<m; i++ )
+			for( int l=0; l<cd; l++ )
+				if( dA[i][l] != 0 )
+					for( int j=0; j<n; j++ )
+						dC[i][j] += dA[i][l] * dB[l][j];
+		
+		TestUtils.compareMatrices(dC, DataConverter.convertToDoubleMatrix(C), m, n, eps);
+		long nnz = C.getNonZeros();
+		Assert.assertEquals(C.recomputeNonZeros(), nnz);
+		if( checkCSR ) {
+			Assert.assertTrue(C.isInSparseFormat());
+			Assert.assertTrue(C.getSparseBlock() instanceof SparseBlockCSR);
+		}
+	}
+}
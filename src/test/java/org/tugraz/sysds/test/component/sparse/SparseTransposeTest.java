@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.component.sparse;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlockCSR;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a component test for the count-then-scatter sparse transpose into
+ * CSR, which compares the single- and multi-threaded results over MCSR and CSR
+ * inputs, skewed rows, and ultra-sparse inputs with the input cells.
+ */
+public class SparseTransposeTest extends AutomatedTestBase
+{
+	private final static int m = 20000;
+	private final static int n = 1000;
+	private final static int m2 = 2000000;
+	private final static double sparsity1 = 0.1;
+	private final static double sparsity2 = 0.0001;
+	private final static int k = 8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testSparseMCSR() {
+		runTransposeTest(m, sparsity1, SparseBlock.Type.MCSR, false);
+	}
+
+	@Test
+	public void testSparseCSR() {
+		runTransposeTest(m, sparsity1, SparseBlock.Type.CSR, false);
+	}
+
+	@Test
+	public void testSparseSkewedMCSR() {
+		runTransposeTest(m, sparsity1, SparseBlock.Type.MCSR, true);
+	}
+
+	@Test
+	public void testSparseSkewedCSR() {
+		runTransposeTest(m, sparsity1, SparseBlock.Type.CSR, true);
+	}
+
+	@Test
+	public void testUltraSparseMCSR() {
+		runTransposeTest(m2, sparsity2, SparseBlock.Type.MCSR, false);
+	}
+
+	@Test
+	public void testUltraSparseCSR() {
+		runTransposeTest(m2, sparsity2, SparseBlock.Type.CSR, false);
+	}
+
+	private static void runTransposeTest(int rows, double sparsity, SparseBlock.Type type, boolean skew) {
+		MatrixBlock X = MatrixBlock.randOperations(rows, n, sparsity, -1, 1, "uniform", 7);
+		if( skew ) //few dense rows holding most non-zeros
+			for( int i=0; i<rows; i+=rows/8 )
+				for( int j=0; j<n; j++ )
+					X.quickSetValue(i, j, 1);
+		X = new MatrixBlock(X, type, true);
+		
+		MatrixBlock ret1 = LibMatrixReorg.transpose(X, new MatrixBlock(n, rows, true));
+		MatrixBlock retk = LibMatrixReorg.transpose(X, new MatrixBlock(n, rows, true), k);
+		checkTranspose(X, ret1);
+		checkTranspose(X, retk);
+		TestUtils.compareMatrices(ret1, retk, 0);
+		//transpose back from csr input
+		MatrixBlock ret2 = LibMatrixReorg.transpose(retk, new MatrixBlock(rows, n, true), k);
+		checkTranspose(retk, ret2);
+		TestUtils.compareMatrices(X, ret2, 0);
+	}
+
+	private static void checkTranspose(MatrixBlock in, MatrixBlock out) {
+		Assert.assertEquals(in.getNumRows(), out.getNumColumns());
+		Assert.assertEquals(in.getNumColumns(), out.getNumRows());
+		Assert.assertTrue(out.getSparseBlock() instanceof SparseBlockCSR);
+		Assert.assertEquals(in.getNonZeros(), out.getNonZeros());
+		//sorted column indexes per output row
+		SparseBlock c = out.getSparseBlock();
+		for( int i=0; i<out.getNumRows(); i++ ) {
+			if( c.isEmpty(i) ) continue;
+			int cpos = c.pos(i), clen = c.size(i);
+			int[] cix = c.indexes(i);
+			for( int j=cpos+1; j<cpos+clen; j++ )
+				Assert.assertTrue(cix[j-1] < cix[j]);
+		}
+		//all input cells at transposed positions (complete given equal nnz)
+		SparseBlock a = in.getSparseBlock();
+		for( int i=0; i<in.getNumRows(); i++ ) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i), alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			for( int j=apos; j<apos+alen; j++ )
+				Assert.assertEquals(avals[j], out.quickGetValue(aix[j], i), 0);
+		}
+	}
+}
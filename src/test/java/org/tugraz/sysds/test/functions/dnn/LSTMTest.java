@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.dnn;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+
+public class LSTMTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "LSTMTest";
+	private final static String TEST_DIR = "functions/tensor/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + LSTMTest.class.getSimpleName() + "/";
+	private final static double epsilon=0.0000000001;
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, 
+				new String[] {"R"}));
+	}
+	
+	@Test
+	public void testLSTMReturnSequences() {
+		runLSTMTest(32, 5, 10, 8, true);
+	}
+	
+	@Test
+	public void testLSTMLastOutput() {
+		runLSTMTest(32, 5, 10, 8, false);
+	}
+	
+	@Test
+	public void testLSTMSingleRowReturnSequences() {
+		runLSTMTest(1, 7, 3, 4, true);
+	}
+	
+	@Test
+	public void testLSTMLargeHiddenLastOutput() {
+		runLSTMTest(17, 3, 6, 40, false);
+	}
+	
+	public void runLSTMTest(int N, int T, int D, int M, boolean returnSeq) 
+	{
+		ExecMode oldRTP = rtplatform;
+		try
+		{
+			rtplatform = ExecMode.SINGLE_NODE;
+			TestConfiguration config = getTestConfiguration(TEST_NAME);
+			loadTestConfiguration(config);
+			
+			String RI_HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = RI_HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-explain", "-args", String.valueOf(N), String.valueOf(T),
+				String.valueOf(D), String.valueOf(M), String.valueOf(returnSeq).toUpperCase(), output("R")};
+			
+			runTest(true, false, null, -1);
+			
+			//compare builtin lstm/lstm_backward with nn/layers/lstm.dml
+			HashMap<CellIndex, Double> dmlfile = readDMLMatrixFromHDFS("R");
+			for( Double err : dmlfile.values() )
+				Assert.assertTrue("Wrong result: max error "+err, err < epsilon);
+		}
+		finally {
+			rtplatform = oldRTP;
+		}
+	}
+}
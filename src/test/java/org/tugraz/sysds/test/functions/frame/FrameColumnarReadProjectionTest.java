@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.frame;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.io.FrameReaderFactory;
+import org.tugraz.sysds.runtime.io.FrameWriterBinaryColumnar;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+public class FrameColumnarReadProjectionTest extends AutomatedTestBase
+{
+	private final static String TEST_DIR = "functions/frame/";
+	private final static String TEST_NAME = "FrameColumnarRead";
+	private final static String TEST_CLASS_DIR = TEST_DIR + FrameColumnarReadProjectionTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 1593;
+	private final static int rowsPerChunk = 100;
+	private final static ValueType[] schemaMixed = new ValueType[]{ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"B"}));
+	}
+	
+	@Test
+	public void testColumnProjection() {
+		runFrameColumnarReadTest(1, rows, 2, 3, true);
+	}
+	
+	@Test
+	public void testRowColumnProjection() {
+		runFrameColumnarReadTest(137, 1234, 1, 2, true);
+	}
+	
+	@Test
+	public void testRowColumnProjectionNoRewrite() {
+		runFrameColumnarReadTest(137, 1234, 1, 2, false);
+	}
+	
+	private void runFrameColumnarReadTest(int rl, int ru, int cl, int cu, boolean rewrites) {
+		boolean oldFlag = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		
+		try
+		{
+			TestConfiguration config = getTestConfiguration(TEST_NAME);
+			loadTestConfiguration(config);
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = rewrites;
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-stats", "-args", input("A"),
+				String.valueOf(rows), String.valueOf(schemaMixed.length), String.valueOf(rl),
+				String.valueOf(ru), String.valueOf(cl), String.valueOf(cu), output("B") };
+			
+			//data generation and write of columnar input
+			double[][] A = getRandomMatrix(rows, schemaMixed.length, -10, 10, 0.9, 2373);
+			FrameBlock frame1 = new FrameBlock(schemaMixed);
+			TestUtils.initFrameData(frame1, A, schemaMixed, rows);
+			new FrameWriterBinaryColumnar(rowsPerChunk)
+				.writeFrameToHDFS(frame1, input("A"), rows, schemaMixed.length);
+			
+			//run testcase
+			runTest(true, false, null, -1);
+			
+			//check pushdown of the right indexing into the read
+			Assert.assertEquals(!rewrites, heavyHittersContainsString("rightIndex"));
+			
+			//read columnar output and compare with expected slice
+			FrameBlock frame2 = FrameReaderFactory.createFrameReader(InputInfo.BinaryColumnarInputInfo)
+				.readFrameFromHDFS(output("B"), schemaMixed, -1, -1);
+			Assert.assertEquals(ru-rl+1, frame2.getNumRows());
+			Assert.assertEquals(cu-cl+1, frame2.getNumColumns());
+			for( int i=0; i<frame2.getNumRows(); i++ )
+				for( int j=0; j<frame2.getNumColumns(); j++ ) {
+					ValueType vt = schemaMixed[cl-1+j];
+					Object expected = frame1.get(rl-1+i, cl-1+j);
+					if( UtilFunctions.compareTo(vt, expected, frame2.get(i, j)) != 0 )
+						Assert.fail("Wrong value for cell ("+i+","+j+"): "+frame2.get(i, j)+", expected: "+expected);
+				}
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			throw new RuntimeException(ex);
+		}
+		finally {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = oldFlag;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.jmlc;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.api.jmlc.Connection;
+import org.tugraz.sysds.api.jmlc.PreparedScript;
+import org.tugraz.sysds.test.AutomatedTestBase;
+
+public class JMLCPreparedScriptCacheTest extends AutomatedTestBase 
+{
+	private static final String SCRIPT =
+		  "X = matrix($1, 10, 10);"
+		+ "R = matrix(0, 10, 1)"
+		+ "for(i in 1:nrow(X))"
+		+ "  R[i,] = sum(X[i,])"
+		+ "out = sum(R)"
+		+ "write(out, 'tmp/out')";
+	
+	@Override
+	public void setUp() {
+		//do nothing
+	}
+	
+	@Test
+	public void testPreparedScriptNoCaching() {
+		runJMLCPreparedScriptCacheTest(false);
+	}
+	
+	@Test
+	public void testPreparedScriptCaching() {
+		runJMLCPreparedScriptCacheTest(true);
+	}
+
+	@Test
+	public void testPreparedScriptCachingModifiedSource() {
+		Connection.clearPreparedScriptCache();
+		File file = null;
+		try( Connection conn = new Connection() ) {
+			conn.setPreparedScriptCaching(true);
+			file = File.createTempFile("jmlcSource", ".dml");
+			String script = "source(\""+file.getAbsolutePath().replace('\\', '/')+"\") as ns;"
+				+ "out = ns::f($1);"
+				+ "write(out, 'tmp/out');";
+			
+			//prepare script before and after modification of the sourced file
+			writeFunction(file, 2);
+			PreparedScript ps1 = conn.prepareScript(script, args(7), new String[]{}, new String[]{"out"});
+			PreparedScript ps2 = conn.prepareScript(script, args(7), new String[]{}, new String[]{"out"});
+			writeFunction(file, 3);
+			PreparedScript ps3 = conn.prepareScript(script, args(7), new String[]{}, new String[]{"out"});
+			
+			//check cache hit for unmodified, and recompilation for modified source
+			Assert.assertSame(ps1.getProgram().getProgramBlocks().get(0),
+				ps2.getProgram().getProgramBlocks().get(0));
+			Assert.assertNotSame(ps1.getProgram().getProgramBlocks().get(0),
+				ps3.getProgram().getProgramBlocks().get(0));
+			Assert.assertEquals(14, ps2.executeScript().getDouble("out"), 1e-10);
+			Assert.assertEquals(21, ps3.executeScript().getDouble("out"), 1e-10);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			throw new RuntimeException(ex);
+		}
+		finally {
+			Connection.clearPreparedScriptCache();
+			if( file != null )
+				file.delete();
+		}
+	}
+
+	private static void runJMLCPreparedScriptCacheTest(boolean caching) {
+		Connection.clearPreparedScriptCache();
+		try( Connection conn1 = new Connection(); Connection conn2 = new Connection() ) {
+			conn1.setPreparedScriptCaching(caching);
+			conn2.setPreparedScriptCaching(caching);
+			
+			//prepare same script twice and with different arguments
+			PreparedScript ps1 = conn1.prepareScript(SCRIPT, args(7), new String[]{}, new String[]{"out"});
+			PreparedScript ps2 = conn2.prepareScript(SCRIPT, args(7), new String[]{}, new String[]{"out"});
+			PreparedScript ps3 = conn2.prepareScript(SCRIPT, args(3), new String[]{}, new String[]{"out"});
+			
+			//check shared runtime programs of cache hits only
+			Assert.assertEquals(caching, ps1.getProgram().getProgramBlocks().get(0)
+				== ps2.getProgram().getProgramBlocks().get(0));
+			Assert.assertNotSame(ps1.getProgram().getProgramBlocks().get(0),
+				ps3.getProgram().getProgramBlocks().get(0));
+			
+			//check correct results of all prepared scripts
+			Assert.assertEquals(700, ps1.executeScript().getDouble("out"), 1e-10);
+			Assert.assertEquals(700, ps2.executeScript().getDouble("out"), 1e-10);
+			Assert.assertEquals(300, ps3.executeScript().getDouble("out"), 1e-10);
+		}
+		catch(Exception ex) {
+			ex.printStackTrace();
+			throw new RuntimeException(ex);
+		}
+		finally {
+			Connection.clearPreparedScriptCache();
+		}
+	}
+	
+	private static void writeFunction(File file, int factor) throws IOException {
+		try( FileWriter writer = new FileWriter(file) ) {
+			writer.write("f = function(Double x) return (Double y) {\n"
+				+ "  y = x * " + factor + "\n}\n");
+		}
+	}
+	
+	private static Map<String,String> args(int val) {
+		Map<String,String> ret = new HashMap<>();
+		ret.put("$1", String.valueOf(val));
+		return ret;
+	}
+}
@@ -38,6 +38,11 @@ public class LineageRewriteTest extends AutomatedTestBase {
 	protected static final String TEST_NAME6 = "RewriteTest10";
 	protected static final String TEST_NAME7 = "RewriteTest11";
 	protected static final String TEST_NAME8 = "RewriteTest12";
+	protected static final String TEST_NAME9 = "RewriteTest13";
+	protected static final String TEST_NAME10 = "RewriteTest14";
+	protected static final String TEST_NAME11 = "RewriteTest15";
+	protected static final String TEST_NAME12 = "RewriteTest16";
+	protected static final String TEST_NAME13 = "RewriteTest17";
 	
 	protected String TEST_CLASS_DIR = TEST_DIR + LineageRewriteTest.class.getSimpleName() + "/";
 	
@@ -55,6 +60,11 @@ public class LineageRewriteTest extends AutomatedTestBase {
 		addTestConfiguration(TEST_NAME6, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME6));
 		addTestConfiguration(TEST_NAME7, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME7));
 		addTestConfiguration(TEST_NAME8, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME8));
+		addTestConfiguration(TEST_NAME9, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME9));
+		addTestConfiguration(TEST_NAME10, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME10));
+		addTestConfiguration(TEST_NAME11, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME11));
+		addTestConfiguration(TEST_NAME12, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME12));
+		addTestConfiguration(TEST_NAME13, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME13));
 	}
 	
 	@Test
@@ -97,6 +107,31 @@ public class LineageRewriteTest extends AutomatedTestBase {
 		testRewrite(TEST_NAME8, false, 2);
 	}
 
+	@Test
+	public void testMatmulTransCbindLeft() {
+		testRewrite(TEST_NAME9, false, 0);
+	}
+
+	@Test
+	public void testColSumsRbind() {
+		testRewrite(TEST_NAME10, false, 0);
+	}
+
+	@Test
+	public void testRowSumsCbind() {
+		testRewrite(TEST_NAME11, false, 0);
+	}
+
+	@Test
+	public void testColSumsRbindMultiRow() {
+		testRewrite(TEST_NAME12, false, 0);
+	}
+
+	@Test
+	public void testRowSumsCbindMultiCol() {
+		testRewrite(TEST_NAME13, false, 0);
+	}
+
 	private void testRewrite(String testname, boolean elementwise, int classes) {
 		try {
 			getAndLoadTestConfiguration(testname);
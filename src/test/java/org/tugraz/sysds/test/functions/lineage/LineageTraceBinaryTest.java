@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.test.functions.lineage;
+
+import org.junit.Test;
+import org.tugraz.sysds.hops.recompile.Recompiler;
+import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageItem;
+import org.tugraz.sysds.runtime.lineage.LineageItemUtils;
+import org.tugraz.sysds.runtime.lineage.LineageParser;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+
+public class LineageTraceBinaryTest extends AutomatedTestBase {
+	
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "LineageTraceBinary1";
+	protected String TEST_CLASS_DIR = TEST_DIR + LineageTraceBinaryTest.class.getSimpleName() + "/";
+	
+	protected static final int numRecords = 10;
+	protected static final int numFeatures = 5;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+	
+	@Test
+	public void testLineageTraceBinary() {
+		testLineageTrace(TEST_NAME1);
+	}
+	
+	@Test
+	public void testLineageItemInterning() {
+		LineageItem a = new LineageItem("a", "a·SCALAR·INT64·true");
+		LineageItem b = new LineageItem("b", "a·SCALAR·INT64·true");
+		LineageItem x1 = LineageItem.intern(new LineageItem("x", "+", new LineageItem[]{a, a}));
+		LineageItem x2 = LineageItem.intern(new LineageItem("y", "+", new LineageItem[]{b, b}));
+		assertEquals(x1, x2);
+		assertSame(x1, x2);
+		LineageItem.resetInternedItems();
+	}
+	
+	@Test
+	public void testLineageItemInterningParallel() throws Exception {
+		//concurrent interning of equal items over shared canonical inputs
+		LineageItem a = LineageItem.intern(new LineageItem("a", "a·SCALAR·INT64·true"));
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<LineageItem>> rets = new ArrayList<>();
+			for( int i=0; i<64; i++ )
+				rets.add(pool.submit(() -> LineageItem.intern(
+					new LineageItem("x", "*", new LineageItem[]{a, new LineageItem("b", "7·SCALAR·INT64·true")}))));
+			LineageItem x = rets.get(0).get();
+			for( Future<LineageItem> ret : rets )
+				assertSame(x, ret.get());
+		}
+		finally {
+			pool.shutdown();
+			LineageItem.resetInternedItems();
+		}
+	}
+	
+	@Test
+	public void testLineageTraceBinaryLongStrings() {
+		//data strings beyond the 64KB limit of writeUTF (e.g., long literals)
+		getAndLoadTestConfiguration(TEST_NAME1);
+		StringBuilder sb = new StringBuilder();
+		for( int i=0; i<20000; i++ )
+			sb.append("ü").append(i);
+		LineageItem a = new LineageItem("a", sb.toString());
+		LineageItem x = new LineageItem("x", "+", new LineageItem[]{a, a});
+		LineageItemUtils.writeTraceToHDFS(x, output("L"));
+		LineageItem x2 = LineageItemUtils.readTraceFromHDFS(output("L"));
+		assertEquals(x, x2);
+		assertEquals(sb.toString(), x2.getInputs()[0].getData());
+	}
+	
+	public void testLineageTrace(String testname) {
+		try {
+			getAndLoadTestConfiguration(testname);
+			double[][] m = getRandomMatrix(numRecords, numFeatures, 0, 1, 0.8, -1);
+			fullDMLScriptName = getScript();
+			writeInputMatrixWithMTD("X", m, true);
+			
+			// w/ text lineage trace
+			List<String> proArgs = new ArrayList<>();
+			proArgs.add("-stats");
+			proArgs.add("-lineage");
+			proArgs.add("-args");
+			proArgs.add(input("X"));
+			proArgs.add(output("R"));
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			LineageItem li = LineageParser.parseLineageTrace(readDMLLineageFromHDFS("R"));
+			
+			// w/ binary lineage trace
+			proArgs.add(2, "binary");
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			LineageItem li2 = LineageItemUtils.readTraceFromHDFS(output("R") + ".lineage");
+			assertEquals(li, li2);
+		}
+		finally {
+			Recompiler.reinitRecompiler();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.misc;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+import org.tugraz.sysds.utils.Statistics;
+
+public class InterOpParallelismTest extends AutomatedTestBase
+{
+	private static final String TEST_NAME1 = "InterOpParallelism";
+	private static final String TEST_NAME2 = "InterOpParallelismInPlace";
+	private static final String TEST_DIR = "functions/misc/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + InterOpParallelismTest.class.getSimpleName() + "/";
+
+	private static final double eps = 1e-8;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration( TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "R" }) );
+		addTestConfiguration( TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] { "R" }) );
+	}
+
+	@Test
+	public void testInterOpParallelismSmall() {
+		runInterOpParallelismTest(TEST_NAME1, 100, 10);
+	}
+
+	@Test
+	public void testInterOpParallelismLarge() {
+		runInterOpParallelismTest(TEST_NAME1, 1500, 70);
+	}
+
+	@Test
+	public void testInterOpParallelismUpdateInPlace() {
+		runInterOpParallelismTest(TEST_NAME2, 1500, 70);
+	}
+
+	private void runInterOpParallelismTest(String testname, int rows, int cols)
+	{
+		ExecMode platformOld = rtplatform;
+		rtplatform = ExecMode.SINGLE_NODE;
+		boolean oldFlag = OptimizerUtils.ALLOW_INTER_OP_PARALLELISM;
+
+		try {
+			TestConfiguration config = getTestConfiguration(testname);
+			loadTestConfiguration(config);
+
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + testname + ".dml";
+			programArgs = new String[]{ "-stats", "-args", String.valueOf(rows),
+				String.valueOf(cols), output("R") };
+
+			//run sequential and inter-operator parallel
+			OptimizerUtils.ALLOW_INTER_OP_PARALLELISM = false;
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> ret1 = readDMLMatrixFromHDFS("R");
+			Assert.assertEquals(0, Statistics.getInterOpParallelSegments());
+			OptimizerUtils.ALLOW_INTER_OP_PARALLELISM = true;
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> ret2 = readDMLMatrixFromHDFS("R");
+			
+			//check for concurrently executed operations
+			Assert.assertTrue(Statistics.getInterOpParallelSegments() > 0);
+			Assert.assertTrue(Statistics.getInterOpParallelOps()
+				>= 2 * Statistics.getInterOpParallelSegments());
+
+			//compare matrices
+			TestUtils.compareMatrices(ret1, ret2, eps, "Seq", "Par");
+		}
+		finally {
+			OptimizerUtils.ALLOW_INTER_OP_PARALLELISM = oldFlag;
+			rtplatform = platformOld;
+		}
+	}
+}
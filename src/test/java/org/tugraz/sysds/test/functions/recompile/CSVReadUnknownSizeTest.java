@@ -91,6 +91,7 @@ public class CSVReadUnknownSizeTest extends AutomatedTestBase {
 	{	
 		boolean oldFlagSplit = OptimizerUtils.ALLOW_SPLIT_HOP_DAGS;
 		boolean oldFlagRewrites = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean oldFlagFallback = OptimizerUtils.ALLOW_SPARK_CP_FALLBACK;
 		
 		try
 		{
@@ -106,6 +107,7 @@ public class CSVReadUnknownSizeTest extends AutomatedTestBase {
 
 			OptimizerUtils.ALLOW_SPLIT_HOP_DAGS = splitDags;
 			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = rewrites;
+			OptimizerUtils.ALLOW_SPARK_CP_FALLBACK = false; //check compiled spark jobs
 
 			double[][] X = getRandomMatrix(rows, cols, -1, 1, 1.0d, 7);
 			MatrixBlock mb = DataConverter.convertToMatrixBlock(X);
@@ -151,6 +153,7 @@ public class CSVReadUnknownSizeTest extends AutomatedTestBase {
 		finally {
 			OptimizerUtils.ALLOW_SPLIT_HOP_DAGS = oldFlagSplit;
 			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = oldFlagRewrites;
+			OptimizerUtils.ALLOW_SPARK_CP_FALLBACK = oldFlagFallback;
 		}
 	}
 }
\ No newline at end of file
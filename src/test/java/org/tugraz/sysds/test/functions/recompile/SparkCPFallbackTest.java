@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.recompile;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageItem;
+import org.tugraz.sysds.runtime.lineage.LineageParser;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This test checks the runtime fallback of small spark instructions to CP. 
+ * A csv read of unknown size without dag splits forces the elementwise
+ * operations to spark, even after dynamic recompilation, while the actual
+ * inputs are small. The results and lineage traces are compared against
+ * the spark plan with disabled fallback.
+ */
+public class SparkCPFallbackTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "spark_cp_fallback";
+	private final static String TEST_DIR = "functions/recompile/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + SparkCPFallbackTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 10;
+	private final static int cols = 15;
+	private final static double eps = 1e-10;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME,
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R" }));
+	}
+	
+	@Test
+	public void testSparkCPFallbackNoRewrites() {
+		runSparkCPFallbackTest(false);
+	}
+	
+	@Test
+	public void testSparkCPFallbackRewrites() {
+		runSparkCPFallbackTest(true);
+	}
+	
+	private void runSparkCPFallbackTest(boolean rewrites)
+	{
+		ExecMode platformOld = rtplatform;
+		boolean oldFlagSplit = OptimizerUtils.ALLOW_SPLIT_HOP_DAGS;
+		boolean oldFlagRewrites = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean oldFlagFallback = OptimizerUtils.ALLOW_SPARK_CP_FALLBACK;
+		
+		try
+		{
+			getAndLoadTestConfiguration(TEST_NAME);
+			
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-stats", "-lineage", "-args", input("X"), output("R") };
+			
+			rtplatform = ExecMode.HYBRID;
+			OptimizerUtils.ALLOW_SPLIT_HOP_DAGS = false;
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = rewrites;
+			
+			//write small csv input w/o size information
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 1.0d, 7);
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(X);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, 1000, 1000);
+			FileFormatPropertiesCSV fprop = new FileFormatPropertiesCSV();
+			DataConverter.writeMatrixToHDFS(mb, input("X"), OutputInfo.CSVOutputInfo, mc, -1, fprop);
+			mc.set(-1, -1, -1, -1);
+			HDFSTool.writeMetaDataFile(input("X.mtd"), ValueType.FP64, mc, OutputInfo.CSVOutputInfo, fprop);
+			
+			//run spark plan w/o cp fallback
+			OptimizerUtils.ALLOW_SPARK_CP_FALLBACK = false;
+			Lineage.resetInternalState();
+			runTest(true, false, null, -1);
+			Assert.assertTrue(heavyHittersContainsString("sp_abs"));
+			HashMap<CellIndex, Double> retSpark = readDMLMatrixFromHDFS("R");
+			LineageItem liSpark = LineageParser.parseLineageTrace(readDMLLineageFromHDFS("R"));
+			
+			//run spark plan w/ cp fallback
+			OptimizerUtils.ALLOW_SPARK_CP_FALLBACK = true;
+			Lineage.resetInternalState();
+			runTest(true, false, null, -1);
+			Assert.assertTrue(heavyHittersContainsString("abs"));
+			Assert.assertFalse(heavyHittersContainsString("sp_abs"));
+			HashMap<CellIndex, Double> retCP = readDMLMatrixFromHDFS("R");
+			LineageItem liCP = LineageParser.parseLineageTrace(readDMLLineageFromHDFS("R"));
+			
+			//compare results and lineage traces
+			TestUtils.compareMatrices(retSpark, retCP, eps, "Spark", "CP");
+			Assert.assertEquals(liSpark, liCP);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = platformOld;
+			OptimizerUtils.ALLOW_SPLIT_HOP_DAGS = oldFlagSplit;
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = oldFlagRewrites;
+			OptimizerUtils.ALLOW_SPARK_CP_FALLBACK = oldFlagFallback;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.updateinplace;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.api.DMLScript;
+import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.parser.DMLProgram;
+import org.tugraz.sysds.parser.DMLTranslator;
+import org.tugraz.sysds.parser.ForStatementBlock;
+import org.tugraz.sysds.parser.ParserFactory;
+import org.tugraz.sysds.parser.ParserWrapper;
+import org.tugraz.sysds.parser.StatementBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * This is a test for the update in-place of elementwise loop updates such as
+ * W = W - lr * dW, which checks the compiled update-in-place variables of the
+ * loop and compares the results with update in-place disabled, including
+ * aliases of the updated variable in other statement blocks of the loop.
+ */
+public class ElementwiseUpdateInPlaceTest extends AutomatedTestBase 
+{
+	private final static String TEST_DIR = "functions/updateinplace/";
+	private final static String TEST_NAME = "ElementwiseUpdateInPlace";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ElementwiseUpdateInPlaceTest.class.getSimpleName() + "/";
+	
+	private final static int rows = 100;
+	private final static int cols = 10;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		for( int i=1; i<=4; i++ )
+			addTestConfiguration(TEST_NAME+i, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME+i, new String[]{"R"}));
+	}
+	
+	@Test
+	public void testUpdateInPlace() {
+		runUpdateInPlaceTest(1, true);
+	}
+	
+	@Test
+	public void testNoUpdateInPlaceTransposeAlias() {
+		runUpdateInPlaceTest(2, false);
+	}
+	
+	@Test
+	public void testNoUpdateInPlaceEmptyBinaryAlias() {
+		runUpdateInPlaceTest(3, false);
+	}
+	
+	@Test
+	public void testNoUpdateInPlaceFunctionListAlias() {
+		runUpdateInPlaceTest(4, false);
+	}
+	
+	private void runUpdateInPlaceTest(int testNumber, boolean expected) {
+		ExecMode oldRTP = rtplatform;
+		boolean oldInplace = OptimizerUtils.ALLOW_LOOP_UPDATE_IN_PLACE;
+		try {
+			rtplatform = ExecMode.SINGLE_NODE;
+			String testName = TEST_NAME + testNumber;
+			getAndLoadTestConfiguration(testName);
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + testName + ".dml";
+			programArgs = new String[]{"-stats", "-args",
+				String.valueOf(rows), String.valueOf(cols), output("R")};
+			
+			//check compiled update-in-place variables of the loop
+			Assert.assertEquals(expected, isUpdateInPlaceCompiled("W"));
+			
+			//compare results with and without update in-place
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R1 = readDMLMatrixFromHDFS("R");
+			OptimizerUtils.ALLOW_LOOP_UPDATE_IN_PLACE = false;
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> R2 = readDMLMatrixFromHDFS("R");
+			TestUtils.compareMatrices(R1, R2, 1e-10, "InPlace", "Copy");
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			rtplatform = oldRTP;
+			OptimizerUtils.ALLOW_LOOP_UPDATE_IN_PLACE = oldInplace;
+		}
+	}
+	
+	private boolean isUpdateInPlaceCompiled(String varname) throws Exception {
+		ExecMode oldMode = DMLScript.getGlobalExecMode();
+		try {
+			DMLScript.setGlobalExecMode(ExecMode.SINGLE_NODE);
+			String script = new String(Files.readAllBytes(Paths.get(fullDMLScriptName)), StandardCharsets.UTF_8);
+			HashMap<String, String> argVals = new HashMap<>();
+			argVals.put("$1", String.valueOf(rows));
+			argVals.put("$2", String.valueOf(cols));
+			argVals.put("$3", output("R"));
+			ParserWrapper parser = ParserFactory.createParser();
+			DMLProgram prog = parser.parse(null, script, argVals);
+			DMLTranslator dmlt = new DMLTranslator(prog);
+			dmlt.liveVariableAnalysis(prog);
+			dmlt.validateParseTree(prog);
+			dmlt.constructHops(prog);
+			dmlt.rewriteHopsDAG(prog);
+			boolean ret = false;
+			for( StatementBlock sb : prog.getStatementBlocks() )
+				if( sb instanceof ForStatementBlock ) {
+					ArrayList<String> vars = sb.getUpdateInPlaceVars();
+					ret |= vars != null && vars.contains(varname);
+				}
+			return ret;
+		}
+		finally {
+			DMLScript.setGlobalExecMode(oldMode);
+		}
+	}
+}